@@ -0,0 +1,69 @@
+package com.bookmyshow.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the JWT operations every authenticated request goes through: the filter
+ * validates the token and then parses it again for the username. Token generation
+ * runs once per login.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="JwtUtilsBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtUtilsBenchmark {
+
+    private JwtUtils jwtUtils;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret",
+            "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86_400_000L);
+
+        UserDetails user = User.withUsername("john")
+            .password("encoded_password")
+            .authorities(new SimpleGrantedAuthority("ROLE_USER"))
+            .build();
+        authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        token = jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtUtils.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public String parseUsername() {
+        return jwtUtils.getUserNameFromJwtToken(token);
+    }
+
+    /**
+     * What JwtAuthenticationFilter does per request
+     */
+    @Benchmark
+    public String validateThenParse() {
+        return jwtUtils.validateJwtToken(token) ? jwtUtils.getUserNameFromJwtToken(token) : null;
+    }
+}
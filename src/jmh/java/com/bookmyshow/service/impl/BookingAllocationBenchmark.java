@@ -0,0 +1,39 @@
+package com.bookmyshow.service.impl;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.bookmyshow.dto.BookingResponse;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap allocated by the booking write path for one 3-seat booking, with every
+ * repository stubbed in memory so only the service's own work is measured.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="BookingAllocationBenchmark"
+ * and read gc.alloc.rate.norm (bytes per booking).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BookingAllocationBenchmark {
+
+    private BookingServiceFixture fixture;
+
+    @Setup
+    public void setUp() {
+        // Log calls become no-ops, but their arguments are still evaluated
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        fixture = new BookingServiceFixture();
+    }
+
+    @Benchmark
+    public BookingResponse bookTickets() {
+        return fixture.book();
+    }
+}
@@ -0,0 +1,116 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.BookMyShowApplication;
+import com.bookmyshow.dto.BookingRequest;
+import com.bookmyshow.dto.BookingResponse;
+import com.bookmyshow.entity.Seat;
+import com.bookmyshow.entity.Show;
+import com.bookmyshow.enums.SeatStatus;
+import com.bookmyshow.enums.SeatType;
+import com.bookmyshow.enums.ShowType;
+import com.bookmyshow.repository.MovieRepository;
+import com.bookmyshow.repository.SeatRepository;
+import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.repository.TheatreRepository;
+import com.bookmyshow.util.Money;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of BookingServiceImpl.bookTickets through Spring transactions, Hibernate
+ * and in-memory H2, with the application's sample data plus one large show seeded for the run.
+ *
+ * Each booking takes the next three seats of that show; the show is reset before every
+ * iteration, and in the rare case an iteration books it out, right away. Resetting only
+ * touches the booked seats, and its allocation is included in gc.alloc.rate.norm.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="BookingH2Benchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 8, time = 2) // Hibernate and H2 take a while to get compiled
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingH2Benchmark {
+
+    private static final int SEATS_PER_BOOKING = 3;
+    private static final int SEAT_COUNT = 6_000;
+
+    private ConfigurableApplicationContext context;
+    private BookingServiceImpl bookingService;
+    private JdbcTemplate jdbcTemplate;
+    private Long showId;
+    private int nextSeat;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = SpringApplication.run(BookMyShowApplication.class,
+            "--spring.main.web-application-type=none",
+            "--logging.level.root=WARN",
+            "--logging.file.name=target/jmh-application.log",
+            "--booking.logging.events-file=target/jmh-booking-events.jsonl");
+        bookingService = context.getBean(BookingServiceImpl.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        showId = seedShow();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    /**
+     * Frees the booked seats of the benchmark show and drops its bookings
+     */
+    @Setup(Level.Iteration)
+    public void resetShow() {
+        jdbcTemplate.update("UPDATE seats SET status = 'AVAILABLE', booking_id = NULL WHERE show_id = ? AND booking_id IS NOT NULL", showId);
+        jdbcTemplate.update("DELETE FROM bookings WHERE show_id = ?", showId);
+        jdbcTemplate.update("UPDATE shows SET available_seats = ? WHERE id = ?", SEAT_COUNT, showId);
+        nextSeat = 0;
+    }
+
+    @Benchmark
+    public BookingResponse bookTickets() {
+        if (nextSeat == SEAT_COUNT) {
+            resetShow();
+        }
+        List<Integer> seatIndexes = List.of(nextSeat, nextSeat + 1, nextSeat + 2);
+        nextSeat += SEATS_PER_BOOKING;
+        return bookingService.bookTickets(BookingRequest.forSeatIndexes(showId, seatIndexes), "john");
+    }
+
+    private Long seedShow() {
+        Show show = new Show();
+        show.setMovie(context.getBean(MovieRepository.class).findAll().get(0));
+        show.setTheatre(context.getBean(TheatreRepository.class).findAll().get(0));
+        show.setShowDateTime(LocalDateTime.now().plusDays(7).withHour(14).withMinute(0));
+        show.setShowType(ShowType.AFTERNOON);
+        show.setBasePriceMinor(Money.ofMajor(150.0));
+        show.setAvailableSeats(SEAT_COUNT);
+        show = context.getBean(ShowRepository.class).save(show);
+
+        SeatType[] types = SeatType.values();
+        List<Seat> seats = new ArrayList<>(SEAT_COUNT);
+        for (int i = 0; i < SEAT_COUNT; i++) {
+            Seat seat = new Seat();
+            seat.setShow(show);
+            seat.setSeatIndex(i);
+            seat.setSeatNumber("S" + (i + 1));
+            seat.setSeatType(types[i / SEATS_PER_BOOKING % types.length]);
+            seat.setStatus(SeatStatus.AVAILABLE);
+            seat.setPriceMinor(show.getBasePriceMinor());
+            seats.add(seat);
+        }
+        context.getBean(SeatRepository.class).saveAll(seats);
+        return show.getId();
+    }
+}
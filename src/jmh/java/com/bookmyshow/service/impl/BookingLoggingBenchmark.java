@@ -0,0 +1,151 @@
+package com.bookmyshow.service.impl;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.bookmyshow.dto.BookingResponse;
+import com.bookmyshow.util.SampledDetailFilter;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Booking throughput with logging configured as in production (logback-spring.xml):
+ * application log at INFO, one JSON event per booking, and DEBUG detail for a sample
+ * of requests. Both logs go to real files, either written on the booking threads
+ * (sync) or handed to AsyncAppender queues (async); "off" is the no-logging baseline.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="BookingLoggingBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class BookingLoggingBenchmark {
+
+    @Param({"off", "sync", "async"})
+    private String appenders;
+
+    /**
+     * Share of bookings logged step by step (booking.logging.detail-sample-rate)
+     */
+    @Param({"0", "0.01", "1"})
+    private double detailSampleRate;
+
+    private LoggerContext context;
+    private Path logDir;
+
+    @State(Scope.Thread)
+    public static class Booker {
+        private BookingServiceFixture fixture;
+
+        @Setup
+        public void setUp() {
+            fixture = new BookingServiceFixture();
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        if (appenders.equals("off")) {
+            root.setLevel(Level.OFF);
+            return;
+        }
+        logDir = Files.createTempDirectory("booking-logging-benchmark");
+
+        SampledDetailFilter detailFilter = new SampledDetailFilter();
+        detailFilter.setContext(context);
+        detailFilter.start();
+        context.addTurboFilter(detailFilter);
+
+        PatternLayoutEncoder pattern = new PatternLayoutEncoder();
+        pattern.setContext(context);
+        pattern.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+        pattern.start();
+        root.setLevel(Level.INFO);
+        root.addAppender(wrap(file("application.log", pattern), false));
+
+        JsonEncoder json = new JsonEncoder();
+        json.setContext(context);
+        json.start();
+        Logger events = context.getLogger("booking-events");
+        events.setAdditive(false);
+        events.addAppender(wrap(file("booking-events.jsonl", json), true));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        // Stopping the async appenders drains their queues into the files first
+        context.reset();
+        if (logDir != null) {
+            try (var files = Files.list(logDir)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(logDir);
+        }
+    }
+
+    @Benchmark
+    public BookingResponse bookTickets(Booker booker) {
+        if (detailSampleRate == 0 || ThreadLocalRandom.current().nextDouble() >= detailSampleRate) {
+            return booker.fixture.book();
+        }
+        MDC.put(SampledDetailFilter.MDC_KEY, "sampled");
+        try {
+            return booker.fixture.book();
+        } finally {
+            MDC.remove(SampledDetailFilter.MDC_KEY);
+        }
+    }
+
+    private Appender<ILoggingEvent> file(String name, Encoder<ILoggingEvent> encoder) {
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(logDir.resolve(name).toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    /**
+     * @param lossless Keep every event, as the booking event log does, instead of
+     *                 dropping INFO and below when the queue is nearly full
+     */
+    private Appender<ILoggingEvent> wrap(Appender<ILoggingEvent> appender, boolean lossless) {
+        if (appenders.equals("sync")) {
+            return appender;
+        }
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        if (lossless) {
+            async.setDiscardingThreshold(0);
+        } else {
+            async.setNeverBlock(true);
+        }
+        async.addAppender(appender);
+        async.start();
+        return async;
+    }
+}
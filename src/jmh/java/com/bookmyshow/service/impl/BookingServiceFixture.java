@@ -0,0 +1,99 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.BookingRequest;
+import com.bookmyshow.dto.BookingResponse;
+import com.bookmyshow.entity.Movie;
+import com.bookmyshow.entity.Seat;
+import com.bookmyshow.entity.Show;
+import com.bookmyshow.entity.Theatre;
+import com.bookmyshow.entity.User;
+import com.bookmyshow.enums.SeatStatus;
+import com.bookmyshow.enums.SeatType;
+import com.bookmyshow.enums.ShowType;
+import com.bookmyshow.repository.BookingRepository;
+import com.bookmyshow.repository.SeatRepository;
+import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.repository.UserRepository;
+import com.bookmyshow.service.NegativeLookupCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.bookmyshow.service.impl.Stubs.stub;
+
+/**
+ * BookingServiceImpl wired to in-memory repository stubs, booking the same three seats
+ * over and over so benchmarks measure only the service's own work.
+ * Not thread-safe: use one fixture per benchmark thread.
+ */
+class BookingServiceFixture {
+
+    private final BookingServiceImpl bookingService;
+    private final BookingRequest request;
+    private final List<Seat> seats = new ArrayList<>();
+
+    BookingServiceFixture() {
+        Theatre theatre = new Theatre();
+        theatre.setName("PVR Cinemas");
+        theatre.setCity("Mumbai");
+        Movie movie = new Movie();
+        movie.setTitle("Inception");
+        Show show = new Show();
+        show.setId(1L);
+        show.setMovie(movie);
+        show.setTheatre(theatre);
+        show.setShowType(ShowType.AFTERNOON);
+        show.setShowDateTime(LocalDateTime.now().plusDays(1).withHour(14));
+        show.setAvailableSeats(Integer.MAX_VALUE);
+        User user = new User();
+        user.setUsername("john");
+
+        for (int i = 0; i < 3; i++) {
+            Seat seat = new Seat();
+            seat.setId((long) i);
+            seat.setSeatIndex(i);
+            seat.setShow(show);
+            seat.setSeatNumber("R" + (i + 1));
+            seat.setSeatType(SeatType.REGULAR);
+            seat.setPriceMinor(25000);
+            seats.add(seat);
+        }
+        request = new BookingRequest(1L, List.of(0L, 1L, 2L));
+
+        RuleBasedDiscountStrategy discountStrategy = new RuleBasedDiscountStrategy(new ObjectMapper());
+        ReflectionTestUtils.setField(discountStrategy, "rulesLocation", new ClassPathResource("discount-rules.json"));
+        discountStrategy.init();
+
+        bookingService = new BookingServiceImpl(
+            stub(BookingRepository.class, "save", args -> args[0]),
+            stub(ShowRepository.class, Map.of(
+                "findByIdWithMovieAndTheatre", args -> Optional.of(show),
+                "decrementAvailableSeats", args -> 1)),
+            stub(SeatRepository.class, Map.of(
+                "findSeatsOfShow", args -> seats,
+                "claimAvailableSeats", args -> ((Collection<?>) args[1]).size())),
+            stub(UserRepository.class, "findByUsername", args -> Optional.of(user)),
+            discountStrategy,
+            event -> { },
+            stub(NegativeLookupCache.class, "isMissing", args -> false),
+            showId -> 10_000,
+            (showId, kind) -> { });
+    }
+
+    /**
+     * Frees the seats again and books them for john
+     */
+    BookingResponse book() {
+        for (Seat seat : seats) {
+            seat.setStatus(SeatStatus.AVAILABLE);
+        }
+        return bookingService.bookTickets(request, "john");
+    }
+}
@@ -0,0 +1,142 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.DiscountRule;
+import com.bookmyshow.enums.SeatType;
+import com.bookmyshow.enums.ShowType;
+import com.bookmyshow.service.DiscountStrategy.Context;
+import com.bookmyshow.util.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Cost of pricing one quote against a realistic rule set: the compiled DiscountTable
+ * versus checking every rule in turn, as a chain of strategies would.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="DiscountRuleBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiscountRuleBenchmark {
+
+    private static final String[] CITIES = {"Mumbai", "Delhi", "Bengaluru", "Pune", "Chennai",
+        "Hyderabad", "Kolkata", "Ahmedabad", "Jaipur", "Kochi", "Indore", "Lucknow"};
+
+    @Param({"2", "60"})
+    private int ruleCount;
+
+    private List<DiscountRule> rules;
+    private DiscountTable table;
+    private Context[] quotes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rules = new ArrayList<>();
+        rules.add(rule("third-ticket-half-price", rule -> {
+            rule.setMinSeats(3);
+            rule.setSeats(1);
+            rule.setPercentOffSeats(50);
+        }));
+        rules.add(rule("afternoon-show", rule -> {
+            rule.setShowTypes(EnumSet.of(ShowType.AFTERNOON));
+            rule.setPercentOffTotal(20);
+        }));
+        for (int i = rules.size(); i < ruleCount; i++) {
+            int kind = i % 4;
+            rules.add(rule("generated-" + i, rule -> {
+                rule.setCities(Set.of(CITIES[random.nextInt(CITIES.length)]));
+                rule.setShowTypes(EnumSet.of(ShowType.values()[random.nextInt(ShowType.values().length)]));
+                if (kind == 1) {
+                    rule.setMinSeats(2 + random.nextInt(4));
+                    rule.setMaxSeats(rule.getMinSeats() + random.nextInt(4));
+                }
+                if (kind == 2) {
+                    rule.setSeatTypes(EnumSet.of(SeatType.PREMIUM, SeatType.VIP));
+                }
+                if (kind == 3) {
+                    rule.setFromHour(18);
+                    rule.setToHour(23);
+                }
+                rule.setPercentOffTotal(1 + random.nextInt(5));
+            }));
+        }
+        table = DiscountTable.compile(rules);
+
+        quotes = new Context[1024];
+        for (int i = 0; i < quotes.length; i++) {
+            int seats = 1 + random.nextInt(8);
+            quotes[i] = new Context(seats * 20_000L, seats, ShowType.values()[random.nextInt(4)],
+                CITIES[random.nextInt(CITIES.length)], 1 << random.nextInt(3), 9 + random.nextInt(14));
+        }
+    }
+
+    @Benchmark
+    public long compiledTable() {
+        return table.discount(nextQuote());
+    }
+
+    @Benchmark
+    public long ruleByRule() {
+        Context quote = nextQuote();
+        long seatBasisPoints = 0;
+        long amountOff = 0;
+        for (DiscountRule rule : rules) {
+            if (matches(rule, quote)) {
+                seatBasisPoints += Money.basisPoints(rule.getPercentOffTotal()) * quote.seatCount()
+                    + Math.min(rule.getSeats(), quote.seatCount()) * Money.basisPoints(rule.getPercentOffSeats());
+                amountOff += Money.ofMajor(rule.getAmountOff());
+            }
+        }
+        long denominator = quote.seatCount() * Money.BASIS_POINTS_PER_WHOLE;
+        long discount = Money.fraction(quote.totalAmount(), Math.min(seatBasisPoints, denominator), denominator)
+            + amountOff;
+        return Math.min(discount, quote.totalAmount());
+    }
+
+    private Context nextQuote() {
+        return quotes[next++ & (quotes.length - 1)];
+    }
+
+    private static boolean matches(DiscountRule rule, Context quote) {
+        if (rule.getShowTypes() != null && !rule.getShowTypes().contains(quote.showType())) {
+            return false;
+        }
+        if (rule.getCities() != null && !rule.getCities().contains(quote.city())) {
+            return false;
+        }
+        if (rule.getMinSeats() != null && quote.seatCount() < rule.getMinSeats()) {
+            return false;
+        }
+        if (rule.getMaxSeats() != null && quote.seatCount() > rule.getMaxSeats()) {
+            return false;
+        }
+        if (rule.getSeatTypes() != null) {
+            for (SeatType seatType : SeatType.values()) {
+                if ((quote.seatTypeMask() & (1 << seatType.ordinal())) != 0 && !rule.getSeatTypes().contains(seatType)) {
+                    return false;
+                }
+            }
+        }
+        return (rule.getFromHour() == null || quote.showHour() >= rule.getFromHour())
+            && (rule.getToHour() == null || quote.showHour() < rule.getToHour());
+    }
+
+    private static DiscountRule rule(String id, Consumer<DiscountRule> conditions) {
+        DiscountRule rule = new DiscountRule();
+        rule.setId(id);
+        conditions.accept(rule);
+        return rule;
+    }
+}
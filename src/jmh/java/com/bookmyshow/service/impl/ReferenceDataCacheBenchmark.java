@@ -0,0 +1,79 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.BookMyShowApplication;
+import com.bookmyshow.dto.ShowDTO;
+import com.bookmyshow.entity.Theatre;
+import com.bookmyshow.repository.TheatreRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Movie and theatre reads against in-memory H2 with the second-level cache on and off
+ * (booking.entity-cache.enabled), using the application's sample data.
+ *
+ * browseShows join-fetches movie and theatre, so it should cost the same either way; the
+ * empty browse looks the movie up by id and the theatre finder runs a cacheable query,
+ * which is where the cache saves a round trip.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ReferenceDataCacheBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 8, time = 2) // Hibernate and H2 take a while to get compiled
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReferenceDataCacheBenchmark {
+
+    @Param({"true", "false"})
+    private boolean entityCache;
+
+    private ConfigurableApplicationContext context;
+    private ShowBrowsingServiceImpl showBrowsingService;
+    private TheatreRepository theatreRepository;
+    private LocalDate today;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = SpringApplication.run(BookMyShowApplication.class,
+            "--spring.main.web-application-type=none",
+            "--logging.level.root=WARN",
+            "--logging.file.name=target/jmh-application.log",
+            "--booking.logging.events-file=target/jmh-booking-events.jsonl",
+            "--booking.entity-cache.enabled=" + entityCache);
+        showBrowsingService = context.getBean(ShowBrowsingServiceImpl.class);
+        theatreRepository = context.getBean(TheatreRepository.class);
+        today = LocalDate.now();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    /**
+     * Movie 1 plays in two Mumbai theatres today
+     */
+    @Benchmark
+    public List<ShowDTO> browseShows() {
+        return showBrowsingService.browseShowsByMovieCityAndDate(1L, "Mumbai", today);
+    }
+
+    /**
+     * No shows in Delhi, so the service checks the movie exists
+     */
+    @Benchmark
+    public List<ShowDTO> browseShowsEmpty() {
+        return showBrowsingService.browseShowsByMovieCityAndDate(1L, "Delhi", today);
+    }
+
+    @Benchmark
+    public List<Theatre> findTheatresByCity() {
+        return theatreRepository.findByCity("Mumbai");
+    }
+}
@@ -0,0 +1,95 @@
+package com.bookmyshow.service.impl;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.bookmyshow.dto.ShowDTO;
+import com.bookmyshow.entity.Movie;
+import com.bookmyshow.entity.Show;
+import com.bookmyshow.entity.Theatre;
+import com.bookmyshow.enums.ShowType;
+import com.bookmyshow.repository.MovieRepository;
+import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.service.NegativeLookupCache;
+import com.bookmyshow.util.Money;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.bookmyshow.service.impl.Stubs.stub;
+
+/**
+ * Browse response cost above the database: converting the matching shows to ShowDTOs,
+ * and the same plus writing the JSON body the way the controller's message converter does.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ShowBrowsingBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShowBrowsingBenchmark {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 1, 21);
+
+    /**
+     * Shows matching one movie, city and date
+     */
+    @Param({"8", "100"})
+    private int showCount;
+
+    private ShowBrowsingServiceImpl browsingService;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        Movie movie = new Movie();
+        movie.setId(1L);
+        movie.setTitle("Inception");
+        List<Show> shows = new ArrayList<>(showCount);
+        ShowType[] types = ShowType.values();
+        for (int i = 0; i < showCount; i++) {
+            Theatre theatre = new Theatre();
+            theatre.setId((long) i / 4);
+            theatre.setName("PVR Cinemas " + i / 4);
+            theatre.setCity("Mumbai");
+            theatre.setAddress("Phoenix Mall, Lower Parel");
+            Show show = new Show();
+            show.setId((long) i);
+            show.setMovie(movie);
+            show.setTheatre(theatre);
+            show.setShowType(types[i % types.length]);
+            show.setShowDateTime(DATE.atTime(10 + (i % 4) * 3, 30));
+            show.setBasePriceMinor(Money.ofMajor(150 + (i % 4) * 25));
+            show.setAvailableSeats(100 - i % 100);
+            shows.add(show);
+        }
+
+        browsingService = new ShowBrowsingServiceImpl(
+            stub(ShowRepository.class, "findShowsByMovieAndCityBetweenDates", args -> shows),
+            stub(MovieRepository.class, "findById", args -> Optional.of(movie)),
+            stub(NegativeLookupCache.class, "isMissing", args -> false));
+        objectMapper = Jackson2ObjectMapperBuilder.json().build(); // Spring Boot's defaults
+    }
+
+    @Benchmark
+    public List<ShowDTO> convert() {
+        return browsingService.browseShowsByMovieCityAndDate(1L, "Mumbai", DATE);
+    }
+
+    @Benchmark
+    public byte[] convertAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(browsingService.browseShowsByMovieCityAndDate(1L, "Mumbai", DATE));
+    }
+}
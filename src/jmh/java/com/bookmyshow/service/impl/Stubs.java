@@ -0,0 +1,38 @@
+package com.bookmyshow.service.impl;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory interface stubs for benchmarks, so only the code under test is measured
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Interface stub answering one method and echoing or ignoring the rest
+     */
+    static <T> T stub(Class<T> type, String method, Function<Object[], Object> answer) {
+        return stub(type, Map.of(method, answer));
+    }
+
+    /**
+     * Interface stub answering the given methods by name and echoing or ignoring the rest
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, invoked, args) -> {
+            Function<Object[], Object> answer = answers.get(invoked.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            if (invoked.getName().equals("save")) {
+                return args[0];
+            }
+            return null;
+        });
+    }
+}
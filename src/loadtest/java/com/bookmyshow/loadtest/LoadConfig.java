@@ -0,0 +1,133 @@
+package com.bookmyshow.loadtest;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Load test settings, parsed from key=value arguments (see LoadDriver for the keys)
+ */
+record LoadConfig(
+    String baseUrl,              // Empty: start the application in this JVM with the synthetic dataset
+    double rate,                 // Scenario arrivals per second, independent of response times
+    int warmupSeconds,           // Arrivals in this period are sent but not reported
+    int durationSeconds,
+    Map<Scenario, Integer> mix,  // Relative weights of the scenarios
+    int users,                   // Synthetic users logged in up front; each arrival picks one
+    String userPassword,
+    int firstMovieId,
+    int lastMovieId,
+    List<String> cities,
+    int days,                    // Browse dates from today
+    int seatRange,               // Bookings pick seat indexes below this
+    int maxSeatsPerBooking,
+    int maxInFlight,             // Arrivals beyond this many running scenarios are dropped, not queued
+    int clientThreads,
+    int timeoutMs,
+    String reportDir,
+    String baseline,             // summary.json of an earlier run to compare against
+    double tolerancePercent
+) {
+
+    enum Scenario {
+        BROWSE,   // GET /api/shows/browse
+        BOOK,     // Browse, then POST /api/bookings for seats of one of the shows found
+        LOGIN     // POST /api/auth/login
+    }
+
+    static LoadConfig parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            for (String pair : arg.trim().split("\\s+")) {
+                if (pair.isEmpty()) {
+                    continue;
+                }
+                int eq = pair.indexOf('=');
+                if (eq <= 0) {
+                    throw new IllegalArgumentException("Expected key=value, got: " + pair);
+                }
+                values.put(pair.substring(0, eq), pair.substring(eq + 1));
+            }
+        }
+        Settings settings = new Settings(values);
+        int[] movies = settings.range("movies", "1-23");
+        LoadConfig config = new LoadConfig(
+            settings.string("url", ""),
+            settings.decimal("rate", 50),
+            settings.integer("warmup", 10),
+            settings.integer("duration", 60),
+            parseMix(settings.string("mix", "browse:70,book:20,login:10")),
+            settings.integer("users", 50),
+            settings.string("password", "password123"),
+            movies[0],
+            movies[1],
+            List.of(settings.string("cities", "Mumbai,Delhi,Bengaluru,Chennai").split(",")),
+            settings.integer("days", 2),
+            settings.integer("seat-range", 100),
+            settings.integer("max-seats", 4),
+            settings.integer("max-in-flight", 2000),
+            settings.integer("client-threads", 4),
+            settings.integer("timeout-ms", 10000),
+            settings.string("report-dir", "target/loadtest"),
+            settings.string("baseline", ""),
+            settings.decimal("tolerance", 10)
+        );
+        settings.rejectUnknown();
+        return config;
+    }
+
+    LocalDate randomDate(Random random) {
+        return LocalDate.now().plusDays(random.nextInt(days));
+    }
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] kv = part.split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Expected scenario:weight in mix, got: " + part);
+            }
+            weights.put(Scenario.valueOf(kv[0].trim().toUpperCase()), Integer.parseInt(kv[1].trim()));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Scenario weights must add up to more than 0: " + mix);
+        }
+        return weights;
+    }
+
+    private static final class Settings {
+
+        private final Map<String, String> values;
+
+        private Settings(Map<String, String> values) {
+            this.values = new LinkedHashMap<>(values);
+        }
+
+        String string(String key, String defaultValue) {
+            String value = values.remove(key);
+            return value == null ? defaultValue : value;
+        }
+
+        int integer(String key, int defaultValue) {
+            return Integer.parseInt(string(key, String.valueOf(defaultValue)));
+        }
+
+        double decimal(String key, double defaultValue) {
+            return Double.parseDouble(string(key, String.valueOf(defaultValue)));
+        }
+
+        int[] range(String key, String defaultValue) {
+            String[] bounds = string(key, defaultValue).split("-");
+            int first = Integer.parseInt(bounds[0]);
+            return new int[] {first, bounds.length > 1 ? Integer.parseInt(bounds[1]) : first};
+        }
+
+        void rejectUnknown() {
+            if (!values.isEmpty()) {
+                throw new IllegalArgumentException("Unknown load test settings: " + values.keySet());
+            }
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.bookmyshow.loadtest;
+
+import com.bookmyshow.BookMyShowApplication;
+import com.bookmyshow.loadtest.LoadConfig.Scenario;
+import com.bookmyshow.loadtest.LoadReport.Endpoint;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load test driver for the login -> browse -> book flow of the Postman collection
+ *
+ *   mvn -Ploadtest test-compile exec:exec -Dload.args="rate=100 duration=60 mix=browse:70,book:20,login:10"
+ *
+ * Open model: scenarios arrive at `rate` per second with exponential gaps (a Poisson
+ * process) whether or not earlier ones have finished, the way independent users would.
+ * Requests go out through the JDK's asynchronous HttpClient on a few client threads, so
+ * thousands can be outstanding; more than max-in-flight running scenarios means the
+ * service cannot keep up, and further arrivals are dropped and counted.
+ *
+ * Without url=..., the application is started in this JVM with the synthetic profile and
+ * shares its CPUs with the driver; to size a node, start it there with
+ * --spring.profiles.active=synthetic and pass url=http://host:port.
+ *
+ * Settings (key=value): url, rate, warmup and duration (seconds), mix, users (logged in
+ * up front), password, movies (id range, e.g. 1-23), cities, days, seat-range, max-seats,
+ * max-in-flight, client-threads, timeout-ms, report-dir, baseline (an earlier
+ * summary.json; the run fails if throughput or p99 regressed by more than tolerance %).
+ */
+public final class LoadDriver {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final LoadConfig config;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ExecutorService clientExecutor;
+    private final LoadReport report = new LoadReport();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final List<String> tokens = new ArrayList<>();
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+
+    private LoadDriver(LoadConfig config, String baseUrl) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.clientExecutor = Executors.newFixedThreadPool(config.clientThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "load-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(config.timeoutMs()))
+            .executor(clientExecutor)
+            .build();
+        this.scenarios = config.mix().keySet().toArray(new Scenario[0]);
+        this.cumulativeWeights = new int[scenarios.length];
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += config.mix().get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.parse(args);
+        ConfigurableApplicationContext application = null;
+        String baseUrl = config.baseUrl();
+        if (baseUrl.isEmpty()) {
+            application = startApplication();
+            baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+        }
+        int status;
+        try {
+            status = new LoadDriver(config, baseUrl).run();
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+        System.exit(status);
+    }
+
+    private static ConfigurableApplicationContext startApplication() {
+        System.out.println("Starting the application with the synthetic dataset...");
+        return new SpringApplicationBuilder(BookMyShowApplication.class)
+            .profiles("synthetic")
+            .run("--server.port=0",
+                "--logging.level.root=WARN",
+                "--logging.level.com.bookmyshow=WARN",
+                "--logging.level.com.bookmyshow.controller=WARN",
+                "--logging.level.com.bookmyshow.service=WARN",
+                "--logging.level.com.bookmyshow.security=WARN",
+                "--logging.level.com.bookmyshow.config.SyntheticDataInitializer=INFO",
+                "--logging.level.booking-events=OFF",
+                "--booking.logging.events-file=target/loadtest/booking-events.jsonl");
+    }
+
+    private int run() throws IOException, InterruptedException {
+        login();
+        System.out.printf("Driving %s at %.1f scenarios/s (%s), %d s warmup + %d s measured%n",
+            baseUrl, config.rate(), config.mix(), config.warmupSeconds(), config.durationSeconds());
+
+        Random random = new Random();
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long started = System.nanoTime();
+        long measureFrom = started + TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+        long arrival = started;
+        while (true) {
+            arrival += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            if (arrival >= end) {
+                break;
+            }
+            long wait = arrival - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = arrival >= measureFrom;
+            if (inFlight.get() >= config.maxInFlight()) {
+                if (measured) {
+                    report.dropped();
+                }
+                continue;
+            }
+            inFlight.incrementAndGet();
+            start(pick(random), arrival, measured).whenComplete((ignored, error) -> inFlight.decrementAndGet());
+        }
+        long drainUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.timeoutMs() + 1000L);
+        while (inFlight.get() > 0 && System.nanoTime() < drainUntil) {
+            Thread.sleep(50);
+        }
+        clientExecutor.shutdownNow();
+
+        LoadReport.Summary summary = report.summarize(config,
+            (end - measureFrom) / (double) TimeUnit.SECONDS.toNanos(1));
+        summary.print(System.out);
+        // Compared before writing, the baseline may be the last run's summary.json
+        List<String> regressions = config.baseline().isEmpty()
+            ? List.of()
+            : summary.regressionsAgainst(Path.of(config.baseline()), config.tolerancePercent());
+        Path reportDir = Path.of(config.reportDir());
+        summary.write(reportDir);
+        System.out.printf("%nReport written to %s%n", reportDir.toAbsolutePath());
+
+        if (!config.baseline().isEmpty()) {
+            if (!regressions.isEmpty()) {
+                System.out.printf("%nRegressions against %s (tolerance %.0f%%):%n", config.baseline(), config.tolerancePercent());
+                regressions.forEach(line -> System.out.println("  " + line));
+                return 1;
+            }
+            System.out.printf("No regressions against %s%n", config.baseline());
+        }
+        return 0;
+    }
+
+    /**
+     * Logs in the synthetic users before the run, so scenarios reuse their tokens
+     */
+    private void login() throws IOException, InterruptedException {
+        for (int i = 0; i < config.users(); i++) {
+            HttpResponse<String> response = client.send(loginRequest(i), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login of loaduser" + i + " failed with HTTP " + response.statusCode()
+                    + "; is the application running with the synthetic profile?");
+            }
+            tokens.add(JSON.readTree(response.body()).path("token").asText());
+        }
+        System.out.printf("Logged in %d users%n", tokens.size());
+    }
+
+    private Scenario pick(Random random) {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < scenarios.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    private CompletableFuture<?> start(Scenario scenario, long arrival, boolean measured) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String token = tokens.get(random.nextInt(tokens.size()));
+        return switch (scenario) {
+            case LOGIN -> call(Endpoint.LOGIN, loginRequest(random.nextInt(config.users())), arrival, measured);
+            case BROWSE -> call(Endpoint.BROWSE, browseRequest(token, random), arrival, measured);
+            case BOOK -> call(Endpoint.BROWSE, browseRequest(token, random), arrival, measured)
+                .thenCompose(shows -> {
+                    if (shows == null || !shows.isArray() || shows.isEmpty()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    long showId = shows.get(ThreadLocalRandom.current().nextInt(shows.size())).path("id").asLong();
+                    return call(Endpoint.BOOK, bookRequest(token, showId), System.nanoTime(), measured);
+                });
+        };
+    }
+
+    /**
+     * @return The parsed response body, or null if the request failed
+     */
+    private CompletableFuture<JsonNode> call(Endpoint endpoint, HttpRequest request, long startNanos, boolean measured) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .handle((response, error) -> {
+                long latency = System.nanoTime() - startNanos;
+                JsonNode body = error == null ? parse(response.body()) : null;
+                if (error == null && response.statusCode() / 100 == 2) {
+                    if (measured) {
+                        report.success(endpoint, latency);
+                    }
+                    return body;
+                }
+                if (measured) {
+                    report.failure(endpoint, error == null ? httpError(response.statusCode(), body) : transportError(error), latency);
+                }
+                return null;
+            });
+    }
+
+    private HttpRequest loginRequest(int user) {
+        String body = String.format("{\"username\":\"loaduser%d\",\"password\":\"%s\"}", user, config.userPassword());
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+            .timeout(Duration.ofMillis(config.timeoutMs()))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private HttpRequest browseRequest(String token, Random random) {
+        int movieId = config.firstMovieId() + random.nextInt(config.lastMovieId() - config.firstMovieId() + 1);
+        String city = config.cities().get(random.nextInt(config.cities().size()));
+        String query = "movieId=" + movieId
+            + "&city=" + URLEncoder.encode(city, StandardCharsets.UTF_8)
+            + "&date=" + config.randomDate(random);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/shows/browse?" + query))
+            .timeout(Duration.ofMillis(config.timeoutMs()))
+            .header("Authorization", "Bearer " + token)
+            .GET()
+            .build();
+    }
+
+    /**
+     * Adjacent seats at a random position, so concurrent bookings of a show sometimes collide
+     */
+    private HttpRequest bookRequest(String token, long showId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int seats = 1 + random.nextInt(config.maxSeatsPerBooking());
+        int first = random.nextInt(Math.max(1, config.seatRange() - seats + 1));
+        StringBuilder indexes = new StringBuilder();
+        for (int i = 0; i < seats; i++) {
+            indexes.append(i == 0 ? "" : ",").append(first + i);
+        }
+        String body = String.format("{\"showId\":%d,\"seatIndexes\":[%s]}", showId, indexes);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/bookings"))
+            .timeout(Duration.ofMillis(config.timeoutMs()))
+            .header("Authorization", "Bearer " + token)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private static JsonNode parse(String body) {
+        try {
+            return body == null || body.isEmpty() ? null : JSON.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Status plus the error message with numbers masked, so "seat 17" and "seat 42" count together
+     */
+    private static String httpError(int status, JsonNode body) {
+        String message = body == null ? "" : body.path("message").asText("");
+        return "HTTP " + status + (message.isEmpty() ? "" : " " + message.replaceAll("\\d+", "#"));
+    }
+
+    private static String transportError(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,197 @@
+package com.bookmyshow.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and error counts per endpoint, and the report written from them
+ *
+ * Latencies are recorded in microseconds into HdrHistogram Recorders, which take values
+ * from any thread without locking. The first request of a scenario is timed from the
+ * scenario's scheduled arrival, not from when it was sent, so a client that falls
+ * behind shows up as latency instead of hiding it (coordinated omission).
+ */
+final class LoadReport {
+
+    enum Endpoint {
+        LOGIN("POST /api/auth/login"),
+        BROWSE("GET /api/shows/browse"),
+        BOOK("POST /api/bookings");
+
+        final String route;
+
+        Endpoint(String route) {
+            this.route = route;
+        }
+    }
+
+    private static final double MICROS_PER_MS = 1000.0;
+
+    private final Map<Endpoint, Recorder> latencies = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> succeeded = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> failed = new EnumMap<>(Endpoint.class);
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    LoadReport() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.put(endpoint, new Recorder(3));
+            succeeded.put(endpoint, new LongAdder());
+            failed.put(endpoint, new LongAdder());
+        }
+    }
+
+    void success(Endpoint endpoint, long latencyNanos) {
+        latencies.get(endpoint).recordValue(Math.max(1, latencyNanos / 1000));
+        succeeded.get(endpoint).increment();
+    }
+
+    /**
+     * @param reason HTTP status and message, or the exception of a request that got no response
+     */
+    void failure(Endpoint endpoint, String reason, long latencyNanos) {
+        latencies.get(endpoint).recordValue(Math.max(1, latencyNanos / 1000));
+        failed.get(endpoint).increment();
+        errors.computeIfAbsent(endpoint.name() + " " + reason, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * An arrival that was not sent because max-in-flight scenarios were already running
+     */
+    void dropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Takes the histograms recorded so far; call once, after the run
+     */
+    Summary summarize(LoadConfig config, double measuredSeconds) {
+        Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        Map<String, Map<String, Object>> endpoints = new LinkedHashMap<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = latencies.get(endpoint).getIntervalHistogram();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            histograms.put(endpoint, histogram);
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("route", endpoint.route);
+            stats.put("requests", histogram.getTotalCount());
+            stats.put("errors", failed.get(endpoint).sum());
+            stats.put("throughput", round(succeeded.get(endpoint).sum() / measuredSeconds));
+            stats.put("meanMs", round(histogram.getMean() / MICROS_PER_MS));
+            stats.put("p50Ms", percentileMs(histogram, 50));
+            stats.put("p90Ms", percentileMs(histogram, 90));
+            stats.put("p99Ms", percentileMs(histogram, 99));
+            stats.put("p999Ms", percentileMs(histogram, 99.9));
+            stats.put("maxMs", round(histogram.getMaxValue() / MICROS_PER_MS));
+            endpoints.put(endpoint.name().toLowerCase(), stats);
+        }
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("url", config.baseUrl().isEmpty() ? "in-process" : config.baseUrl());
+        run.put("rate", config.rate());
+        run.put("mix", config.mix().toString());
+        run.put("measuredSeconds", round(measuredSeconds));
+        run.put("dropped", dropped.sum());
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((reason, count) -> errorCounts.put(reason, count.sum()));
+        return new Summary(run, endpoints, errorCounts, histograms);
+    }
+
+    record Summary(Map<String, Object> run,
+                   Map<String, Map<String, Object>> endpoints,
+                   Map<String, Long> errors,
+                   Map<Endpoint, Histogram> histograms) {
+
+        void print(PrintStream out) {
+            out.printf("%nRun: %s%n%n", run);
+            out.printf("%-8s %9s %8s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "ok/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+            endpoints.forEach((endpoint, stats) -> out.printf("%-8s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, stats.get("requests"), stats.get("errors"), stats.get("throughput"),
+                stats.get("p50Ms"), stats.get("p90Ms"), stats.get("p99Ms"), stats.get("p999Ms"), stats.get("maxMs")));
+            if (!errors.isEmpty()) {
+                out.printf("%nErrors:%n");
+                errors.forEach((reason, count) -> out.printf("%9d  %s%n", count, reason));
+            }
+        }
+
+        /**
+         * summary.json plus one percentile distribution (.hgrm, in ms) per endpoint,
+         * which HdrHistogram's plotter can overlay across runs
+         */
+        void write(Path directory) throws IOException {
+            Files.createDirectories(directory);
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("run", run);
+            json.put("endpoints", endpoints);
+            json.put("errors", errors);
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("summary.json").toFile(), json);
+            for (Endpoint endpoint : Endpoint.values()) {
+                Files.deleteIfExists(directory.resolve(endpoint.name().toLowerCase() + ".hgrm"));
+            }
+            for (Map.Entry<Endpoint, Histogram> entry : histograms.entrySet()) {
+                Path file = directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+                try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                    entry.getValue().outputPercentileDistribution(out, MICROS_PER_MS);
+                }
+            }
+        }
+
+        /**
+         * @return One line per endpoint whose p99 rose, or whose throughput at the same rate and
+         *         mix fell, by more than the tolerance against the baseline summary.json
+         */
+        List<String> regressionsAgainst(Path baseline, double tolerancePercent) throws IOException {
+            JsonNode baselineJson = new ObjectMapper().readTree(baseline.toFile());
+            JsonNode previous = baselineJson.path("endpoints");
+            // Throughput follows the arrival rate, so it only compares between runs of the same load
+            boolean sameLoad = baselineJson.path("run").path("rate").asDouble() == (double) run.get("rate")
+                && baselineJson.path("run").path("mix").asText().equals(run.get("mix"));
+            double tolerance = tolerancePercent / 100;
+            List<String> regressions = new ArrayList<>();
+            endpoints.forEach((endpoint, stats) -> {
+                JsonNode before = previous.path(endpoint);
+                if (before.isMissingNode()) {
+                    return;
+                }
+                double throughput = (double) stats.get("throughput");
+                double p99 = (double) stats.get("p99Ms");
+                if (sameLoad && throughput < before.path("throughput").asDouble() * (1 - tolerance)) {
+                    regressions.add(String.format("%s throughput %.1f/s, baseline %.1f/s",
+                        endpoint, throughput, before.path("throughput").asDouble()));
+                }
+                if (p99 > before.path("p99Ms").asDouble() * (1 + tolerance)) {
+                    regressions.add(String.format("%s p99 %.2f ms, baseline %.2f ms",
+                        endpoint, p99, before.path("p99Ms").asDouble()));
+                }
+            });
+            return regressions;
+        }
+    }
+
+    private static double percentileMs(Histogram histogram, double percentile) {
+        return round(histogram.getValueAtPercentile(percentile) / MICROS_PER_MS);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -5,6 +5,7 @@ import com.bookmyshow.enums.SeatStatus;
 import com.bookmyshow.enums.SeatType;
 import com.bookmyshow.enums.ShowType;
 import com.bookmyshow.repository.*;
+import com.bookmyshow.util.Money;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -127,34 +128,34 @@ public class DataInitializer implements CommandLineRunner {
         log.debug("Creating shows for '{}' at '{}'", movie.getTitle(), theatre.getName());
         
         // Morning show - 10:00 AM
-        createShow(movie, theatre, date.atTime(10, 0), ShowType.MORNING, 200.0);
+        createShow(movie, theatre, date.atTime(10, 0), ShowType.MORNING, Money.ofMajor(200.0));
         
         // Afternoon show - 2:00 PM
-        createShow(movie, theatre, date.atTime(14, 0), ShowType.AFTERNOON, 150.0);
+        createShow(movie, theatre, date.atTime(14, 0), ShowType.AFTERNOON, Money.ofMajor(150.0));
         
         // Evening show - 6:30 PM
-        createShow(movie, theatre, date.atTime(18, 30), ShowType.EVENING, 250.0);
+        createShow(movie, theatre, date.atTime(18, 30), ShowType.EVENING, Money.ofMajor(250.0));
         
         // Night show - 9:30 PM
-        createShow(movie, theatre, date.atTime(21, 30), ShowType.NIGHT, 220.0);
+        createShow(movie, theatre, date.atTime(21, 30), ShowType.NIGHT, Money.ofMajor(220.0));
     }
     
     private void createShow(Movie movie, Theatre theatre, LocalDateTime dateTime, 
-                           ShowType showType, Double basePrice) {
+                           ShowType showType, long basePriceMinor) {
         Show show = new Show();
         show.setMovie(movie);
         show.setTheatre(theatre);
         show.setShowDateTime(dateTime);
         show.setShowType(showType);
-        show.setBasePrice(basePrice);
+        show.setBasePriceMinor(basePriceMinor);
         show.setAvailableSeats(theatre.getTotalSeats());
         show = showRepository.save(show);
         
         // Create seats for the show
-        createSeatsForShow(show, theatre.getTotalSeats(), basePrice);
+        createSeatsForShow(show, theatre.getTotalSeats(), basePriceMinor);
     }
     
-    private void createSeatsForShow(Show show, Integer totalSeats, Double basePrice) {
+    private void createSeatsForShow(Show show, Integer totalSeats, long basePriceMinor) {
         int regularSeats = (int) (totalSeats * 0.6);  // 60% regular
         int premiumSeats = (int) (totalSeats * 0.3);  // 30% premium
         int vipSeats = totalSeats - regularSeats - premiumSeats;  // 10% VIP
@@ -163,27 +164,28 @@ public class DataInitializer implements CommandLineRunner {
         
         // Create regular seats
         for (int i = 0; i < regularSeats; i++) {
-            createSeat(show, "R" + seatCounter++, SeatType.REGULAR, basePrice);
+            createSeat(show, seatCounter - 1, "R" + seatCounter++, SeatType.REGULAR, basePriceMinor);
         }
         
         // Create premium seats
         for (int i = 0; i < premiumSeats; i++) {
-            createSeat(show, "P" + seatCounter++, SeatType.PREMIUM, basePrice * 1.5);
+            createSeat(show, seatCounter - 1, "P" + seatCounter++, SeatType.PREMIUM, Money.fraction(basePriceMinor, 3, 2));
         }
         
         // Create VIP seats
         for (int i = 0; i < vipSeats; i++) {
-            createSeat(show, "V" + seatCounter++, SeatType.VIP, basePrice * 2.0);
+            createSeat(show, seatCounter - 1, "V" + seatCounter++, SeatType.VIP, basePriceMinor * 2);
         }
     }
     
-    private void createSeat(Show show, String seatNumber, SeatType seatType, Double price) {
+    private void createSeat(Show show, int seatIndex, String seatNumber, SeatType seatType, long priceMinor) {
         Seat seat = new Seat();
         seat.setShow(show);
+        seat.setSeatIndex(seatIndex);
         seat.setSeatNumber(seatNumber);
         seat.setSeatType(seatType);
         seat.setStatus(SeatStatus.AVAILABLE);
-        seat.setPrice(price);
+        seat.setPriceMinor(priceMinor);
         seatRepository.save(seat);
     }
 }
@@ -0,0 +1,22 @@
+package com.bookmyshow.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Most SQL statements a controller method may issue, checked by QueryBudgetGuard
+ *
+ * Counts from the start of the handler method until its response body is written, so the
+ * user lookup of JWT authentication is not part of the budget. A handler over budget is
+ * usually an N+1: a lazy association loaded once per row of a result.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
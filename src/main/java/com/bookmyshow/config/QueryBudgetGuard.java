@@ -0,0 +1,101 @@
+package com.bookmyshow.config;
+
+import com.bookmyshow.util.SqlStatementCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Reports the SQL statements of each API response and checks them against @QueryBudget
+ *
+ * The counts go out as a Server-Timing header just before the body is written:
+ *   Server-Timing: sql;desc="3", sql-handler;desc="1"
+ * sql is the whole request so far (RequestQueryCountFilter), sql-handler only the part
+ * since the controller method started. A handler over its budget is logged and counted
+ * (http.server.requests.queries.over.budget); tests read the header to fail on it.
+ * Responses without a body, such as 204, carry no header.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+@Slf4j
+public class QueryBudgetGuard implements HandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final String HANDLER_START = QueryBudgetGuard.class.getName() + ".HANDLER_START";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${booking.query-budget.header:true}")
+    private boolean sendHeader;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(HANDLER_START, SqlStatementCounter.current());
+        }
+        return true;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+                                  Class<? extends HttpMessageConverter<?>> converterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!SqlStatementCounter.isCounting() || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        long total = SqlStatementCounter.current();
+        Object handlerStart = httpRequest.getAttribute(HANDLER_START);
+        long inHandler = handlerStart == null ? 0 : total - (Long) handlerStart;
+        if (sendHeader) {
+            response.getHeaders().add(HEADER, "sql;desc=\"" + total + "\", sql-handler;desc=\"" + inHandler + "\"");
+        }
+        checkBudget(httpRequest, returnType, inHandler);
+        return body;
+    }
+
+    /**
+     * Only the controller method's own response is checked; error bodies written by an
+     * exception handler are not held to the budget of the method that failed
+     */
+    private void checkBudget(HttpServletRequest request, MethodParameter returnType, long inHandler) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)
+                || !handler.getMethod().equals(returnType.getMethod())) {
+            return;
+        }
+        QueryBudget budget = handler.getMethodAnnotation(QueryBudget.class);
+        if (budget == null || inHandler <= budget.value()) {
+            return;
+        }
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        log.warn("Query budget exceeded - {} {}: {} statements, budget {}; look for lazy loads per row (N+1)",
+            request.getMethod(), uri, inHandler, budget.value());
+        Counter.builder("http.server.requests.queries.over.budget")
+            .description("Responses whose handler issued more SQL statements than its @QueryBudget")
+            .tag("method", request.getMethod())
+            .tag("uri", String.valueOf(uri))
+            .register(meterRegistry)
+            .increment();
+    }
+}
@@ -0,0 +1,20 @@
+package com.bookmyshow.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets the read-only transactions of a controller method read from a replica, set up by ReplicaReadsInterceptor
+ *
+ * Only for reads that may trail the primary by up to booking.replicas.max-lag-ms, such as
+ * browsing and booking history. Everything else reads from the primary, including read-only
+ * transactions of unmarked methods. Without configured replicas the marker has no effect.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaReads {
+}
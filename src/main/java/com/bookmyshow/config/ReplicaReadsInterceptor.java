@@ -0,0 +1,30 @@
+package com.bookmyshow.config;
+
+import com.bookmyshow.util.ReplicaRoutingDataSource;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Opens replica reads for the duration of a @ReplicaReads controller method
+ *
+ * Runs after authentication, so the user lookup of JWT authentication stays on the primary.
+ */
+@Component
+public class ReplicaReadsInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod method && method.hasMethodAnnotation(ReplicaReads.class)) {
+            ReplicaRoutingDataSource.allowReplicaReads();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicaRoutingDataSource.clearReplicaReads();
+    }
+}
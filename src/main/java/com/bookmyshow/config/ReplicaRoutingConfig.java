@@ -0,0 +1,82 @@
+package com.bookmyshow.config;
+
+import com.bookmyshow.util.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read replicas for read-only transactions, when booking.replicas.urls lists any
+ *
+ * Takes the place of Boot's DataSource: the primary pool is built from spring.datasource
+ * (hikari settings included) as before, and each replica gets a pool of its own. Browse
+ * traffic then waits on the replica pools and cannot take connections away from bookings.
+ */
+@Configuration
+@ConditionalOnExpression("!'${booking.replicas.urls:}'.isBlank()")
+@Slf4j
+public class ReplicaRoutingConfig {
+
+    @Value("${booking.replicas.urls}")
+    private List<String> urls;
+
+    @Value("${booking.replicas.username:${spring.datasource.username:}}")
+    private String username;
+
+    @Value("${booking.replicas.password:${spring.datasource.password:}}")
+    private String password;
+
+    @Value("${booking.replicas.pool-size:10}")
+    private int poolSize;
+
+    @Value("${booking.replicas.connection-timeout-ms:1000}")
+    private long connectionTimeoutMs;
+
+    @Value("${booking.replicas.max-lag-ms:2000}")
+    private long maxLagMs;
+
+    @Value("${booking.replicas.check-interval-ms:1000}")
+    private long checkIntervalMs;
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(DataSourceProperties properties, Environment environment,
+                                               MeterRegistry meterRegistry) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setConnectionTimeout(connectionTimeoutMs);
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(replica.getPoolName(), replica);
+        }
+        log.info("Routing read-only transactions to {} replicas, max lag {} ms", replicas.size(), maxLagMs);
+
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replicas, maxLagMs, meterRegistry);
+        dataSource.start(checkIntervalMs);
+        return dataSource;
+    }
+}
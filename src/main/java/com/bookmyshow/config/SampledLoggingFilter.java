@@ -0,0 +1,48 @@
+package com.bookmyshow.config;
+
+import com.bookmyshow.util.SampledDetailFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks a sample of booking and browse requests for step-by-step DEBUG logging
+ *
+ * Sampled requests are tagged in the MDC for their whole lifetime, so every step of the
+ * same request is logged (see SampledDetailFilter) rather than a random subset of lines.
+ */
+@Component
+public class SampledLoggingFilter extends OncePerRequestFilter {
+
+    @Value("${booking.logging.detail-sample-rate:0.0}")
+    private double sampleRate;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return sampleRate <= 0 || !(path.startsWith("/api/bookings") || path.startsWith("/api/shows"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            chain.doFilter(request, response);
+            return;
+        }
+        MDC.put(SampledDetailFilter.MDC_KEY, "sampled");
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(SampledDetailFilter.MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.bookmyshow.config;
+
+import com.bookmyshow.util.RequestPhases;
+import com.bookmyshow.util.RequestPhases.Phase;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Reports the request's phase times (see RequestPhases) as a W3C Server-Timing header
+ *
+ *   Server-Timing: jwt;dur=0.210, user;dur=0.820, pool;dur=0.004, db;dur=1.930, commit;dur=0.410, service;dur=3.100, total;dur=4.200
+ *
+ * Durations are milliseconds; phases that took no time are left out and total is the time
+ * until the body starts. Written just before the body, so serialization is not included.
+ */
+@RestControllerAdvice
+public class ServerTimingAdvice implements HandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    static final String BODY_STARTED = ServerTimingAdvice.class.getName() + ".BODY_STARTED";
+
+    private static final String HANDLER_STARTED = ServerTimingAdvice.class.getName() + ".HANDLER_STARTED";
+    private static final Phase[] REPORTED = {Phase.JWT, Phase.USER, Phase.POOL, Phase.DB, Phase.COMMIT, Phase.SERVICE};
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && RequestPhases.isTiming()) {
+            request.setAttribute(HANDLER_STARTED, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+                                  Class<? extends HttpMessageConverter<?>> converterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!RequestPhases.isTiming() || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        long now = System.nanoTime();
+        if (httpRequest.getAttribute(HANDLER_STARTED) instanceof Long handlerStarted
+                && httpRequest.getAttribute(BODY_STARTED) == null) {
+            RequestPhases.add(Phase.SERVICE, now - handlerStarted); // Once, even if an error body follows
+        }
+        httpRequest.setAttribute(BODY_STARTED, now);
+        response.getHeaders().add(QueryBudgetGuard.HEADER, header());
+        return body;
+    }
+
+    private static String header() {
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : REPORTED) {
+            long nanos = RequestPhases.nanos(phase);
+            if (nanos > 0) {
+                appendMetric(header, phase.metricName(), nanos).append(", ");
+            }
+        }
+        return appendMetric(header, "total", RequestPhases.elapsedNanos()).toString();
+    }
+
+    /**
+     * name;dur=<ms with microsecond precision>, without going through String.format
+     */
+    private static StringBuilder appendMetric(StringBuilder header, String name, long nanos) {
+        long micros = nanos / 1_000;
+        long fraction = micros % 1_000;
+        header.append(name).append(";dur=").append(micros / 1_000).append('.');
+        if (fraction < 100) {
+            header.append('0');
+        }
+        if (fraction < 10) {
+            header.append('0');
+        }
+        return header.append(fraction);
+    }
+}
@@ -0,0 +1,59 @@
+package com.bookmyshow.config;
+
+import com.bookmyshow.util.JdbcPhaseListener;
+import com.bookmyshow.util.RequestPhases;
+import com.bookmyshow.util.RequestPhases.Phase;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Hooks the database phases of the Server-Timing header into JPA
+ *
+ * Statement and connection pool time come from a Hibernate session listener, commit time
+ * from the transaction manager. Boot's own JpaTransactionManager backs off when this one
+ * is defined; it is set up the same way, customizers included. With
+ * booking.server-timing.enabled=false neither is defined and Boot's transaction manager is used.
+ */
+@Configuration
+public class ServerTimingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "booking.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+    public HibernatePropertiesCustomizer jdbcPhaseListener() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+            JdbcPhaseListener.class.getName());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "booking.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+    public PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new PhaseTimingTransactionManager();
+        customizers.ifAvailable(c -> c.customize((TransactionManager) transactionManager));
+        return transactionManager;
+    }
+
+    /**
+     * Times the commit, including the flush that writes pending changes
+     */
+    static class PhaseTimingTransactionManager extends JpaTransactionManager {
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            long began = RequestPhases.begin();
+            try {
+                super.doCommit(status);
+            } finally {
+                RequestPhases.end(Phase.COMMIT, began);
+            }
+        }
+    }
+}
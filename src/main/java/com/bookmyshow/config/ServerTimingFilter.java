@@ -0,0 +1,91 @@
+package com.bookmyshow.config;
+
+import com.bookmyshow.util.RequestPhases;
+import com.bookmyshow.util.RequestPhases.Phase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the phases of each API request (see RequestPhases) and records them as
+ * http.server.requests.phases{phase, method, uri}
+ *
+ * ServerTimingAdvice reports the same phases to the client before the body is written;
+ * serialization is only known afterwards, so it appears in the histograms alone.
+ * With booking.server-timing.enabled=false this filter is skipped and nothing is timed.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${booking.server-timing.enabled:true}")
+    private boolean enabled;
+
+    private final Map<String, Map<String, Timer[]>> timersByMethodAndUri = new ConcurrentHashMap<>();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestPhases.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.getAttribute(ServerTimingAdvice.BODY_STARTED) instanceof Long bodyStarted) {
+                RequestPhases.add(Phase.SERIALIZATION, System.nanoTime() - bodyStarted);
+            }
+            RequestPhases.stop();
+            record(request);
+        }
+    }
+
+    private void record(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        Timer[] timers = timersByMethodAndUri
+            .computeIfAbsent(request.getMethod(), method -> new ConcurrentHashMap<>())
+            .computeIfAbsent(uri, template -> register(request.getMethod(), template));
+        for (Phase phase : Phase.values()) {
+            long nanos = RequestPhases.nanos(phase);
+            if (nanos > 0) {
+                timers[phase.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private Timer[] register(String method, String uri) {
+        Phase[] phases = Phase.values();
+        Timer[] timers = new Timer[phases.length];
+        for (Phase phase : phases) {
+            timers[phase.ordinal()] = Timer.builder("http.server.requests.phases")
+                .description("Time per request phase; phases nest, so they do not add up")
+                .tag("phase", phase.metricName())
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry);
+        }
+        return timers;
+    }
+}
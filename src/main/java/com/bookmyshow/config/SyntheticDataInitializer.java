@@ -0,0 +1,192 @@
+package com.bookmyshow.config;
+
+import com.bookmyshow.entity.Movie;
+import com.bookmyshow.entity.Show;
+import com.bookmyshow.entity.Theatre;
+import com.bookmyshow.entity.User;
+import com.bookmyshow.enums.SeatStatus;
+import com.bookmyshow.enums.SeatType;
+import com.bookmyshow.enums.ShowType;
+import com.bookmyshow.repository.MovieRepository;
+import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.repository.TheatreRepository;
+import com.bookmyshow.repository.UserRepository;
+import com.bookmyshow.util.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Synthetic Data Initializer - a larger, deterministic dataset for load tests
+ * Enabled with --spring.profiles.active=synthetic (booking.synthetic-data.enabled)
+ *
+ * Adds numbered users (loaduser0..N-1, all with the same password), movies and theatres in
+ * each configured city. Every theatre plays movies-per-theatre movies, four shows a day for
+ * `days` days, rotating through the movies so that with movies = theatres-per-city *
+ * movies-per-theatre every movie has shows in every city on every day. The seats, by far
+ * the most rows, go in as JDBC batches.
+ */
+@Component
+@ConditionalOnProperty(prefix = "booking.synthetic-data", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataInitializer implements CommandLineRunner {
+
+    private static final LocalTime[] SHOW_TIMES = {
+        LocalTime.of(10, 0), LocalTime.of(14, 0), LocalTime.of(18, 30), LocalTime.of(21, 30)
+    };
+    private static final ShowType[] SHOW_TYPES = {
+        ShowType.MORNING, ShowType.AFTERNOON, ShowType.EVENING, ShowType.NIGHT
+    };
+    private static final String INSERT_SEAT = "INSERT INTO seats "
+        + "(show_id, seat_index, seat_number, seat_type, status, price_minor, version) VALUES (?, ?, ?, ?, ?, ?, 0)";
+
+    private final UserRepository userRepository;
+    private final MovieRepository movieRepository;
+    private final TheatreRepository theatreRepository;
+    private final ShowRepository showRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${booking.synthetic-data.users:1000}")
+    private int users;
+
+    @Value("${booking.synthetic-data.user-password:password123}")
+    private String userPassword;
+
+    @Value("${booking.synthetic-data.movies:20}")
+    private int movies;
+
+    @Value("${booking.synthetic-data.cities:Mumbai,Delhi,Bengaluru,Chennai}")
+    private List<String> cities;
+
+    @Value("${booking.synthetic-data.theatres-per-city:5}")
+    private int theatresPerCity;
+
+    @Value("${booking.synthetic-data.movies-per-theatre:4}")
+    private int moviesPerTheatre;
+
+    @Value("${booking.synthetic-data.days:2}")
+    private int days;
+
+    @Value("${booking.synthetic-data.seats-per-show:200}")
+    private int seatsPerShow;
+
+    @Override
+    public void run(String... args) {
+        long started = System.currentTimeMillis();
+        createUsers();
+        List<Movie> createdMovies = createMovies();
+        int shows = 0;
+        LocalDate today = LocalDate.now();
+        for (String city : cities) {
+            for (int t = 0; t < theatresPerCity; t++) {
+                Theatre theatre = createTheatre(city, t);
+                for (int slot = 0; slot < moviesPerTheatre; slot++) {
+                    Movie movie = createdMovies.get((t * moviesPerTheatre + slot) % createdMovies.size());
+                    for (int day = 0; day < days; day++) {
+                        for (int s = 0; s < SHOW_TIMES.length; s++) {
+                            createShow(movie, theatre, today.plusDays(day), s);
+                            shows++;
+                        }
+                    }
+                }
+            }
+        }
+        log.info("Synthetic data: {} users (loaduser0..loaduser{}), movies {}..{}, {} cities, {} shows, {} seats in {} ms",
+            users, users - 1, createdMovies.get(0).getId(), createdMovies.get(createdMovies.size() - 1).getId(),
+            cities.size(), shows, (long) shows * seatsPerShow, System.currentTimeMillis() - started);
+    }
+
+    private void createUsers() {
+        // One hash for all: BCrypt per user would dominate startup
+        String hash = passwordEncoder.encode(userPassword);
+        List<User> batch = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            User user = new User();
+            user.setUsername("loaduser" + i);
+            user.setEmail("loaduser" + i + "@example.com");
+            user.setPassword(hash);
+            Set<String> roles = new HashSet<>();
+            roles.add("USER");
+            user.setRoles(roles);
+            batch.add(user);
+        }
+        userRepository.saveAll(batch);
+    }
+
+    private List<Movie> createMovies() {
+        List<Movie> created = new ArrayList<>();
+        for (int i = 0; i < movies; i++) {
+            Movie movie = new Movie();
+            movie.setTitle("Synthetic Movie " + i);
+            movie.setDescription("Generated for load tests");
+            movie.setLanguage(i % 2 == 0 ? "English" : "Hindi");
+            movie.setGenre(i % 3 == 0 ? "Action" : "Drama");
+            movie.setDurationMinutes(120 + i % 60);
+            movie.setRating("UA");
+            created.add(movieRepository.save(movie));
+        }
+        return created;
+    }
+
+    private Theatre createTheatre(String city, int index) {
+        Theatre theatre = new Theatre();
+        theatre.setName("Synthetic Cinema " + (index + 1));
+        theatre.setCity(city);
+        theatre.setAddress("Screen " + (index + 1) + ", " + city);
+        theatre.setTotalSeats(seatsPerShow);
+        return theatreRepository.save(theatre);
+    }
+
+    private void createShow(Movie movie, Theatre theatre, LocalDate date, int timeSlot) {
+        long basePriceMinor = Money.ofMajor(150.0 + 25 * timeSlot);
+        Show show = new Show();
+        show.setMovie(movie);
+        show.setTheatre(theatre);
+        show.setShowDateTime(date.atTime(SHOW_TIMES[timeSlot]));
+        show.setShowType(SHOW_TYPES[timeSlot]);
+        show.setBasePriceMinor(basePriceMinor);
+        show.setAvailableSeats(seatsPerShow);
+        show = showRepository.save(show);
+        insertSeats(show.getId(), basePriceMinor);
+    }
+
+    /**
+     * Same 60/30/10 regular/premium/VIP split and pricing as the sample shows
+     */
+    private void insertSeats(long showId, long basePriceMinor) {
+        int regular = (int) (seatsPerShow * 0.6);
+        int premium = (int) (seatsPerShow * 0.3);
+        List<Object[]> rows = new ArrayList<>(seatsPerShow);
+        for (int index = 0; index < seatsPerShow; index++) {
+            SeatType type;
+            long price;
+            if (index < regular) {
+                type = SeatType.REGULAR;
+                price = basePriceMinor;
+            } else if (index < regular + premium) {
+                type = SeatType.PREMIUM;
+                price = Money.fraction(basePriceMinor, 3, 2);
+            } else {
+                type = SeatType.VIP;
+                price = basePriceMinor * 2;
+            }
+            String seatNumber = type.name().charAt(0) + String.valueOf(index + 1);
+            rows.add(new Object[] {showId, index, seatNumber, type.name(), SeatStatus.AVAILABLE.name(), price});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SEAT, rows);
+    }
+}
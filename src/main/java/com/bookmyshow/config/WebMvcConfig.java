@@ -0,0 +1,25 @@
+package com.bookmyshow.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC configuration
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final QueryBudgetGuard queryBudgetGuard;
+    private final ServerTimingAdvice serverTimingAdvice;
+    private final ReplicaReadsInterceptor replicaReadsInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryBudgetGuard).addPathPatterns("/api/**");
+        registry.addInterceptor(serverTimingAdvice).addPathPatterns("/api/**");
+        registry.addInterceptor(replicaReadsInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,103 @@
+package com.bookmyshow.controller;
+
+import com.bookmyshow.dto.AsyncBookingStats;
+import com.bookmyshow.dto.BookingRequest;
+import com.bookmyshow.dto.BookingTicketResponse;
+import com.bookmyshow.enums.BookingTicketStatus;
+import com.bookmyshow.service.AsyncBookingService;
+import com.bookmyshow.service.AvailabilityHintService;
+import com.bookmyshow.service.WaitingRoomService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Async Booking Controller - WRITE SCENARIO, queued variant
+ * Demonstrates:
+ * - Single Responsibility Principle: Only handles asynchronous booking HTTP requests
+ * - Dependency Inversion Principle: Depends on AsyncBookingService abstraction
+ *
+ * The synchronous POST /api/bookings endpoint stays available alongside this one.
+ */
+@RestController
+@RequestMapping("/api/bookings/async")
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncBookingController {
+
+    private final AsyncBookingService asyncBookingService;
+    private final WaitingRoomService waitingRoomService;
+    private final AvailabilityHintService availabilityHintService;
+
+    @Value("${booking.async.max-wait-seconds:30}")
+    private long maxWaitSeconds;
+
+    /**
+     * Validate and enqueue a booking; returns 202 ACCEPTED with the ticket to poll
+     */
+    @PostMapping
+    public ResponseEntity<BookingTicketResponse> submitBooking(
+            @Valid @RequestBody BookingRequest request,
+            @RequestHeader(value = "X-Queue-Ticket", required = false) String queueTicket,
+            Authentication authentication) {
+
+        String username = authentication.getName();
+        log.debug(">>> Incoming Request: POST /api/bookings/async - User: {}, Show ID: {}",
+            username, request.getShowId());
+
+        availabilityHintService.checkCapacity(request.getShowId(), request.seatCount());
+        waitingRoomService.checkAdmission(request.getShowId(), queueTicket, username);
+        BookingTicketResponse ticket = asyncBookingService.submit(request, username, queueTicket);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .location(URI.create("/api/bookings/async/" + ticket.getTicketId()))
+            .body(ticket);
+    }
+
+    /**
+     * Fetch the ticket state. With waitSeconds > 0 this is a long poll that returns
+     * as soon as the booking finishes, or the current state when the wait runs out.
+     */
+    @GetMapping("/{ticketId}")
+    public DeferredResult<BookingTicketResponse> getTicket(
+            @PathVariable String ticketId,
+            @RequestParam(defaultValue = "0") long waitSeconds,
+            Authentication authentication) {
+
+        String username = authentication.getName();
+        long wait = Math.min(Math.max(waitSeconds, 0), maxWaitSeconds);
+        BookingTicketResponse current = asyncBookingService.getTicket(ticketId, username);
+
+        if (wait == 0 || isFinished(current)) {
+            DeferredResult<BookingTicketResponse> result = new DeferredResult<>();
+            result.setResult(current);
+            return result;
+        }
+
+        DeferredResult<BookingTicketResponse> result = new DeferredResult<>(
+            TimeUnit.SECONDS.toMillis(wait), () -> asyncBookingService.getTicket(ticketId, username));
+        asyncBookingService.awaitTicket(ticketId, username).thenAccept(result::setResult);
+        return result;
+    }
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AsyncBookingStats> getStats() {
+        return ResponseEntity.ok(asyncBookingService.getStats());
+    }
+
+    private boolean isFinished(BookingTicketResponse ticket) {
+        return BookingTicketStatus.CONFIRMED.name().equals(ticket.getStatus())
+            || BookingTicketStatus.FAILED.name().equals(ticket.getStatus());
+    }
+}
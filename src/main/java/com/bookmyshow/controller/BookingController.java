@@ -1,8 +1,16 @@
 package com.bookmyshow.controller;
 
+import com.bookmyshow.config.QueryBudget;
+import com.bookmyshow.config.ReplicaReads;
+import com.bookmyshow.dto.BookingHistoryResponse;
 import com.bookmyshow.dto.BookingRequest;
 import com.bookmyshow.dto.BookingResponse;
+import com.bookmyshow.dto.PaymentResponse;
+import com.bookmyshow.service.AvailabilityHintService;
+import com.bookmyshow.service.BookingHistoryService;
 import com.bookmyshow.service.BookingService;
+import com.bookmyshow.service.PaymentService;
+import com.bookmyshow.service.WaitingRoomService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,28 +32,139 @@ import org.springframework.web.bind.annotation.*;
 public class BookingController {
     
     private final BookingService bookingService;
+    private final BookingHistoryService bookingHistoryService;
+    private final WaitingRoomService waitingRoomService;
+    private final AvailabilityHintService availabilityHintService;
+    private final PaymentService paymentService;
     
     /**
      * WRITE SCENARIO: Book movie tickets by selecting a theatre, timing, and preferred seats
      * 
      * @param request Booking request containing show ID and seat IDs
+     * @param queueTicket Admitted waiting-room ticket, required only while the show's waiting room is active
      * @param authentication Spring Security authentication object
      * @return Booking response with confirmation details
      */
     @PostMapping
+    @QueryBudget(8) // Reads user, show, seats (and occupancy once per show); writes booking, seats, counter, outbox
     public ResponseEntity<BookingResponse> bookTickets(
             @Valid @RequestBody BookingRequest request,
+            @RequestHeader(value = "X-Queue-Ticket", required = false) String queueTicket,
             Authentication authentication) {
         
         String username = authentication.getName();
-        log.info(">>> Incoming Request: POST /api/bookings");
-        log.info("User: {}, Show ID: {}, Seats: {}", username, request.getShowId(), request.getSeatIds());
+        log.debug(">>> Incoming Request: POST /api/bookings");
+        log.debug("User: {}, Show ID: {}, Seats: {}", username, request.getShowId(), request.seatCount());
         
-        BookingResponse response = bookingService.bookTickets(request, username);
+        availabilityHintService.checkCapacity(request.getShowId(), request.seatCount());
+        waitingRoomService.checkAdmission(request.getShowId(), queueTicket, username);
         
-        log.info("<<< Response: Booking successful - Reference: {}, Final Amount: ₹{}", 
-            response.getBookingReference(), response.getFinalAmount());
+        long start = System.nanoTime();
+        BookingResponse response;
+        try {
+            response = bookingService.bookTickets(request, username);
+        } catch (RuntimeException e) {
+            waitingRoomService.releaseAdmission(request.getShowId(), queueTicket, username);
+            throw e;
+        } finally {
+            waitingRoomService.recordBookingLatency(System.nanoTime() - start);
+        }
+        
+        log.debug("<<< Response: Booking successful - Reference: {}, Final Amount: {} paise", 
+            response.getBookingReference(), response.getFinalAmountMinor());
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
+    /**
+     * Paid checkout, phase one: hold the seats as a PENDING booking until the payment deadline
+     * 
+     * @param request Booking request containing show ID and seat IDs
+     * @param queueTicket Admitted waiting-room ticket, required only while the show's waiting room is active
+     * @param authentication Spring Security authentication object
+     * @return PENDING booking with its expiry time
+     */
+    @PostMapping("/hold")
+    @QueryBudget(8) // Same statements as a booking
+    public ResponseEntity<BookingResponse> holdTickets(
+            @Valid @RequestBody BookingRequest request,
+            @RequestHeader(value = "X-Queue-Ticket", required = false) String queueTicket,
+            Authentication authentication) {
+        
+        String username = authentication.getName();
+        log.debug(">>> Incoming Request: POST /api/bookings/hold");
+        log.debug("User: {}, Show ID: {}, Seats: {}", username, request.getShowId(), request.seatCount());
+        
+        availabilityHintService.checkCapacity(request.getShowId(), request.seatCount());
+        waitingRoomService.checkAdmission(request.getShowId(), queueTicket, username);
+        
+        long start = System.nanoTime();
+        BookingResponse response;
+        try {
+            response = bookingService.holdTickets(request, username);
+        } catch (RuntimeException e) {
+            waitingRoomService.releaseAdmission(request.getShowId(), queueTicket, username);
+            throw e;
+        } finally {
+            waitingRoomService.recordBookingLatency(System.nanoTime() - start);
+        }
+        
+        log.debug("<<< Response: Seats held - Reference: {}, Expires: {}", 
+            response.getBookingReference(), response.getExpiresAt());
         
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+    
+    /**
+     * The signed-in user's bookings, newest first, one page at a time
+     * 
+     * @param cursor nextCursor of the previous page; omit for the first page
+     * @param size Bookings per page, capped at booking.history.max-page-size
+     */
+    @GetMapping("/me")
+    @QueryBudget(1) // Bookings with show, movie, theatre and seat numbers in one statement
+    @ReplicaReads // A booking made moments ago may be missing until the replica catches up
+    public ResponseEntity<BookingHistoryResponse> getMyBookings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        return ResponseEntity.ok(bookingHistoryService.getHistory(authentication.getName(), cursor, size));
+    }
+    
+    /**
+     * Booking details, used to poll a held booking until the payment settles
+     */
+    @GetMapping("/{bookingReference}")
+    @QueryBudget(1) // Booking with user, show, movie and theatre; seat numbers come from the booking row
+    public ResponseEntity<BookingResponse> getBooking(@PathVariable String bookingReference,
+                                                      Authentication authentication) {
+        return ResponseEntity.ok(bookingService.getBooking(bookingReference, authentication.getName()));
+    }
+    
+    /**
+     * Paid checkout, phase two: start payment for a held booking.
+     * The booking is confirmed once the provider's callback arrives.
+     */
+    @PostMapping("/{bookingReference}/payment")
+    public ResponseEntity<PaymentResponse> pay(@PathVariable String bookingReference,
+                                               Authentication authentication) {
+        log.debug(">>> Incoming Request: POST /api/bookings/{}/payment", bookingReference);
+        PaymentResponse response = paymentService.initiatePayment(bookingReference, authentication.getName());
+        log.debug("<<< Response: Payment started - Payment: {}", response.getPaymentId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+    
+    /**
+     * Cancel a booking; its seats go straight back on sale
+     */
+    @PostMapping("/{bookingReference}/cancel")
+    @QueryBudget(10) // Locked booking lookup loads its associations one by one, movie and theatre from the entity cache when warm
+    public ResponseEntity<BookingResponse> cancelBooking(@PathVariable String bookingReference,
+                                                         Authentication authentication) {
+        log.debug(">>> Incoming Request: POST /api/bookings/{}/cancel - User: {}", bookingReference, authentication.getName());
+        BookingResponse response = bookingService.cancelBooking(bookingReference, authentication.getName());
+        log.debug("<<< Response: Booking cancelled - Reference: {}, Seats released: {}",
+            response.getBookingReference(), response.getSeatNumbers().size());
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,62 @@
+package com.bookmyshow.controller;
+
+import com.bookmyshow.dto.ReferenceCacheStats;
+import com.bookmyshow.service.ReferenceDataCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Cache Controller - statistics and eviction for the movie and theatre cache
+ * Demonstrates:
+ * - Single Responsibility Principle: Only exposes cache administration over HTTP
+ * - Dependency Inversion Principle: Depends on ReferenceDataCache abstraction
+ */
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    /**
+     * Hits, misses and size per cache region
+     */
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ReferenceCacheStats> getStats() {
+        return ResponseEntity.ok(referenceDataCache.getStats());
+    }
+
+    /**
+     * After a movie was changed outside the application
+     */
+    @DeleteMapping("/movies/{movieId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> evictMovie(@PathVariable Long movieId) {
+        referenceDataCache.evictMovie(movieId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * After a theatre was changed outside the application
+     */
+    @DeleteMapping("/theatres/{theatreId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> evictTheatre(@PathVariable Long theatreId) {
+        referenceDataCache.evictTheatre(theatreId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> evictAll() {
+        referenceDataCache.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.bookmyshow.controller;
+
+import com.bookmyshow.dto.OutboxStats;
+import com.bookmyshow.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Outbox Controller - monitoring for the post-booking event pipeline
+ * Demonstrates:
+ * - Single Responsibility Principle: Only exposes outbox state over HTTP
+ * - Dependency Inversion Principle: Depends on OutboxService abstraction
+ */
+@RestController
+@RequestMapping("/api/outbox")
+@RequiredArgsConstructor
+public class OutboxController {
+
+    private final OutboxService outboxService;
+
+    /**
+     * Backlog and delivery lag of booking events
+     */
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<OutboxStats> getStats() {
+        return ResponseEntity.ok(outboxService.getStats());
+    }
+}
@@ -0,0 +1,35 @@
+package com.bookmyshow.controller;
+
+import com.bookmyshow.dto.PaymentCallback;
+import com.bookmyshow.dto.PaymentResponse;
+import com.bookmyshow.service.PaymentService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Payment Controller - webhook for payment provider callbacks
+ * Demonstrates:
+ * - Single Responsibility Principle: Only handles provider-facing HTTP requests
+ * - Dependency Inversion Principle: Depends on PaymentService abstraction
+ */
+@RestController
+@RequestMapping("/api/payments")
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentController {
+
+    private final PaymentService paymentService;
+
+    /**
+     * Provider callback; carries no JWT and is trusted only if its signature verifies
+     */
+    @PostMapping("/callback")
+    public ResponseEntity<PaymentResponse> callback(@Valid @RequestBody PaymentCallback callback) {
+        log.debug(">>> Incoming Request: POST /api/payments/callback - Reference: {}, Status: {}",
+            callback.getBookingReference(), callback.getStatus());
+        return ResponseEntity.ok(paymentService.handleCallback(callback));
+    }
+}
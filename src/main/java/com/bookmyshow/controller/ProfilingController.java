@@ -0,0 +1,79 @@
+package com.bookmyshow.controller;
+
+import com.bookmyshow.dto.ProfilingSummary;
+import com.bookmyshow.exception.ResourceNotFoundException;
+import com.bookmyshow.service.ProfilingService;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Profiling Controller - on-demand JFR recordings of the running service
+ * Demonstrates:
+ * - Single Responsibility Principle: Only exposes recordings over HTTP
+ * - Dependency Inversion Principle: Depends on ProfilingService abstraction
+ */
+@RestController
+@RequestMapping("/api/profiling")
+@RequiredArgsConstructor
+public class ProfilingController {
+
+    private static final long DUMP_MARGIN_SECONDS = 60; // Stopping, dumping and summarizing after the recording ends
+
+    private final ProfilingService profilingService;
+
+    @Value("${booking.profiling.max-seconds:300}")
+    private long maxSeconds;
+
+    /**
+     * Record for the given number of seconds; responds when the recording is done,
+     * without holding a request thread meanwhile
+     */
+    @PostMapping("/recordings")
+    @PreAuthorize("hasRole('ADMIN')")
+    public DeferredResult<ProfilingSummary> record(
+            @RequestParam(defaultValue = "30") @Min(value = 1, message = "must be at least 1 second") int seconds) {
+        DeferredResult<ProfilingSummary> result = new DeferredResult<>(
+            TimeUnit.SECONDS.toMillis(Math.min(seconds, maxSeconds) + DUMP_MARGIN_SECONDS));
+        profilingService.record(seconds).whenComplete((summary, error) -> {
+            if (error != null) {
+                result.setErrorResult(error);
+            } else {
+                result.setResult(summary);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * The .jfr file, for JDK Mission Control or `jfr print`
+     */
+    @GetMapping("/recordings/{recordingId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Resource> download(@PathVariable String recordingId) {
+        Path file = profilingService.getRecordingFile(recordingId)
+            .orElseThrow(() -> new ResourceNotFoundException("Recording not found: " + recordingId));
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+            .body(new FileSystemResource(file));
+    }
+}
@@ -1,7 +1,13 @@
 package com.bookmyshow.controller;
 
+import com.bookmyshow.config.QueryBudget;
+import com.bookmyshow.config.ReplicaReads;
+import com.bookmyshow.dto.QuoteRequest;
+import com.bookmyshow.dto.QuoteResponse;
 import com.bookmyshow.dto.ShowDTO;
+import com.bookmyshow.service.PriceQuoteService;
 import com.bookmyshow.service.ShowBrowsingService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -24,6 +30,7 @@ import java.util.List;
 public class ShowController {
     
     private final ShowBrowsingService showBrowsingService;
+    private final PriceQuoteService priceQuoteService;
     
     /**
      * READ SCENARIO: Browse theatres showing a selected movie in a town with show timings by date
@@ -34,17 +41,38 @@ public class ShowController {
      * @return List of shows matching the criteria
      */
     @GetMapping("/browse")
+    @QueryBudget(2) // Shows with movie and theatre, no per-show lookups; an empty result also checks the movie exists
+    @ReplicaReads // Listings may trail the primary by the replica lag
     public ResponseEntity<List<ShowDTO>> browseShows(
             @RequestParam Long movieId,
             @RequestParam String city,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
         
-        log.info(">>> Incoming Request: GET /api/shows/browse");
-        log.info("Parameters - Movie ID: {}, City: {}, Date: {}", movieId, city, date);
+        log.debug(">>> Incoming Request: GET /api/shows/browse - Movie ID: {}, City: {}, Date: {}",
+            movieId, city, date);
         
         List<ShowDTO> shows = showBrowsingService.browseShowsByMovieCityAndDate(movieId, city, date);
         
-        log.info("<<< Response: {} shows found", shows.size());
+        log.debug("<<< Response: {} shows found", shows.size());
         return ResponseEntity.ok(shows);
     }
+    
+    /**
+     * Price one or more candidate seat sets of a show without booking them
+     * 
+     * @param showId Show ID
+     * @param request Candidate seat sets, each by seatIds or seatIndexes
+     * @return Total, discount and final amount per candidate, in request order
+     */
+    @PostMapping("/{showId}/quote")
+    @QueryBudget(3) // Show, seat prices and occupancy while the caches are cold
+    public ResponseEntity<QuoteResponse> quote(
+            @PathVariable Long showId,
+            @Valid @RequestBody QuoteRequest request) {
+        
+        log.debug(">>> Incoming Request: POST /api/shows/{}/quote - Candidates: {}",
+            showId, request.getCandidates().size());
+        
+        return ResponseEntity.ok(priceQuoteService.quote(showId, request));
+    }
 }
@@ -0,0 +1,58 @@
+package com.bookmyshow.controller;
+
+import com.bookmyshow.dto.QueueStatusResponse;
+import com.bookmyshow.service.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Waiting Room Controller - admission control for on-sale events
+ * Demonstrates:
+ * - Single Responsibility Principle: Only handles queue-related HTTP requests
+ * - Dependency Inversion Principle: Depends on WaitingRoomService abstraction
+ */
+@RestController
+@RequestMapping("/api/waiting-room")
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    /**
+     * Join the queue for a show. The returned ticket must be sent as the
+     * X-Queue-Ticket header on POST /api/bookings once it is admitted.
+     */
+    @PostMapping("/shows/{showId}/join")
+    public ResponseEntity<QueueStatusResponse> join(@PathVariable Long showId, Authentication authentication) {
+        return ResponseEntity.ok(waitingRoomService.join(showId, authentication.getName()));
+    }
+
+    /**
+     * Poll the position of a queue ticket
+     */
+    @GetMapping("/status")
+    public ResponseEntity<QueueStatusResponse> status(@RequestParam String ticket, Authentication authentication) {
+        return ResponseEntity.ok(waitingRoomService.status(ticket, authentication.getName()));
+    }
+
+    @PutMapping("/shows/{showId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> enable(@PathVariable Long showId) {
+        log.info(">>> Admin Request: enable waiting room for Show ID: {}", showId);
+        waitingRoomService.enable(showId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/shows/{showId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> disable(@PathVariable Long showId) {
+        log.info(">>> Admin Request: disable waiting room for Show ID: {}", showId);
+        waitingRoomService.disable(showId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.bookmyshow.controller;
+
+import com.bookmyshow.dto.WaitlistEntryResponse;
+import com.bookmyshow.dto.WaitlistRequest;
+import com.bookmyshow.service.WaitlistService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Waitlist Controller - queueing for sold-out shows
+ * Demonstrates:
+ * - Single Responsibility Principle: Only handles waitlist-related HTTP requests
+ * - Dependency Inversion Principle: Depends on WaitlistService abstraction
+ */
+@RestController
+@RequestMapping("/api/waitlist")
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    /**
+     * Join the waitlist of a sold-out show. When seats are released they are held for
+     * the entry as a PENDING booking, to be paid via POST /api/bookings/{ref}/payment.
+     */
+    @PostMapping("/shows/{showId}")
+    public ResponseEntity<WaitlistEntryResponse> join(@PathVariable Long showId,
+                                                      @Valid @RequestBody WaitlistRequest request,
+                                                      Authentication authentication) {
+        log.debug(">>> Incoming Request: POST /api/waitlist/shows/{} - User: {}", showId, authentication.getName());
+        WaitlistEntryResponse response = waitlistService.join(showId, request, authentication.getName());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("/{entryId}")
+    public ResponseEntity<WaitlistEntryResponse> getEntry(@PathVariable String entryId, Authentication authentication) {
+        return ResponseEntity.ok(waitlistService.getEntry(entryId, authentication.getName()));
+    }
+
+    @DeleteMapping("/{entryId}")
+    public ResponseEntity<Void> leave(@PathVariable String entryId, Authentication authentication) {
+        waitlistService.leave(entryId, authentication.getName());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.bookmyshow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AsyncBookingStats {
+    private int queueDepth;
+    private int queueCapacity;
+    private int activeWorkers;
+    private long submitted;
+    private long rejected;
+    private long confirmed;
+    private long failed;
+    private double avgQueueWaitMs;
+    private double maxQueueWaitMs;
+    private double avgProcessingMs;
+    private double maxProcessingMs;
+}
@@ -0,0 +1,15 @@
+package com.bookmyshow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingHistoryResponse {
+    private List<BookingResponse> bookings; // Newest first
+    private String nextCursor; // Pass as ?cursor= for the following page; null on the last page
+}
@@ -1,20 +1,59 @@
 package com.bookmyshow.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import java.util.List;
 
+/**
+ * Seats are addressed within the show, either by seat ID or by layout index (seatIndexes)
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class BookingRequest {
     
+    /**
+     * Upper bound on seats per booking. Keeps the booking's seat number snapshot (2000 chars)
+     * and its outbox payload (4000 chars) within their columns for any selection.
+     */
+    public static final int MAX_SEATS = 50;
+    
     @NotNull(message = "Show ID is required")
     private Long showId;
     
-    @NotEmpty(message = "At least one seat must be selected")
+    @Size(max = MAX_SEATS, message = "At most " + MAX_SEATS + " seats can be booked at once")
     private List<Long> seatIds;
+    
+    @Size(max = MAX_SEATS, message = "At most " + MAX_SEATS + " seats can be booked at once")
+    private List<Integer> seatIndexes;
+    
+    public BookingRequest(Long showId, List<Long> seatIds) {
+        this(showId, seatIds, null);
+    }
+    
+    public static BookingRequest forSeatIndexes(Long showId, List<Integer> seatIndexes) {
+        return new BookingRequest(showId, null, seatIndexes);
+    }
+    
+    @JsonIgnore
+    @AssertTrue(message = "At least one seat must be selected, by seatIds or seatIndexes but not both")
+    public boolean isSeatSelectionValid() {
+        return isEmpty(seatIds) != isEmpty(seatIndexes);
+    }
+    
+    /**
+     * Number of seats requested, whichever way they are addressed
+     */
+    public int seatCount() {
+        return isEmpty(seatIndexes) ? (seatIds == null ? 0 : seatIds.size()) : seatIndexes.size();
+    }
+    
+    private static boolean isEmpty(List<?> values) {
+        return values == null || values.isEmpty();
+    }
 }
@@ -1,5 +1,8 @@
 package com.bookmyshow.dto;
 
+import com.bookmyshow.util.MoneySerializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,21 +20,23 @@ public class BookingResponse {
     private String theatreName;
     private LocalDateTime showDateTime;
     private List<String> seatNumbers;
-    private Double totalAmount;
-    private Double discountApplied;
+    @JsonProperty("totalAmount")
+    @JsonSerialize(using = MoneySerializer.class)
+    private long totalAmountMinor;
+    @JsonProperty("discountApplied")
+    @JsonSerialize(using = MoneySerializer.class)
+    private long discountMinor;
+    private int priceMultiplierBasisPoints; // 10_000 = list price
     private String status;
     private LocalDateTime bookingDateTime;
+    private LocalDateTime expiresAt;
     
     /**
      * Calculate final amount after discount
      */
-    public Double getFinalAmount() {
-        if (totalAmount == null) {
-            return 0.0;
-        }
-        if (discountApplied == null) {
-            return totalAmount;
-        }
-        return totalAmount - discountApplied;
+    @JsonProperty("finalAmount")
+    @JsonSerialize(using = MoneySerializer.class)
+    public long getFinalAmountMinor() {
+        return totalAmountMinor - discountMinor;
     }
 }
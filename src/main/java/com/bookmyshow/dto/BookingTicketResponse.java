@@ -0,0 +1,18 @@
+package com.bookmyshow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingTicketResponse {
+    private String ticketId;
+    private String status;
+    private BookingResponse booking;
+    private String error;
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,38 @@
+package com.bookmyshow.dto;
+
+import com.bookmyshow.enums.SeatType;
+import com.bookmyshow.enums.ShowType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * One stackable discount rule as defined in the rules file.
+ * Every condition left null matches anything; the effects of all matching rules add up.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiscountRule {
+
+    private String id;
+
+    private boolean enabled = true;
+
+    // Conditions
+    private Set<ShowType> showTypes;
+    private Set<String> cities;
+    private Integer minSeats;
+    private Integer maxSeats;
+    private Set<SeatType> seatTypes; // Every seat in the booking must be one of these
+    private Integer fromHour; // Show start hour, inclusive
+    private Integer toHour; // Show start hour, exclusive
+
+    // Effects
+    private double percentOffTotal;
+    private int seats; // Number of (average priced) seats that get percentOffSeats
+    private double percentOffSeats;
+    private double amountOff; // Rupees, converted to paise when the rules are compiled
+}
@@ -0,0 +1,21 @@
+package com.bookmyshow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxStats {
+    private long pending;
+    private long parked;
+    private long oldestPendingAgeMs;
+    private long delivered;
+    private long failedAttempts;
+    private double avgDeliveryLagMs;
+    private double maxDeliveryLagMs;
+    private List<String> consumers;
+}
@@ -0,0 +1,28 @@
+package com.bookmyshow.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentCallback {
+
+    @NotBlank(message = "Booking reference is required")
+    private String bookingReference;
+
+    @NotBlank(message = "Payment ID is required")
+    private String paymentId;
+
+    @NotBlank(message = "Status is required")
+    private String status; // SUCCESS, FAILED
+
+    @NotBlank(message = "Signature is required")
+    private String signature;
+
+    public String signedPayload() {
+        return bookingReference + ":" + paymentId + ":" + status;
+    }
+}
@@ -0,0 +1,14 @@
+package com.bookmyshow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentResponse {
+    private String bookingReference;
+    private String paymentId;
+    private String status;
+}
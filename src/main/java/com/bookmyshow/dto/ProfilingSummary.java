@@ -0,0 +1,52 @@
+package com.bookmyshow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfilingSummary {
+    private String recordingId;
+    private long durationMs;
+    private long fileSizeBytes;
+    private String downloadPath;
+    private Map<String, Long> eventCounts; // application events by type
+    private List<AllocationSite> topAllocationSites;
+    private List<ContendedLock> topContendedLocks;
+    private List<SlowEvent> slowestEvents;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AllocationSite {
+        private String frame; // first com.bookmyshow frame, else the allocating frame
+        private long sampledBytes;
+        private long samples;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ContendedLock {
+        private String lockClass;
+        private String kind; // monitor or park
+        private long events;
+        private double totalMs;
+        private double maxMs;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SlowEvent {
+        private String type;
+        private String startTime;
+        private double durationMs;
+        private Map<String, String> fields;
+    }
+}
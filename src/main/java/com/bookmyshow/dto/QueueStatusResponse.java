@@ -0,0 +1,16 @@
+package com.bookmyshow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueueStatusResponse {
+    private String ticket;
+    private Long showId;
+    private long position;
+    private boolean admitted;
+    private long estimatedWaitSeconds;
+}
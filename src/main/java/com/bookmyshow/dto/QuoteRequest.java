@@ -0,0 +1,55 @@
+package com.bookmyshow.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Candidate seat sets of one show to price, addressed like BookingRequest seats
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteRequest {
+
+    @NotEmpty(message = "At least one candidate seat set is required")
+    private List<@NotNull @Valid Candidate> candidates;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Candidate {
+
+        @Size(max = BookingRequest.MAX_SEATS, message = "At most " + BookingRequest.MAX_SEATS + " seats per candidate")
+        private List<Long> seatIds;
+
+        @Size(max = BookingRequest.MAX_SEATS, message = "At most " + BookingRequest.MAX_SEATS + " seats per candidate")
+        private List<Integer> seatIndexes;
+
+        public static Candidate ofSeatIds(List<Long> seatIds) {
+            return new Candidate(seatIds, null);
+        }
+
+        public static Candidate ofSeatIndexes(List<Integer> seatIndexes) {
+            return new Candidate(null, seatIndexes);
+        }
+
+        @JsonIgnore
+        @AssertTrue(message = "At least one seat must be selected, by seatIds or seatIndexes but not both")
+        public boolean isSeatSelectionValid() {
+            return isEmpty(seatIds) != isEmpty(seatIndexes);
+        }
+
+        private static boolean isEmpty(List<?> values) {
+            return values == null || values.isEmpty();
+        }
+    }
+}
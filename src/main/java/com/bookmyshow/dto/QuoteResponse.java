@@ -0,0 +1,41 @@
+package com.bookmyshow.dto;
+
+import com.bookmyshow.util.MoneySerializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Prices of the candidate seat sets, in request order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteResponse {
+    private Long showId;
+    private int priceMultiplierBasisPoints; // Applied to every quote, 10_000 = list price
+    private List<Quote> quotes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Quote {
+        private List<String> seatNumbers;
+        @JsonProperty("totalAmount")
+        @JsonSerialize(using = MoneySerializer.class)
+        private long totalAmountMinor;
+        @JsonProperty("discountApplied")
+        @JsonSerialize(using = MoneySerializer.class)
+        private long discountMinor;
+
+        @JsonProperty("finalAmount")
+        @JsonSerialize(using = MoneySerializer.class)
+        public long getFinalAmountMinor() {
+            return totalAmountMinor - discountMinor;
+        }
+    }
+}
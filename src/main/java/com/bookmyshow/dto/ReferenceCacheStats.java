@@ -0,0 +1,27 @@
+package com.bookmyshow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReferenceCacheStats {
+    private boolean enabled;
+    private List<Region> regions;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        private String name;
+        private long hits;
+        private long misses;
+        private long puts;
+        private double hitRatio;
+        private long entries; // -1 if the provider does not report it
+    }
+}
@@ -1,5 +1,8 @@
 package com.bookmyshow.dto;
 
+import com.bookmyshow.util.MoneySerializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -12,5 +15,7 @@ public class SeatDTO {
     private String seatNumber;
     private String seatType;
     private String status;
-    private Double price;
+    @JsonProperty("price")
+    @JsonSerialize(using = MoneySerializer.class)
+    private long priceMinor;
 }
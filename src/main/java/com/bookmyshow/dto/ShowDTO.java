@@ -1,5 +1,8 @@
 package com.bookmyshow.dto;
 
+import com.bookmyshow.util.MoneySerializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,7 +20,9 @@ public class ShowDTO {
     private String theatreCity;
     private String theatreAddress;
     private LocalDateTime showDateTime;
-    private Double basePrice;
+    @JsonProperty("basePrice")
+    @JsonSerialize(using = MoneySerializer.class)
+    private long basePriceMinor;
     private String showType;
     private Integer availableSeats;
 }
@@ -0,0 +1,21 @@
+package com.bookmyshow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistEntryResponse {
+    private String entryId;
+    private Long showId;
+    private int seatCount;
+    private String seatType;
+    private String status;
+    private long position;
+    private BookingResponse booking; // Held booking once seats were offered
+    private LocalDateTime joinedAt;
+}
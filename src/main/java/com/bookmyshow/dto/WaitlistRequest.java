@@ -0,0 +1,20 @@
+package com.bookmyshow.dto;
+
+import com.bookmyshow.enums.SeatType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistRequest {
+
+    @Min(value = 1, message = "At least one seat is required")
+    @Max(value = 10, message = "At most 10 seats can be requested")
+    private int seatCount = 1;
+
+    private SeatType seatType; // Optional, any type when null
+}
@@ -4,7 +4,9 @@ import com.bookmyshow.enums.BookingStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -14,7 +16,9 @@ import java.util.List;
  * Demonstrates Single Responsibility Principle - handles only booking data
  */
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+    @Index(name = "idx_bookings_user_time", columnList = "user_id, booking_date_time") // Booking history, newest first
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,43 +28,55 @@ public class Booking {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "show_id", nullable = false)
     private Show show;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "booking", cascade = CascadeType.ALL)
     private List<Seat> seats = new ArrayList<>();
 
+    @Column(length = 2000)
+    private String seatNumbers; // Comma-separated, taken at booking time; cancelling and expiry unlink the seats
+
     @Column(nullable = false)
     private LocalDateTime bookingDateTime;
 
     @Column(nullable = false)
-    private Double totalAmount;
+    private long totalAmountMinor; // Before discount, paise
+
+    @Column(nullable = false)
+    private long discountMinor;
 
     @Column(nullable = false)
-    private Double discountApplied = 0.0;
+    private int priceMultiplierBasisPoints = 10_000; // Dynamic pricing applied to the seat prices, 10_000 = list price
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
-    private BookingStatus status; // PENDING, CONFIRMED, CANCELLED
+    private BookingStatus status; // PENDING, CONFIRMED, CANCELLED, EXPIRED
 
     @Column(unique = true, nullable = false)
     private String bookingReference;
+
+    private LocalDateTime expiresAt; // Payment deadline while PENDING
+
+    private String paymentAttemptKey; // Idempotency key of the booking's one payment, stored before the provider is called
+
+    private String paymentReference;
     
     /**
-     * Calculate final amount after discount
+     * Calculate final amount after discount, in paise
      */
-    public Double getFinalAmount() {
-        if (totalAmount == null) {
-            return 0.0;
-        }
-        if (discountApplied == null) {
-            return totalAmount;
-        }
-        return totalAmount - discountApplied;
+    public long getFinalAmountMinor() {
+        return totalAmountMinor - discountMinor;
     }
 }
@@ -3,7 +3,11 @@ package com.bookmyshow.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -12,6 +16,9 @@ import java.util.List;
  * Demonstrates Single Responsibility Principle - handles only movie data
  */
 @Entity
+@EntityListeners(NegativeCacheInvalidator.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.movies") // Reference data, see ehcache.xml
 @Table(name = "movies")
 @Data
 @NoArgsConstructor
@@ -40,6 +47,8 @@ public class Movie {
     @Column(nullable = false)
     private String rating; // U, UA, A, etc.
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "movie", cascade = CascadeType.ALL)
     private List<Show> shows = new ArrayList<>();
 }
@@ -0,0 +1,33 @@
+package com.bookmyshow.entity;
+
+import com.bookmyshow.service.NegativeLookupCache;
+import jakarta.persistence.PostPersist;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that clears a newly created ID from the negative lookup cache
+ * Resolved through Spring, so it is a no-op where no cache bean exists (e.g. JPA slice tests)
+ */
+@Component
+public class NegativeCacheInvalidator {
+
+    private final ObjectProvider<NegativeLookupCache> cache;
+
+    public NegativeCacheInvalidator(ObjectProvider<NegativeLookupCache> cache) {
+        this.cache = cache;
+    }
+
+    @PostPersist
+    public void created(Object entity) {
+        NegativeLookupCache negativeCache = cache.getIfAvailable();
+        if (negativeCache == null) {
+            return;
+        }
+        if (entity instanceof Movie movie) {
+            negativeCache.invalidate(NegativeLookupCache.Kind.MOVIE, movie.getId());
+        } else if (entity instanceof Show show) {
+            negativeCache.invalidate(NegativeLookupCache.Kind.SHOW, show.getId());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.bookmyshow.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * OutboxEvent entity - a booking event waiting to be relayed to consumers
+ * Demonstrates Single Responsibility Principle - handles only outbox data
+ *
+ * Rows are inserted in the transaction that changed the booking and deleted once
+ * every consumer has accepted them.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_show", columnList = "show_id") // Per-show ordering and backoff checks
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // Delivery order within a show
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(name = "show_id", nullable = false)
+    private Long showId;
+
+    @Column(nullable = false, length = 4000)
+    private String payload; // JSON
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt; // Set while backing off after a failed delivery
+
+    private LocalDateTime parkedAt; // Gave up after the last attempt; kept for inspection
+
+    @Column(length = 500)
+    private String lastError;
+}
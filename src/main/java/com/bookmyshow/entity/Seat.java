@@ -5,14 +5,19 @@ import com.bookmyshow.enums.SeatType;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 /**
  * Seat entity representing individual seats for a show
  * Demonstrates Single Responsibility Principle - handles only seat data
  */
 @Entity
-@Table(name = "seats")
+@Table(name = "seats", indexes = {
+    @Index(name = "idx_seats_booking", columnList = "booking_id"), // Release/cancel touch only the booking's seats
+    @Index(name = "uk_seats_show_index", columnList = "show_id, seat_index", unique = true) // Seat address within a show
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,11 +27,20 @@ public class Seat {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "show_id", nullable = false)
     private Show show;
 
-    @Column(nullable = false)
+    /**
+     * Position of the seat in its show's layout, dense from 0.
+     * Together with the show it addresses the seat, so a seat map fits in an array or bitmap.
+     */
+    @Column(name = "seat_index", nullable = false)
+    private Integer seatIndex;
+
+    @Column(nullable = false, length = 20) // Bounds the booking's seat number snapshot
     private String seatNumber;
 
     @Enumerated(EnumType.STRING)
@@ -38,9 +52,18 @@ public class Seat {
     private SeatStatus status; // AVAILABLE, BOOKED, LOCKED
 
     @Column(nullable = false)
-    private Double price;
+    private long priceMinor; // Paise, see Money
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "booking_id")
     private Booking booking;
+
+    /**
+     * Bumped by every write, including the bulk claim and release updates,
+     * so optimistic bookings notice any change made since they read the seat
+     */
+    @Version
+    private Long version;
 }
@@ -4,7 +4,9 @@ import com.bookmyshow.enums.ShowType;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -14,6 +16,7 @@ import java.util.List;
  * Demonstrates Single Responsibility Principle - handles only show data
  */
 @Entity
+@EntityListeners(NegativeCacheInvalidator.class)
 @Table(name = "shows")
 @Data
 @NoArgsConstructor
@@ -24,10 +27,14 @@ public class Show {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @ToString.Exclude // Lazy: printing or comparing an entity must not load its graph
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "movie_id", nullable = false)
     private Movie movie;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "theatre_id", nullable = false)
     private Theatre theatre;
@@ -36,7 +43,7 @@ public class Show {
     private LocalDateTime showDateTime;
 
     @Column(nullable = false)
-    private Double basePrice;
+    private long basePriceMinor; // Paise, see Money
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -45,9 +52,13 @@ public class Show {
     @Column(nullable = false)
     private Integer availableSeats;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "show", cascade = CascadeType.ALL)
     private List<Seat> seats = new ArrayList<>();
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "show", cascade = CascadeType.ALL)
     private List<Booking> bookings = new ArrayList<>();
 }
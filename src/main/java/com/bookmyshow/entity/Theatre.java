@@ -3,7 +3,11 @@ package com.bookmyshow.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -12,6 +16,8 @@ import java.util.List;
  * Demonstrates Single Responsibility Principle - handles only theatre data
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.theatres") // Reference data, see ehcache.xml
 @Table(name = "theatres")
 @Data
 @NoArgsConstructor
@@ -34,6 +40,8 @@ public class Theatre {
     @Column(nullable = false)
     private Integer totalSeats;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "theatre", cascade = CascadeType.ALL)
     private List<Show> shows = new ArrayList<>();
 }
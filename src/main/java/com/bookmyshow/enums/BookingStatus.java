@@ -1,7 +1,8 @@
 package com.bookmyshow.enums;
 
 public enum BookingStatus {
-    PENDING,
+    PENDING,    // Seats held, waiting for payment
     CONFIRMED,
-    CANCELLED
+    CANCELLED,
+    EXPIRED     // Hold ran out before payment arrived
 }
@@ -0,0 +1,8 @@
+package com.bookmyshow.enums;
+
+public enum BookingTicketStatus {
+    QUEUED,      // Accepted, waiting for a booking worker
+    PROCESSING,  // A worker is running the booking transaction
+    CONFIRMED,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.bookmyshow.enums;
+
+public enum SeatLockingMode {
+    CONDITIONAL,  // Seats claimed by an UPDATE that only matches AVAILABLE rows
+    PESSIMISTIC,  // Seat rows read with SELECT ... FOR UPDATE, then written
+    OPTIMISTIC    // Seat rows read without locks, written only if their version is unchanged
+}
@@ -0,0 +1,8 @@
+package com.bookmyshow.enums;
+
+public enum WaitlistStatus {
+    WAITING,    // Queued for released seats
+    OFFERED,    // Seats held for the user, pay before the hold expires
+    LEFT,
+    CLOSED      // The show started before seats came free
+}
@@ -0,0 +1,9 @@
+package com.bookmyshow.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a PENDING booking starts holding seats until its payment deadline
+ */
+public record BookingHeldEvent(Long bookingId, LocalDateTime expiresAt) {
+}
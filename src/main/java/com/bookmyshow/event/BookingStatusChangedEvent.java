@@ -0,0 +1,21 @@
+package com.bookmyshow.event;
+
+import com.bookmyshow.enums.BookingStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Published inside the booking transaction whenever a booking is created or changes status.
+ * It is recorded in the outbox in the same transaction and delivered to OutboxConsumers after commit.
+ */
+public record BookingStatusChangedEvent(
+    Long bookingId,
+    String bookingReference,
+    Long showId,
+    String username,
+    BookingStatus status,
+    List<Integer> seatIndexes,
+    long finalAmountMinor,
+    LocalDateTime occurredAt) {
+}
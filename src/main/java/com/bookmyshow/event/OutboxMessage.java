@@ -0,0 +1,11 @@
+package com.bookmyshow.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * One outbox row as handed to an OutboxConsumer
+ * @param id Unique per event; redeliveries carry the same id, so consumers can deduplicate
+ * @param attempt 1 on first delivery, higher when redelivered after a failure
+ */
+public record OutboxMessage(long id, int attempt, LocalDateTime createdAt, BookingStatusChangedEvent event) {
+}
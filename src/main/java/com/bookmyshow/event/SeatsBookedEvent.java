@@ -0,0 +1,8 @@
+package com.bookmyshow.event;
+
+/**
+ * Published inside the booking transaction when seats are taken off a show,
+ * whether confirmed directly or held for payment
+ */
+public record SeatsBookedEvent(Long showId, int seatCount) {
+}
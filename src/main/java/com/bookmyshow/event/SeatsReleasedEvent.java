@@ -0,0 +1,10 @@
+package com.bookmyshow.event;
+
+import java.util.List;
+
+/**
+ * Published when seats go back to AVAILABLE (cancellation, failed payment, hold expiry),
+ * so in-memory availability can be patched for just these seats instead of reloaded
+ */
+public record SeatsReleasedEvent(Long showId, List<Long> seatIds) {
+}
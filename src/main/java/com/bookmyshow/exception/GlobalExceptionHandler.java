@@ -1,6 +1,8 @@
 package com.bookmyshow.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
@@ -26,7 +29,8 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
             ResourceNotFoundException ex, WebRequest request) {
-        log.error("ResourceNotFoundException: {} - Request: {}", ex.getMessage(), request.getDescription(false));
+        // Client error, and often a scraper: cheap to answer, so not worth a log line per request
+        log.debug("ResourceNotFoundException: {} - Request: {}", ex.getMessage(), request.getDescription(false));
         ErrorResponse error = new ErrorResponse(
             LocalDateTime.now(),
             ex.getMessage(),
@@ -49,6 +53,68 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
     
+    @ExceptionHandler(SoldOutException.class)
+    public ResponseEntity<ErrorResponse> handleSoldOutException(
+            SoldOutException ex, WebRequest request) {
+        log.debug("SoldOutException: {} - Request: {}", ex.getMessage(), request.getDescription(false));
+        ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            ex.getMessage(),
+            request.getDescription(false),
+            HttpStatus.CONFLICT.value()
+        );
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+    
+    @ExceptionHandler(WaitingRoomException.class)
+    public ResponseEntity<ErrorResponse> handleWaitingRoomException(
+            WaitingRoomException ex, WebRequest request) {
+        log.debug("WaitingRoomException: {} - Request: {}", ex.getMessage(), request.getDescription(false));
+        ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            ex.getMessage(),
+            request.getDescription(false),
+            HttpStatus.TOO_MANY_REQUESTS.value()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfterSeconds())))
+            .body(error);
+    }
+    
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloadedException(
+            ServiceOverloadedException ex, WebRequest request) {
+        log.warn("ServiceOverloadedException: {} - Request: {}", ex.getMessage(), request.getDescription(false));
+        ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            ex.getMessage(),
+            request.getDescription(false),
+            HttpStatus.SERVICE_UNAVAILABLE.value()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfterSeconds())))
+            .body(error);
+    }
+    
+    /**
+     * Lock timeouts, deadlocks and serialization failures: nothing was booked, so the
+     * same request can simply be sent again
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyFailureException(
+            ConcurrencyFailureException ex, WebRequest request) {
+        log.warn("ConcurrencyFailureException: {} - Request: {}", ex.getMessage(), request.getDescription(false));
+        ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            "Seats are being booked concurrently, please retry",
+            request.getDescription(false),
+            HttpStatus.CONFLICT.value()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(error);
+    }
+    
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ErrorResponse> handleBadCredentialsException(
             BadCredentialsException ex, WebRequest request) {
@@ -80,6 +146,25 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
     
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorResponse> handleHandlerMethodValidationException(
+            HandlerMethodValidationException ex, WebRequest request) {
+        String message = ex.getAllValidationResults().stream()
+            .flatMap(result -> result.getResolvableErrors().stream()
+                .map(error -> result.getMethodParameter().getParameterName() + ": " + error.getDefaultMessage()))
+            .collect(Collectors.joining(", "));
+        
+        log.warn("Validation failed: {} - Request: {}", message, request.getDescription(false));
+        
+        ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            "Validation failed: " + message,
+            request.getDescription(false),
+            HttpStatus.BAD_REQUEST.value()
+        );
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+    
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(
             HttpMessageNotReadableException ex, WebRequest request) {
@@ -2,6 +2,7 @@ package com.bookmyshow.exception;
 
 public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String message) {
-        super(message);
+        // Not-found is an expected outcome; skip the stack trace, nothing ever logs it
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,20 @@
+package com.bookmyshow.exception;
+
+public class SoldOutException extends RuntimeException {
+
+    private final Long showId;
+
+    public SoldOutException(Long showId) {
+        super("Show " + showId + " is sold out, join the waitlist at /api/waitlist/shows/" + showId);
+        this.showId = showId;
+    }
+
+    public SoldOutException(Long showId, long remaining) {
+        super("Not enough seats left for show " + showId + ", at most " + remaining + " remain");
+        this.showId = showId;
+    }
+
+    public Long getShowId() {
+        return showId;
+    }
+}
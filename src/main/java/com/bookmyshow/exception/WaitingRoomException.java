@@ -0,0 +1,15 @@
+package com.bookmyshow.exception;
+
+public class WaitingRoomException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public WaitingRoomException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,73 @@
+package com.bookmyshow.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JFR event for one booking attempt, from the service call until its transaction completes
+ *
+ * start() begins the event and ties its end to the surrounding transaction, so the
+ * duration includes the commit and every attempt is recorded, committed or rolled back.
+ * While no recording enables the event, start() returns null and nothing is allocated.
+ */
+@Name("com.bookmyshow.Booking")
+@Label("Booking")
+@Category({"BookMyShow", "Booking"})
+@Description("A booking attempt, including the commit or rollback of its transaction")
+@StackTrace(false)
+public class BookingEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(BookingEvent.class);
+
+    @Label("Path")
+    @Description("direct, hold or prefetched")
+    String path;
+
+    @Label("Show Id")
+    long showId;
+
+    @Label("Seats")
+    int seatCount;
+
+    @Label("Booking Id")
+    long bookingId;
+
+    @Label("Outcome")
+    @Description("committed or rolled back")
+    String outcome;
+
+    /**
+     * @return The running event, or null if it is not being recorded
+     */
+    public static BookingEvent start(String path, Long showId) {
+        if (!TYPE.isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        BookingEvent event = new BookingEvent();
+        event.path = path;
+        event.showId = showId == null ? 0 : showId;
+        event.begin();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                event.outcome = status == STATUS_COMMITTED ? "committed" : "rolled back";
+                event.commit();
+            }
+        });
+        return event;
+    }
+
+    public static void booked(BookingEvent event, Long bookingId, int seatCount) {
+        if (event != null) {
+            event.bookingId = bookingId == null ? 0 : bookingId;
+            event.seatCount = seatCount;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.bookmyshow.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for the JWT filter's own work, null from start() while it is not being recorded
+ */
+@Name("com.bookmyshow.JwtAuthentication")
+@Label("JWT Authentication")
+@Category({"BookMyShow", "Security"})
+@StackTrace(false)
+public class JwtAuthenticationEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(JwtAuthenticationEvent.class);
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("User Lookup")
+    @Timespan(Timespan.NANOSECONDS)
+    long userLookup;
+
+    public static JwtAuthenticationEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void end(JwtAuthenticationEvent event, String outcome, long userLookupNanos) {
+        if (event != null) {
+            event.outcome = outcome;
+            event.userLookup = userLookupNanos;
+            event.commit();
+        }
+    }
+}
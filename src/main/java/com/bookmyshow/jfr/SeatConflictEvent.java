@@ -0,0 +1,36 @@
+package com.bookmyshow.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a booking that lost a race for seats or a database lock
+ */
+@Name("com.bookmyshow.SeatConflict")
+@Label("Seat Conflict")
+@Category({"BookMyShow", "Booking"})
+@Description("A booking lost a seat race (seat_conflict) or a database lock (lock_failure)")
+public class SeatConflictEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(SeatConflictEvent.class);
+
+    @Label("Show Id")
+    long showId;
+
+    @Label("Kind")
+    String kind;
+
+    public static void emit(Long showId, String kind) {
+        if (!TYPE.isEnabled()) {
+            return;
+        }
+        SeatConflictEvent event = new SeatConflictEvent();
+        event.showId = showId == null ? 0 : showId;
+        event.kind = kind;
+        event.commit();
+    }
+}
@@ -0,0 +1,47 @@
+package com.bookmyshow.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one browse query, null from start() while it is not being recorded
+ */
+@Name("com.bookmyshow.ShowBrowse")
+@Label("Show Browse")
+@Category({"BookMyShow", "Browsing"})
+@StackTrace(false)
+public class ShowBrowseEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(ShowBrowseEvent.class);
+
+    @Label("Movie Id")
+    long movieId;
+
+    @Label("City")
+    String city;
+
+    @Label("Shows")
+    int showCount;
+
+    public static ShowBrowseEvent start(Long movieId, String city) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        ShowBrowseEvent event = new ShowBrowseEvent();
+        event.movieId = movieId == null ? 0 : movieId;
+        event.city = city;
+        event.begin();
+        return event;
+    }
+
+    public static void end(ShowBrowseEvent event, int showCount) {
+        if (event != null) {
+            event.showCount = showCount;
+            event.commit();
+        }
+    }
+}
@@ -2,8 +2,16 @@ package com.bookmyshow.repository;
 
 import com.bookmyshow.entity.Booking;
 import com.bookmyshow.enums.BookingStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,11 +23,97 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     
     List<Booking> findByUserId(Long userId);
     
+    // Select list and joins of the booking history queries
+    String HISTORY_COLUMNS = "b.id AS id, b.bookingReference AS bookingReference, s.id AS showId, " +
+        "m.title AS movieTitle, t.name AS theatreName, s.showDateTime AS showDateTime, " +
+        "b.totalAmountMinor AS totalAmountMinor, b.discountMinor AS discountMinor, " +
+        "b.priceMultiplierBasisPoints AS priceMultiplierBasisPoints, b.status AS status, " +
+        "b.seatNumbers AS seatNumbers, b.bookingDateTime AS bookingDateTime, b.expiresAt AS expiresAt " +
+        "FROM Booking b JOIN b.user u JOIN b.show s JOIN s.movie m JOIN s.theatre t";
+    
+    /**
+     * First page of a user's booking history, newest first, with the show, movie and theatre
+     * fields it displays in the same statement
+     */
+    @Query("SELECT " + HISTORY_COLUMNS + " WHERE u.username = :username " +
+           "ORDER BY b.bookingDateTime DESC, b.id DESC")
+    List<BookingHistoryRow> findHistoryByUsername(@Param("username") String username, Limit limit);
+    
+    /**
+     * Next page of a user's booking history: the bookings after (bookingDateTime, id) of the
+     * previous page's last row. Seeks through idx_bookings_user_time rather than skipping
+     * rows, so a deep page costs the same as the first.
+     */
+    @Query("SELECT " + HISTORY_COLUMNS + " WHERE u.username = :username " +
+           "AND b.bookingDateTime <= :bookingDateTime " + // Range bound on the index column for any planner
+           "AND (b.bookingDateTime < :bookingDateTime OR b.id < :id) " +
+           "ORDER BY b.bookingDateTime DESC, b.id DESC")
+    List<BookingHistoryRow> findHistoryByUsernameBefore(@Param("username") String username,
+                                                        @Param("bookingDateTime") LocalDateTime bookingDateTime,
+                                                        @Param("id") Long id,
+                                                        Limit limit);
+    
     List<Booking> findByShowId(Long showId);
     
+    /**
+     * Booking lookup for display: user, show, movie and theatre come in the same statement
+     */
+    @EntityGraph(attributePaths = {"user", "show.movie", "show.theatre"})
     Optional<Booking> findByBookingReference(String bookingReference);
     
     List<Booking> findByStatus(BookingStatus status);
     
     List<Booking> findByUserIdAndStatus(Long userId, BookingStatus status);
+    
+    /**
+     * Row-locks the booking so payment confirmation and hold expiry cannot interleave
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Booking> findForUpdateByBookingReference(String bookingReference);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Booking> findForUpdateByIdInAndStatusAndExpiresAtLessThanEqual(
+        Collection<Long> ids, BookingStatus status, LocalDateTime now);
+    
+    List<HoldDeadline> findDeadlinesByStatus(BookingStatus status);
+    
+    /**
+     * Projection used to rebuild the in-memory hold expiry schedule
+     */
+    interface HoldDeadline {
+        Long getId();
+        
+        LocalDateTime getExpiresAt();
+    }
+    
+    /**
+     * Projection of one booking history entry
+     */
+    interface BookingHistoryRow {
+        Long getId();
+        
+        String getBookingReference();
+        
+        Long getShowId();
+        
+        String getMovieTitle();
+        
+        String getTheatreName();
+        
+        LocalDateTime getShowDateTime();
+        
+        long getTotalAmountMinor();
+        
+        long getDiscountMinor();
+        
+        int getPriceMultiplierBasisPoints();
+        
+        BookingStatus getStatus();
+        
+        String getSeatNumbers();
+        
+        LocalDateTime getBookingDateTime();
+        
+        LocalDateTime getExpiresAt();
+    }
 }
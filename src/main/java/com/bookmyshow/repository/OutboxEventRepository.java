@@ -0,0 +1,33 @@
+package com.bookmyshow.repository;
+
+import com.bookmyshow.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * OutboxEventRepository - Demonstrates Dependency Inversion Principle
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    
+    /**
+     * Oldest events ready for delivery. Shows whose head event is backing off are left out
+     * entirely, so their later events wait instead of overtaking it.
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.parkedAt IS NULL AND NOT EXISTS (" +
+           "SELECT b FROM OutboxEvent b WHERE b.showId = e.showId AND b.parkedAt IS NULL AND b.nextAttemptAt > :now) " +
+           "ORDER BY e.id")
+    List<OutboxEvent> findDeliverable(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    long countByParkedAtIsNull();
+    
+    long countByParkedAtIsNotNull();
+    
+    Optional<OutboxEvent> findFirstByParkedAtIsNullOrderByIdAsc();
+}
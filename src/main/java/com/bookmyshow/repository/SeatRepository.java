@@ -1,9 +1,17 @@
 package com.bookmyshow.repository;
 
+import com.bookmyshow.entity.Booking;
 import com.bookmyshow.entity.Seat;
 import com.bookmyshow.enums.SeatStatus;
+import com.bookmyshow.enums.SeatType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,4 +25,117 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
     List<Seat> findByShowIdAndStatus(Long showId, SeatStatus status);
     
     List<Seat> findByBookingId(Long bookingId);
+    
+    /**
+     * Seats of one show by layout position, a range lookup on (show_id, seat_index)
+     */
+    @Query("SELECT s FROM Seat s WHERE s.show.id = :showId AND s.seatIndex IN :seatIndexes ORDER BY s.seatIndex")
+    List<Seat> findByShowIdAndSeatIndexIn(@Param("showId") Long showId,
+                                          @Param("seatIndexes") Collection<Integer> seatIndexes);
+    
+    /**
+     * Seats of one show by ID. IDs belonging to another show are simply not returned,
+     * so ownership is checked by the same query that loads the seats.
+     */
+    @Query("SELECT s FROM Seat s WHERE s.show.id = :showId AND s.id IN :seatIds ORDER BY s.seatIndex")
+    List<Seat> findByShowIdAndIdIn(@Param("showId") Long showId,
+                                   @Param("seatIds") Collection<Long> seatIds);
+    
+    /**
+     * Loads the requested seats of a show, addressed by layout index when given, otherwise by ID
+     */
+    default List<Seat> findSeatsOfShow(Long showId, Collection<Long> seatIds, Collection<Integer> seatIndexes) {
+        return seatIndexes != null && !seatIndexes.isEmpty()
+            ? findByShowIdAndSeatIndexIn(showId, seatIndexes)
+            : findByShowIdAndIdIn(showId, seatIds);
+    }
+    
+    /**
+     * Same lookups with the seat rows locked until the transaction ends. Rows are locked
+     * in seat index order, so bookings with overlapping seats cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Seat s WHERE s.show.id = :showId AND s.seatIndex IN :seatIndexes ORDER BY s.seatIndex")
+    List<Seat> findForUpdateByShowIdAndSeatIndexIn(@Param("showId") Long showId,
+                                                   @Param("seatIndexes") Collection<Integer> seatIndexes);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Seat s WHERE s.show.id = :showId AND s.id IN :seatIds ORDER BY s.seatIndex")
+    List<Seat> findForUpdateByShowIdAndIdIn(@Param("showId") Long showId,
+                                            @Param("seatIds") Collection<Long> seatIds);
+    
+    default List<Seat> findSeatsOfShowForUpdate(Long showId, Collection<Long> seatIds, Collection<Integer> seatIndexes) {
+        return seatIndexes != null && !seatIndexes.isEmpty()
+            ? findForUpdateByShowIdAndSeatIndexIn(showId, seatIndexes)
+            : findForUpdateByShowIdAndIdIn(showId, seatIds);
+    }
+    
+    /**
+     * Price columns of every seat of a show, without loading the entities
+     */
+    @Query("SELECT s.id AS id, s.seatIndex AS seatIndex, s.seatNumber AS seatNumber, " +
+           "s.seatType AS seatType, s.priceMinor AS priceMinor FROM Seat s WHERE s.show.id = :showId")
+    List<SeatPrice> findSeatPricesByShowId(@Param("showId") Long showId);
+    
+    /**
+     * Layout position and type of a show's AVAILABLE seats, without loading the entities
+     */
+    @Query("SELECT s.seatIndex AS seatIndex, s.seatType AS seatType FROM Seat s " +
+           "WHERE s.show.id = :showId AND s.status = com.bookmyshow.enums.SeatStatus.AVAILABLE ORDER BY s.seatIndex")
+    List<FreeSeat> findFreeSeatsByShowId(@Param("showId") Long showId);
+    
+    /**
+     * Conditional claim within one show: moves only seats that are still AVAILABLE to the given status.
+     * A result smaller than seatIndexes.size() means another booking won the race.
+     */
+    @Modifying
+    @Query("UPDATE Seat s SET s.status = :status, s.booking = :booking, s.version = s.version + 1 " +
+           "WHERE s.show.id = :showId AND s.seatIndex IN :seatIndexes " +
+           "AND s.status = com.bookmyshow.enums.SeatStatus.AVAILABLE")
+    int claimAvailableSeats(@Param("showId") Long showId,
+                            @Param("seatIndexes") Collection<Integer> seatIndexes,
+                            @Param("booking") Booking booking,
+                            @Param("status") SeatStatus status);
+    
+    /**
+     * Moves all of a booking's seats from one status to another, e.g. LOCKED to BOOKED on payment
+     */
+    @Modifying
+    @Query("UPDATE Seat s SET s.status = :to, s.version = s.version + 1 " +
+           "WHERE s.booking.id = :bookingId AND s.status = :from")
+    int updateStatusForBooking(@Param("bookingId") Long bookingId,
+                               @Param("from") SeatStatus from,
+                               @Param("to") SeatStatus to);
+    
+    /**
+     * Returns a booking's seats to AVAILABLE and unlinks them, in one statement
+     */
+    @Modifying
+    @Query("UPDATE Seat s SET s.status = com.bookmyshow.enums.SeatStatus.AVAILABLE, s.booking = null, " +
+           "s.version = s.version + 1 WHERE s.booking.id = :bookingId")
+    int releaseSeatsForBooking(@Param("bookingId") Long bookingId);
+    
+    /**
+     * Projection used to build the in-memory price list for quotes
+     */
+    interface SeatPrice {
+        Long getId();
+
+        Integer getSeatIndex();
+
+        String getSeatNumber();
+
+        SeatType getSeatType();
+
+        long getPriceMinor();
+    }
+    
+    /**
+     * Projection used to match released seats to waitlist entries
+     */
+    interface FreeSeat {
+        Integer getSeatIndex();
+
+        SeatType getSeatType();
+    }
 }
@@ -2,11 +2,14 @@ package com.bookmyshow.repository;
 
 import com.bookmyshow.entity.Show;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * ShowRepository - Demonstrates Dependency Inversion Principle
@@ -27,8 +30,11 @@ public interface ShowRepository extends JpaRepository<Show, Long> {
         @Param("date") LocalDateTime date
     );
     
-    @Query("SELECT s FROM Show s WHERE s.movie.id = :movieId " +
-           "AND s.theatre.city = :city " +
+    /**
+     * Browse query; movie and theatre come in the same statement, since every result needs both
+     */
+    @Query("SELECT s FROM Show s JOIN FETCH s.movie JOIN FETCH s.theatre t WHERE s.movie.id = :movieId " +
+           "AND t.city = :city " +
            "AND s.showDateTime BETWEEN :startDate AND :endDate")
     List<Show> findShowsByMovieAndCityBetweenDates(
         @Param("movieId") Long movieId,
@@ -38,4 +44,51 @@ public interface ShowRepository extends JpaRepository<Show, Long> {
     );
     
     List<Show> findByShowDateTimeBetween(LocalDateTime start, LocalDateTime end);
+    
+    /**
+     * Loads a show together with its movie and theatre in one round trip
+     */
+    @Query("SELECT s FROM Show s JOIN FETCH s.movie JOIN FETCH s.theatre WHERE s.id = :showId")
+    Optional<Show> findByIdWithMovieAndTheatre(@Param("showId") Long showId);
+    
+    /**
+     * Atomically takes seats off the available counter; returns 0 if not enough are left
+     */
+    @Modifying
+    @Query("UPDATE Show s SET s.availableSeats = s.availableSeats - :count " +
+           "WHERE s.id = :showId AND s.availableSeats >= :count")
+    int decrementAvailableSeats(@Param("showId") Long showId, @Param("count") int count);
+    
+    @Modifying
+    @Query("UPDATE Show s SET s.availableSeats = s.availableSeats + :count WHERE s.id = :showId")
+    int incrementAvailableSeats(@Param("showId") Long showId, @Param("count") int count);
+    
+    @Query("SELECT s.showDateTime FROM Show s WHERE s.id = :showId")
+    Optional<LocalDateTime> findShowDateTimeById(@Param("showId") Long showId);
+    
+    @Query("SELECT s.id AS id, s.availableSeats AS availableSeats FROM Show s WHERE s.id IN :showIds")
+    List<SeatCount> findSeatCountsByIdIn(@Param("showIds") Collection<Long> showIds);
+    
+    /**
+     * Seat capacity and remaining seats of one show, the starting point of its demand counters
+     */
+    @Query("SELECT s.id AS id, s.availableSeats AS availableSeats, " +
+           "(SELECT COUNT(seat) FROM Seat seat WHERE seat.show = s) AS capacity FROM Show s WHERE s.id = :showId")
+    Optional<Occupancy> findOccupancyById(@Param("showId") Long showId);
+    
+    /**
+     * Projection used to seed the dynamic pricing demand counters
+     */
+    interface Occupancy extends SeatCount {
+        Long getCapacity();
+    }
+    
+    /**
+     * Projection used to reconcile the in-memory availability hints
+     */
+    interface SeatCount {
+        Long getId();
+        
+        Integer getAvailableSeats();
+    }
 }
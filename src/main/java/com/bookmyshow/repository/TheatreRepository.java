@@ -1,18 +1,30 @@
 package com.bookmyshow.repository;
 
 import com.bookmyshow.entity.Theatre;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 /**
  * TheatreRepository - Demonstrates Dependency Inversion Principle
+ * findById and the cacheable finders are served from the second-level cache (see ehcache.xml)
  */
 @Repository
 public interface TheatreRepository extends JpaRepository<Theatre, Long> {
     
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "reference.queries")
+    })
     List<Theatre> findByCity(String city);
     
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "reference.queries")
+    })
     List<Theatre> findByCityIgnoreCase(String city);
     
     List<Theatre> findByNameContainingIgnoreCase(String name);
@@ -1,6 +1,7 @@
 package com.bookmyshow.repository;
 
 import com.bookmyshow.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
@@ -12,6 +13,10 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
+    /**
+     * Loads the roles in the same statement; runs on every authenticated request
+     */
+    @EntityGraph(attributePaths = "roles")
     Optional<User> findByUsername(String username);
     
     Optional<User> findByEmail(String email);
@@ -0,0 +1,59 @@
+package com.bookmyshow.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * HMAC-SHA256 signing for tokens that are not JWTs (queue tickets, payment callbacks)
+ * Demonstrates Single Responsibility Principle - Only handles message signatures
+ */
+public class HmacSigner {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecretKeySpec key;
+    // Mac instances are not thread-safe and costly to create, so keep one per thread
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    public HmacSigner(String secret) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    }
+
+    public byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+
+    /**
+     * @return URL-safe Base64 signature of the UTF-8 payload
+     */
+    public String sign(String payload) {
+        return ENCODER.encodeToString(sign(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Constant-time comparison against a freshly computed signature
+     */
+    public boolean verify(byte[] payload, byte[] signature) {
+        return signature != null && MessageDigest.isEqual(signature, sign(payload));
+    }
+
+    public boolean verify(String payload, String signature) {
+        return signature != null && MessageDigest.isEqual(
+            signature.getBytes(StandardCharsets.UTF_8), sign(payload).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialise HMAC signer", e);
+        }
+    }
+}
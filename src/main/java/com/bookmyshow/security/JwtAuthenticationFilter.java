@@ -1,5 +1,11 @@
 package com.bookmyshow.security;
 
+import com.bookmyshow.jfr.JwtAuthenticationEvent;
+import com.bookmyshow.util.RequestPhases;
+import com.bookmyshow.util.RequestPhases.Phase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,10 +22,16 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT Authentication Filter
  * Demonstrates Single Responsibility Principle - Only handles JWT authentication
+ *
+ * The filter's own work (token checks and the user lookup, not the rest of the request)
+ * is timed as auth.jwt{outcome=authenticated|anonymous|rejected}, and reported to
+ * Server-Timing as the jwt (token checks) and user (user lookup) phases. While a JFR
+ * recording enables it, each request also emits a JwtAuthenticationEvent.
  */
 @Component
 @RequiredArgsConstructor
@@ -28,18 +40,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtUtils jwtUtils;
     private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+    
+    private Timer authenticatedTimer;
+    private Timer anonymousTimer;
+    private Timer rejectedTimer;
+    
+    @PostConstruct
+    public void registerTimers() {
+        authenticatedTimer = timer("authenticated");
+        anonymousTimer = timer("anonymous");
+        rejectedTimer = timer("rejected");
+    }
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        JwtAuthenticationEvent trace = JwtAuthenticationEvent.start();
+        long userLookupNanos = 0;
+        Timer outcome = anonymousTimer;
         try {
             String jwt = parseJwt(request);
+            if (jwt != null) {
+                outcome = rejectedTimer;
+            }
             if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
                 String username = jwtUtils.getUserNameFromJwtToken(jwt);
                 
                 log.debug("JWT validated successfully for user: {}", username);
                 
+                long userLookupStart = System.nanoTime();
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                userLookupNanos = System.nanoTime() - userLookupStart;
                 UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(userDetails, null, 
                         userDetails.getAuthorities());
@@ -47,10 +80,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 log.debug("Security context set for user: {}", username);
+                outcome = authenticatedTimer;
             }
         } catch (Exception e) {
             log.error("Cannot set user authentication: {}", e.getMessage());
         }
+        long elapsed = System.nanoTime() - start;
+        outcome.record(elapsed, TimeUnit.NANOSECONDS);
+        RequestPhases.add(Phase.USER, userLookupNanos);
+        RequestPhases.add(Phase.JWT, elapsed - userLookupNanos);
+        JwtAuthenticationEvent.end(trace, outcome.getId().getTag("outcome"), userLookupNanos);
         
         filterChain.doFilter(request, response);
     }
@@ -64,4 +103,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         return null;
     }
+    
+    private Timer timer(String outcome) {
+        return Timer.builder("auth.jwt")
+            .description("JWT authentication in the filter chain")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
 }
@@ -0,0 +1,44 @@
+package com.bookmyshow.service;
+
+import com.bookmyshow.dto.AsyncBookingStats;
+import com.bookmyshow.dto.BookingRequest;
+import com.bookmyshow.dto.BookingTicketResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface Segregation Principle - Queue-backed booking submission
+ * Decouples the HTTP worker thread from the booking transaction
+ */
+public interface AsyncBookingService {
+
+    /**
+     * Enqueue a booking for a worker to process
+     * @param request Validated booking request
+     * @param username Username of the user making the booking
+     * @param queueTicket Waiting-room ticket admitted for the booking, handed back if it fails; may be null
+     * @return Ticket in QUEUED state
+     */
+    BookingTicketResponse submit(BookingRequest request, String username, String queueTicket);
+
+    /**
+     * Current state of a booking ticket
+     * @param ticketId Ticket ID returned by submit
+     * @param username Owner of the ticket
+     * @return Ticket state, including the booking once confirmed
+     */
+    BookingTicketResponse getTicket(String ticketId, String username);
+
+    /**
+     * Completes once the ticket reaches CONFIRMED or FAILED
+     * @param ticketId Ticket ID returned by submit
+     * @param username Owner of the ticket
+     * @return Future of the final ticket state
+     */
+    CompletableFuture<BookingTicketResponse> awaitTicket(String ticketId, String username);
+
+    /**
+     * @return Queue depth, outcome counters and per-stage latency
+     */
+    AsyncBookingStats getStats();
+}
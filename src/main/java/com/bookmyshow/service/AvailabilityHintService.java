@@ -0,0 +1,22 @@
+package com.bookmyshow.service;
+
+/**
+ * Interface Segregation Principle - Specific interface for the in-memory capacity hint
+ * Lets controllers turn away requests for full shows without opening a transaction
+ */
+public interface AvailabilityHintService {
+
+    /**
+     * Reject the request if the show certainly cannot seat it. Never rejects a request
+     * that could succeed; unknown shows always pass.
+     * @param showId Show ID
+     * @param seatCount Seats requested
+     */
+    void checkCapacity(Long showId, int seatCount);
+
+    /**
+     * @param showId Show ID
+     * @return Upper bound on the seats still available, or -1 if the show is not tracked yet
+     */
+    long remainingUpperBound(Long showId);
+}
@@ -0,0 +1,19 @@
+package com.bookmyshow.service;
+
+/**
+ * Interface Segregation Principle - Specific interface for booking contention metrics
+ * Counts bookings that lost a race for seats, without one metric series per show
+ */
+public interface BookingContentionMetrics {
+
+    enum Kind {
+        SEAT_CONFLICT,  // Seats were taken by another booking first
+        LOCK_FAILURE    // Lock timeout, deadlock or serialization failure; the client is asked to retry
+    }
+
+    /**
+     * @param showId Show whose seats were contended
+     * @param kind How the booking lost
+     */
+    void record(Long showId, Kind kind);
+}
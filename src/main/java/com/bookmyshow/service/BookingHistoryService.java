@@ -0,0 +1,19 @@
+package com.bookmyshow.service;
+
+import com.bookmyshow.dto.BookingHistoryResponse;
+
+/**
+ * Interface Segregation Principle - Specific interface for a user's booking history
+ * Pages are read without loading Booking entities, so a user with thousands of bookings costs the same per page
+ */
+public interface BookingHistoryService {
+
+    /**
+     * One page of the user's bookings, newest first
+     * @param username Owner of the bookings
+     * @param cursor nextCursor of the previous page, or null for the first page
+     * @param size Bookings per page, capped at booking.history.max-page-size
+     * @return The page and the cursor of the next one
+     */
+    BookingHistoryResponse getHistory(String username, String cursor, int size);
+}
@@ -3,6 +3,8 @@ package com.bookmyshow.service;
 import com.bookmyshow.dto.BookingRequest;
 import com.bookmyshow.dto.BookingResponse;
 
+import java.util.Collection;
+
 /**
  * Interface Segregation Principle - Specific interface for booking operations
  */
@@ -15,4 +17,77 @@ public interface BookingService {
      * @return Booking response
      */
     BookingResponse bookTickets(BookingRequest request, String username);
+    
+    /**
+     * First phase of a paid checkout: hold the seats under a PENDING booking until the payment deadline
+     * @param request Booking request
+     * @param username Username of the user making the booking
+     * @return PENDING booking with its expiry time
+     */
+    BookingResponse holdTickets(BookingRequest request, String username);
+    
+    /**
+     * @param bookingReference Booking reference
+     * @param username Owner of the booking
+     * @return Booking details
+     */
+    BookingResponse getBooking(String bookingReference, String username);
+    
+    /**
+     * Second phase, step one: claim the payment attempt of a PENDING booking, once per booking
+     * Repeated requests get the stored attempt back; the provider is called afterwards, outside
+     * any transaction, with the attempt key as its idempotency key.
+     * @param bookingReference Booking reference
+     * @param username Owner of the booking
+     * @return The booking's payment attempt, with the provider's transaction ID once it is recorded
+     */
+    PaymentAttempt beginPayment(String bookingReference, String username);
+    
+    /**
+     * Second phase, step two: record the provider's transaction ID for the attempt
+     * @param bookingReference Booking reference
+     * @param attemptKey Key returned by beginPayment
+     * @param paymentReference Provider's transaction ID
+     * @return Transaction ID recorded for the booking; one recorded earlier wins
+     */
+    String recordPayment(String bookingReference, String attemptKey, String paymentReference);
+    
+    /**
+     * Payment succeeded: turn the PENDING booking into CONFIRMED
+     * @param bookingReference Booking reference
+     * @param paymentReference Provider's transaction ID; must be the payment started for the booking
+     * @return Confirmed booking
+     */
+    BookingResponse confirmHold(String bookingReference, String paymentReference);
+    
+    /**
+     * Payment failed: cancel the PENDING booking and release its seats
+     * @param bookingReference Booking reference
+     * @param paymentReference Provider's transaction ID; must be the payment started for the booking
+     */
+    void releaseHold(String bookingReference, String paymentReference);
+    
+    /**
+     * Cancel a confirmed or held booking and release its seats
+     * @param bookingReference Booking reference
+     * @param username Owner of the booking
+     * @return Cancelled booking with the released seats
+     */
+    BookingResponse cancelBooking(String bookingReference, String username);
+    
+    /**
+     * Expire PENDING bookings whose deadline has passed and release their seats
+     * @param bookingIds Candidate booking IDs; confirmed or not-yet-due ones are skipped
+     * @return Number of bookings expired
+     */
+    int expireHolds(Collection<Long> bookingIds);
+    
+    /**
+     * The one payment attempt of a held booking
+     * @param attemptKey Idempotency key passed to the payment provider
+     * @param amountMinor Amount to charge, in paise
+     * @param paymentReference Provider's transaction ID, null until recorded
+     */
+    record PaymentAttempt(String attemptKey, long amountMinor, String paymentReference) {
+    }
 }
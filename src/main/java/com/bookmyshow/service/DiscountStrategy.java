@@ -1,17 +1,44 @@
 package com.bookmyshow.service;
 
+import com.bookmyshow.entity.Seat;
+import com.bookmyshow.entity.Show;
+import com.bookmyshow.enums.ShowType;
+
+import java.util.List;
+
 /**
  * Strategy Pattern - Interface for discount calculation strategies
  * Open/Closed Principle - Open for extension, closed for modification
  */
 public interface DiscountStrategy {
-    
+
     /**
      * Calculate discount based on specific strategy
-     * @param totalAmount Original amount
-     * @param numberOfSeats Number of seats booked
-     * @param isAfternoonShow Whether it's an afternoon show
-     * @return Discount amount
+     * @param context What is being bought: amount, seats, show and where
+     * @return Discount in paise, never more than the total
      */
-    double calculateDiscount(double totalAmount, int numberOfSeats, boolean isAfternoonShow);
+    long calculateDiscount(Context context);
+
+    /**
+     * Attributes of one booking that discount rules can match on
+     *
+     * @param totalAmount Original amount in paise
+     * @param seatCount Number of seats booked
+     * @param showType Time-of-day slot of the show
+     * @param city City of the theatre
+     * @param seatTypeMask Bit (1 << SeatType.ordinal()) set for every seat type in the booking
+     * @param showHour Hour of day the show starts, 0-23
+     */
+    record Context(long totalAmount, int seatCount, ShowType showType, String city,
+                   int seatTypeMask, int showHour) {
+
+        public static Context of(Show show, List<Seat> seats, long totalAmount) {
+            int seatTypeMask = 0;
+            for (Seat seat : seats) {
+                seatTypeMask |= 1 << seat.getSeatType().ordinal();
+            }
+            return new Context(totalAmount, seats.size(), show.getShowType(), show.getTheatre().getCity(),
+                seatTypeMask, show.getShowDateTime().getHour());
+        }
+    }
 }
@@ -0,0 +1,15 @@
+package com.bookmyshow.service;
+
+/**
+ * Interface Segregation Principle - Specific interface for demand-driven price multipliers
+ * Quotes and bookings ask for the current multiplier; nothing here reads the seats table
+ */
+public interface DynamicPricingService {
+
+    /**
+     * Multiplier applied to the list prices of a show's seats right now
+     * @param showId Show ID
+     * @return Multiplier in basis points, 10_000 being the list price
+     */
+    int multiplierBasisPoints(Long showId);
+}
@@ -0,0 +1,33 @@
+package com.bookmyshow.service;
+
+/**
+ * Interface Segregation Principle - Specific interface for remembering IDs that do not exist
+ * Repeated lookups of missing movies and shows are answered without a query
+ */
+public interface NegativeLookupCache {
+
+    enum Kind {
+        MOVIE, SHOW
+    }
+
+    /**
+     * @param kind Entity kind
+     * @param id ID to check
+     * @return true if the ID was recently looked up and not found
+     */
+    boolean isMissing(Kind kind, long id);
+
+    /**
+     * Remember that a lookup came back empty
+     * @param kind Entity kind
+     * @param id Missing ID
+     */
+    void recordMissing(Kind kind, long id);
+
+    /**
+     * Forget a missing ID, called when an entity with that ID is created
+     * @param kind Entity kind
+     * @param id New ID
+     */
+    void invalidate(Kind kind, long id);
+}
@@ -0,0 +1,24 @@
+package com.bookmyshow.service;
+
+import com.bookmyshow.event.OutboxMessage;
+
+/**
+ * Dependency Inversion Principle - In-process receiver of committed booking events
+ * Any bean implementing this is picked up by the outbox relay.
+ *
+ * Delivery is at least once, in event order within a show. A message is redelivered
+ * until every consumer accepts it, so consumers must be idempotent (deduplicate on the
+ * message id). Throwing makes the relay retry the message later with backoff.
+ */
+public interface OutboxConsumer {
+
+    /**
+     * Name used in logs and stats
+     */
+    String name();
+
+    /**
+     * Handle one event; runs on the relay thread, never on a booking request
+     */
+    void accept(OutboxMessage message) throws Exception;
+}
@@ -0,0 +1,21 @@
+package com.bookmyshow.service;
+
+import com.bookmyshow.dto.OutboxStats;
+
+/**
+ * Interface Segregation Principle - Specific interface for the booking event outbox
+ * Events are written with the booking and relayed to OutboxConsumers after commit
+ */
+public interface OutboxService {
+
+    /**
+     * Relay the next batches of committed events to every consumer
+     * @return Events delivered
+     */
+    int relay();
+
+    /**
+     * @return Backlog, delivery lag and failure counters
+     */
+    OutboxStats getStats();
+}
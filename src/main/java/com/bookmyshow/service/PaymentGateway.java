@@ -0,0 +1,24 @@
+package com.bookmyshow.service;
+
+import com.bookmyshow.dto.PaymentCallback;
+
+import java.util.function.Consumer;
+
+/**
+ * Dependency Inversion Principle - Payment provider abstraction
+ * Providers confirm asynchronously; the outcome arrives as a signed callback
+ */
+public interface PaymentGateway {
+
+    /**
+     * Start a payment for a held booking
+     * Requests with the same idempotency key return the same payment and charge once
+     * @param bookingReference Booking being paid for
+     * @param idempotencyKey Payment attempt key of the booking
+     * @param amountMinor Amount to charge, in paise
+     * @param callback Receives the provider's signed result once the payment settles
+     * @return Provider payment ID
+     */
+    String requestPayment(String bookingReference, String idempotencyKey, long amountMinor,
+                          Consumer<PaymentCallback> callback);
+}
@@ -0,0 +1,25 @@
+package com.bookmyshow.service;
+
+import com.bookmyshow.dto.PaymentCallback;
+import com.bookmyshow.dto.PaymentResponse;
+
+/**
+ * Interface Segregation Principle - Specific interface for paying held bookings
+ */
+public interface PaymentService {
+
+    /**
+     * Start payment for a PENDING booking
+     * @param bookingReference Booking reference
+     * @param username Owner of the booking
+     * @return Payment ID, the outcome arrives later through the callback
+     */
+    PaymentResponse initiatePayment(String bookingReference, String username);
+
+    /**
+     * Apply a payment provider callback: confirm the hold on success, release it otherwise
+     * @param callback Signed callback
+     * @return Resulting booking status
+     */
+    PaymentResponse handleCallback(PaymentCallback callback);
+}
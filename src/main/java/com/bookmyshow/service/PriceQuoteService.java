@@ -0,0 +1,20 @@
+package com.bookmyshow.service;
+
+import com.bookmyshow.dto.QuoteRequest;
+import com.bookmyshow.dto.QuoteResponse;
+
+/**
+ * Interface Segregation Principle - Specific interface for read-only price quotes
+ * Lets clients show a price while seats are being selected, without booking anything
+ */
+public interface PriceQuoteService {
+
+    /**
+     * Price every candidate seat set with the same rules a booking would use.
+     * Nothing is written and seat availability is not checked.
+     * @param showId Show ID
+     * @param request Candidate seat sets
+     * @return One quote per candidate, in request order
+     */
+    QuoteResponse quote(Long showId, QuoteRequest request);
+}
@@ -0,0 +1,27 @@
+package com.bookmyshow.service;
+
+import com.bookmyshow.dto.ProfilingSummary;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface Segregation Principle - Specific interface for on-demand profiling of the running service
+ * A recording captures JVM events and the booking, browse and JWT events for a fixed duration
+ */
+public interface ProfilingService {
+
+    /**
+     * Start recording for the given duration, at least 1 second
+     * Only one recording runs at a time
+     * @return Completes once the recording is dumped, with the top allocation sites,
+     *         lock contention and slowest application events
+     */
+    CompletableFuture<ProfilingSummary> record(int seconds);
+
+    /**
+     * @return The dumped recording file, if it is still kept
+     */
+    Optional<Path> getRecordingFile(String recordingId);
+}
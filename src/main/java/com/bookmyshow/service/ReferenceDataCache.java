@@ -0,0 +1,30 @@
+package com.bookmyshow.service;
+
+import com.bookmyshow.dto.ReferenceCacheStats;
+
+/**
+ * Interface Segregation Principle - Specific interface for the movie and theatre second-level cache
+ * Writes through JPA keep the cache current; eviction is for changes made around the application
+ */
+public interface ReferenceDataCache {
+
+    /**
+     * Drop one movie, and the cached finder results that may contain it
+     */
+    void evictMovie(Long movieId);
+
+    /**
+     * Drop one theatre, and the cached finder results that may contain it
+     */
+    void evictTheatre(Long theatreId);
+
+    /**
+     * Drop every cached movie, theatre and finder result
+     */
+    void evictAll();
+
+    /**
+     * @return Hits, misses and size per cache region
+     */
+    ReferenceCacheStats getStats();
+}
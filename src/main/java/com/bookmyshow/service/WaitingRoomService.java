@@ -0,0 +1,67 @@
+package com.bookmyshow.service;
+
+import com.bookmyshow.dto.QueueStatusResponse;
+
+/**
+ * Interface Segregation Principle - Specific interface for on-sale admission control
+ * Keeps burst traffic for a show out of the booking path until it is admitted
+ */
+public interface WaitingRoomService {
+
+    /**
+     * Turn the waiting room on for a show; new booking attempts need an admitted ticket
+     * @param showId Show ID
+     */
+    void enable(Long showId);
+
+    /**
+     * Turn the waiting room off for a show and drop its queue state
+     * @param showId Show ID
+     */
+    void disable(Long showId);
+
+    /**
+     * @param showId Show ID
+     * @return true if booking for this show is gated by the waiting room
+     */
+    boolean isEnabled(Long showId);
+
+    /**
+     * Join the queue for a show
+     * @param showId Show ID
+     * @param username User joining the queue
+     * @return Signed ticket with the current position
+     */
+    QueueStatusResponse join(Long showId, String username);
+
+    /**
+     * Look up the position of a previously issued ticket
+     * @param ticket Signed queue ticket
+     * @param username User presenting the ticket
+     * @return Current position and admission state
+     */
+    QueueStatusResponse status(String ticket, String username);
+
+    /**
+     * Reject the booking attempt unless the ticket has been admitted for this show, then take the admission
+     * An admitted ticket is good for one booking; hand it back with releaseAdmission when the booking fails.
+     * @param showId Show the user wants to book
+     * @param ticket Signed queue ticket, may be null when the room is not enabled
+     * @param username User making the booking
+     */
+    void checkAdmission(Long showId, String ticket, String username);
+
+    /**
+     * Hand back the admission taken by checkAdmission after the booking failed, so the ticket can be used again
+     * @param showId Show the user tried to book
+     * @param ticket Signed queue ticket passed to checkAdmission, may be null
+     * @param username User who made the booking
+     */
+    void releaseAdmission(Long showId, String ticket, String username);
+
+    /**
+     * Feed an observed booking latency into the adaptive admission rate
+     * @param latencyNanos Time spent in the booking path
+     */
+    void recordBookingLatency(long latencyNanos);
+}
@@ -0,0 +1,34 @@
+package com.bookmyshow.service;
+
+import com.bookmyshow.dto.WaitlistEntryResponse;
+import com.bookmyshow.dto.WaitlistRequest;
+
+/**
+ * Interface Segregation Principle - Specific interface for sold-out show waitlists
+ * Released seats are offered to waiting users as PENDING holds, in FIFO order
+ */
+public interface WaitlistService {
+
+    /**
+     * Join a show's waitlist; only touches in-memory state
+     * @param showId Show ID
+     * @param request Seat count and optional seat type
+     * @param username User joining
+     * @return Entry with its current position
+     */
+    WaitlistEntryResponse join(Long showId, WaitlistRequest request, String username);
+
+    /**
+     * @param entryId Waitlist entry ID
+     * @param username Owner of the entry
+     * @return Position, or the held booking once seats were offered
+     */
+    WaitlistEntryResponse getEntry(String entryId, String username);
+
+    /**
+     * Leave the waitlist
+     * @param entryId Waitlist entry ID
+     * @param username Owner of the entry
+     */
+    void leave(String entryId, String username);
+}
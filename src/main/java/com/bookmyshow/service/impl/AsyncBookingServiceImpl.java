@@ -0,0 +1,238 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.AsyncBookingStats;
+import com.bookmyshow.dto.BookingRequest;
+import com.bookmyshow.dto.BookingResponse;
+import com.bookmyshow.dto.BookingTicketResponse;
+import com.bookmyshow.enums.BookingTicketStatus;
+import com.bookmyshow.exception.ResourceNotFoundException;
+import com.bookmyshow.exception.ServiceOverloadedException;
+import com.bookmyshow.service.AsyncBookingService;
+import com.bookmyshow.service.BookingService;
+import com.bookmyshow.service.WaitingRoomService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AsyncBookingServiceImpl
+ * Demonstrates:
+ * - Single Responsibility Principle: Only handles queueing and result tracking
+ * - Dependency Inversion Principle: Delegates the booking itself to BookingService
+ *
+ * Requests go into a bounded queue drained by a fixed pool of booking workers,
+ * so the number of concurrent booking transactions (and database connections)
+ * is capped by the pool size instead of by the number of HTTP threads.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncBookingServiceImpl implements AsyncBookingService {
+
+    private final BookingService bookingService;
+    private final WaitingRoomService waitingRoomService;
+
+    @Value("${booking.async.workers:8}")
+    private int workers;
+
+    @Value("${booking.async.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${booking.async.result-ttl-seconds:600}")
+    private long resultTtlSeconds;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder confirmed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final StageTimer queueWait = new StageTimer();
+    private final StageTimer processing = new StageTimer();
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "booking-worker-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        log.info("Async booking started - Workers: {}, Queue capacity: {}", workers, queueCapacity);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Async booking workers did not finish within 10s, {} bookings still queued",
+                executor.getQueue().size());
+        }
+    }
+
+    @Override
+    public BookingTicketResponse submit(BookingRequest request, String username, String queueTicket) {
+        Job job = new Job(UUID.randomUUID().toString(), username, request, queueTicket);
+        jobs.put(job.ticketId, job);
+        try {
+            executor.execute(() -> process(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.ticketId);
+            rejected.increment();
+            waitingRoomService.releaseAdmission(request.getShowId(), queueTicket, username);
+            throw new ServiceOverloadedException("Booking queue is full, please retry", 1);
+        }
+        submitted.increment();
+        return job.toResponse();
+    }
+
+    @Override
+    public BookingTicketResponse getTicket(String ticketId, String username) {
+        return findJob(ticketId, username).toResponse();
+    }
+
+    @Override
+    public CompletableFuture<BookingTicketResponse> awaitTicket(String ticketId, String username) {
+        return findJob(ticketId, username).done.thenApply(ignored -> getTicket(ticketId, username));
+    }
+
+    @Override
+    public AsyncBookingStats getStats() {
+        return new AsyncBookingStats(
+            executor.getQueue().size(),
+            queueCapacity,
+            executor.getActiveCount(),
+            submitted.sum(),
+            rejected.sum(),
+            confirmed.sum(),
+            failed.sum(),
+            queueWait.averageMillis(),
+            queueWait.maxMillis(),
+            processing.averageMillis(),
+            processing.maxMillis()
+        );
+    }
+
+    /**
+     * Drops finished tickets that nobody collected within the result TTL
+     */
+    @Scheduled(fixedDelayString = "${booking.async.purge-interval-ms:60000}")
+    public void purgeExpiredTickets() {
+        long cutoff = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(resultTtlSeconds);
+        jobs.values().removeIf(job -> job.done.isDone() && job.completedAtMillis < cutoff);
+    }
+
+    private void process(Job job) {
+        long started = System.nanoTime();
+        queueWait.record(started - job.submittedNanos);
+        job.status = BookingTicketStatus.PROCESSING;
+        BookingTicketStatus outcome;
+        BookingResponse response = null;
+        String error = null;
+        try {
+            response = bookingService.bookTickets(job.request, job.username);
+            outcome = BookingTicketStatus.CONFIRMED;
+            confirmed.increment();
+        } catch (RuntimeException e) {
+            log.warn("Async booking failed - Ticket: {}, User: {}, Error: {}",
+                job.ticketId, job.username, e.getMessage());
+            outcome = BookingTicketStatus.FAILED;
+            error = e.getMessage();
+            failed.increment();
+            waitingRoomService.releaseAdmission(job.request.getShowId(), job.queueTicket, job.username);
+        }
+        long elapsed = System.nanoTime() - started;
+        processing.record(elapsed);
+        waitingRoomService.recordBookingLatency(elapsed);
+        // Complete last so anyone woken by the ticket already sees updated stats
+        job.finish(outcome, response, error);
+    }
+
+    private Job findJob(String ticketId, String username) {
+        Job job = jobs.get(ticketId);
+        if (job == null || !job.username.equals(username)) {
+            throw new ResourceNotFoundException("Booking ticket not found: " + ticketId);
+        }
+        return job;
+    }
+
+    /**
+     * One queued booking and its eventual outcome
+     */
+    private static final class Job {
+        private final String ticketId;
+        private final String username;
+        private final BookingRequest request;
+        private final String queueTicket;
+        private final long submittedNanos = System.nanoTime();
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private volatile BookingTicketStatus status = BookingTicketStatus.QUEUED;
+        private volatile BookingResponse booking;
+        private volatile String error;
+        private volatile LocalDateTime completedAt;
+        private volatile long completedAtMillis;
+
+        private Job(String ticketId, String username, BookingRequest request, String queueTicket) {
+            this.ticketId = ticketId;
+            this.username = username;
+            this.request = request;
+            this.queueTicket = queueTicket;
+        }
+
+        private void finish(BookingTicketStatus finalStatus, BookingResponse response, String message) {
+            booking = response;
+            error = message;
+            completedAt = LocalDateTime.now();
+            completedAtMillis = System.currentTimeMillis();
+            status = finalStatus;
+            done.complete(null);
+        }
+
+        private BookingTicketResponse toResponse() {
+            return new BookingTicketResponse(ticketId, status.name(), booking, error, submittedAt, completedAt);
+        }
+    }
+
+    /**
+     * Lock-free count / total / max for one pipeline stage
+     */
+    private static final class StageTimer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private double averageMillis() {
+            long n = count.sum();
+            return n == 0 ? 0.0 : totalNanos.sum() / (n * 1_000_000.0);
+        }
+
+        private double maxMillis() {
+            return maxNanos.get() / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.event.SeatsBookedEvent;
+import com.bookmyshow.event.SeatsReleasedEvent;
+import com.bookmyshow.exception.ResourceNotFoundException;
+import com.bookmyshow.exception.SoldOutException;
+import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.service.AvailabilityHintService;
+import com.bookmyshow.service.NegativeLookupCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AvailabilityHintServiceImpl
+ * Demonstrates:
+ * - Single Responsibility Principle: Only tracks an upper bound of free seats per show
+ *
+ * The bound only ever errs high, so a rejection is always correct:
+ * - released seats are added as soon as the release runs, and taken back if it rolls back
+ * - booked seats are subtracted only once the booking has committed
+ * A periodic reconcile copies Show.availableSeats over the bound, but only for shows with
+ * no booking or release in flight and no change during the read, so it cannot undercut a
+ * concurrent update. Shows are tracked from their first booking attempt onwards.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityHintServiceImpl implements AvailabilityHintService {
+
+    private static final long UNKNOWN = Long.MAX_VALUE / 2;
+
+    private final ShowRepository showRepository;
+    private final NegativeLookupCache negativeLookupCache;
+
+    @Value("${booking.availability-hint.enabled:true}")
+    private boolean enabled;
+
+    @Value("${booking.availability-hint.max-tracked-shows:10000}")
+    private int maxTrackedShows;
+
+    private final Map<Long, Hint> hints = new ConcurrentHashMap<>();
+
+    @Override
+    public void checkCapacity(Long showId, int seatCount) {
+        if (!enabled) {
+            return;
+        }
+        Hint hint = hints.get(showId);
+        if (hint == null) {
+            if (negativeLookupCache.isMissing(NegativeLookupCache.Kind.SHOW, showId)) {
+                throw new ResourceNotFoundException("Show not found: " + showId);
+            }
+            if (hints.size() < maxTrackedShows) {
+                hints.putIfAbsent(showId, new Hint()); // Seeded on the next reconcile
+            }
+            return;
+        }
+        long remaining = hint.upperBound.get();
+        if (remaining <= 0) {
+            throw new SoldOutException(showId);
+        }
+        if (remaining < seatCount) {
+            throw new SoldOutException(showId, remaining);
+        }
+    }
+
+    @Override
+    public long remainingUpperBound(Long showId) {
+        Hint hint = hints.get(showId);
+        return hint == null || !hint.isSeeded() ? -1 : hint.upperBound.get();
+    }
+
+    @EventListener
+    public void onSeatsReleased(SeatsReleasedEvent event) {
+        Hint hint = hints.get(event.showId());
+        if (hint == null) {
+            return;
+        }
+        int seats = event.seatIds().size();
+        hint.begin();
+        hint.add(seats);
+        TransactionCallbacks.afterCompletion(committed -> {
+            if (!committed) {
+                hint.add(-seats);
+            }
+            hint.end();
+        });
+    }
+
+    @EventListener
+    public void onSeatsBooked(SeatsBookedEvent event) {
+        Hint hint = hints.get(event.showId());
+        if (hint == null) {
+            return;
+        }
+        hint.begin();
+        TransactionCallbacks.afterCompletion(committed -> {
+            if (committed) {
+                hint.add(-event.seatCount());
+            }
+            hint.end();
+        });
+    }
+
+    /**
+     * Copies the database counters over the hints of quiet shows and drops unknown shows
+     */
+    @Scheduled(fixedDelayString = "${booking.availability-hint.reconcile-ms:30000}")
+    public void reconcile() {
+        reconcile(false);
+    }
+
+    /**
+     * Seeds newly tracked shows without waiting for the next full reconcile
+     */
+    @Scheduled(fixedDelayString = "${booking.availability-hint.seed-ms:1000}")
+    public void seed() {
+        reconcile(true);
+    }
+
+    private void reconcile(boolean unseededOnly) {
+        if (hints.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> versions = new HashMap<>();
+        hints.forEach((showId, hint) -> {
+            if (hint.inFlight.get() == 0 && !(unseededOnly && hint.isSeeded())) {
+                versions.put(showId, hint.version.get());
+            }
+        });
+        if (versions.isEmpty()) {
+            return;
+        }
+
+        List<ShowRepository.SeatCount> counts = showRepository.findSeatCountsByIdIn(versions.keySet());
+        int updated = 0;
+        for (ShowRepository.SeatCount count : counts) {
+            Hint hint = hints.get(count.getId());
+            Long version = versions.remove(count.getId());
+            if (hint != null && hint.inFlight.get() == 0 && hint.version.get() == version) {
+                hint.upperBound.set(count.getAvailableSeats());
+                updated++;
+            }
+        }
+        // Whatever the query did not return is not a show
+        versions.keySet().forEach(showId -> {
+            hints.remove(showId);
+            negativeLookupCache.recordMissing(NegativeLookupCache.Kind.SHOW, showId);
+        });
+        log.debug("Availability hints reconciled - Updated: {}, Dropped: {}", updated, versions.size());
+    }
+
+    /**
+     * Upper bound for one show plus what reconcile needs to detect concurrent changes
+     */
+    private static final class Hint {
+        private final AtomicLong upperBound = new AtomicLong(UNKNOWN);
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong version = new AtomicLong();
+
+        private void begin() {
+            inFlight.incrementAndGet();
+            version.incrementAndGet();
+        }
+
+        private void end() {
+            version.incrementAndGet();
+            inFlight.decrementAndGet();
+        }
+
+        private void add(long seats) {
+            upperBound.addAndGet(seats);
+        }
+
+        private boolean isSeeded() {
+            return upperBound.get() < UNKNOWN / 2;
+        }
+    }
+}
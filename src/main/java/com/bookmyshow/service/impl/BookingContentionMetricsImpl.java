@@ -0,0 +1,88 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.service.BookingContentionMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BookingContentionMetricsImpl
+ * Demonstrates:
+ * - Single Responsibility Principle: Only turns contention events into metrics
+ *
+ * Totals go to one counter per kind (booking.contention). Per-show detail is limited to the
+ * hottest shows: every window counts contention per show, for at most max-tracked-shows
+ * shows, then publishes the top hot-shows of them as booking.contention.hot.shows{show=...}
+ * and starts over. However many shows exist, there are never more than hot-shows show series.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookingContentionMetricsImpl implements BookingContentionMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${booking.metrics.hot-shows:10}")
+    private int hotShowCount;
+
+    @Value("${booking.metrics.max-tracked-shows:10000}")
+    private int maxTrackedShows;
+
+    private final Map<Kind, Counter> totals = new EnumMap<>(Kind.class);
+    private volatile Map<Long, LongAdder> window = new ConcurrentHashMap<>();
+    private MultiGauge hotShows;
+
+    @PostConstruct
+    public void init() {
+        for (Kind kind : Kind.values()) {
+            totals.put(kind, Counter.builder("booking.contention")
+                .description("Bookings that lost a race for seats")
+                .tag("kind", kind.name().toLowerCase())
+                .register(meterRegistry));
+        }
+        hotShows = MultiGauge.builder("booking.contention.hot.shows")
+            .description("Contended bookings over the last window, for the most contended shows only")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void record(Long showId, Kind kind) {
+        totals.get(kind).increment();
+        Map<Long, LongAdder> counts = window;
+        LongAdder count = counts.get(showId);
+        if (count == null && counts.size() < maxTrackedShows) {
+            count = counts.computeIfAbsent(showId, id -> new LongAdder());
+        }
+        if (count != null) {
+            count.increment();
+        }
+    }
+
+    /**
+     * Closes the window: replaces the hot show series with the top shows of the window just ended
+     */
+    @Scheduled(fixedDelayString = "${booking.metrics.hot-show-window-ms:60000}")
+    public void publishHotShows() {
+        Map<Long, LongAdder> ended = window;
+        window = new ConcurrentHashMap<>();
+        List<MultiGauge.Row<?>> rows = ended.entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+            .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()))
+            .limit(hotShowCount)
+            .<MultiGauge.Row<?>>map(entry -> MultiGauge.Row.of(Tags.of("show", entry.getKey().toString()), entry.getValue()))
+            .toList();
+        hotShows.register(rows, true);
+    }
+}
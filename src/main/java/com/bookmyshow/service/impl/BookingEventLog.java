@@ -0,0 +1,73 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.entity.Booking;
+import com.bookmyshow.entity.Seat;
+import com.bookmyshow.entity.Show;
+import com.bookmyshow.entity.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One structured event per committed booking on the "booking-events" logger
+ *
+ * Every field travels as an SLF4J key-value pair and is only turned into JSON by the
+ * asynchronous events appender (logback-spring.xml), off the request thread. Values are
+ * immutable snapshots, never entities, so the appender thread cannot trigger lazy loads.
+ * Turn the log off with logging.level.booking-events=OFF.
+ */
+final class BookingEventLog {
+
+    private static final Logger EVENTS = LoggerFactory.getLogger("booking-events");
+
+    private BookingEventLog() {
+    }
+
+    /**
+     * Logs the booking once its transaction commits; a booking that rolls back is not logged.
+     * The values are taken now, so later changes to the entities do not show up in the event.
+     * @param flow Which booking path produced the booking: direct, prefetched or hold
+     * @param startNanos System.nanoTime() when the booking call started
+     */
+    static void record(String flow, Booking booking, User user, Show show, List<Seat> seats, long startNanos) {
+        if (!EVENTS.isInfoEnabled()) {
+            return;
+        }
+        String bookingReference = booking.getBookingReference();
+        Long bookingId = booking.getId();
+        String status = booking.getStatus().name();
+        String username = user.getUsername();
+        Long showId = show.getId();
+        List<Integer> seatIndexes = seats.stream().map(Seat::getSeatIndex).toList();
+        long totalAmountMinor = booking.getTotalAmountMinor();
+        long discountMinor = booking.getDiscountMinor();
+        long finalAmountMinor = booking.getFinalAmountMinor();
+        int priceMultiplierBasisPoints = booking.getPriceMultiplierBasisPoints();
+        LocalDateTime expiresAt = booking.getExpiresAt();
+        TransactionCallbacks.afterCompletion(committed -> {
+            if (!committed) {
+                return;
+            }
+            EVENTS.atInfo()
+                .setMessage("booking")
+                .addKeyValue("flow", flow)
+                .addKeyValue("bookingReference", bookingReference)
+                .addKeyValue("bookingId", bookingId)
+                .addKeyValue("status", status)
+                .addKeyValue("username", username)
+                .addKeyValue("showId", showId)
+                .addKeyValue("seatCount", seatIndexes.size())
+                .addKeyValue("seatIndexes", seatIndexes)
+                .addKeyValue("totalAmountMinor", totalAmountMinor)
+                .addKeyValue("discountMinor", discountMinor)
+                .addKeyValue("finalAmountMinor", finalAmountMinor)
+                .addKeyValue("priceMultiplierBasisPoints", priceMultiplierBasisPoints)
+                .addKeyValue("expiresAt", expiresAt)
+                .addKeyValue("durationMicros", TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos))
+                .log();
+        });
+    }
+}
@@ -0,0 +1,117 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.BookingHistoryResponse;
+import com.bookmyshow.dto.BookingResponse;
+import com.bookmyshow.exception.BookingException;
+import com.bookmyshow.repository.BookingRepository;
+import com.bookmyshow.repository.BookingRepository.BookingHistoryRow;
+import com.bookmyshow.service.BookingHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * BookingHistoryServiceImpl
+ * Demonstrates:
+ * - Single Responsibility Principle: Only pages through a user's bookings
+ * - Dependency Inversion Principle: Depends on repository abstractions
+ *
+ * A page takes one statement whatever its size: the bookings with their show, movie and
+ * theatre fields as a projection. Seat numbers come from the snapshot each booking keeps,
+ * so cancelled and expired bookings still list the seats they had. Pages are
+ * keyed on (bookingDateTime, id) of the last booking shown rather than an offset, so a
+ * booking made while the user pages neither repeats nor hides an entry.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class BookingHistoryServiceImpl implements BookingHistoryService {
+
+    private final BookingRepository bookingRepository;
+
+    @Value("${booking.history.max-page-size:100}")
+    private int maxPageSize;
+
+    @Override
+    public BookingHistoryResponse getHistory(String username, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        Limit limit = Limit.of(pageSize + 1); // One extra row tells whether another page follows
+
+        List<BookingHistoryRow> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = bookingRepository.findHistoryByUsername(username, limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            rows = bookingRepository.findHistoryByUsernameBefore(username, after.bookingDateTime(), after.id(), limit);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<BookingHistoryRow> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<BookingResponse> bookings = new ArrayList<>(page.size());
+        for (BookingHistoryRow row : page) {
+            bookings.add(toResponse(row));
+        }
+        BookingHistoryRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+        String nextCursor = hasMore ? new Cursor(last.getBookingDateTime(), last.getId()).encode() : null;
+
+        log.debug("Booking history - User: {}, Bookings: {}, More: {}", username, bookings.size(), hasMore);
+        return new BookingHistoryResponse(bookings, nextCursor);
+    }
+
+    private static BookingResponse toResponse(BookingHistoryRow row) {
+        BookingResponse response = new BookingResponse();
+        response.setBookingId(row.getId());
+        response.setBookingReference(row.getBookingReference());
+        response.setShowId(row.getShowId());
+        response.setMovieTitle(row.getMovieTitle());
+        response.setTheatreName(row.getTheatreName());
+        response.setShowDateTime(row.getShowDateTime());
+        response.setSeatNumbers(seatNumbersOf(row));
+        response.setTotalAmountMinor(row.getTotalAmountMinor());
+        response.setDiscountMinor(row.getDiscountMinor());
+        response.setPriceMultiplierBasisPoints(row.getPriceMultiplierBasisPoints());
+        response.setStatus(row.getStatus().name());
+        response.setBookingDateTime(row.getBookingDateTime());
+        response.setExpiresAt(row.getExpiresAt());
+        return response;
+    }
+
+    private static List<String> seatNumbersOf(BookingHistoryRow row) {
+        String seatNumbers = row.getSeatNumbers();
+        return seatNumbers == null || seatNumbers.isEmpty() ? List.of() : List.of(seatNumbers.split(","));
+    }
+
+    /**
+     * Position after the last booking of a page, opaque to clients (URL-safe Base64 of time and id)
+     */
+    record Cursor(LocalDateTime bookingDateTime, long id) {
+
+        String encode() {
+            String plain = bookingDateTime + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String plain = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = plain.indexOf('|');
+                return new Cursor(LocalDateTime.parse(plain.substring(0, separator)),
+                    Long.parseLong(plain.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new BookingException("Invalid booking history cursor: " + cursor);
+            }
+        }
+    }
+}
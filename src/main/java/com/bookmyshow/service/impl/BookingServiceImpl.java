@@ -4,21 +4,40 @@ import com.bookmyshow.dto.BookingRequest;
 import com.bookmyshow.dto.BookingResponse;
 import com.bookmyshow.entity.*;
 import com.bookmyshow.enums.BookingStatus;
+import com.bookmyshow.enums.SeatLockingMode;
 import com.bookmyshow.enums.SeatStatus;
-import com.bookmyshow.enums.ShowType;
+import com.bookmyshow.event.BookingHeldEvent;
+import com.bookmyshow.event.BookingStatusChangedEvent;
+import com.bookmyshow.event.SeatsBookedEvent;
+import com.bookmyshow.event.SeatsReleasedEvent;
 import com.bookmyshow.exception.BookingException;
 import com.bookmyshow.exception.ResourceNotFoundException;
+import com.bookmyshow.exception.SoldOutException;
+import com.bookmyshow.jfr.BookingEvent;
+import com.bookmyshow.jfr.SeatConflictEvent;
 import com.bookmyshow.repository.*;
+import com.bookmyshow.service.BookingContentionMetrics;
 import com.bookmyshow.service.BookingService;
 import com.bookmyshow.service.DiscountStrategy;
+import com.bookmyshow.service.DynamicPricingService;
+import com.bookmyshow.service.NegativeLookupCache;
+import com.bookmyshow.util.Money;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +46,10 @@ import java.util.stream.Collectors;
  * - Single Responsibility Principle: Only handles booking logic
  * - Dependency Inversion Principle: Depends on abstractions
  * - Strategy Pattern: Uses DiscountStrategy for flexible discount calculation
+ *
+ * Direct bookings guard their seats as booking.locking.mode says (see SeatLockingMode);
+ * holds and prefetched bookings always claim seats with a conditional UPDATE. The show
+ * counter is only ever changed in SQL, never by writing back a value read earlier.
  */
 @Service
 @RequiredArgsConstructor
@@ -38,96 +61,423 @@ public class BookingServiceImpl implements BookingService {
     private final SeatRepository seatRepository;
     private final UserRepository userRepository;
     private final DiscountStrategy discountStrategy;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NegativeLookupCache negativeLookupCache;
+    private final DynamicPricingService dynamicPricingService;
+    private final BookingContentionMetrics contentionMetrics;
+    
+    @Value("${booking.hold.ttl-seconds:600}")
+    private long holdTtlSeconds;
+    
+    @Value("${booking.locking.mode:conditional}")
+    private SeatLockingMode lockingMode = SeatLockingMode.CONDITIONAL;
     
     @Override
     @Transactional
     public BookingResponse bookTickets(BookingRequest request, String username) {
-        log.info("=== Starting Booking Process ===");
-        log.info("User: {}, Show ID: {}, Seat IDs: {}", 
-            username, request.getShowId(), request.getSeatIds());
+        long start = System.nanoTime();
+        BookingEvent trace = BookingEvent.start("direct", request.getShowId());
+        log.debug("Booking started - User: {}, Show ID: {}, Seat IDs: {}, Seat indexes: {}", 
+            username, request.getShowId(), request.getSeatIds(), request.getSeatIndexes());
         
         // Fetch user
-        log.debug("Fetching user details for username: {}", username);
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> {
                 log.error("User not found: {}", username);
                 return new ResourceNotFoundException("User not found: " + username);
             });
-        log.debug("User found - ID: {}, Email: {}", user.getId(), user.getEmail());
         
         // Fetch show
-        log.debug("Fetching show details for Show ID: {}", request.getShowId());
-        Show show = showRepository.findById(request.getShowId())
-            .orElseThrow(() -> {
-                log.error("Show not found - Show ID: {}", request.getShowId());
-                return new ResourceNotFoundException("Show not found: " + request.getShowId());
-            });
-        log.info("Show found - Movie: {}, Theatre: {}, DateTime: {}, Available Seats: {}", 
-            show.getMovie().getTitle(), show.getTheatre().getName(), 
-            show.getShowDateTime(), show.getAvailableSeats());
+        Show show = findShow(request.getShowId(), showRepository::findByIdWithMovieAndTheatre);
+        log.debug("Show found - Show ID: {}, DateTime: {}, Available Seats: {}", 
+            show.getId(), show.getShowDateTime(), show.getAvailableSeats());
+        ensureNotSoldOut(show);
         
         // Fetch and validate seats
-        log.debug("Fetching {} seats", request.getSeatIds().size());
-        List<Seat> seats = seatRepository.findAllById(request.getSeatIds());
-        
-        if (seats.size() != request.getSeatIds().size()) {
-            log.error("Seat count mismatch - Requested: {}, Found: {}", 
-                request.getSeatIds().size(), seats.size());
-            throw new BookingException("Some seats were not found");
-        }
-        log.debug("All {} seats found successfully", seats.size());
-        
-        // Validate all seats are available
-        log.debug("Validating seat availability");
-        validateSeatsAvailable(seats);
-        log.debug("All seats are available for booking");
+        List<Seat> seats = lockingMode == SeatLockingMode.PESSIMISTIC
+            ? checkAllFound(request, contended(show.getId(), () -> seatRepository.findSeatsOfShowForUpdate(
+                request.getShowId(), request.getSeatIds(), request.getSeatIndexes())))
+            : findSeats(request);
+        validateSeatsAvailable(show.getId(), seats);
+        log.debug("All {} seats found and available", seats.size());
         
-        // Calculate total amount
-        double totalAmount = seats.stream()
-            .mapToDouble(Seat::getPrice)
-            .sum();
-        log.info("Total amount calculated: ₹{} for {} seats", totalAmount, seats.size());
+        // Calculate total amount at the current demand multiplier
+        int multiplier = dynamicPricingService.multiplierBasisPoints(show.getId());
+        long totalAmount = Money.percentOf(totalPrice(seats), multiplier);
+        log.debug("Total amount calculated: {} paise for {} seats ({} basis points of list price)",
+            totalAmount, seats.size(), multiplier);
         
         // Apply discount strategy
-        boolean isAfternoonShow = show.getShowType() == ShowType.AFTERNOON;
-        log.debug("Applying discount strategy - Afternoon Show: {}, Seat Count: {}", 
-            isAfternoonShow, seats.size());
-        double discount = discountStrategy.calculateDiscount(
-            totalAmount, seats.size(), isAfternoonShow
+        long discount = discountStrategy.calculateDiscount(
+            DiscountStrategy.Context.of(show, seats, totalAmount)
         );
-        log.info("Discount applied: ₹{} ({}%)", discount, 
-            String.format("%.2f", (discount / totalAmount) * 100));
+        log.debug("Discount applied: {} paise - Show Type: {}", discount, show.getShowType());
         
         // Create booking
-        log.debug("Creating booking entity");
-        Booking booking = createBooking(user, show, seats, totalAmount, discount);
+        Booking booking = createBooking(user, show, seats, totalAmount, discount, multiplier,
+            BookingStatus.CONFIRMED);
+        booking = bookingRepository.save(booking);
         
-        // Update seat status
-        log.debug("Updating seat status to BOOKED");
-        updateSeatStatus(seats, booking);
+        // Take the seats and update the show counter
+        if (lockingMode == SeatLockingMode.CONDITIONAL) {
+            claimSeats(seats, booking, show.getId(), SeatStatus.BOOKED);
+        } else {
+            writeSeats(seats, booking, show.getId());
+        }
+        log.debug("Seats booked and show counter updated - Available Seats: {}",
+            show.getAvailableSeats() - seats.size());
         
-        // Update show available seats
-        int previousAvailableSeats = show.getAvailableSeats();
-        show.setAvailableSeats(show.getAvailableSeats() - seats.size());
-        showRepository.save(show);
-        log.debug("Show available seats updated: {} -> {}", 
-            previousAvailableSeats, show.getAvailableSeats());
+        publishStatusChange(booking, user, show, seats);
+        BookingEventLog.record("direct", booking, user, show, seats, start);
+        BookingEvent.booked(trace, booking.getId(), seats.size());
         
-        // Save booking
+        return convertToBookingResponse(booking);
+    }
+    
+    /**
+     * Write phase for bookings whose user, show and seats were already loaded
+     * concurrently by {@link ParallelPrefetchBookingService}.
+     * The snapshot entities are detached, so nothing is re-read here: the seats are
+     * claimed with a conditional UPDATE and the show counter is decremented in SQL,
+     * which keeps the outcome correct even if the snapshot went stale.
+     */
+    @Transactional
+    public BookingResponse bookPrefetched(BookingRequest request, BookingSnapshot snapshot) {
+        long start = System.nanoTime();
+        BookingEvent trace = BookingEvent.start("prefetched", request.getShowId());
+        List<Seat> seats = snapshot.seats();
+        Show show = snapshot.show();
+        ensureNotSoldOut(show);
+        
+        if (seats.size() != request.seatCount()) {
+            throw new BookingException("Some seats were not found");
+        }
+        validateSeatsAvailable(show.getId(), seats);
+        
+        int multiplier = dynamicPricingService.multiplierBasisPoints(show.getId());
+        long totalAmount = Money.percentOf(totalPrice(seats), multiplier);
+        long discount = discountStrategy.calculateDiscount(DiscountStrategy.Context.of(show, seats, totalAmount));
+        
+        Booking booking = createBooking(snapshot.user(), show, seats, totalAmount, discount, multiplier,
+            BookingStatus.CONFIRMED);
+        booking = bookingRepository.save(booking);
+        claimSeats(seats, booking, show.getId(), SeatStatus.BOOKED);
+        publishStatusChange(booking, snapshot.user(), show, seats);
+        
+        BookingEventLog.record("prefetched", booking, snapshot.user(), show, seats, start);
+        BookingEvent.booked(trace, booking.getId(), seats.size());
+        return convertToBookingResponse(booking);
+    }
+    
+    @Override
+    @Transactional
+    public BookingResponse holdTickets(BookingRequest request, String username) {
+        long start = System.nanoTime();
+        BookingEvent trace = BookingEvent.start("hold", request.getShowId());
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
+        Show show = findShow(request.getShowId(), showRepository::findByIdWithMovieAndTheatre);
+        ensureNotSoldOut(show);
+        List<Seat> seats = findSeats(request);
+        validateSeatsAvailable(show.getId(), seats);
+        
+        int multiplier = dynamicPricingService.multiplierBasisPoints(show.getId());
+        long totalAmount = Money.percentOf(totalPrice(seats), multiplier);
+        long discount = discountStrategy.calculateDiscount(DiscountStrategy.Context.of(show, seats, totalAmount));
+        
+        Booking booking = createBooking(user, show, seats, totalAmount, discount, multiplier,
+            BookingStatus.PENDING);
+        booking.setExpiresAt(booking.getBookingDateTime().plusSeconds(holdTtlSeconds));
         booking = bookingRepository.save(booking);
+        claimSeats(seats, booking, show.getId(), SeatStatus.LOCKED);
+        
+        eventPublisher.publishEvent(new BookingHeldEvent(booking.getId(), booking.getExpiresAt()));
+        publishStatusChange(booking, user, show, seats);
+        BookingEventLog.record("hold", booking, user, show, seats, start);
+        BookingEvent.booked(trace, booking.getId(), seats.size());
+        return convertToBookingResponse(booking);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public BookingResponse getBooking(String bookingReference, String username) {
+        Booking booking = bookingRepository.findByBookingReference(bookingReference)
+            .filter(found -> found.getUser().getUsername().equals(username))
+            .orElseThrow(() -> new ResourceNotFoundException("Booking not found: " + bookingReference));
+        return convertToBookingResponse(booking);
+    }
+    
+    @Override
+    @Transactional
+    public PaymentAttempt beginPayment(String bookingReference, String username) {
+        Booking booking = bookingRepository.findForUpdateByBookingReference(bookingReference)
+            .filter(found -> found.getUser().getUsername().equals(username))
+            .orElseThrow(() -> new ResourceNotFoundException("Booking not found: " + bookingReference));
+        
+        if (booking.getStatus() != BookingStatus.PENDING) {
+            throw new BookingException("Booking " + bookingReference + " is " + booking.getStatus());
+        }
+        if (booking.getPaymentReference() == null) {
+            if (!LocalDateTime.now().isBefore(booking.getExpiresAt())) {
+                throw new BookingException("Hold expired for booking " + bookingReference);
+            }
+            if (booking.getPaymentAttemptKey() == null) {
+                // Stored before the provider is called, so a repeated request reuses it and is never charged twice
+                booking.setPaymentAttemptKey(UUID.randomUUID().toString());
+            }
+        }
+        return new PaymentAttempt(booking.getPaymentAttemptKey(), booking.getFinalAmountMinor(),
+            booking.getPaymentReference());
+    }
+    
+    @Override
+    @Transactional
+    public String recordPayment(String bookingReference, String attemptKey, String paymentReference) {
+        Booking booking = bookingRepository.findForUpdateByBookingReference(bookingReference)
+            .orElseThrow(() -> new ResourceNotFoundException("Booking not found: " + bookingReference));
+        
+        if (!attemptKey.equals(booking.getPaymentAttemptKey())) {
+            throw new BookingException("Payment attempt does not belong to booking " + bookingReference);
+        }
+        if (booking.getPaymentReference() != null) {
+            return booking.getPaymentReference(); // Recorded by a concurrent request or an early callback
+        }
+        if (booking.getStatus() != BookingStatus.PENDING) {
+            // Released while the provider was called; the payment's callback will not confirm it
+            log.warn("Payment {} started for booking {} which is now {}",
+                paymentReference, bookingReference, booking.getStatus());
+            throw new BookingException("Booking " + bookingReference + " is " + booking.getStatus());
+        }
+        booking.setPaymentReference(paymentReference);
+        log.info("Payment started - Reference: {}, Payment: {}", bookingReference, paymentReference);
+        return paymentReference;
+    }
+    
+    @Override
+    @Transactional
+    public BookingResponse confirmHold(String bookingReference, String paymentReference) {
+        Booking booking = bookingRepository.findForUpdateByBookingReference(bookingReference)
+            .orElseThrow(() -> new ResourceNotFoundException("Booking not found: " + bookingReference));
+        requireStartedPayment(booking, paymentReference);
+        
+        if (booking.getStatus() == BookingStatus.CONFIRMED) {
+            return convertToBookingResponse(booking); // Redelivered callback
+        }
+        if (booking.getStatus() != BookingStatus.PENDING) {
+            throw new BookingException("Booking " + bookingReference + " is " + booking.getStatus());
+        }
+        if (!LocalDateTime.now().isBefore(booking.getExpiresAt())) {
+            log.warn("Payment {} arrived after the hold expired - Reference: {}", paymentReference, bookingReference);
+            throw new BookingException("Hold expired for booking " + bookingReference);
+        }
+        
+        seatRepository.updateStatusForBooking(booking.getId(), SeatStatus.LOCKED, SeatStatus.BOOKED);
+        booking.setStatus(BookingStatus.CONFIRMED);
+        publishStatusChange(booking, booking.getUser(), booking.getShow(), booking.getSeats());
+        log.info("Hold confirmed - Reference: {}, Payment: {}", bookingReference, paymentReference);
+        return convertToBookingResponse(booking);
+    }
+    
+    @Override
+    @Transactional
+    public void releaseHold(String bookingReference, String paymentReference) {
+        bookingRepository.findForUpdateByBookingReference(bookingReference).ifPresent(booking -> {
+            requireStartedPayment(booking, paymentReference);
+            if (booking.getStatus() == BookingStatus.PENDING) {
+                release(booking, BookingStatus.CANCELLED);
+            }
+        });
+    }
+    
+    /**
+     * Only the payment recorded by recordPayment may settle a hold; any other is not ours to act on.
+     * A callback can beat recordPayment: the provider keeps one payment per attempt key, so the first
+     * verified callback for a booking with an attempt but no recorded payment is that payment.
+     */
+    private void requireStartedPayment(Booking booking, String paymentReference) {
+        if (booking.getPaymentReference() == null && booking.getPaymentAttemptKey() != null) {
+            booking.setPaymentReference(paymentReference);
+        }
+        if (!paymentReference.equals(booking.getPaymentReference())) {
+            log.warn("Payment {} is not the payment started for booking {} ({})",
+                paymentReference, booking.getBookingReference(), booking.getPaymentReference());
+            throw new BookingException("Payment " + paymentReference + " does not belong to booking "
+                + booking.getBookingReference());
+        }
+    }
+    
+    @Override
+    @Transactional
+    public int expireHolds(Collection<Long> bookingIds) {
+        List<Booking> due = bookingRepository.findForUpdateByIdInAndStatusAndExpiresAtLessThanEqual(
+            bookingIds, BookingStatus.PENDING, LocalDateTime.now());
+        due.forEach(booking -> release(booking, BookingStatus.EXPIRED));
+        if (!due.isEmpty()) {
+            log.info("Expired {} unpaid holds", due.size());
+        }
+        return due.size();
+    }
+    
+    @Override
+    @Transactional
+    public BookingResponse cancelBooking(String bookingReference, String username) {
+        Booking booking = bookingRepository.findForUpdateByBookingReference(bookingReference)
+            .filter(found -> found.getUser().getUsername().equals(username))
+            .orElseThrow(() -> new ResourceNotFoundException("Booking not found: " + bookingReference));
         
-        log.info("=== Booking Completed Successfully ===");
-        log.info("Booking Reference: {}, Total Amount: ₹{}, Discount: ₹{}, Final Amount: ₹{}", 
-            booking.getBookingReference(), booking.getTotalAmount(), 
-            booking.getDiscountApplied(), booking.getFinalAmount());
+        if (booking.getStatus() != BookingStatus.CONFIRMED && booking.getStatus() != BookingStatus.PENDING) {
+            throw new BookingException("Booking " + bookingReference + " is " + booking.getStatus());
+        }
+        if (!booking.getShow().getShowDateTime().isAfter(LocalDateTime.now())) {
+            throw new BookingException("Cannot cancel a booking for a show that has already started");
+        }
         
+        List<Seat> seats = release(booking, BookingStatus.CANCELLED);
+        log.info("Booking cancelled - Reference: {}, Show ID: {}, Seats released: {}",
+            bookingReference, booking.getShow().getId(), seats.size());
         return convertToBookingResponse(booking);
     }
     
+    /**
+     * Claims the seats by (show, seat index) with a conditional UPDATE and takes them off the show counter.
+     * Either step coming up short means a concurrent booking got there first.
+     */
+    private void claimSeats(List<Seat> seats, Booking booking, Long showId, SeatStatus status) {
+        int seatCount = seats.size();
+        List<Integer> seatIndexes = seats.stream().map(Seat::getSeatIndex).toList();
+        int claimed = contended(showId, () -> seatRepository.claimAvailableSeats(showId, seatIndexes, booking, status));
+        if (claimed != seatCount) {
+            log.warn("Seat claim conflict - Show ID: {}, Requested: {}, Claimed: {}", showId, seatCount, claimed);
+            recordContention(showId, BookingContentionMetrics.Kind.SEAT_CONFLICT);
+            throw new BookingException("Seats not available: some of the selected seats were just booked");
+        }
+        takeFromCounter(showId, seatCount);
+    }
+    
+    /**
+     * Books seats that were read under a row lock (pessimistic) or will be version-checked
+     * when flushed (optimistic), then takes them off the show counter
+     */
+    private void writeSeats(List<Seat> seats, Booking booking, Long showId) {
+        updateSeatStatus(seats, booking);
+        if (lockingMode == SeatLockingMode.OPTIMISTIC) {
+            try {
+                seatRepository.flush();
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.warn("Seat version conflict - Show ID: {}, Seats: {}", showId, seats.size());
+                recordContention(showId, BookingContentionMetrics.Kind.SEAT_CONFLICT);
+                throw new BookingException("Seats not available: some of the selected seats were just booked");
+            }
+        }
+        takeFromCounter(showId, seats.size());
+    }
+    
+    private void takeFromCounter(Long showId, int seatCount) {
+        if (contended(showId, () -> showRepository.decrementAvailableSeats(showId, seatCount)) == 0) {
+            recordContention(showId, BookingContentionMetrics.Kind.SEAT_CONFLICT);
+            throw new BookingException("Not enough seats left for show " + showId);
+        }
+        eventPublisher.publishEvent(new SeatsBookedEvent(showId, seatCount));
+    }
+    
+    /**
+     * Counts a lost race in the metrics and, while recording, as a JFR event
+     */
+    private void recordContention(Long showId, BookingContentionMetrics.Kind kind) {
+        contentionMetrics.record(showId, kind);
+        SeatConflictEvent.emit(showId, kind.name().toLowerCase());
+    }
+    
+    /**
+     * Runs a statement that waits on seat or show row locks, counting lock timeouts,
+     * deadlocks and serialization failures against the show
+     */
+    private <T> T contended(Long showId, Supplier<T> statement) {
+        try {
+            return statement.get();
+        } catch (ConcurrencyFailureException e) {
+            recordContention(showId, BookingContentionMetrics.Kind.LOCK_FAILURE);
+            throw e;
+        }
+    }
+    
+    /**
+     * Frees a booking's seats in one statement, gives them back to the show counter and
+     * announces exactly which seats came back. Only the booking's own seats are touched
+     * (via the booking_id index), so the cost does not grow with the size of the show.
+     * 
+     * @return The seats that were released
+     */
+    private List<Seat> release(Booking booking, BookingStatus finalStatus) {
+        List<Seat> seats = List.copyOf(booking.getSeats());
+        int released = seatRepository.releaseSeatsForBooking(booking.getId());
+        Long showId = booking.getShow().getId();
+        showRepository.incrementAvailableSeats(showId, released);
+        booking.setStatus(finalStatus);
+        
+        eventPublisher.publishEvent(new SeatsReleasedEvent(showId, seats.stream().map(Seat::getId).toList()));
+        publishStatusChange(booking, booking.getUser(), booking.getShow(), seats);
+        log.debug("Released {} seats - Reference: {}, Status: {}", released, booking.getBookingReference(), finalStatus);
+        return seats;
+    }
+    
+    /**
+     * Announces the booking's new status; the outbox records it in this same transaction
+     */
+    private void publishStatusChange(Booking booking, User user, Show show, List<Seat> seats) {
+        eventPublisher.publishEvent(new BookingStatusChangedEvent(booking.getId(), booking.getBookingReference(),
+            show.getId(), user.getUsername(), booking.getStatus(), seats.stream().map(Seat::getSeatIndex).toList(),
+            booking.getFinalAmountMinor(), LocalDateTime.now()));
+    }
+    
+    /**
+     * Show lookup that answers repeated misses from the negative cache without a query
+     */
+    private Show findShow(Long showId, Function<Long, Optional<Show>> lookup) {
+        if (negativeLookupCache.isMissing(NegativeLookupCache.Kind.SHOW, showId)) {
+            throw new ResourceNotFoundException("Show not found: " + showId);
+        }
+        return lookup.apply(showId)
+            .orElseThrow(() -> {
+                log.debug("Show not found - Show ID: {}", showId);
+                negativeLookupCache.recordMissing(NegativeLookupCache.Kind.SHOW, showId);
+                return new ResourceNotFoundException("Show not found: " + showId);
+            });
+    }
+    
+    /**
+     * Loads the requested seats from the show's own partition. Seats that do not exist
+     * and seats of another show both come back missing, with no further query.
+     */
+    private List<Seat> findSeats(BookingRequest request) {
+        return checkAllFound(request, seatRepository.findSeatsOfShow(
+            request.getShowId(), request.getSeatIds(), request.getSeatIndexes()));
+    }
+    
+    private List<Seat> checkAllFound(BookingRequest request, List<Seat> seats) {
+        if (seats.size() != request.seatCount()) {
+            log.debug("Seat count mismatch - Show ID: {}, Requested: {}, Found: {}",
+                request.getShowId(), request.seatCount(), seats.size());
+            throw new BookingException("Some seats were not found");
+        }
+        return seats;
+    }
+    
+    /**
+     * Cheap check on the show counter before any seat is read;
+     * sold-out callers are pointed at the waitlist instead
+     */
+    private void ensureNotSoldOut(Show show) {
+        if (show.getAvailableSeats() <= 0) {
+            log.debug("Show sold out - Show ID: {}", show.getId());
+            throw new SoldOutException(show.getId());
+        }
+    }
+    
     /**
      * Validates that all seats are available for booking
      */
-    private void validateSeatsAvailable(List<Seat> seats) {
+    private void validateSeatsAvailable(Long showId, List<Seat> seats) {
         List<Seat> unavailableSeats = seats.stream()
             .filter(seat -> seat.getStatus() != SeatStatus.AVAILABLE)
             .collect(Collectors.toList());
@@ -137,23 +487,39 @@ public class BookingServiceImpl implements BookingService {
                 .map(Seat::getSeatNumber)
                 .collect(Collectors.joining(", "));
             log.error("Seat validation failed - Unavailable seats: {}", seatNumbers);
+            recordContention(showId, BookingContentionMetrics.Kind.SEAT_CONFLICT);
             throw new BookingException("Seats not available: " + seatNumbers);
         }
     }
     
     /**
-     * Creates a new booking entity
+     * Sum of the seat list prices in paise
+     */
+    private static long totalPrice(List<Seat> seats) {
+        long total = 0;
+        for (Seat seat : seats) {
+            total += seat.getPriceMinor();
+        }
+        return total;
+    }
+    
+    /**
+     * Creates a new booking entity; the total is stored before discount, together with
+     * the pricing multiplier it was computed at and the seat numbers, which outlive the seats' link to it
      */
     private Booking createBooking(User user, Show show, List<Seat> seats, 
-                                  double totalAmount, double discount) {
+                                  long totalAmount, long discount, int multiplier, BookingStatus status) {
         Booking booking = new Booking();
         booking.setUser(user);
         booking.setShow(show);
-        booking.setSeats(seats);
+        booking.setSeatNumbers(seats.stream()
+            .map(Seat::getSeatNumber)
+            .collect(Collectors.joining(",")));
         booking.setBookingDateTime(LocalDateTime.now());
-        booking.setTotalAmount(totalAmount - discount);
-        booking.setDiscountApplied(discount);
-        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setTotalAmountMinor(totalAmount);
+        booking.setDiscountMinor(discount);
+        booking.setPriceMultiplierBasisPoints(multiplier);
+        booking.setStatus(status);
         booking.setBookingReference(generateBookingReference());
         return booking;
     }
@@ -177,7 +543,8 @@ public class BookingServiceImpl implements BookingService {
     }
     
     /**
-     * Converts booking entity to response DTO
+     * Converts booking entity to response DTO; seat numbers come from the booking's snapshot,
+     * so cancelled and expired bookings still list the seats they had
      */
     private BookingResponse convertToBookingResponse(Booking booking) {
         BookingResponse response = new BookingResponse();
@@ -187,13 +554,18 @@ public class BookingServiceImpl implements BookingService {
         response.setMovieTitle(booking.getShow().getMovie().getTitle());
         response.setTheatreName(booking.getShow().getTheatre().getName());
         response.setShowDateTime(booking.getShow().getShowDateTime());
-        response.setSeatNumbers(booking.getSeats().stream()
-            .map(Seat::getSeatNumber)
-            .collect(Collectors.toList()));
-        response.setTotalAmount(booking.getTotalAmount());
-        response.setDiscountApplied(booking.getDiscountApplied());
+        response.setSeatNumbers(seatNumbersOf(booking));
+        response.setTotalAmountMinor(booking.getTotalAmountMinor());
+        response.setDiscountMinor(booking.getDiscountMinor());
+        response.setPriceMultiplierBasisPoints(booking.getPriceMultiplierBasisPoints());
         response.setStatus(booking.getStatus().name());
         response.setBookingDateTime(booking.getBookingDateTime());
+        response.setExpiresAt(booking.getExpiresAt());
         return response;
     }
+    
+    private static List<String> seatNumbersOf(Booking booking) {
+        String seatNumbers = booking.getSeatNumbers();
+        return seatNumbers == null || seatNumbers.isEmpty() ? List.of() : List.of(seatNumbers.split(","));
+    }
 }
@@ -0,0 +1,13 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.entity.Seat;
+import com.bookmyshow.entity.Show;
+import com.bookmyshow.entity.User;
+
+import java.util.List;
+
+/**
+ * Detached user, show (with movie and theatre) and seats loaded ahead of the booking transaction
+ */
+record BookingSnapshot(User user, Show show, List<Seat> seats) {
+}
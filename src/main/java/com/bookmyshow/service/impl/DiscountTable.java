@@ -0,0 +1,226 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.DiscountRule;
+import com.bookmyshow.enums.SeatType;
+import com.bookmyshow.enums.ShowType;
+import com.bookmyshow.service.DiscountStrategy;
+import com.bookmyshow.util.Money;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Discount rules compiled into a decision table.
+ *
+ * The table is indexed by the discriminating attributes: show type x seat count x city.
+ * Seat counts at or above the highest bound any rule mentions share the last bucket, and
+ * cities no rule mentions share bucket 0, so the table stays small. Each cell holds the
+ * summed effects of the rules that always apply there, plus the few rules that still need
+ * a seat-type or show-hour check. Evaluating a quote is one array lookup and a handful of
+ * multiplications, whatever the number of rules.
+ *
+ * All percentage and per-seat effects are added up as one fraction of the total and
+ * rounded once, half up to the nearest paisa (see Money).
+ *
+ * Immutable; a reload builds a new table and swaps it in.
+ */
+final class DiscountTable {
+
+    private static final int SHOW_TYPES = ShowType.values().length;
+    private static final Cell EMPTY = new Cell(0, 0, 0, new Residual[0]);
+
+    private final Map<String, Integer> cityIds;
+    private final int seatBuckets;
+    private final int cityBuckets;
+    private final Cell[] cells;
+    private final int ruleCount;
+
+    private DiscountTable(Map<String, Integer> cityIds, int seatBuckets, Cell[] cells, int ruleCount) {
+        this.cityIds = cityIds;
+        this.seatBuckets = seatBuckets;
+        this.cityBuckets = cityIds.size() + 1;
+        this.cells = cells;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a rule is malformed
+     */
+    static DiscountTable compile(List<DiscountRule> definitions) {
+        List<DiscountRule> rules = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        for (DiscountRule rule : definitions) {
+            validate(rule, ids);
+            if (rule.isEnabled()) {
+                rules.add(rule);
+            }
+        }
+
+        Map<String, Integer> cityIds = new HashMap<>();
+        int seatBuckets = 1;
+        for (DiscountRule rule : rules) {
+            if (rule.getCities() != null) {
+                rule.getCities().forEach(city -> cityIds.putIfAbsent(city, cityIds.size() + 1));
+            }
+            // Past every bound, all seat counts behave the same
+            seatBuckets = Math.max(seatBuckets, orZero(rule.getMinSeats()) + 1);
+            seatBuckets = Math.max(seatBuckets, rule.getMaxSeats() == null ? 0 : rule.getMaxSeats() + 2);
+            seatBuckets = Math.max(seatBuckets, rule.getSeats() + 1);
+        }
+
+        int cityBuckets = cityIds.size() + 1;
+        Cell[] cells = new Cell[SHOW_TYPES * seatBuckets * cityBuckets];
+        for (ShowType showType : ShowType.values()) {
+            for (int seats = 0; seats < seatBuckets; seats++) {
+                for (int city = 0; city < cityBuckets; city++) {
+                    cells[(showType.ordinal() * seatBuckets + seats) * cityBuckets + city] =
+                        buildCell(rules, showType, seats, city, cityIds);
+                }
+            }
+        }
+        return new DiscountTable(Map.copyOf(cityIds), seatBuckets, cells, rules.size());
+    }
+
+    /**
+     * @return Discount in paise, at most the total
+     */
+    long discount(DiscountStrategy.Context context) {
+        int seatCount = context.seatCount();
+        long total = context.totalAmount();
+        if (seatCount <= 0 || total <= 0) {
+            return 0L;
+        }
+        int seats = Math.min(seatCount, seatBuckets - 1);
+        int city = context.city() == null ? 0 : cityIds.getOrDefault(context.city(), 0);
+        Cell cell = cells[(context.showType().ordinal() * seatBuckets + seats) * cityBuckets + city];
+
+        // Discount = total * numerator / (seatCount * 10_000) + amountOff; a seat is total / seatCount
+        long numerator = cell.basisPointsOfTotal * seatCount + cell.seatBasisPoints;
+        long amountOff = cell.amountOff;
+        for (Residual residual : cell.residuals) {
+            if (residual.matches(context)) {
+                numerator += residual.basisPointsOfTotal * seatCount
+                    + Math.min(residual.seats, seatCount) * residual.basisPointsOfSeats;
+                amountOff += residual.amountOff;
+            }
+        }
+        long denominator = seatCount * Money.BASIS_POINTS_PER_WHOLE;
+        long discount = Money.fraction(total, Math.min(numerator, denominator), denominator) + amountOff;
+        return Math.min(discount, total);
+    }
+
+    int getRuleCount() {
+        return ruleCount;
+    }
+
+    private static Cell buildCell(List<DiscountRule> rules, ShowType showType, int seats, int city,
+                                  Map<String, Integer> cityIds) {
+        long basisPointsOfTotal = 0;
+        long seatBasisPoints = 0;
+        long amountOff = 0;
+        List<Residual> residuals = new ArrayList<>();
+        for (DiscountRule rule : rules) {
+            if (!matchesStatically(rule, showType, seats, city, cityIds)) {
+                continue;
+            }
+            if (rule.getSeatTypes() != null || rule.getFromHour() != null || rule.getToHour() != null) {
+                residuals.add(new Residual(rule));
+                continue;
+            }
+            basisPointsOfTotal += Money.basisPoints(rule.getPercentOffTotal());
+            // Only the last bucket holds counts above `seats`, and there seats >= every rule's seat count
+            seatBasisPoints += Math.min(rule.getSeats(), seats) * Money.basisPoints(rule.getPercentOffSeats());
+            amountOff += Money.ofMajor(rule.getAmountOff());
+        }
+        if (basisPointsOfTotal == 0 && seatBasisPoints == 0 && amountOff == 0 && residuals.isEmpty()) {
+            return EMPTY;
+        }
+        return new Cell(basisPointsOfTotal, seatBasisPoints, amountOff, residuals.toArray(new Residual[0]));
+    }
+
+    private static boolean matchesStatically(DiscountRule rule, ShowType showType, int seats, int city,
+                                             Map<String, Integer> cityIds) {
+        if (rule.getShowTypes() != null && !rule.getShowTypes().contains(showType)) {
+            return false;
+        }
+        if (rule.getMinSeats() != null && seats < rule.getMinSeats()) {
+            return false;
+        }
+        if (rule.getMaxSeats() != null && seats > rule.getMaxSeats()) {
+            return false;
+        }
+        return rule.getCities() == null
+            || rule.getCities().stream().anyMatch(name -> cityIds.get(name) == city);
+    }
+
+    private static void validate(DiscountRule rule, Set<String> ids) {
+        String id = rule.getId();
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Discount rule without an id");
+        }
+        if (!ids.add(id)) {
+            throw new IllegalArgumentException("Duplicate discount rule id: " + id);
+        }
+        if (rule.getPercentOffTotal() < 0 || rule.getPercentOffTotal() > 100
+                || rule.getPercentOffSeats() < 0 || rule.getPercentOffSeats() > 100) {
+            throw new IllegalArgumentException("Discount rule " + id + ": percentages must be between 0 and 100");
+        }
+        if (rule.getSeats() < 0 || rule.getAmountOff() < 0) {
+            throw new IllegalArgumentException("Discount rule " + id + ": seats and amountOff must not be negative");
+        }
+        if (rule.getMinSeats() != null && rule.getMaxSeats() != null && rule.getMinSeats() > rule.getMaxSeats()) {
+            throw new IllegalArgumentException("Discount rule " + id + ": minSeats is greater than maxSeats");
+        }
+        if (outOfRange(rule.getFromHour(), 0, 23) || outOfRange(rule.getToHour(), 1, 24)) {
+            throw new IllegalArgumentException("Discount rule " + id + ": hours must be within 0-24");
+        }
+    }
+
+    private static boolean outOfRange(Integer value, int min, int max) {
+        return value != null && (value < min || value > max);
+    }
+
+    private static int orZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private record Cell(long basisPointsOfTotal, long seatBasisPoints, long amountOff, Residual[] residuals) {
+    }
+
+    /**
+     * A rule whose seat-type or show-hour condition can only be checked per quote
+     */
+    private static final class Residual {
+        private final int allowedSeatTypes;
+        private final int fromHour;
+        private final int toHour;
+        private final long basisPointsOfTotal;
+        private final int seats;
+        private final long basisPointsOfSeats;
+        private final long amountOff;
+
+        private Residual(DiscountRule rule) {
+            int mask = 0;
+            for (SeatType seatType : rule.getSeatTypes() == null ? Set.of(SeatType.values()) : rule.getSeatTypes()) {
+                mask |= 1 << seatType.ordinal();
+            }
+            this.allowedSeatTypes = mask;
+            this.fromHour = orZero(rule.getFromHour());
+            this.toHour = rule.getToHour() == null ? 24 : rule.getToHour();
+            this.basisPointsOfTotal = Money.basisPoints(rule.getPercentOffTotal());
+            this.seats = rule.getSeats();
+            this.basisPointsOfSeats = Money.basisPoints(rule.getPercentOffSeats());
+            this.amountOff = Money.ofMajor(rule.getAmountOff());
+        }
+
+        private boolean matches(DiscountStrategy.Context context) {
+            return (context.seatTypeMask() & ~allowedSeatTypes) == 0
+                && context.showHour() >= fromHour
+                && context.showHour() < toHour;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.event.SeatsBookedEvent;
+import com.bookmyshow.event.SeatsReleasedEvent;
+import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.service.DynamicPricingService;
+import com.bookmyshow.util.Money;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DynamicPricingServiceImpl
+ * Demonstrates:
+ * - Single Responsibility Principle: Only turns demand into a price multiplier
+ *
+ * Each tracked show keeps two demand signals, both updated from committed booking events
+ * instead of being recomputed from the seats table:
+ * - seats sold, seeded once from the show and then moved by SeatsBooked/SeatsReleased
+ * - seats booked per minute over a sliding window, in a ring buffer of one-minute slots
+ * The configured tiers are expanded at startup into lookup tables (by percent sold and by
+ * seats per minute), so a multiplier costs two array reads. Markups of the two tiers add
+ * up and are capped at booking.pricing.max-markup.
+ *
+ * A periodic reconcile copies the database counters over the seats-sold signal. It is a
+ * soft signal: a booking committing during the reconcile read may be counted twice until
+ * the next pass.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DynamicPricingServiceImpl implements DynamicPricingService {
+
+    private static final int LIST_PRICE = (int) Money.BASIS_POINTS_PER_WHOLE;
+    private static final long BASIS_POINTS_PER_PERCENT = Money.BASIS_POINTS_PER_WHOLE / 100;
+
+    private final ShowRepository showRepository;
+
+    @Value("${booking.pricing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${booking.pricing.occupancy-thresholds:50,75,90}")
+    private int[] occupancyThresholds;
+
+    @Value("${booking.pricing.occupancy-markups:10,25,50}")
+    private int[] occupancyMarkups;
+
+    @Value("${booking.pricing.velocity-window-minutes:10}")
+    private int velocityWindowMinutes;
+
+    @Value("${booking.pricing.velocity-thresholds:5,20}")
+    private int[] velocityThresholds;
+
+    @Value("${booking.pricing.velocity-markups:5,15}")
+    private int[] velocityMarkups;
+
+    @Value("${booking.pricing.max-markup:75}")
+    private int maxMarkup;
+
+    @Value("${booking.pricing.max-tracked-shows:10000}")
+    private int maxTrackedShows;
+
+    private final Map<Long, Demand> demands = new ConcurrentHashMap<>();
+
+    private int[] markupByPercentSold;
+    private int[] markupBySeatsPerMinute;
+    private int maxMarkupBasisPoints;
+
+    @PostConstruct
+    public void init() {
+        markupByPercentSold = tierTable("occupancy", occupancyThresholds, occupancyMarkups, 100);
+        markupBySeatsPerMinute = tierTable("velocity", velocityThresholds, velocityMarkups,
+            velocityThresholds.length == 0 ? 0 : velocityThresholds[velocityThresholds.length - 1]);
+        maxMarkupBasisPoints = (int) (maxMarkup * BASIS_POINTS_PER_PERCENT);
+        log.info("Dynamic pricing {} - Occupancy tiers: {}, Velocity tiers: {}, Max markup: {}%",
+            enabled ? "enabled" : "disabled", occupancyThresholds.length, velocityThresholds.length, maxMarkup);
+    }
+
+    @Override
+    public int multiplierBasisPoints(Long showId) {
+        if (!enabled) {
+            return LIST_PRICE;
+        }
+        Demand demand = demand(showId);
+        if (demand == null) {
+            return LIST_PRICE; // Unknown show, the caller reports it
+        }
+        long seatsPerMinute = demand.seatsPerMinute(System.currentTimeMillis());
+        int markup = markupByPercentSold[demand.percentSold()]
+            + markupBySeatsPerMinute[(int) Math.min(seatsPerMinute, markupBySeatsPerMinute.length - 1)];
+        return LIST_PRICE + Math.min(markup, maxMarkupBasisPoints);
+    }
+
+    @EventListener
+    public void onSeatsBooked(SeatsBookedEvent event) {
+        Demand demand = demands.get(event.showId());
+        if (demand == null) {
+            return;
+        }
+        TransactionCallbacks.afterCompletion(committed -> {
+            if (committed) {
+                demand.booked(event.seatCount(), System.currentTimeMillis());
+            }
+        });
+    }
+
+    @EventListener
+    public void onSeatsReleased(SeatsReleasedEvent event) {
+        Demand demand = demands.get(event.showId());
+        if (demand == null) {
+            return;
+        }
+        TransactionCallbacks.afterCompletion(committed -> {
+            if (committed) {
+                demand.released(event.seatIds().size());
+            }
+        });
+    }
+
+    /**
+     * Copies the database counters over the seats sold of every tracked show and drops unknown shows
+     */
+    @Scheduled(fixedDelayString = "${booking.pricing.reconcile-ms:60000}")
+    public void reconcile() {
+        if (demands.isEmpty()) {
+            return;
+        }
+        Map<Long, Demand> pending = new HashMap<>(demands);
+        List<ShowRepository.SeatCount> counts = showRepository.findSeatCountsByIdIn(pending.keySet());
+        for (ShowRepository.SeatCount count : counts) {
+            Demand demand = pending.remove(count.getId());
+            demand.sold.set(demand.capacity - count.getAvailableSeats());
+        }
+        pending.keySet().forEach(demands::remove);
+        log.debug("Demand counters reconciled - Shows: {}, Dropped: {}", counts.size(), pending.size());
+    }
+
+    private Demand demand(Long showId) {
+        Demand demand = demands.get(showId);
+        if (demand != null) {
+            return demand;
+        }
+        demand = showRepository.findOccupancyById(showId)
+            .map(occupancy -> new Demand(occupancy.getCapacity(), occupancy.getAvailableSeats(),
+                velocityWindowMinutes))
+            .orElse(null);
+        if (demand != null && demands.size() < maxTrackedShows) {
+            Demand raced = demands.putIfAbsent(showId, demand);
+            return raced != null ? raced : demand;
+        }
+        return demand; // Priced from this read alone, not tracked
+    }
+
+    /**
+     * Expands ascending (threshold, markup percent) tiers into markups in basis points for
+     * every value from 0 to maxValue; values below the first threshold get no markup
+     */
+    private static int[] tierTable(String name, int[] thresholds, int[] markups, int maxValue) {
+        if (thresholds.length != markups.length) {
+            throw new IllegalStateException("booking.pricing: " + name + " thresholds and markups differ in length");
+        }
+        int[] table = new int[maxValue + 1];
+        for (int tier = 0; tier < thresholds.length; tier++) {
+            if (thresholds[tier] < 0 || thresholds[tier] > maxValue || markups[tier] < 0
+                    || (tier > 0 && thresholds[tier] <= thresholds[tier - 1])) {
+                throw new IllegalStateException("booking.pricing: " + name
+                    + " thresholds must be ascending within 0-" + maxValue + " and markups not negative");
+            }
+            for (int value = thresholds[tier]; value <= maxValue; value++) {
+                table[value] = (int) (markups[tier] * BASIS_POINTS_PER_PERCENT);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Demand signals of one show
+     */
+    private static final class Demand {
+        private final long capacity;
+        private final AtomicLong sold;
+        private final SlidingWindowCounter recentlyBooked;
+
+        private Demand(long capacity, long availableSeats, int windowMinutes) {
+            this.capacity = capacity;
+            this.sold = new AtomicLong(capacity - availableSeats);
+            this.recentlyBooked = new SlidingWindowCounter(
+                windowMinutes, TimeUnit.MINUTES.toMillis(1), System.currentTimeMillis());
+        }
+
+        private void booked(int seats, long nowMillis) {
+            sold.addAndGet(seats);
+            recentlyBooked.add(seats, nowMillis);
+        }
+
+        private void released(int seats) {
+            sold.addAndGet(-seats);
+        }
+
+        private int percentSold() {
+            if (capacity <= 0) {
+                return 0;
+            }
+            return (int) Math.max(0, Math.min(100, sold.get() * 100 / capacity));
+        }
+
+        private long seatsPerMinute(long nowMillis) {
+            return recentlyBooked.sum(nowMillis) * TimeUnit.MINUTES.toMillis(1) / recentlyBooked.windowMillis();
+        }
+    }
+}
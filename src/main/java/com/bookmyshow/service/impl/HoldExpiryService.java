@@ -0,0 +1,104 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.enums.BookingStatus;
+import com.bookmyshow.event.BookingHeldEvent;
+import com.bookmyshow.repository.BookingRepository;
+import com.bookmyshow.service.BookingService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HoldExpiryService
+ * Demonstrates:
+ * - Single Responsibility Principle: Only decides when unpaid holds are released
+ * - Dependency Inversion Principle: The release itself goes through BookingService
+ *
+ * Deadlines live in a hashed timing wheel, so the sweep only looks at holds that are
+ * actually due instead of scanning the bookings table. The wheel is in memory and is
+ * rebuilt from PENDING bookings on startup; the expiry update re-checks status and
+ * deadline under a row lock, so a stale entry is harmless.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HoldExpiryService {
+
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+
+    @Value("${booking.hold.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${booking.hold.wheel-size:512}")
+    private int wheelSize;
+
+    @Value("${booking.hold.expiry-batch-size:200}")
+    private int batchSize;
+
+    private TimingWheel wheel;
+
+    @PostConstruct
+    public void start() {
+        wheel = new TimingWheel(wheelSize, tickMs, System.currentTimeMillis());
+    }
+
+    /**
+     * Only schedule holds whose transaction actually committed
+     */
+    @TransactionalEventListener
+    public void onBookingHeld(BookingHeldEvent event) {
+        schedule(event.bookingId(), event.expiresAt());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reloadPendingHolds() {
+        List<BookingRepository.HoldDeadline> pending = bookingRepository.findDeadlinesByStatus(BookingStatus.PENDING);
+        pending.forEach(hold -> schedule(hold.getId(), hold.getExpiresAt()));
+        if (!pending.isEmpty()) {
+            log.info("Rescheduled {} pending holds", pending.size());
+        }
+    }
+
+    @Scheduled(fixedRateString = "${booking.hold.tick-ms:1000}")
+    public void expireDueHolds() {
+        long[] due = wheel.advance(System.currentTimeMillis());
+        for (int from = 0; from < due.length; from += batchSize) {
+            int to = Math.min(due.length, from + batchSize);
+            List<Long> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                batch.add(due[i]);
+            }
+            try {
+                bookingService.expireHolds(batch);
+            } catch (RuntimeException e) {
+                log.error("Hold expiry failed for {} bookings, retrying next tick", batch.size(), e);
+                batch.forEach(id -> wheel.schedule(id, System.currentTimeMillis()));
+            }
+        }
+    }
+
+    /**
+     * Holds waiting for their deadline
+     */
+    public int getScheduledCount() {
+        return wheel.size();
+    }
+
+    private void schedule(Long bookingId, LocalDateTime expiresAt) {
+        // One tick of slack so expireHolds sees the hold as past its deadline
+        long deadline = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + tickMs;
+        wheel.schedule(bookingId, deadline);
+    }
+}
@@ -0,0 +1,61 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.event.OutboxMessage;
+import com.bookmyshow.service.OutboxConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process stand-in for downstream systems (booking.outbox.sink=memory)
+ * Keeps the most recent messages in memory, e.g. to check what a real consumer
+ * (confirmation mails, analytics, partner webhooks) would have received.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.outbox.sink", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryOutboxSink implements OutboxConsumer {
+
+    @Value("${booking.outbox.sink-capacity:1000}")
+    private int capacity;
+
+    private final Deque<OutboxMessage> recent = new ArrayDeque<>();
+    private final LongAdder received = new LongAdder();
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public void accept(OutboxMessage message) {
+        synchronized (recent) {
+            if (recent.size() == capacity) {
+                recent.removeFirst();
+            }
+            recent.addLast(message);
+        }
+        received.increment();
+        log.debug("Outbox event {} - Reference: {}, Status: {}", message.id(),
+            message.event().bookingReference(), message.event().status());
+    }
+
+    /**
+     * Messages still held, oldest first
+     */
+    public List<OutboxMessage> getRecent() {
+        synchronized (recent) {
+            return List.copyOf(recent);
+        }
+    }
+
+    public long getReceivedCount() {
+        return received.sum();
+    }
+}
@@ -0,0 +1,324 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.ProfilingSummary;
+import com.bookmyshow.exception.ServiceOverloadedException;
+import com.bookmyshow.jfr.BookingEvent;
+import com.bookmyshow.jfr.JwtAuthenticationEvent;
+import com.bookmyshow.jfr.SeatConflictEvent;
+import com.bookmyshow.jfr.ShowBrowseEvent;
+import com.bookmyshow.service.ProfilingService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.Timespan;
+import jdk.jfr.ValueDescriptor;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * JfrProfilingServiceImpl - on-demand Java Flight Recorder sessions
+ * Demonstrates:
+ * - Single Responsibility Principle: Only runs recordings and summarizes them
+ * - Open/Closed Principle: New application events are summarized without changes here,
+ *   as long as they are named com.bookmyshow.*
+ *
+ * A recording uses the JDK's "profile" settings (allocation samples, monitor and park
+ * events over 10 ms) plus the application events, which only allocate while a recording
+ * enables them. No request thread waits for it: a thread of its own stops the recording
+ * when its time is up and dumps the file to the recordings directory, where the newest
+ * keep-recordings files stay available for download into JDK Mission Control; the
+ * summary is read back from it by streaming, one event at a time.
+ */
+@Service
+@Slf4j
+public class JfrProfilingServiceImpl implements ProfilingService {
+
+    private static final DateTimeFormatter ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final Pattern RECORDING_ID = Pattern.compile("\\d{8}-\\d{6}");
+    private static final Pattern RECORDING_FILE = Pattern.compile("\\d{8}-\\d{6}\\.jfr");
+    private static final String APPLICATION_EVENTS = "com.bookmyshow.";
+    private static final Set<String> EVENT_HEADER_FIELDS = Set.of("startTime", "duration", "eventThread", "stackTrace");
+
+    @Value("${booking.profiling.directory:${java.io.tmpdir}/bookmyshow-jfr}")
+    private String directory;
+
+    @Value("${booking.profiling.max-seconds:300}")
+    private int maxSeconds;
+
+    @Value("${booking.profiling.keep-recordings:5}")
+    private int keepRecordings;
+
+    @Value("${booking.profiling.top:10}")
+    private int top;
+
+    private final AtomicBoolean recording = new AtomicBoolean();
+    private volatile long recordingEndsAtMillis;
+    private ScheduledExecutorService recorder;
+
+    @PostConstruct
+    public void start() {
+        recorder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jfr-recording");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        recorder.shutdownNow();
+    }
+
+    @Override
+    public CompletableFuture<ProfilingSummary> record(int seconds) {
+        if (seconds < 1) {
+            throw new IllegalArgumentException("Recording duration must be at least 1 second, got " + seconds);
+        }
+        int duration = Math.min(seconds, maxSeconds);
+        if (!recording.compareAndSet(false, true)) {
+            long remaining = (recordingEndsAtMillis - System.currentTimeMillis() + 999) / 1000;
+            throw new ServiceOverloadedException("A profiling recording is already running", remaining);
+        }
+        String recordingId = LocalDateTime.now().format(ID_FORMAT);
+        Path file = recordingsDirectory().resolve(recordingId + ".jfr");
+        Recording jfr;
+        try {
+            jfr = begin(recordingId, file);
+        } catch (RuntimeException e) {
+            recording.set(false);
+            throw e;
+        }
+        recordingEndsAtMillis = System.currentTimeMillis() + duration * 1000L;
+        long started = System.nanoTime();
+
+        CompletableFuture<ProfilingSummary> summary = new CompletableFuture<>();
+        recorder.schedule(() -> {
+            ProfilingSummary result;
+            try {
+                dump(jfr, file);
+                long durationMs = (System.nanoTime() - started) / 1_000_000;
+                pruneOldRecordings();
+                log.info("JFR recording {} finished after {} ms: {}", recordingId, durationMs, file);
+                result = summarize(recordingId, durationMs, file);
+            } catch (RuntimeException e) {
+                log.error("JFR recording {} failed: {}", recordingId, e.getMessage(), e);
+                recording.set(false);
+                summary.completeExceptionally(e);
+                return;
+            }
+            recording.set(false); // Before completing, so the caller can start the next one at once
+            summary.complete(result);
+        }, duration, TimeUnit.SECONDS);
+        return summary;
+    }
+
+    @Override
+    public Optional<Path> getRecordingFile(String recordingId) {
+        if (!RECORDING_ID.matcher(recordingId).matches()) {
+            return Optional.empty();
+        }
+        Path file = recordingsDirectory().resolve(recordingId + ".jfr");
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    private static Recording begin(String recordingId, Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            Recording recording = new Recording(Configuration.getConfiguration("profile"));
+            recording.setName("bookmyshow-" + recordingId);
+            recording.enable(BookingEvent.class);
+            recording.enable(SeatConflictEvent.class);
+            recording.enable(ShowBrowseEvent.class);
+            recording.enable(JwtAuthenticationEvent.class);
+            recording.start();
+            return recording;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create the JFR recordings directory " + file.getParent(), e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("JFR profile settings are unreadable", e);
+        }
+    }
+
+    private static void dump(Recording recording, Path file) {
+        try (recording) {
+            recording.stop();
+            recording.dump(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write JFR recording " + file, e);
+        }
+    }
+
+    ProfilingSummary summarize(String recordingId, long durationMs, Path file) {
+        Map<String, ProfilingSummary.AllocationSite> allocations = new HashMap<>();
+        Map<String, ProfilingSummary.ContendedLock> locks = new HashMap<>();
+        Map<String, Long> eventCounts = new TreeMap<>();
+        PriorityQueue<RecordedEvent> slowest = new PriorityQueue<>(Comparator.comparing(RecordedEvent::getDuration));
+
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                String type = event.getEventType().getName();
+                switch (type) {
+                    case "jdk.ObjectAllocationSample" -> {
+                        ProfilingSummary.AllocationSite site = allocations.computeIfAbsent(
+                            allocationSite(event.getStackTrace()),
+                            frame -> new ProfilingSummary.AllocationSite(frame, 0, 0));
+                        site.setSampledBytes(site.getSampledBytes() + event.getLong("weight"));
+                        site.setSamples(site.getSamples() + 1);
+                    }
+                    case "jdk.JavaMonitorEnter" -> addContention(locks, event.getClass("monitorClass"), "monitor", event);
+                    case "jdk.ThreadPark" -> {
+                        if (!isIdleWorker(event.getStackTrace())) {
+                            addContention(locks, event.getClass("parkedClass"), "park", event);
+                        }
+                    }
+                    default -> {
+                        if (type.startsWith(APPLICATION_EVENTS)) {
+                            eventCounts.merge(type, 1L, Long::sum);
+                            slowest.add(event);
+                            if (slowest.size() > top) {
+                                slowest.poll();
+                            }
+                        }
+                    }
+                }
+            }
+            return new ProfilingSummary(
+                recordingId,
+                durationMs,
+                Files.size(file),
+                "/api/profiling/recordings/" + recordingId,
+                eventCounts,
+                allocations.values().stream()
+                    .sorted(Comparator.comparingLong(ProfilingSummary.AllocationSite::getSampledBytes).reversed())
+                    .limit(top)
+                    .toList(),
+                locks.values().stream()
+                    .sorted(Comparator.comparingDouble(ProfilingSummary.ContendedLock::getTotalMs).reversed())
+                    .limit(top)
+                    .toList(),
+                slowest.stream()
+                    .sorted(Comparator.comparing(RecordedEvent::getDuration, Comparator.reverseOrder()))
+                    .map(this::toSlowEvent)
+                    .toList()
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read JFR recording " + file, e);
+        }
+    }
+
+    /**
+     * Application frames say more than the JDK or Spring frame that did the allocation
+     */
+    private static String allocationSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "(no stack trace)";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith("com.bookmyshow.")) {
+                return describe(frame);
+            }
+        }
+        return describe(stackTrace.getFrames().get(0));
+    }
+
+    /**
+     * Pool threads waiting for their next task park too; that is idleness, not contention
+     */
+    private static boolean isIdleWorker(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return false;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if ("getTask".equals(frame.getMethod().getName())
+                    && frame.getMethod().getType().getName().equals("java.util.concurrent.ThreadPoolExecutor")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static void addContention(Map<String, ProfilingSummary.ContendedLock> locks, RecordedClass lockClass,
+                                      String kind, RecordedEvent event) {
+        String className = lockClass == null ? "(unknown)" : lockClass.getName();
+        double ms = event.getDuration().toNanos() / 1_000_000.0;
+        ProfilingSummary.ContendedLock lock = locks.computeIfAbsent(kind + ":" + className,
+            key -> new ProfilingSummary.ContendedLock(className, kind, 0, 0, 0));
+        lock.setEvents(lock.getEvents() + 1);
+        lock.setTotalMs(lock.getTotalMs() + ms);
+        lock.setMaxMs(Math.max(lock.getMaxMs(), ms));
+    }
+
+    private ProfilingSummary.SlowEvent toSlowEvent(RecordedEvent event) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (ValueDescriptor field : event.getFields()) {
+            if (!EVENT_HEADER_FIELDS.contains(field.getName())) {
+                Object value = Timespan.class.getName().equals(field.getContentType())
+                    ? event.getDuration(field.getName())
+                    : event.getValue(field.getName());
+                fields.put(field.getName(), String.valueOf(value));
+            }
+        }
+        return new ProfilingSummary.SlowEvent(
+            event.getEventType().getName(),
+            event.getStartTime().toString(),
+            event.getDuration().toNanos() / 1_000_000.0,
+            fields
+        );
+    }
+
+    private Path recordingsDirectory() {
+        return Paths.get(directory);
+    }
+
+    private void pruneOldRecordings() {
+        try (Stream<Path> files = Files.list(recordingsDirectory())) {
+            List<Path> recordings = new ArrayList<>(files
+                .filter(path -> RECORDING_FILE.matcher(path.getFileName().toString()).matches())
+                .sorted(Comparator.comparing(Path::getFileName).reversed())
+                .toList());
+            for (Path old : recordings.subList(Math.min(keepRecordings, recordings.size()), recordings.size())) {
+                Files.deleteIfExists(old);
+            }
+        } catch (IOException e) {
+            log.warn("Could not prune old JFR recordings in {}: {}", directory, e.getMessage());
+        }
+    }
+}
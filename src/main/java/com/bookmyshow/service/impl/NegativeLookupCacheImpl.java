@@ -0,0 +1,84 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.service.NegativeLookupCache;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * NegativeLookupCacheImpl
+ * Demonstrates:
+ * - Single Responsibility Principle: Only remembers recently missing IDs
+ *
+ * One direct-mapped table per kind: an ID hashes to exactly one slot and a new miss
+ * simply overwrites whatever was there, so memory is fixed and no eviction is needed.
+ * Lookups read a single slot and never allocate. Entries expire after a TTL, which
+ * bounds how long an ID created on another node (or mid-lookup) can be reported missing.
+ */
+@Service
+public class NegativeLookupCacheImpl implements NegativeLookupCache {
+
+    @Value("${booking.negative-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${booking.negative-cache.slots:4096}")
+    private int slots;
+
+    @Value("${booking.negative-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final Map<Kind, AtomicReferenceArray<Miss>> tables = new EnumMap<>(Kind.class);
+    private int mask;
+    private long ttlNanos;
+
+    @PostConstruct
+    public void init() {
+        if (Integer.bitCount(slots) != 1) {
+            throw new IllegalStateException("booking.negative-cache.slots must be a power of two: " + slots);
+        }
+        mask = slots - 1;
+        ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        for (Kind kind : Kind.values()) {
+            tables.put(kind, new AtomicReferenceArray<>(slots));
+        }
+    }
+
+    @Override
+    public boolean isMissing(Kind kind, long id) {
+        if (!enabled) {
+            return false;
+        }
+        Miss miss = tables.get(kind).get(slot(id));
+        return miss != null && miss.id == id && miss.expiresAtNanos - System.nanoTime() > 0;
+    }
+
+    @Override
+    public void recordMissing(Kind kind, long id) {
+        if (enabled) {
+            tables.get(kind).set(slot(id), new Miss(id, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    @Override
+    public void invalidate(Kind kind, long id) {
+        AtomicReferenceArray<Miss> table = tables.get(kind);
+        int slot = slot(id);
+        Miss miss = table.get(slot);
+        if (miss != null && miss.id == id) {
+            table.compareAndSet(slot, miss, null);
+        }
+    }
+
+    private int slot(long id) {
+        // Fibonacci hashing spreads sequential IDs across the table
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+
+    private record Miss(long id, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,209 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.OutboxStats;
+import com.bookmyshow.entity.OutboxEvent;
+import com.bookmyshow.event.BookingStatusChangedEvent;
+import com.bookmyshow.event.OutboxMessage;
+import com.bookmyshow.repository.OutboxEventRepository;
+import com.bookmyshow.service.OutboxConsumer;
+import com.bookmyshow.service.OutboxService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OutboxServiceImpl - transactional outbox for booking events
+ * Demonstrates:
+ * - Single Responsibility Principle: Only moves booking events from the outbox to consumers
+ * - Dependency Inversion Principle: Consumers are plugged in through OutboxConsumer
+ *
+ * The booking transaction only inserts an outbox row (just before it commits), so work
+ * that follows a booking never adds to its latency and never sees a rolled-back booking.
+ * A single relay thread drains committed rows in id order, at most max-batches-per-poll
+ * batches per poll, and only pulls the next batch once consumers have taken the last one:
+ * slow consumers let the table grow (see the lag stats) instead of slowing bookings.
+ *
+ * Rows are deleted after every consumer accepted them, so a crash in between means
+ * redelivery (at least once). A failed delivery holds back the rest of that show's events
+ * and is retried with exponential backoff; after max-attempts it is parked and the show
+ * moves on. Assumes one relay per database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxServiceImpl implements OutboxService {
+
+    static final String BOOKING_STATUS_CHANGED = "BookingStatusChanged";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<OutboxConsumer> consumerProvider;
+
+    @Value("${booking.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${booking.outbox.max-batches-per-poll:10}")
+    private int maxBatchesPerPoll;
+
+    @Value("${booking.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${booking.outbox.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    @Value("${booking.outbox.max-retry-backoff-ms:300000}")
+    private long maxRetryBackoffMs;
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failedAttempts = new LongAdder();
+    private final LongAdder totalLagMillis = new LongAdder();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+
+    /**
+     * Written in the booking's own transaction; if this insert fails, the booking rolls back
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        OutboxEvent row = new OutboxEvent();
+        row.setEventType(BOOKING_STATUS_CHANGED);
+        row.setShowId(event.showId());
+        row.setPayload(toJson(event));
+        row.setCreatedAt(event.occurredAt());
+        outboxEventRepository.save(row);
+    }
+
+    @Scheduled(fixedDelayString = "${booking.outbox.poll-interval-ms:200}")
+    public void poll() {
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            log.error("Outbox relay failed, retrying next poll", e);
+        }
+    }
+
+    @Override
+    public int relay() {
+        List<OutboxConsumer> consumers = consumerProvider.orderedStream().toList();
+        int total = 0;
+        for (int round = 0; round < maxBatchesPerPoll; round++) {
+            List<OutboxEvent> batch = outboxEventRepository.findDeliverable(
+                LocalDateTime.now(), PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<Long> done = deliver(batch, consumers);
+            outboxEventRepository.deleteAllByIdInBatch(done);
+            total += done.size();
+            if (done.size() < batch.size()) {
+                break; // A show is backing off; its later rows would only come back again
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public OutboxStats getStats() {
+        LocalDateTime now = LocalDateTime.now();
+        long oldestAgeMs = outboxEventRepository.findFirstByParkedAtIsNullOrderByIdAsc()
+            .map(oldest -> Math.max(0, Duration.between(oldest.getCreatedAt(), now).toMillis()))
+            .orElse(0L);
+        long count = delivered.sum();
+        return new OutboxStats(
+            outboxEventRepository.countByParkedAtIsNull(),
+            outboxEventRepository.countByParkedAtIsNotNull(),
+            oldestAgeMs,
+            count,
+            failedAttempts.sum(),
+            count == 0 ? 0.0 : (double) totalLagMillis.sum() / count,
+            maxLagMillis.get(),
+            consumerProvider.orderedStream().map(OutboxConsumer::name).toList()
+        );
+    }
+
+    /**
+     * Hands each row to every consumer in id order. Once a show has a failure, its later
+     * rows in the batch are skipped so they cannot overtake it.
+     *
+     * @return Ids of the rows every consumer accepted
+     */
+    private List<Long> deliver(List<OutboxEvent> batch, List<OutboxConsumer> consumers) {
+        List<Long> done = new ArrayList<>(batch.size());
+        Set<Long> blockedShows = new HashSet<>();
+        for (OutboxEvent row : batch) {
+            if (blockedShows.contains(row.getShowId())) {
+                continue;
+            }
+            OutboxConsumer current = null;
+            try {
+                OutboxMessage message = new OutboxMessage(row.getId(), row.getAttempts() + 1, row.getCreatedAt(),
+                    objectMapper.readValue(row.getPayload(), BookingStatusChangedEvent.class));
+                for (OutboxConsumer consumer : consumers) {
+                    current = consumer;
+                    consumer.accept(message);
+                }
+                done.add(row.getId());
+                recordDelivered(row);
+            } catch (Exception e) {
+                blockedShows.add(row.getShowId());
+                recordFailure(row, current, e);
+            }
+        }
+        return done;
+    }
+
+    private void recordDelivered(OutboxEvent row) {
+        long lagMillis = Math.max(0, Duration.between(row.getCreatedAt(), LocalDateTime.now()).toMillis());
+        delivered.increment();
+        totalLagMillis.add(lagMillis);
+        maxLagMillis.accumulateAndGet(lagMillis, Math::max);
+    }
+
+    private void recordFailure(OutboxEvent row, OutboxConsumer consumer, Exception e) {
+        failedAttempts.increment();
+        int attempts = row.getAttempts() + 1;
+        String consumerName = consumer == null ? "payload" : consumer.name();
+        row.setAttempts(attempts);
+        row.setLastError(truncate(consumerName + ": " + e));
+        if (attempts >= maxAttempts) {
+            row.setParkedAt(LocalDateTime.now());
+            row.setNextAttemptAt(null);
+            log.error("Outbox event {} parked after {} attempts - Show ID: {}, Consumer: {}",
+                row.getId(), attempts, row.getShowId(), consumerName, e);
+        } else {
+            long backoffMs = Math.min(maxRetryBackoffMs, retryBackoffMs << Math.min(attempts - 1, 20));
+            row.setNextAttemptAt(LocalDateTime.now().plusNanos(backoffMs * 1_000_000));
+            log.warn("Outbox delivery failed, retrying in {} ms - Event: {}, Show ID: {}, Consumer: {}, Error: {}",
+                backoffMs, row.getId(), row.getShowId(), consumerName, e.toString());
+        }
+        outboxEventRepository.save(row);
+    }
+
+    private String toJson(BookingStatusChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize outbox event for booking " + event.bookingReference(), e);
+        }
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= 500 ? error : error.substring(0, 500);
+    }
+}
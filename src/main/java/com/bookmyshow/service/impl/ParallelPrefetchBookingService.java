@@ -0,0 +1,189 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.BookingRequest;
+import com.bookmyshow.dto.BookingResponse;
+import com.bookmyshow.entity.Seat;
+import com.bookmyshow.entity.Show;
+import com.bookmyshow.entity.User;
+import com.bookmyshow.exception.ResourceNotFoundException;
+import com.bookmyshow.repository.SeatRepository;
+import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.repository.UserRepository;
+import com.bookmyshow.service.BookingService;
+import com.bookmyshow.service.NegativeLookupCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Parallel prefetch execution mode for bookings (booking.prefetch.mode=parallel)
+ * Demonstrates:
+ * - Decorator Pattern: Wraps BookingServiceImpl and replaces only the read phase
+ * - Dependency Inversion Principle: Controllers still depend on BookingService
+ *
+ * The user, show and seat lookups are independent, so they run concurrently, each in
+ * its own short read-only transaction. The first missing resource fails the whole call
+ * and the remaining lookups are cancelled. No connection is held while waiting, so the
+ * prefetch cannot starve the pool; the write transaction then runs without re-reading.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "booking.prefetch.mode", havingValue = "parallel")
+@RequiredArgsConstructor
+@Slf4j
+public class ParallelPrefetchBookingService implements BookingService {
+
+    private final BookingServiceImpl bookingService;
+    private final UserRepository userRepository;
+    private final ShowRepository showRepository;
+    private final SeatRepository seatRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final NegativeLookupCache negativeLookupCache;
+
+    @Value("${booking.prefetch.virtual-threads:true}")
+    private boolean useVirtualThreads;
+
+    @Value("${booking.prefetch.pool-size:32}")
+    private int poolSize;
+
+    private ExecutorService executor;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void start() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        executor = newExecutor();
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public BookingResponse bookTickets(BookingRequest request, String username) {
+        if (negativeLookupCache.isMissing(NegativeLookupCache.Kind.SHOW, request.getShowId())) {
+            throw new ResourceNotFoundException("Show not found: " + request.getShowId());
+        }
+        CompletableFuture<User> user = fetch(() -> userRepository.findByUsername(username)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username)));
+        CompletableFuture<Show> show = fetch(() -> showRepository.findByIdWithMovieAndTheatre(request.getShowId())
+            .orElseThrow(() -> {
+                negativeLookupCache.recordMissing(NegativeLookupCache.Kind.SHOW, request.getShowId());
+                return new ResourceNotFoundException("Show not found: " + request.getShowId());
+            }));
+        CompletableFuture<List<Seat>> seats = fetch(() -> seatRepository.findSeatsOfShow(
+            request.getShowId(), request.getSeatIds(), request.getSeatIndexes()));
+
+        awaitAllOrFirstFailure(user, show, seats);
+
+        return bookingService.bookPrefetched(request, new BookingSnapshot(user.join(), show.join(), seats.join()));
+    }
+
+    @Override
+    public BookingResponse holdTickets(BookingRequest request, String username) {
+        return bookingService.holdTickets(request, username);
+    }
+
+    @Override
+    public BookingResponse getBooking(String bookingReference, String username) {
+        return bookingService.getBooking(bookingReference, username);
+    }
+
+    @Override
+    public PaymentAttempt beginPayment(String bookingReference, String username) {
+        return bookingService.beginPayment(bookingReference, username);
+    }
+
+    @Override
+    public String recordPayment(String bookingReference, String attemptKey, String paymentReference) {
+        return bookingService.recordPayment(bookingReference, attemptKey, paymentReference);
+    }
+
+    @Override
+    public BookingResponse confirmHold(String bookingReference, String paymentReference) {
+        return bookingService.confirmHold(bookingReference, paymentReference);
+    }
+
+    @Override
+    public void releaseHold(String bookingReference, String paymentReference) {
+        bookingService.releaseHold(bookingReference, paymentReference);
+    }
+
+    @Override
+    public BookingResponse cancelBooking(String bookingReference, String username) {
+        return bookingService.cancelBooking(bookingReference, username);
+    }
+
+    @Override
+    public int expireHolds(Collection<Long> bookingIds) {
+        return bookingService.expireHolds(bookingIds);
+    }
+
+    private <T> CompletableFuture<T> fetch(Supplier<T> lookup) {
+        return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> lookup.get()), executor);
+    }
+
+    /**
+     * Structured join: returns when every lookup succeeded, or rethrows the first
+     * failure as soon as it happens and cancels the siblings still running.
+     */
+    private static void awaitAllOrFirstFailure(CompletableFuture<?>... lookups) {
+        CompletableFuture<Object> firstFailure = new CompletableFuture<>();
+        for (CompletableFuture<?> lookup : lookups) {
+            lookup.whenComplete((result, error) -> {
+                if (error != null) {
+                    firstFailure.completeExceptionally(error);
+                }
+            });
+        }
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(lookups), firstFailure).join();
+        } catch (CompletionException e) {
+            for (CompletableFuture<?> lookup : lookups) {
+                lookup.cancel(false);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private ExecutorService newExecutor() {
+        if (useVirtualThreads) {
+            try {
+                ExecutorService virtual = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                log.info("Booking prefetch running on virtual threads");
+                return virtual;
+            } catch (ReflectiveOperationException e) {
+                log.info("Virtual threads need Java 21+ (running {}), using a pool of {} platform threads",
+                    Runtime.version().feature(), poolSize);
+            }
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "booking-prefetch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
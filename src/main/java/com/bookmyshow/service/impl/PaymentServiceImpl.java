@@ -0,0 +1,79 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.BookingResponse;
+import com.bookmyshow.dto.PaymentCallback;
+import com.bookmyshow.dto.PaymentResponse;
+import com.bookmyshow.enums.BookingStatus;
+import com.bookmyshow.exception.BookingException;
+import com.bookmyshow.security.HmacSigner;
+import com.bookmyshow.service.BookingService;
+import com.bookmyshow.service.BookingService.PaymentAttempt;
+import com.bookmyshow.service.PaymentGateway;
+import com.bookmyshow.service.PaymentService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * PaymentServiceImpl
+ * Demonstrates:
+ * - Single Responsibility Principle: Only handles payment hand-off and callbacks
+ * - Dependency Inversion Principle: Depends on PaymentGateway and BookingService abstractions
+ *
+ * A hold gets one payment: a short transaction stores a payment attempt key on the booking,
+ * the provider is called with that key as idempotency key outside any transaction, and a
+ * second short transaction records the provider's payment ID. Repeated requests reuse the
+ * stored attempt, so neither a row lock nor a pooled connection waits on the provider. Callbacks may be redelivered or arrive after the
+ * hold expired; BookingService decides under a row lock and only for the recorded payment,
+ * so a late success never resurrects released seats.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentServiceImpl implements PaymentService {
+
+    private static final String SUCCESS = "SUCCESS";
+
+    private final BookingService bookingService;
+    private final PaymentGateway paymentGateway;
+
+    @Value("${booking.payment.webhook-secret:${jwt.secret}}")
+    private String webhookSecret;
+
+    private HmacSigner signer;
+
+    @PostConstruct
+    public void start() {
+        signer = new HmacSigner(webhookSecret);
+    }
+
+    @Override
+    public PaymentResponse initiatePayment(String bookingReference, String username) {
+        PaymentAttempt attempt = bookingService.beginPayment(bookingReference, username);
+        if (attempt.paymentReference() != null) {
+            return new PaymentResponse(bookingReference, attempt.paymentReference(), BookingStatus.PENDING.name());
+        }
+        String paymentId = paymentGateway.requestPayment(bookingReference, attempt.attemptKey(),
+            attempt.amountMinor(), this::handleCallback);
+        String recorded = bookingService.recordPayment(bookingReference, attempt.attemptKey(), paymentId);
+        return new PaymentResponse(bookingReference, recorded, BookingStatus.PENDING.name());
+    }
+
+    @Override
+    public PaymentResponse handleCallback(PaymentCallback callback) {
+        if (!signer.verify(callback.signedPayload(), callback.getSignature())) {
+            log.warn("Rejected payment callback with bad signature - Reference: {}", callback.getBookingReference());
+            throw new BookingException("Invalid payment callback signature");
+        }
+        if (SUCCESS.equals(callback.getStatus())) {
+            BookingResponse confirmed = bookingService.confirmHold(callback.getBookingReference(), callback.getPaymentId());
+            return new PaymentResponse(callback.getBookingReference(), callback.getPaymentId(), confirmed.getStatus());
+        }
+        log.info("Payment failed - Reference: {}, Payment: {}", callback.getBookingReference(), callback.getPaymentId());
+        bookingService.releaseHold(callback.getBookingReference(), callback.getPaymentId());
+        return new PaymentResponse(callback.getBookingReference(), callback.getPaymentId(),
+            BookingStatus.CANCELLED.name());
+    }
+}
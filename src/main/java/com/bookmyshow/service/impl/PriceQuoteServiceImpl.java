@@ -0,0 +1,135 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.QuoteRequest;
+import com.bookmyshow.dto.QuoteResponse;
+import com.bookmyshow.entity.Show;
+import com.bookmyshow.exception.BookingException;
+import com.bookmyshow.exception.ResourceNotFoundException;
+import com.bookmyshow.repository.SeatRepository;
+import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.service.DiscountStrategy;
+import com.bookmyshow.service.DynamicPricingService;
+import com.bookmyshow.service.NegativeLookupCache;
+import com.bookmyshow.service.PriceQuoteService;
+import com.bookmyshow.util.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PriceQuoteServiceImpl
+ * Demonstrates:
+ * - Single Responsibility Principle: Only prices seat selections, never books them
+ * - Dependency Inversion Principle: Uses the same DiscountStrategy as the booking flow
+ *
+ * The show and its seat prices are read once into a ShowPriceList and kept in memory,
+ * so a request costs at most two queries the first time a show is quoted and none after.
+ * The dynamic pricing multiplier is read once per request. Each candidate is then a few
+ * array reads and one discount table lookup, which is why quoting a hundred combinations
+ * costs about the same as quoting one. No transaction is opened and seat availability is
+ * not checked; the booking itself does that.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PriceQuoteServiceImpl implements PriceQuoteService {
+
+    private final ShowRepository showRepository;
+    private final SeatRepository seatRepository;
+    private final DiscountStrategy discountStrategy;
+    private final NegativeLookupCache negativeLookupCache;
+    private final DynamicPricingService dynamicPricingService;
+
+    @Value("${booking.quote.max-candidates:100}")
+    private int maxCandidates;
+
+    @Value("${booking.quote.max-cached-shows:1000}")
+    private int maxCachedShows;
+
+    private final Map<Long, ShowPriceList> priceLists = new ConcurrentHashMap<>();
+
+    @Override
+    public QuoteResponse quote(Long showId, QuoteRequest request) {
+        List<QuoteRequest.Candidate> candidates = request.getCandidates();
+        if (candidates.size() > maxCandidates) {
+            throw new BookingException("At most " + maxCandidates + " candidate seat sets can be quoted at once");
+        }
+        ShowPriceList prices = priceList(showId);
+        int multiplier = dynamicPricingService.multiplierBasisPoints(showId);
+
+        List<QuoteResponse.Quote> quotes = new ArrayList<>(candidates.size());
+        for (QuoteRequest.Candidate candidate : candidates) {
+            quotes.add(quote(prices, multiplier, candidate));
+        }
+        log.debug("Quoted show {} - Candidates: {}, Multiplier: {}", showId, quotes.size(), multiplier);
+        return new QuoteResponse(showId, multiplier, quotes);
+    }
+
+    /**
+     * Drops the price lists of shows that have started, as they can no longer be booked
+     */
+    @Scheduled(fixedDelayString = "${booking.quote.evict-interval-ms:60000}")
+    public void evictStartedShows() {
+        LocalDateTime now = LocalDateTime.now();
+        priceLists.values().removeIf(prices -> prices.hasStartedBy(now));
+    }
+
+    private QuoteResponse.Quote quote(ShowPriceList prices, int multiplier, QuoteRequest.Candidate candidate) {
+        boolean byIndex = candidate.getSeatIndexes() != null && !candidate.getSeatIndexes().isEmpty();
+        int seatCount = byIndex ? candidate.getSeatIndexes().size() : candidate.getSeatIds().size();
+
+        List<String> seatNumbers = new ArrayList<>(seatCount);
+        BitSet seen = new BitSet();
+        long listTotal = 0;
+        int seatTypeMask = 0;
+        for (int i = 0; i < seatCount; i++) {
+            int index = byIndex
+                ? prices.checkIndex(candidate.getSeatIndexes().get(i))
+                : prices.indexOf(candidate.getSeatIds().get(i));
+            if (index == ShowPriceList.MISSING || seen.get(index)) {
+                throw new BookingException("Some seats were not found"); // Same answer a booking would get
+            }
+            seen.set(index);
+            listTotal += prices.price(index);
+            seatTypeMask |= prices.seatTypeBit(index);
+            seatNumbers.add(prices.seatNumber(index));
+        }
+
+        long total = Money.percentOf(listTotal, multiplier);
+        long discount = discountStrategy.calculateDiscount(new DiscountStrategy.Context(
+            total, seatCount, prices.showType(), prices.city(), seatTypeMask, prices.showHour()));
+        return new QuoteResponse.Quote(seatNumbers, total, discount);
+    }
+
+    private ShowPriceList priceList(Long showId) {
+        ShowPriceList prices = priceLists.get(showId);
+        if (prices != null) {
+            return prices;
+        }
+        if (negativeLookupCache.isMissing(NegativeLookupCache.Kind.SHOW, showId)) {
+            throw new ResourceNotFoundException("Show not found: " + showId);
+        }
+        Show show = showRepository.findByIdWithMovieAndTheatre(showId)
+            .orElseThrow(() -> {
+                negativeLookupCache.recordMissing(NegativeLookupCache.Kind.SHOW, showId);
+                return new ResourceNotFoundException("Show not found: " + showId);
+            });
+        prices = ShowPriceList.of(show, seatRepository.findSeatPricesByShowId(showId));
+        if (priceLists.size() < maxCachedShows && priceLists.putIfAbsent(showId, prices) == null) {
+            log.info("Price list cached - Show ID: {}, Cached shows: {}", showId, priceLists.size());
+        } else {
+            // Cache full, or a concurrent load built the same list: this one serves the request only
+            log.debug("Price list loaded - Show ID: {}, Cached shows: {}", showId, priceLists.size());
+        }
+        return prices;
+    }
+}
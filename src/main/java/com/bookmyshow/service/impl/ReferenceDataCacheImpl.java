@@ -0,0 +1,124 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.ReferenceCacheStats;
+import com.bookmyshow.entity.Movie;
+import com.bookmyshow.entity.Theatre;
+import com.bookmyshow.service.ReferenceDataCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * ReferenceDataCacheImpl - admin view of the Hibernate second-level cache
+ * Demonstrates:
+ * - Single Responsibility Principle: Only evicts and reports the reference data regions
+ *
+ * Movies and theatres are cached by Hibernate itself (@Cache on the entities, regions in
+ * ehcache.xml), so findById, lazy show.getMovie()/getTheatre() and the cacheable finders
+ * skip the database on a hit. Region hits, misses and puts come from Hibernate statistics
+ * and are also published as hibernate.cache.requests{region,result} and hibernate.cache.puts.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataCacheImpl implements ReferenceDataCache {
+
+    static final String MOVIES = "reference.movies";
+    static final String THEATRES = "reference.theatres";
+    static final String QUERIES = "reference.queries";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${booking.entity-cache.enabled:true}")
+    private boolean enabled;
+
+    private SessionFactory sessionFactory;
+
+    @PostConstruct
+    public void init() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        if (!enabled) {
+            return;
+        }
+        for (String region : List.of(MOVIES, THEATRES, QUERIES)) {
+            counter("hibernate.cache.requests", region, "hit", CacheRegionStatistics::getHitCount);
+            counter("hibernate.cache.requests", region, "miss", CacheRegionStatistics::getMissCount);
+            counter("hibernate.cache.puts", region, null, CacheRegionStatistics::getPutCount);
+        }
+    }
+
+    @Override
+    public void evictMovie(Long movieId) {
+        sessionFactory.getCache().evictEntityData(Movie.class, movieId);
+        sessionFactory.getCache().evictQueryRegion(QUERIES);
+        log.info("Evicted movie {} from the second-level cache", movieId);
+    }
+
+    @Override
+    public void evictTheatre(Long theatreId) {
+        sessionFactory.getCache().evictEntityData(Theatre.class, theatreId);
+        sessionFactory.getCache().evictQueryRegion(QUERIES);
+        log.info("Evicted theatre {} from the second-level cache", theatreId);
+    }
+
+    @Override
+    public void evictAll() {
+        sessionFactory.getCache().evictEntityData(Movie.class);
+        sessionFactory.getCache().evictEntityData(Theatre.class);
+        sessionFactory.getCache().evictQueryRegion(QUERIES);
+        log.info("Evicted all movies, theatres and finder results from the second-level cache");
+    }
+
+    @Override
+    public ReferenceCacheStats getStats() {
+        if (!enabled) {
+            return new ReferenceCacheStats(false, List.of());
+        }
+        List<ReferenceCacheStats.Region> regions = List.of(MOVIES, THEATRES, QUERIES).stream()
+            .map(region -> {
+                CacheRegionStatistics stats = regionStatistics(region);
+                if (stats == null) { // Query region before its first cacheable query
+                    return new ReferenceCacheStats.Region(region, 0, 0, 0, 0, 0);
+                }
+                long hits = stats.getHitCount();
+                long misses = stats.getMissCount();
+                return new ReferenceCacheStats.Region(region, hits, misses, stats.getPutCount(),
+                    hits + misses == 0 ? 0 : (double) hits / (hits + misses),
+                    stats.getElementCountInMemory());
+            })
+            .toList();
+        return new ReferenceCacheStats(true, regions);
+    }
+
+    private CacheRegionStatistics regionStatistics(String region) {
+        Statistics statistics = sessionFactory.getStatistics();
+        return QUERIES.equals(region)
+            ? statistics.getQueryRegionStatistics(region)
+            : statistics.getDomainDataRegionStatistics(region);
+    }
+
+    private void counter(String name, String region, String result, ToDoubleFunction<CacheRegionStatistics> count) {
+        FunctionCounter.Builder<ReferenceDataCacheImpl> builder = FunctionCounter
+            .builder(name, this, cache -> {
+                CacheRegionStatistics stats = cache.regionStatistics(region);
+                return stats == null ? 0 : count.applyAsDouble(stats);
+            })
+            .tag("region", region);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(meterRegistry);
+    }
+}
@@ -0,0 +1,102 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.DiscountRule;
+import com.bookmyshow.service.DiscountStrategy;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Strategy Pattern Implementation - Table-driven discount rules
+ * Demonstrates:
+ * - Open/Closed Principle: New discounts are rule definitions, not new code
+ * - Single Responsibility Principle: Loading and swapping here, evaluation in DiscountTable
+ *
+ * Rules are read from booking.discount.rules-location and compiled into a DiscountTable.
+ * The file is polled and recompiled when it changes, so rules can be edited without a
+ * restart; a broken file is logged and the previous table stays in use.
+ */
+@Component
+@Slf4j
+public class RuleBasedDiscountStrategy implements DiscountStrategy {
+
+    private final ObjectReader rulesReader;
+
+    @Value("${booking.discount.rules-location:classpath:discount-rules.json}")
+    private Resource rulesLocation;
+
+    private volatile DiscountTable table;
+    private long loadedLastModified;
+
+    public RuleBasedDiscountStrategy(ObjectMapper objectMapper) {
+        this.rulesReader = objectMapper.readerForListOf(DiscountRule.class)
+            .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Cannot load discount rules from " + rulesLocation, e);
+        }
+    }
+
+    @Override
+    public long calculateDiscount(Context context) {
+        return table.discount(context);
+    }
+
+    /**
+     * Recompiles the rules if the file changed since the last load
+     */
+    @Scheduled(fixedDelayString = "${booking.discount.reload-interval-ms:5000}")
+    public void reloadIfChanged() {
+        if (lastModified() == loadedLastModified) {
+            return;
+        }
+        try {
+            reload();
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Discount rules not reloaded, keeping the previous {} rules - Location: {}, Error: {}",
+                table.getRuleCount(), rulesLocation, e.getMessage());
+            loadedLastModified = lastModified(); // Do not retry until the file changes again
+        }
+    }
+
+    /**
+     * Number of enabled rules in the active table
+     */
+    public int getRuleCount() {
+        return table.getRuleCount();
+    }
+
+    private synchronized void reload() throws IOException {
+        long lastModified = lastModified();
+        List<DiscountRule> rules;
+        try (InputStream in = rulesLocation.getInputStream()) {
+            rules = rulesReader.readValue(in);
+        }
+        table = DiscountTable.compile(rules);
+        loadedLastModified = lastModified;
+        log.info("Discount rules loaded - Rules: {}, Location: {}", table.getRuleCount(), rulesLocation);
+    }
+
+    private long lastModified() {
+        try {
+            return rulesLocation.lastModified();
+        } catch (IOException e) {
+            return 0L; // Not backed by a file (e.g. inside a jar), loaded once
+        }
+    }
+}
@@ -4,8 +4,10 @@ import com.bookmyshow.dto.ShowDTO;
 import com.bookmyshow.entity.Show;
 import com.bookmyshow.enums.ShowType;
 import com.bookmyshow.exception.ResourceNotFoundException;
+import com.bookmyshow.jfr.ShowBrowseEvent;
 import com.bookmyshow.repository.MovieRepository;
 import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.service.NegativeLookupCache;
 import com.bookmyshow.service.ShowBrowsingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,20 +35,18 @@ public class ShowBrowsingServiceImpl implements ShowBrowsingService {
     
     private final ShowRepository showRepository;
     private final MovieRepository movieRepository;
+    private final NegativeLookupCache negativeLookupCache;
     
     @Override
     public List<ShowDTO> browseShowsByMovieCityAndDate(Long movieId, String city, LocalDate date) {
-        log.info("Browsing shows - Movie ID: {}, City: {}, Date: {}", movieId, city, date);
+        log.debug("Browsing shows - Movie ID: {}, City: {}, Date: {}", movieId, city, date);
         
-        // Validate movie exists
-        movieRepository.findById(movieId)
-            .orElseThrow(() -> {
-                log.error("Movie not found - Movie ID: {}", movieId);
-                return new ResourceNotFoundException("Movie not found with id: " + movieId);
-            });
-        
-        log.debug("Movie validated successfully - Movie ID: {}", movieId);
+        // Repeated misses are answered from the negative cache
+        if (negativeLookupCache.isMissing(NegativeLookupCache.Kind.MOVIE, movieId)) {
+            throw new ResourceNotFoundException("Movie not found with id: " + movieId);
+        }
         
+        ShowBrowseEvent trace = ShowBrowseEvent.start(movieId, city);
         LocalDateTime startDateTime = date.atStartOfDay();
         LocalDateTime endDateTime = date.atTime(LocalTime.MAX);
         
@@ -56,11 +56,13 @@ public class ShowBrowsingServiceImpl implements ShowBrowsingService {
             movieId, city, startDateTime, endDateTime
         );
         
-        log.info("Found {} shows for Movie ID: {} in City: {} on Date: {}", 
+        log.debug("Found {} shows for Movie ID: {} in City: {} on Date: {}", 
             shows.size(), movieId, city, date);
         
         if (shows.isEmpty()) {
-            log.warn("No shows found for the given criteria - Movie ID: {}, City: {}, Date: {}", 
+            // Shows prove the movie exists, so only an empty result needs the extra lookup
+            validateMovieExists(movieId);
+            log.debug("No shows found for the given criteria - Movie ID: {}, City: {}, Date: {}", 
                 movieId, city, date);
         }
         
@@ -69,10 +71,20 @@ public class ShowBrowsingServiceImpl implements ShowBrowsingService {
             .collect(Collectors.toList());
         
         log.debug("Successfully converted {} shows to DTOs", showDTOs.size());
+        ShowBrowseEvent.end(trace, showDTOs.size());
         
         return showDTOs;
     }
     
+    private void validateMovieExists(Long movieId) {
+        movieRepository.findById(movieId)
+            .orElseThrow(() -> {
+                log.debug("Movie not found - Movie ID: {}", movieId);
+                negativeLookupCache.recordMissing(NegativeLookupCache.Kind.MOVIE, movieId);
+                return new ResourceNotFoundException("Movie not found with id: " + movieId);
+            });
+    }
+    
     /**
      * Helper method to convert Show entity to DTO
      * Demonstrates Single Responsibility - separation of conversion logic
@@ -87,7 +99,7 @@ public class ShowBrowsingServiceImpl implements ShowBrowsingService {
         dto.setTheatreCity(show.getTheatre().getCity());
         dto.setTheatreAddress(show.getTheatre().getAddress());
         dto.setShowDateTime(show.getShowDateTime());
-        dto.setBasePrice(show.getBasePrice());
+        dto.setBasePriceMinor(show.getBasePriceMinor());
         dto.setShowType(show.getShowType().name());
         dto.setAvailableSeats(show.getAvailableSeats());
         return dto;
@@ -0,0 +1,99 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.entity.Show;
+import com.bookmyshow.enums.ShowType;
+import com.bookmyshow.repository.SeatRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Seat list prices of one show, laid out by seat index, plus the show attributes discount
+ * rules match on. List prices are fixed once a show is set up (demand pricing is applied on
+ * top), so a list is built with one query and then shared by every quote for the show.
+ *
+ * Immutable.
+ */
+final class ShowPriceList {
+
+    static final int MISSING = -1;
+
+    private final ShowType showType;
+    private final String city;
+    private final LocalDateTime showDateTime;
+    private final long[] prices;
+    private final int[] seatTypeBits;
+    private final String[] seatNumbers;
+    private final Map<Long, Integer> indexById;
+
+    private ShowPriceList(Show show, int size) {
+        this.showType = show.getShowType();
+        this.city = show.getTheatre().getCity();
+        this.showDateTime = show.getShowDateTime();
+        this.prices = new long[size];
+        this.seatTypeBits = new int[size];
+        this.seatNumbers = new String[size];
+        this.indexById = new HashMap<>(size * 2);
+    }
+
+    static ShowPriceList of(Show show, List<SeatRepository.SeatPrice> seats) {
+        int size = 0;
+        for (SeatRepository.SeatPrice seat : seats) {
+            size = Math.max(size, seat.getSeatIndex() + 1);
+        }
+        ShowPriceList list = new ShowPriceList(show, size);
+        for (SeatRepository.SeatPrice seat : seats) {
+            int index = seat.getSeatIndex();
+            list.prices[index] = seat.getPriceMinor();
+            list.seatTypeBits[index] = 1 << seat.getSeatType().ordinal();
+            list.seatNumbers[index] = seat.getSeatNumber();
+            list.indexById.put(seat.getId(), index);
+        }
+        return list;
+    }
+
+    /**
+     * @return The seat's index, or MISSING if the show has no such seat
+     */
+    int indexOf(Long seatId) {
+        return indexById.getOrDefault(seatId, MISSING);
+    }
+
+    /**
+     * @return The index itself if the show has a seat there, otherwise MISSING
+     */
+    int checkIndex(Integer seatIndex) {
+        return seatIndex != null && seatIndex >= 0 && seatIndex < prices.length && seatNumbers[seatIndex] != null
+            ? seatIndex : MISSING;
+    }
+
+    long price(int index) {
+        return prices[index];
+    }
+
+    int seatTypeBit(int index) {
+        return seatTypeBits[index];
+    }
+
+    String seatNumber(int index) {
+        return seatNumbers[index];
+    }
+
+    ShowType showType() {
+        return showType;
+    }
+
+    String city() {
+        return city;
+    }
+
+    int showHour() {
+        return showDateTime.getHour();
+    }
+
+    boolean hasStartedBy(LocalDateTime time) {
+        return showDateTime.isBefore(time);
+    }
+}
@@ -0,0 +1,59 @@
+package com.bookmyshow.service.impl;
+
+/**
+ * Count of events over the last window, kept in a ring buffer of fixed-width slots
+ *
+ * Each slot holds the count for one slot-width of time; a running sum is kept alongside,
+ * so adding and reading are O(1) apart from clearing the slots that fell out of the
+ * window since the last call (at most one pass over the ring). The window slides in
+ * whole slots, so the oldest slot may cover up to one slot-width less than the window.
+ */
+class SlidingWindowCounter {
+
+    private final long slotMs;
+    private final long[] slots;
+
+    private long currentSlot;
+    private long sum;
+
+    SlidingWindowCounter(int slotCount, long slotMs, long startMillis) {
+        if (slotCount <= 0 || slotMs <= 0) {
+            throw new IllegalArgumentException("Sliding window needs at least one slot of positive width");
+        }
+        this.slotMs = slotMs;
+        this.slots = new long[slotCount];
+        this.currentSlot = startMillis / slotMs;
+    }
+
+    synchronized void add(long count, long nowMillis) {
+        advance(nowMillis);
+        slots[(int) (currentSlot % slots.length)] += count;
+        sum += count;
+    }
+
+    /**
+     * @return Events counted within the window ending now
+     */
+    synchronized long sum(long nowMillis) {
+        advance(nowMillis);
+        return sum;
+    }
+
+    long windowMillis() {
+        return slotMs * slots.length;
+    }
+
+    private void advance(long nowMillis) {
+        long nowSlot = nowMillis / slotMs;
+        if (nowSlot <= currentSlot) {
+            return; // Same slot, or a clock step backwards that is counted in the current slot
+        }
+        long expired = Math.min(nowSlot - currentSlot, slots.length);
+        for (long slot = nowSlot - expired + 1; slot <= nowSlot; slot++) {
+            int index = (int) (slot % slots.length);
+            sum -= slots[index];
+            slots[index] = 0;
+        }
+        currentSlot = nowSlot;
+    }
+}
@@ -0,0 +1,89 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.PaymentCallback;
+import com.bookmyshow.security.HmacSigner;
+import com.bookmyshow.service.PaymentGateway;
+import com.bookmyshow.util.Money;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * In-process stand-in for a payment provider (booking.payment.gateway=stub)
+ * Settles every payment after a fixed delay and delivers a callback signed with the
+ * webhook secret, exactly as a real provider would post to /api/payments/callback.
+ * Payments are kept by idempotency key until they settle, so a repeated request gets the same payment.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.payment.gateway", havingValue = "stub", matchIfMissing = true)
+@Slf4j
+public class StubPaymentGateway implements PaymentGateway {
+
+    @Value("${booking.payment.webhook-secret:${jwt.secret}}")
+    private String webhookSecret;
+
+    @Value("${booking.payment.latency-ms:2000}")
+    private long latencyMs;
+
+    @Value("${booking.payment.failure-rate:0.0}")
+    private double failureRate;
+
+    private final Map<String, String> pendingByKey = new ConcurrentHashMap<>();
+
+    private HmacSigner signer;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void start() {
+        signer = new HmacSigner(webhookSecret);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "payment-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public String requestPayment(String bookingReference, String idempotencyKey, long amountMinor,
+                                 Consumer<PaymentCallback> callback) {
+        return pendingByKey.computeIfAbsent(idempotencyKey,
+            key -> startPayment(bookingReference, key, amountMinor, callback));
+    }
+
+    private String startPayment(String bookingReference, String idempotencyKey, long amountMinor,
+                                Consumer<PaymentCallback> callback) {
+        String paymentId = "PAY" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
+        boolean succeeds = ThreadLocalRandom.current().nextDouble() >= failureRate;
+        log.debug("Stub payment started - Payment: {}, Reference: {}, Amount: ₹{}",
+            paymentId, bookingReference, Money.toMajor(amountMinor));
+        scheduler.schedule(() -> {
+            pendingByKey.remove(idempotencyKey);
+            PaymentCallback result = new PaymentCallback(bookingReference, paymentId,
+                succeeds ? "SUCCESS" : "FAILED", null);
+            result.setSignature(signer.sign(result.signedPayload()));
+            try {
+                callback.accept(result);
+            } catch (RuntimeException e) {
+                log.warn("Payment callback rejected - Payment: {}, Error: {}", paymentId, e.getMessage());
+            }
+        }, latencyMs, TimeUnit.MILLISECONDS);
+        return paymentId;
+    }
+}
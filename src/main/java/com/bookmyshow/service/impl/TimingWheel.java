@@ -0,0 +1,124 @@
+package com.bookmyshow.service.impl;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Hashed timing wheel for hold deadlines
+ *
+ * Each slot covers one tick and stores (id, deadline) pairs in primitive arrays, so an
+ * entry costs 16 bytes and scheduling is O(1) whatever the number of open holds.
+ * Deadlines more than one rotation away simply stay in their slot until a later pass
+ * finds them due. Scheduling threads share the read lock and only synchronise on their
+ * slot; the sweeper takes the write lock while it drains.
+ */
+class TimingWheel {
+
+    private final long tickMs;
+    private final int mask;
+    private final Slot[] slots;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long lastTick;
+
+    TimingWheel(int size, long tickMs, long startMillis) {
+        if (Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Timing wheel size must be a power of two: " + size);
+        }
+        this.tickMs = tickMs;
+        this.mask = size - 1;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        this.lastTick = startMillis / tickMs;
+    }
+
+    void schedule(long id, long deadlineMillis) {
+        lock.readLock().lock();
+        try {
+            // First tick at or after the deadline; anything already due goes into the next slot visited
+            long tick = Math.max(Math.floorDiv(deadlineMillis + tickMs - 1, tickMs), lastTick + 1);
+            Slot slot = slots[(int) (tick & mask)];
+            synchronized (slot) {
+                slot.add(id, deadlineMillis);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the ids of every entry due at or before the given time
+     */
+    long[] advance(long nowMillis) {
+        lock.writeLock().lock();
+        try {
+            long nowTick = nowMillis / tickMs;
+            if (nowTick <= lastTick) {
+                return new long[0];
+            }
+            long passed = Math.min(nowTick - lastTick, slots.length);
+            long[] due = new long[0];
+            for (long tick = nowTick - passed + 1; tick <= nowTick; tick++) {
+                due = slots[(int) (tick & mask)].drainDue(nowMillis, due);
+            }
+            lastTick = nowTick;
+            return due;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.writeLock().lock();
+        try {
+            int total = 0;
+            for (Slot slot : slots) {
+                total += slot.count;
+            }
+            return total;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static final class Slot {
+        private long[] ids = new long[4];
+        private long[] deadlines = new long[4];
+        private int count;
+
+        private void add(long id, long deadline) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                deadlines = Arrays.copyOf(deadlines, count * 2);
+            }
+            ids[count] = id;
+            deadlines[count] = deadline;
+            count++;
+        }
+
+        /**
+         * Appends due ids to the given array and compacts the rest in place
+         */
+        private long[] drainDue(long nowMillis, long[] due) {
+            int kept = 0;
+            int dueCount = due.length;
+            for (int i = 0; i < count; i++) {
+                if (deadlines[i] <= nowMillis) {
+                    if (dueCount == due.length) {
+                        due = Arrays.copyOf(due, Math.max(8, dueCount * 2));
+                    }
+                    due[dueCount++] = ids[i];
+                } else {
+                    ids[kept] = ids[i];
+                    deadlines[kept] = deadlines[i];
+                    kept++;
+                }
+            }
+            count = kept;
+            return dueCount == due.length ? due : Arrays.copyOf(due, dueCount);
+        }
+    }
+}
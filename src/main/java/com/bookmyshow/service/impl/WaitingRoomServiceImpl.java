@@ -0,0 +1,361 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.QueueStatusResponse;
+import com.bookmyshow.exception.BookingException;
+import com.bookmyshow.exception.WaitingRoomException;
+import com.bookmyshow.security.HmacSigner;
+import com.bookmyshow.service.WaitingRoomService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WaitingRoomServiceImpl
+ * Demonstrates:
+ * - Single Responsibility Principle: Only handles admission into the booking path
+ *
+ * Every show with an active room hands out monotonically increasing sequence numbers.
+ * A scheduler tick advances the per-show "admitted up to" watermark at the current
+ * admission rate, so a ticket's position is just its sequence minus the watermark:
+ * joining and polling are O(1) and never touch the database. The tick has a thread of its
+ * own, so the database-heavy scheduled jobs cannot hold admissions back at peak load.
+ * An admitted ticket is good for one booking: checkAdmission takes it, and only a failed
+ * booking hands it back; once a ticket has expired its sequence is forgotten, as it can no
+ * longer be presented. Tickets carry the epoch of their room, so a room that is disabled
+ * and enabled again does not honour the sequence numbers of the one before.
+ * The rate follows an AIMD controller driven by the observed booking latency.
+ */
+@Service
+@Slf4j
+public class WaitingRoomServiceImpl implements WaitingRoomService {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @Value("${booking.waiting-room.secret:${jwt.secret}}")
+    private String ticketSecret;
+
+    @Value("${booking.waiting-room.ticket-ttl-seconds:900}")
+    private long ticketTtlSeconds;
+
+    @Value("${booking.waiting-room.tick-ms:100}")
+    private long tickMs;
+
+    @Value("${booking.waiting-room.initial-rate:50}")
+    private double initialRate;
+
+    @Value("${booking.waiting-room.min-rate:5}")
+    private double minRate;
+
+    @Value("${booking.waiting-room.max-rate:500}")
+    private double maxRate;
+
+    @Value("${booking.waiting-room.target-latency-ms:250}")
+    private long targetLatencyMs;
+
+    @Value("${booking.waiting-room.rate-increase-step:5}")
+    private double rateIncreaseStep;
+
+    @Value("${booking.waiting-room.rate-decrease-factor:0.7}")
+    private double rateDecreaseFactor;
+
+    private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong lastEpoch = new AtomicLong();
+
+    private final AtomicLong latencySumNanos = new AtomicLong();
+    private final AtomicLong latencyCount = new AtomicLong();
+
+    private volatile double admissionRate = -1;
+
+    private HmacSigner signer;
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    public void start() {
+        signer = new HmacSigner(ticketSecret);
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "waiting-room-admission");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+    }
+
+    @Override
+    public void enable(Long showId) {
+        rooms.computeIfAbsent(showId, id -> new Room(nextEpoch()));
+        log.info("Waiting room enabled - Show ID: {}", showId);
+    }
+
+    @Override
+    public void disable(Long showId) {
+        rooms.remove(showId);
+        log.info("Waiting room disabled - Show ID: {}", showId);
+    }
+
+    @Override
+    public boolean isEnabled(Long showId) {
+        return rooms.containsKey(showId);
+    }
+
+    @Override
+    public QueueStatusResponse join(Long showId, String username) {
+        Room room = rooms.get(showId);
+        if (room == null) {
+            return new QueueStatusResponse(null, showId, 0, true, 0);
+        }
+        long issuedAt = System.currentTimeMillis(); // Read before the sequence is taken, see Room.forgetExpired
+        long sequence = room.issued.incrementAndGet();
+        String ticket = sign(showId + ":" + room.epoch + ":" + sequence + ":" + issuedAt + ":" + username);
+        return toStatus(ticket, showId, sequence, room);
+    }
+
+    @Override
+    public QueueStatusResponse status(String ticket, String username) {
+        Ticket parsed = verify(ticket, username);
+        Room room = rooms.get(parsed.showId);
+        if (room == null) {
+            return new QueueStatusResponse(ticket, parsed.showId, 0, true, 0);
+        }
+        requireCurrentRoom(parsed, room);
+        return toStatus(ticket, parsed.showId, parsed.sequence, room);
+    }
+
+    @Override
+    public void checkAdmission(Long showId, String ticket, String username) {
+        Room room = rooms.get(showId);
+        if (room == null) {
+            return;
+        }
+        if (ticket == null || ticket.isEmpty()) {
+            throw new WaitingRoomException("Waiting room is active for show " + showId + ", join the queue first", 1);
+        }
+        Ticket parsed = verify(ticket, username);
+        if (!parsed.showId.equals(showId)) {
+            throw new BookingException("Queue ticket was issued for a different show");
+        }
+        requireCurrentRoom(parsed, room);
+        long position = parsed.sequence - room.admittedUpTo;
+        if (position > 0) {
+            throw new WaitingRoomException("Not admitted yet, queue position " + position,
+                estimateWaitSeconds(position));
+        }
+        if (!room.used.add(parsed.sequence)) {
+            throw new BookingException("Queue ticket was already used for a booking, join the queue again");
+        }
+    }
+
+    @Override
+    public void releaseAdmission(Long showId, String ticket, String username) {
+        Room room = rooms.get(showId);
+        if (room == null || ticket == null || ticket.isEmpty()) {
+            return;
+        }
+        Ticket parsed = verify(ticket, username);
+        if (parsed.showId.equals(showId) && parsed.epoch == room.epoch) {
+            room.used.remove(parsed.sequence);
+        }
+    }
+
+    @Override
+    public void recordBookingLatency(long latencyNanos) {
+        latencySumNanos.addAndGet(latencyNanos);
+        latencyCount.incrementAndGet();
+    }
+
+    /**
+     * Admission tick: adapt the rate to the latency seen since the last tick,
+     * then move every room's admission watermark forward and drop its expired used tickets.
+     */
+    public void admit() {
+        admit(System.currentTimeMillis());
+    }
+
+    void admit(long nowMillis) {
+        double rate = adaptRate();
+        if (rooms.isEmpty()) {
+            return;
+        }
+        double perTick = rate * tickMs / 1000.0;
+        long ttlMillis = TimeUnit.SECONDS.toMillis(ticketTtlSeconds);
+        rooms.values().forEach(room -> {
+            room.advance(perTick);
+            room.forgetExpired(nowMillis, ttlMillis);
+        });
+    }
+
+    /**
+     * Admitted sequences currently marked as used by a booking
+     */
+    int usedTicketCount(Long showId) {
+        Room room = rooms.get(showId);
+        return room == null ? 0 : room.used.size();
+    }
+
+    private void tick() {
+        try {
+            admit();
+        } catch (RuntimeException e) {
+            log.error("Waiting room tick failed", e); // A task that throws would not be run again
+        }
+    }
+
+    /**
+     * Current admissions per second for each active room
+     */
+    public double getAdmissionRate() {
+        return currentRate();
+    }
+
+    private double adaptRate() {
+        double rate = currentRate();
+        long count = latencyCount.getAndSet(0);
+        long sum = latencySumNanos.getAndSet(0);
+        if (count == 0) {
+            return rate;
+        }
+        long meanMs = TimeUnit.NANOSECONDS.toMillis(sum / count);
+        if (meanMs > targetLatencyMs) {
+            rate = Math.max(minRate, rate * rateDecreaseFactor);
+        } else {
+            rate = Math.min(maxRate, rate + rateIncreaseStep);
+        }
+        admissionRate = rate;
+        return rate;
+    }
+
+    private double currentRate() {
+        double rate = admissionRate;
+        if (rate < 0) {
+            rate = initialRate;
+            admissionRate = rate;
+        }
+        return rate;
+    }
+
+    private long nextEpoch() {
+        // Rising across restarts too, so tickets of an earlier process do not match a new room
+        return lastEpoch.updateAndGet(last -> Math.max(last + 1, System.currentTimeMillis()));
+    }
+
+    private static void requireCurrentRoom(Ticket ticket, Room room) {
+        if (ticket.epoch != room.epoch) {
+            throw new BookingException("Queue ticket is from an earlier waiting room, join the queue again");
+        }
+    }
+
+    private QueueStatusResponse toStatus(String ticket, Long showId, long sequence, Room room) {
+        long position = Math.max(0, sequence - room.admittedUpTo);
+        return new QueueStatusResponse(ticket, showId, position, position == 0, estimateWaitSeconds(position));
+    }
+
+    private long estimateWaitSeconds(long position) {
+        return position == 0 ? 0 : (long) Math.ceil(position / currentRate());
+    }
+
+    private String sign(String payload) {
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        byte[] signature = signer.sign(payloadBytes);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(signature);
+    }
+
+    private Ticket verify(String ticket, String username) {
+        try {
+            int dot = ticket.indexOf('.');
+            if (dot < 0) {
+                throw new BookingException("Invalid queue ticket");
+            }
+            byte[] payloadBytes = DECODER.decode(ticket.substring(0, dot));
+            byte[] signature = DECODER.decode(ticket.substring(dot + 1));
+            if (!signer.verify(payloadBytes, signature)) {
+                throw new BookingException("Invalid queue ticket");
+            }
+            String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split(":", 5);
+            long issuedAt = Long.parseLong(parts[3]);
+            if (!parts[4].equals(username)) {
+                throw new BookingException("Queue ticket was issued to a different user");
+            }
+            if (System.currentTimeMillis() - issuedAt > TimeUnit.SECONDS.toMillis(ticketTtlSeconds)) {
+                throw new BookingException("Queue ticket has expired");
+            }
+            return new Ticket(Long.valueOf(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new BookingException("Invalid queue ticket");
+        }
+    }
+
+    private record Ticket(Long showId, long epoch, long sequence) {
+    }
+
+    /**
+     * Queue state for one show. Only the admission thread writes the watermark and credit,
+     * and only it touches the issue checkpoints.
+     */
+    private static final class Room {
+        private final long epoch;
+        private final AtomicLong issued = new AtomicLong();
+        private final NavigableSet<Long> used = new ConcurrentSkipListSet<>(); // Admitted sequences taken by a booking
+        private final ArrayDeque<long[]> issuedBefore = new ArrayDeque<>(); // {time, sequence}, at most one per tick
+        private long lastIssued;
+        private volatile long admittedUpTo;
+        private double credit;
+
+        private Room(long epoch) {
+            this.epoch = epoch;
+        }
+
+        private void advance(double perTick) {
+            long waiting = issued.get() - admittedUpTo;
+            if (waiting <= 0) {
+                // Nobody queued: do not bank admissions for a later burst
+                credit = Math.min(credit + perTick, Math.max(perTick, 1.0));
+                return;
+            }
+            credit += perTick;
+            long admitted = Math.min((long) credit, waiting);
+            if (admitted > 0) {
+                credit -= admitted;
+                admittedUpTo += admitted;
+            }
+        }
+
+        /**
+         * Drops used sequences whose tickets have expired. Every sequence up to the one read on the
+         * previous tick was issued before this tick's time, because join reads its issue time before
+         * taking a sequence; once that time is older than the TTL, none of them can be presented again.
+         */
+        private void forgetExpired(long nowMillis, long ttlMillis) {
+            long[] newest = issuedBefore.peekLast();
+            if (lastIssued > (newest == null ? 0 : newest[1])) {
+                issuedBefore.addLast(new long[] {nowMillis, lastIssued});
+            }
+            lastIssued = issued.get();
+            long expiredUpTo = 0;
+            while (!issuedBefore.isEmpty() && nowMillis - issuedBefore.peekFirst()[0] > ttlMillis) {
+                expiredUpTo = issuedBefore.pollFirst()[1];
+            }
+            if (expiredUpTo > 0) {
+                used.headSet(expiredUpTo, true).clear();
+            }
+        }
+    }
+}
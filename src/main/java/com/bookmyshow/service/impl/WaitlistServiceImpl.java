@@ -0,0 +1,395 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.BookingRequest;
+import com.bookmyshow.dto.BookingResponse;
+import com.bookmyshow.dto.WaitlistEntryResponse;
+import com.bookmyshow.dto.WaitlistRequest;
+import com.bookmyshow.enums.SeatType;
+import com.bookmyshow.enums.WaitlistStatus;
+import com.bookmyshow.event.SeatsReleasedEvent;
+import com.bookmyshow.exception.BookingException;
+import com.bookmyshow.exception.ResourceNotFoundException;
+import com.bookmyshow.exception.ServiceOverloadedException;
+import com.bookmyshow.exception.SoldOutException;
+import com.bookmyshow.repository.SeatRepository;
+import com.bookmyshow.repository.SeatRepository.FreeSeat;
+import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.service.BookingService;
+import com.bookmyshow.service.NegativeLookupCache;
+import com.bookmyshow.service.WaitlistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WaitlistServiceImpl
+ * Demonstrates:
+ * - Single Responsibility Principle: Only handles waitlist queueing and seat offers
+ * - Dependency Inversion Principle: Offers are made through BookingService holds
+ *
+ * Joining is an in-memory enqueue, so sold-out traffic no longer reaches the seats
+ * table. Released seats only mark their show for allocation; a scheduled pass then
+ * reads the show's free seats once and walks the queue in FIFO order, offering each
+ * entry whose seat count and type can be met as a PENDING hold. Entries that cannot
+ * be served yet keep their place and do not block smaller requests behind them.
+ * Once the show has started its waitlist is closed, whether or not seats came free.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistServiceImpl implements WaitlistService {
+
+    private final BookingService bookingService;
+    private final ShowRepository showRepository;
+    private final SeatRepository seatRepository;
+    private final NegativeLookupCache negativeLookupCache;
+
+    @Value("${booking.waitlist.batch-size:50}")
+    private int batchSize;
+
+    @Value("${booking.waitlist.max-per-show:10000}")
+    private int maxPerShow;
+
+    @Value("${booking.waitlist.result-ttl-seconds:3600}")
+    private long resultTtlSeconds;
+
+    private final Map<Long, ShowWaitlist> waitlists = new ConcurrentHashMap<>();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<Long> showsToAllocate = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public WaitlistEntryResponse join(Long showId, WaitlistRequest request, String username) {
+        ShowWaitlist waitlist = waitlists.get(showId);
+        if (waitlist == null) {
+            LocalDateTime startsAt = (negativeLookupCache.isMissing(NegativeLookupCache.Kind.SHOW, showId)
+                    ? Optional.<LocalDateTime>empty() : showRepository.findShowDateTimeById(showId))
+                .orElseThrow(() -> {
+                    negativeLookupCache.recordMissing(NegativeLookupCache.Kind.SHOW, showId);
+                    return new ResourceNotFoundException("Show not found: " + showId);
+                });
+            requireNotStarted(showId, startsAt);
+            waitlist = waitlists.computeIfAbsent(showId, id -> new ShowWaitlist(startsAt));
+        }
+        requireNotStarted(showId, waitlist.startsAt);
+
+        Entry entry;
+        synchronized (waitlist) {
+            Entry existing = waitlist.byUser.get(username);
+            if (existing != null) {
+                return toResponse(existing, waitlist); // Retried join keeps its place
+            }
+            if (waitlist.queue.size() >= maxPerShow) {
+                throw new ServiceOverloadedException("Waitlist for show " + showId + " is full", 60);
+            }
+            entry = new Entry(UUID.randomUUID().toString(), showId, username, request.getSeatCount(), request.getSeatType());
+            waitlist.queue.addLast(entry);
+            waitlist.byUser.put(username, entry);
+        }
+        entries.put(entry.entryId, entry);
+        // Seats may have come back between the sold-out answer and this join
+        showsToAllocate.add(showId);
+        log.info("Waitlist joined - Show ID: {}, User: {}, Seats: {}, Type: {}",
+            showId, username, entry.seatCount, entry.seatType);
+        return toResponse(entry, waitlist);
+    }
+
+    @Override
+    public WaitlistEntryResponse getEntry(String entryId, String username) {
+        Entry entry = findEntry(entryId, username);
+        return toResponse(entry, waitlists.get(entry.showId));
+    }
+
+    @Override
+    public void leave(String entryId, String username) {
+        Entry entry = findEntry(entryId, username);
+        ShowWaitlist waitlist = waitlists.get(entry.showId);
+        synchronized (waitlist) {
+            if (entry.status == WaitlistStatus.WAITING) {
+                waitlist.remove(entry);
+                entry.finish(WaitlistStatus.LEFT, null);
+            }
+        }
+    }
+
+    /**
+     * Released seats only flag the show; allocation is batched on the next pass
+     */
+    @TransactionalEventListener
+    public void onSeatsReleased(SeatsReleasedEvent event) {
+        if (waitlists.containsKey(event.showId())) {
+            showsToAllocate.add(event.showId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking.waitlist.allocate-interval-ms:500}")
+    public void allocate() {
+        Iterator<Long> pending = showsToAllocate.iterator();
+        while (pending.hasNext()) {
+            Long showId = pending.next();
+            pending.remove();
+            ShowWaitlist waitlist = waitlists.get(showId);
+            if (waitlist == null) {
+                continue;
+            }
+            if (waitlist.hasStarted()) {
+                close(showId, waitlist);
+                continue;
+            }
+            try {
+                allocate(showId, waitlist);
+            } catch (RuntimeException e) {
+                // The show was already taken off the pending set; put it back or its waitlist stalls
+                log.warn("Waitlist allocation failed, retrying on the next pass - Show ID: {}, Error: {}",
+                    showId, e.getMessage());
+                showsToAllocate.add(showId);
+            }
+        }
+    }
+
+    /**
+     * Closes the waitlists of shows that have started and drops offered or abandoned
+     * entries nobody looked at within the result TTL
+     */
+    @Scheduled(fixedDelayString = "${booking.waitlist.purge-interval-ms:60000}")
+    public void purgeFinishedEntries() {
+        waitlists.forEach((showId, waitlist) -> {
+            if (waitlist.hasStarted()) {
+                close(showId, waitlist);
+            }
+        });
+        long cutoff = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(resultTtlSeconds);
+        entries.values().removeIf(entry -> entry.status != WaitlistStatus.WAITING && entry.finishedAtMillis < cutoff);
+    }
+
+    private static void requireNotStarted(Long showId, LocalDateTime startsAt) {
+        if (!startsAt.isAfter(LocalDateTime.now())) {
+            throw new BookingException("Show " + showId + " has already started");
+        }
+    }
+
+    private void close(Long showId, ShowWaitlist waitlist) {
+        waitlists.remove(showId, waitlist);
+        int closed;
+        synchronized (waitlist) {
+            closed = waitlist.queue.size();
+            waitlist.queue.forEach(entry -> entry.finish(WaitlistStatus.CLOSED, null));
+            waitlist.queue.clear();
+            waitlist.byUser.clear();
+        }
+        log.info("Waitlist closed, show has started - Show ID: {}, Entries: {}", showId, closed);
+    }
+
+    private void allocate(Long showId, ShowWaitlist waitlist) {
+        List<Entry> waiting;
+        synchronized (waitlist) {
+            if (waitlist.queue.isEmpty()) {
+                return;
+            }
+            waiting = new ArrayList<>(waitlist.queue);
+        }
+
+        FreeSeats free = new FreeSeats(seatRepository.findFreeSeatsByShowId(showId));
+        int offers = 0;
+        for (Entry entry : waiting) {
+            if (free.isEmpty()) {
+                return;
+            }
+            if (offers == batchSize) {
+                showsToAllocate.add(showId); // Continue on the next pass
+                return;
+            }
+            synchronized (waitlist) {
+                if (entry.status != WaitlistStatus.WAITING) {
+                    continue; // Left since the snapshot was taken
+                }
+            }
+            List<Integer> seatIndexes = free.take(entry.seatCount, entry.seatType);
+            if (seatIndexes == null) {
+                continue;
+            }
+            try {
+                BookingResponse hold = bookingService.holdTickets(
+                    BookingRequest.forSeatIndexes(showId, seatIndexes), entry.username);
+                boolean stillWaiting;
+                synchronized (waitlist) {
+                    stillWaiting = entry.status == WaitlistStatus.WAITING;
+                    if (stillWaiting) {
+                        waitlist.remove(entry);
+                        entry.finish(WaitlistStatus.OFFERED, hold);
+                    }
+                }
+                if (!stillWaiting) {
+                    releaseOffer(showId, entry, hold);
+                    continue;
+                }
+                offers++;
+                log.info("Waitlist offer - Show ID: {}, User: {}, Reference: {}",
+                    showId, entry.username, hold.getBookingReference());
+            } catch (BookingException | SoldOutException e) {
+                // A direct booking took these seats first; the free-seat view is stale
+                log.debug("Waitlist offer lost a race - Show ID: {}, Error: {}", showId, e.getMessage());
+                showsToAllocate.add(showId);
+                return;
+            } catch (ResourceNotFoundException e) {
+                synchronized (waitlist) {
+                    waitlist.remove(entry);
+                    entry.finish(WaitlistStatus.LEFT, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * The entry left or was closed while its hold was being made; give the seats back
+     * rather than leave them blocked until the hold expires
+     */
+    private void releaseOffer(Long showId, Entry entry, BookingResponse hold) {
+        try {
+            bookingService.cancelBooking(hold.getBookingReference(), entry.username);
+            log.info("Waitlist offer withdrawn, entry is {} - Show ID: {}, User: {}, Reference: {}",
+                entry.status, showId, entry.username, hold.getBookingReference());
+        } catch (RuntimeException e) {
+            log.warn("Could not release withdrawn waitlist offer, it expires with the hold - Reference: {}, Error: {}",
+                hold.getBookingReference(), e.getMessage());
+        }
+    }
+
+    private Entry findEntry(String entryId, String username) {
+        Entry entry = entries.get(entryId);
+        if (entry == null || !entry.username.equals(username)) {
+            throw new ResourceNotFoundException("Waitlist entry not found: " + entryId);
+        }
+        return entry;
+    }
+
+    private WaitlistEntryResponse toResponse(Entry entry, ShowWaitlist waitlist) {
+        long position = 0;
+        if (entry.status == WaitlistStatus.WAITING && waitlist != null) {
+            synchronized (waitlist) {
+                for (Entry ahead : waitlist.queue) {
+                    position++;
+                    if (ahead == entry) {
+                        break;
+                    }
+                }
+            }
+        }
+        return new WaitlistEntryResponse(entry.entryId, entry.showId, entry.seatCount,
+            entry.seatType == null ? null : entry.seatType.name(), entry.status.name(), position,
+            entry.booking, entry.joinedAt);
+    }
+
+    /**
+     * FIFO queue for one show; guarded by its own monitor
+     */
+    private static final class ShowWaitlist {
+        private final LocalDateTime startsAt;
+        private final Deque<Entry> queue = new ArrayDeque<>();
+        private final Map<String, Entry> byUser = new HashMap<>();
+
+        private ShowWaitlist(LocalDateTime startsAt) {
+            this.startsAt = startsAt;
+        }
+
+        private boolean hasStarted() {
+            return !startsAt.isAfter(LocalDateTime.now());
+        }
+
+        private void remove(Entry entry) {
+            queue.remove(entry);
+            byUser.remove(entry.username, entry);
+        }
+    }
+
+    private static final class Entry {
+        private final String entryId;
+        private final Long showId;
+        private final String username;
+        private final int seatCount;
+        private final SeatType seatType;
+        private final LocalDateTime joinedAt = LocalDateTime.now();
+
+        private volatile WaitlistStatus status = WaitlistStatus.WAITING;
+        private volatile BookingResponse booking;
+        private volatile long finishedAtMillis;
+
+        private Entry(String entryId, Long showId, String username, int seatCount, SeatType seatType) {
+            this.entryId = entryId;
+            this.showId = showId;
+            this.username = username;
+            this.seatCount = seatCount;
+            this.seatType = seatType;
+        }
+
+        private void finish(WaitlistStatus finalStatus, BookingResponse offered) {
+            booking = offered;
+            finishedAtMillis = System.currentTimeMillis();
+            status = finalStatus;
+        }
+    }
+
+    /**
+     * Free seat indexes of one show bucketed by type, consumed as offers are made
+     */
+    private static final class FreeSeats {
+        private final Map<SeatType, Deque<Integer>> byType = new EnumMap<>(SeatType.class);
+        private int remaining;
+
+        private FreeSeats(List<FreeSeat> seats) {
+            for (FreeSeat seat : seats) {
+                byType.computeIfAbsent(seat.getSeatType(), type -> new ArrayDeque<>()).addLast(seat.getSeatIndex());
+            }
+            remaining = seats.size();
+        }
+
+        private boolean isEmpty() {
+            return remaining == 0;
+        }
+
+        /**
+         * @return Seat indexes for the request, or null if it cannot be met right now
+         */
+        private List<Integer> take(int count, SeatType type) {
+            if (count > remaining) {
+                return null;
+            }
+            List<Integer> taken = new ArrayList<>(count);
+            if (type != null) {
+                Deque<Integer> ofType = byType.get(type);
+                if (ofType == null || ofType.size() < count) {
+                    return null;
+                }
+                drain(ofType, count, taken);
+            } else {
+                // Any type: keep the group within one type when possible
+                Deque<Integer> single = byType.values().stream()
+                    .filter(seats -> seats.size() >= count)
+                    .findFirst()
+                    .orElse(null);
+                if (single != null) {
+                    drain(single, count, taken);
+                } else {
+                    for (Deque<Integer> seats : byType.values()) {
+                        drain(seats, Math.min(seats.size(), count - taken.size()), taken);
+                    }
+                }
+            }
+            remaining -= count;
+            return taken;
+        }
+
+        private static void drain(Deque<Integer> from, int count, List<Integer> into) {
+            for (int i = 0; i < count; i++) {
+                into.add(from.pollFirst());
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.bookmyshow.util;
+
+import com.bookmyshow.util.RequestPhases.Phase;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the JDBC time of a Hibernate session to the request's pool and db phases
+ *
+ * Hibernate creates one listener per session (hibernate.session.events.auto, registered by
+ * ServerTimingConfig only while Server-Timing is enabled) and calls it on the session's
+ * thread, so plain fields are enough to hold the start of the running call.
+ */
+public class JdbcPhaseListener implements SessionEventListener {
+
+    private long acquisitionStart;
+    private long executionStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStart = RequestPhases.begin();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestPhases.end(Phase.POOL, acquisitionStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = RequestPhases.begin();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestPhases.end(Phase.DB, executionStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = RequestPhases.begin();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestPhases.end(Phase.DB, executionStart);
+    }
+}
@@ -0,0 +1,62 @@
+package com.bookmyshow.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point money as a primitive long count of minor units (paise; 100 per rupee)
+ *
+ * Rounding rules:
+ * - Every stored or computed amount is a whole number of minor units
+ * - Decimal input (seed data, rule files) is converted exactly, rounding half up
+ * - A fraction of an amount (percentages, per-seat shares) is rounded half up once,
+ *   after all fractions of the same base have been added together
+ * - Conversion back to a decimal number happens only for JSON and log output
+ */
+public final class Money {
+
+    public static final long MINOR_PER_MAJOR = 100;
+    public static final long BASIS_POINTS_PER_WHOLE = 10_000;
+
+    private Money() {
+    }
+
+    /**
+     * @param major Decimal amount in rupees, e.g. 199.99
+     * @return The same amount in minor units, rounded half up
+     */
+    public static long ofMajor(double major) {
+        return BigDecimal.valueOf(major).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Decimal rupee value for display; never feed it back into a calculation
+     */
+    public static double toMajor(long minor) {
+        return minor / (double) MINOR_PER_MAJOR;
+    }
+
+    /**
+     * amount * numerator / denominator, rounded half up to the nearest minor unit
+     * @throws ArithmeticException if the intermediate product overflows a long
+     */
+    public static long fraction(long amount, long numerator, long denominator) {
+        long doubled = Math.multiplyExact(Math.multiplyExact(amount, numerator), 2L);
+        return Math.floorDiv(Math.addExact(doubled, denominator), 2 * denominator);
+    }
+
+    /**
+     * @param basisPoints Hundredths of a percent, 10_000 being the whole amount
+     */
+    public static long percentOf(long amount, long basisPoints) {
+        return fraction(amount, basisPoints, BASIS_POINTS_PER_WHOLE);
+    }
+
+    /**
+     * @param percent Percentage such as 12.5
+     * @return The percentage in basis points, rounded half up
+     */
+    public static long basisPoints(double percent) {
+        return BigDecimal.valueOf(percent).movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+}
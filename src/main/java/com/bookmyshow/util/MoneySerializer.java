@@ -0,0 +1,22 @@
+package com.bookmyshow.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes a minor-unit amount as the decimal rupee number the API has always returned
+ */
+public class MoneySerializer extends StdSerializer<Long> {
+
+    public MoneySerializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public void serialize(Long minor, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeNumber(Money.toMajor(minor));
+    }
+}
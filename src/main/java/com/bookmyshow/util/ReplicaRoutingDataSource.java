@@ -0,0 +1,270 @@
+package com.bookmyshow.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends the read-only transactions of threads that opted in to read replicas, all others to the primary
+ *
+ * A replica may trail the primary by up to maxLagMs, so only reads that can live with that
+ * opt in, through allowReplicaReads() (see @ReplicaReads): a booking read right after it was
+ * made, or the seats a booking is about to claim, must see the primary. Read-only alone is
+ * not enough, since Spring Data runs every repository call outside a transaction read-only.
+ *
+ * The transaction manager marks a read-only transaction's connection read-only before its
+ * first statement, and this proxy only takes a pooled connection at that statement, from a
+ * replica when the connection is read-only and the thread opted in. Replicas are picked round
+ * robin among those that passed the last health check; with none left, or when the picked one
+ * cannot hand out a connection, reads go to the primary.
+ *
+ * Health is measured through replication itself: every check writes the time into
+ * replica_heartbeat on the primary and reads the previous check's value back from each
+ * replica. A replica is healthy when that read succeeds and its heartbeat trails the
+ * primary's by no more than maxLagMs, to within one check interval.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    static final String CREATE_HEARTBEAT = "CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)";
+    static final String READ_HEARTBEAT = "SELECT beat_at FROM replica_heartbeat WHERE id = 1";
+    private static final String UPDATE_HEARTBEAT = "UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1";
+    private static final String INSERT_HEARTBEAT = "INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)";
+
+    private static final ThreadLocal<Boolean> REPLICA_READS = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagMs;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter fallbacks;
+
+    private volatile Replica[] healthy = new Replica[0];
+    private volatile long lastBeat; // beat_at last committed on the primary, 0 before the first
+    private ScheduledExecutorService healthCheck;
+
+    /**
+     * Replicas take no reads until the first health check
+     *
+     * @param replicas Replica pools by name, in round robin order
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    long maxLagMs, MeterRegistry meterRegistry) {
+        super(primary);
+        this.primary = primary;
+        this.maxLagMs = maxLagMs;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        setReadOnlyDataSource(new ReplicaDataSource());
+
+        for (Replica replica : this.replicas) {
+            Gauge.builder("db.replica.lag", replica, r -> r.lagMs)
+                .description("How far the replica's heartbeat trails the primary's, while it is reachable")
+                .baseUnit("milliseconds")
+                .tag("replica", replica.name)
+                .register(meterRegistry);
+            Gauge.builder("db.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                .tag("replica", replica.name)
+                .register(meterRegistry);
+        }
+        fallbacks = Counter.builder("db.replica.fallbacks")
+            .description("Read-only connections taken from the primary because no replica could serve them")
+            .register(meterRegistry);
+
+        try (Connection connection = primary.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_HEARTBEAT);
+        } catch (SQLException e) {
+            log.warn("Could not create replica_heartbeat on the primary, replicas will not be read from: {}", e.getMessage());
+        }
+        writeHeartbeat();
+    }
+
+    /**
+     * Lets the read-only transactions this thread starts until clearReplicaReads() read from a replica
+     */
+    public static void allowReplicaReads() {
+        REPLICA_READS.set(Boolean.TRUE);
+    }
+
+    public static void clearReplicaReads() {
+        REPLICA_READS.remove();
+    }
+
+    /**
+     * Runs the health check every intervalMs on a thread of its own, so that a replica slow to
+     * answer does not hold up the application's scheduled tasks
+     */
+    public synchronized void start(long intervalMs) {
+        if (healthCheck != null) {
+            return;
+        }
+        healthCheck = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthCheck.scheduleWithFixedDelay(this::checkReplicas, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Measures each replica against the heartbeat of the previous check, then writes the next one
+     */
+    public synchronized void checkReplicas() {
+        List<Replica> up = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.check(lastBeat, maxLagMs)) {
+                up.add(replica);
+            }
+        }
+        healthy = up.toArray(new Replica[0]);
+        writeHeartbeat();
+    }
+
+    /**
+     * @return Names of the replicas read-only transactions currently go to
+     */
+    public List<String> getHealthyReplicas() {
+        List<String> names = new ArrayList<>();
+        for (Replica replica : healthy) {
+            names.add(replica.name);
+        }
+        return names;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (healthCheck != null) {
+            healthCheck.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void writeHeartbeat() {
+        long beat = System.currentTimeMillis();
+        try (Connection connection = primary.getConnection()) {
+            connection.setAutoCommit(true);
+            if (update(connection, UPDATE_HEARTBEAT, beat) == 0) {
+                update(connection, INSERT_HEARTBEAT, beat);
+            }
+            lastBeat = beat;
+        } catch (SQLException e) {
+            log.warn("Could not write the replica heartbeat on the primary: {}", e.getMessage());
+        }
+    }
+
+    private static int update(Connection connection, String sql, long beat) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, beat);
+            return statement.executeUpdate();
+        }
+    }
+
+    private Connection readOnlyConnection(ReplicaConnection open) throws SQLException {
+        if (REPLICA_READS.get() == null) {
+            return open.from(primary); // Must see the latest writes
+        }
+        Replica[] candidates = healthy;
+        if (candidates.length > 0) {
+            Replica replica = candidates[Math.floorMod(next.getAndIncrement(), candidates.length)];
+            try {
+                return open.from(replica.dataSource);
+            } catch (SQLException e) {
+                // Went down since the last check; the next check takes it out of rotation
+                log.warn("Replica {} gave no connection, reading from the primary: {}", replica.name, e.getMessage());
+            }
+        }
+        fallbacks.increment();
+        return open.from(primary);
+    }
+
+    @FunctionalInterface
+    private interface ReplicaConnection {
+        Connection from(DataSource dataSource) throws SQLException;
+    }
+
+    /**
+     * Where LazyConnectionDataSourceProxy takes the connections of read-only transactions
+     */
+    private final class ReplicaDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return readOnlyConnection(DataSource::getConnection);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return readOnlyConnection(dataSource -> dataSource.getConnection(username, password));
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile double lagMs = Double.NaN; // NaN while there is no heartbeat to measure
+        private boolean checked; // Guarded by checkReplicas
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        /**
+         * @return Whether the replica is reachable and within maxLagMs of the primary's heartbeat
+         */
+        private boolean check(long primaryBeat, long maxLagMs) {
+            String problem;
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery(READ_HEARTBEAT)) {
+                if (result.next()) {
+                    long lag = Math.max(0, primaryBeat - result.getLong(1));
+                    lagMs = lag;
+                    problem = lag <= maxLagMs ? null : "lags " + lag + " ms behind the primary (limit " + maxLagMs + " ms)";
+                } else {
+                    lagMs = Double.NaN;
+                    problem = "has no heartbeat row";
+                }
+            } catch (SQLException e) {
+                lagMs = Double.NaN;
+                problem = "is unreachable: " + e.getMessage();
+            }
+            boolean nowHealthy = problem == null;
+            if (!checked || nowHealthy != healthy) {
+                if (nowHealthy) {
+                    log.info("Replica {} is taking reads, lag {} ms", name, (long) lagMs);
+                } else {
+                    log.warn("Replica {} {}, not reading from it", name, problem);
+                }
+            }
+            checked = true;
+            healthy = nowHealthy;
+            return nowHealthy;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.bookmyshow.util;
+
+import java.util.Arrays;
+
+/**
+ * Per-request phase clock behind the Server-Timing header
+ *
+ * ServerTimingFilter calls start() and stop() around each API request; in between, the
+ * instrumented code adds the time it spent to its phase:
+ *
+ *   long began = RequestPhases.begin();
+ *   ...
+ *   RequestPhases.end(Phase.DB, began);
+ *
+ * Phases nest (service includes db and commit), so they do not add up to the total.
+ * Times live in a per-thread array that is reused across requests, so timing allocates
+ * nothing. On a thread that is not timing, begin() returns 0 without reading the clock
+ * and end() ignores it, so instrumented code costs one ThreadLocal lookup when disabled.
+ * Work on other threads, such as the parallel prefetch lookups, is not timed.
+ */
+public final class RequestPhases {
+
+    public enum Phase {
+        JWT("jwt"),                    // Token parsing and signature check
+        USER("user"),                  // User lookup for the token's subject
+        POOL("pool"),                  // Waiting for a pooled connection
+        DB("db"),                      // Executing SQL statements
+        COMMIT("commit"),              // Flush and commit of the transaction
+        SERVICE("service"),            // Controller and service, from handler start to response body
+        SERIALIZATION("serialization"); // Writing the response body, after the header has gone out
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    private static final int PHASES = Phase.values().length;
+    private static final int STARTED_AT = PHASES;
+    private static final int ACTIVE = PHASES + 1;
+
+    private static final ThreadLocal<long[]> TIMES = new ThreadLocal<>();
+
+    private RequestPhases() {
+    }
+
+    public static void start() {
+        long[] times = TIMES.get();
+        if (times == null) {
+            times = new long[PHASES + 2];
+            TIMES.set(times);
+        }
+        Arrays.fill(times, 0);
+        times[STARTED_AT] = System.nanoTime();
+        times[ACTIVE] = 1;
+    }
+
+    public static void stop() {
+        long[] times = TIMES.get();
+        if (times != null) {
+            times[ACTIVE] = 0;
+        }
+    }
+
+    public static boolean isTiming() {
+        long[] times = TIMES.get();
+        return times != null && times[ACTIVE] != 0;
+    }
+
+    /**
+     * @return Start of a phase, or 0 if this thread is not timing
+     */
+    public static long begin() {
+        return isTiming() ? System.nanoTime() : 0;
+    }
+
+    public static void end(Phase phase, long began) {
+        if (began != 0) {
+            add(phase, System.nanoTime() - began);
+        }
+    }
+
+    public static void add(Phase phase, long nanos) {
+        long[] times = TIMES.get();
+        if (times != null && times[ACTIVE] != 0) {
+            times[phase.ordinal()] += nanos;
+        }
+    }
+
+    /**
+     * @return Time spent in the phase so far; still readable after stop()
+     */
+    public static long nanos(Phase phase) {
+        long[] times = TIMES.get();
+        return times == null ? 0 : times[phase.ordinal()];
+    }
+
+    /**
+     * @return Time since start()
+     */
+    public static long elapsedNanos() {
+        long[] times = TIMES.get();
+        return times == null ? 0 : System.nanoTime() - times[STARTED_AT];
+    }
+}
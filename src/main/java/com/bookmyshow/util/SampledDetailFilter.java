@@ -0,0 +1,45 @@
+package com.bookmyshow.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+
+/**
+ * Logback turbo filter that lets DEBUG detail through for sampled requests only
+ *
+ * Requests picked by SampledLoggingFilter carry the MDC key below; for them, DEBUG
+ * statements of the listed loggers are logged whatever the configured level, so one
+ * request in N shows every step (and its SQL) while the rest pay for an INFO level check.
+ * Configured in logback-spring.xml.
+ */
+public class SampledDetailFilter extends TurboFilter {
+
+    public static final String MDC_KEY = "logDetail";
+
+    private String[] loggerPrefixes = {"com.bookmyshow"};
+
+    /**
+     * @param loggers Comma-separated logger name prefixes, e.g. com.bookmyshow,org.hibernate.SQL
+     */
+    public void setLoggers(String loggers) {
+        this.loggerPrefixes = Arrays.stream(loggers.split(",")).map(String::trim).toArray(String[]::new);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.levelInt != Level.DEBUG_INT || MDC.get(MDC_KEY) == null) {
+            return FilterReply.NEUTRAL;
+        }
+        for (String prefix : loggerPrefixes) {
+            if (logger.getName().startsWith(prefix)) {
+                return FilterReply.ACCEPT;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
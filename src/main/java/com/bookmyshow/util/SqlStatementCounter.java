@@ -0,0 +1,52 @@
+package com.bookmyshow.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread
+ *
+ * Registered as Hibernate's statement inspector (application.yml), so every statement
+ * passes through inspect(). Counting only happens between start() and stop(), which
+ * RequestQueryCountFilter calls around each HTTP request; the count lives in a per-thread
+ * array, so counting allocates nothing. Statements run on other threads, such as the
+ * parallel prefetch lookups, are not counted against the request.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final long NOT_COUNTING = -1;
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[]{NOT_COUNTING});
+
+    public static void start() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static boolean isCounting() {
+        return COUNT.get()[0] != NOT_COUNTING;
+    }
+
+    /**
+     * @return Statements since start(), 0 if this thread is not counting
+     */
+    public static long current() {
+        return Math.max(0, COUNT.get()[0]);
+    }
+
+    /**
+     * @return Statements since start()
+     */
+    public static long stop() {
+        long[] count = COUNT.get();
+        long statements = Math.max(0, count[0]);
+        count[0] = NOT_COUNTING;
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = COUNT.get();
+        if (count[0] != NOT_COUNTING) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
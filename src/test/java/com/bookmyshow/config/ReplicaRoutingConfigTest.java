@@ -0,0 +1,100 @@
+package com.bookmyshow.config;
+
+import com.bookmyshow.dto.BookingRequest;
+import com.bookmyshow.dto.BookingResponse;
+import com.bookmyshow.exception.ResourceNotFoundException;
+import com.bookmyshow.service.BookingService;
+import com.bookmyshow.util.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for replica routing with a replica that lags behind the primary
+ *
+ * The replica is a second in-memory H2 database. A test copies the primary into it at the
+ * point the replica should have caught up to; later writes only reach the primary. Runs in
+ * parallel prefetch mode, whose seat and show lookups are read-only transactions.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:replica-routing-primary",
+    "booking.replicas.urls=" + ReplicaRoutingConfigTest.REPLICA_URL,
+    "booking.replicas.max-lag-ms=3600000",
+    "booking.replicas.check-interval-ms=3600000", // Checks only when a test asks
+    "booking.prefetch.mode=parallel"
+})
+@DirtiesContext
+class ReplicaRoutingConfigTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-routing-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private ReplicaRoutingDataSource routing;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    private Long showId;
+
+    @BeforeEach
+    void setUp() {
+        showId = new JdbcTemplate(routing).queryForObject(
+            "SELECT MIN(id) FROM shows WHERE show_date_time > ?", Long.class, LocalDateTime.now().plusHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.clearReplicaReads();
+    }
+
+    @Test
+    void testHoldThenGetBooking_ReadsThePrimaryWhileTheReplicaLags() {
+        catchUpReplica();
+
+        BookingResponse hold = bookingService.holdTickets(BookingRequest.forSeatIndexes(showId, List.of(0, 1)), "john");
+        BookingResponse read = bookingService.getBooking(hold.getBookingReference(), "john");
+
+        assertEquals("PENDING", read.getStatus());
+        assertEquals(hold.getSeatNumbers(), read.getSeatNumbers());
+        // The same read opted into replica reads does not find the booking yet
+        ReplicaRoutingDataSource.allowReplicaReads();
+        assertThrows(ResourceNotFoundException.class,
+            () -> bookingService.getBooking(hold.getBookingReference(), "john"));
+    }
+
+    @Test
+    void testRebookReleasedSeats_PrefetchReadsThePrimaryWhileTheReplicaLags() {
+        BookingRequest request = BookingRequest.forSeatIndexes(showId, List.of(10, 11));
+        BookingResponse first = bookingService.bookTickets(request, "john");
+        catchUpReplica(); // The replica still has the seats booked after the cancellation
+        bookingService.cancelBooking(first.getBookingReference(), "john");
+
+        BookingResponse second = bookingService.bookTickets(request, "john");
+
+        assertEquals("CONFIRMED", second.getStatus());
+        assertEquals(first.getSeatNumbers(), second.getSeatNumbers());
+    }
+
+    /**
+     * Copies the primary into the replica and lets the replica take reads
+     */
+    private void catchUpReplica() {
+        new JdbcTemplate(routing).execute("SCRIPT TO 'target/replica-routing-snapshot.sql'");
+        replica.execute("DROP ALL OBJECTS");
+        replica.execute("RUNSCRIPT FROM 'target/replica-routing-snapshot.sql'");
+        routing.checkReplicas();
+        assertFalse(routing.getHealthyReplicas().isEmpty());
+    }
+}
@@ -0,0 +1,76 @@
+package com.bookmyshow.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Server-Timing phases of a booking, end to end against the seeded H2 data
+ */
+@SpringBootTest(properties = "booking.logging.events-file=target/server-timing-booking-events.jsonl")
+@AutoConfigureMockMvc
+@DirtiesContext
+class ServerTimingTest {
+
+    private static final Pattern METRIC = Pattern.compile("([a-z]+);dur=\\d+\\.\\d{3}");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testBooking_ReportsEachPhaseAndRecordsHistograms() throws Exception {
+        MvcResult login = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"john\",\"password\":\"password123\"}"))
+            .andExpect(status().isOk())
+            .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("token").asText();
+
+        MvcResult booked = mockMvc.perform(post("/api/bookings")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"showId\":5,\"seatIndexes\":[7,8]}"))
+            .andExpect(status().isCreated())
+            .andReturn();
+
+        String timing = booked.getResponse().getHeaders(QueryBudgetGuard.HEADER).stream()
+            .filter(header -> header.contains("total;dur="))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No phase timings in the response"));
+        Set<String> phases = List.of(timing.split(", ")).stream()
+            .map(METRIC::matcher)
+            .filter(Matcher::matches)
+            .map(metric -> metric.group(1))
+            .collect(Collectors.toSet());
+        assertTrue(phases.containsAll(Set.of("jwt", "user", "db", "commit", "service", "total")), timing);
+
+        for (String phase : List.of("user", "db", "commit", "service", "serialization")) {
+            assertEquals(1, meterRegistry.get("http.server.requests.phases")
+                .tags("phase", phase, "method", "POST", "uri", "/api/bookings").timer().count(), phase);
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package com.bookmyshow.config;
 
 import com.bookmyshow.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 
 /**
  * Test security configuration that mocks JWT authentication filter for controller tests.
+ * Also supplies the meter registry that web slices do not auto-configure.
  */
 @TestConfiguration
 public class TestSecurityConfig {
 
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
 }
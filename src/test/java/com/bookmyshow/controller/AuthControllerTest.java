@@ -1,11 +1,11 @@
 package com.bookmyshow.controller;
 
+import com.bookmyshow.config.TestSecurityConfig;
 import com.bookmyshow.dto.JwtResponse;
 import com.bookmyshow.dto.LoginRequest;
 import com.bookmyshow.dto.SignupRequest;
 import com.bookmyshow.entity.User;
 import com.bookmyshow.repository.UserRepository;
-import com.bookmyshow.security.JwtAuthenticationFilter;
 import com.bookmyshow.security.JwtUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +38,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Tests authentication and registration endpoints
  */
 @WebMvcTest(controllers = AuthController.class)
+@Import(TestSecurityConfig.class)
 @AutoConfigureMockMvc(addFilters = false)
 @DisplayName("AuthController Tests")
 class AuthControllerTest {
@@ -60,9 +61,6 @@ class AuthControllerTest {
     @MockBean
     private JwtUtils jwtUtils;
 
-    @MockBean
-    private JwtAuthenticationFilter jwtAuthenticationFilter;
-
     private LoginRequest validLoginRequest;
     private SignupRequest validSignupRequest;
     private User testUser;
@@ -1,14 +1,21 @@
 package com.bookmyshow.controller;
 
 import com.bookmyshow.config.TestSecurityConfig;
+import com.bookmyshow.dto.BookingHistoryResponse;
 import com.bookmyshow.dto.BookingRequest;
 import com.bookmyshow.dto.BookingResponse;
 import com.bookmyshow.exception.BookingException;
 import com.bookmyshow.exception.GlobalExceptionHandler;
 import com.bookmyshow.exception.ResourceNotFoundException;
+import com.bookmyshow.exception.SoldOutException;
+import com.bookmyshow.exception.WaitingRoomException;
 import com.bookmyshow.security.JwtAuthenticationFilter;
 import com.bookmyshow.security.JwtUtils;
+import com.bookmyshow.service.AvailabilityHintService;
+import com.bookmyshow.service.BookingHistoryService;
 import com.bookmyshow.service.BookingService;
+import com.bookmyshow.service.PaymentService;
+import com.bookmyshow.service.WaitingRoomService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +25,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -27,10 +35,19 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -53,6 +70,18 @@ class BookingControllerTest {
     @MockBean
     private BookingService bookingService;
 
+    @MockBean
+    private BookingHistoryService bookingHistoryService;
+
+    @MockBean
+    private WaitingRoomService waitingRoomService;
+
+    @MockBean
+    private PaymentService paymentService;
+
+    @MockBean
+    private AvailabilityHintService availabilityHintService;
+
     @MockBean
     private JwtUtils jwtUtils;
 
@@ -79,8 +108,8 @@ class BookingControllerTest {
         bookingResponse.setTheatreName("PVR Cinemas");
         bookingResponse.setShowDateTime(LocalDateTime.now().plusDays(1));
         bookingResponse.setSeatNumbers(Arrays.asList("A1", "A2", "A3"));
-        bookingResponse.setTotalAmount(450.0);
-        bookingResponse.setDiscountApplied(50.0);
+        bookingResponse.setTotalAmountMinor(45000);
+        bookingResponse.setDiscountMinor(5000);
         bookingResponse.setBookingDateTime(LocalDateTime.now());
     }
 
@@ -114,8 +143,8 @@ class BookingControllerTest {
         afternoonResponse.setTheatreName("INOX");
         afternoonResponse.setShowDateTime(LocalDateTime.now().withHour(14).withMinute(30));
         afternoonResponse.setSeatNumbers(Arrays.asList("B1", "B2"));
-        afternoonResponse.setTotalAmount(400.0);
-        afternoonResponse.setDiscountApplied(80.0); // 20% afternoon discount
+        afternoonResponse.setTotalAmountMinor(40000);
+        afternoonResponse.setDiscountMinor(8000); // 20% afternoon discount
         afternoonResponse.setBookingDateTime(LocalDateTime.now());
 
         when(bookingService.bookTickets(any(BookingRequest.class), eq("john")))
@@ -167,6 +196,28 @@ class BookingControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("Should return 400 BAD REQUEST when more seats are selected than one booking holds")
+    void testBookTickets_InvalidRequest_TooManySeats() throws Exception {
+        // Given
+        List<Integer> seatIndexes = IntStream.rangeClosed(0, BookingRequest.MAX_SEATS).boxed().toList();
+        List<Long> seatIds = LongStream.rangeClosed(1, BookingRequest.MAX_SEATS + 1).boxed().toList();
+
+        // When & Then
+        mockMvc.perform(post("/api/bookings")
+                        .principal(authentication)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(BookingRequest.forSeatIndexes(1L, seatIndexes))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/bookings")
+                        .principal(authentication)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookingRequest(1L, seatIds))))
+                .andExpect(status().isBadRequest());
+
+        verify(bookingService, never()).bookTickets(any(BookingRequest.class), any());
+    }
+
     @Test
     @DisplayName("Should return 404 NOT FOUND when show doesn't exist")
     void testBookTickets_ShowNotFound() throws Exception {
@@ -221,4 +272,113 @@ class BookingControllerTest {
                         .content(malformedJson))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("Should return 429 TOO MANY REQUESTS when the waiting room has not admitted the user")
+    void testBookTickets_NotAdmittedByWaitingRoom() throws Exception {
+        // Given
+        doThrow(new WaitingRoomException("Not admitted yet, queue position 42", 5))
+                .when(waitingRoomService).checkAdmission(eq(1L), isNull(), eq("john"));
+
+        // When & Then
+        mockMvc.perform(post("/api/bookings")
+                        .principal(authentication)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validBookingRequest)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "5"));
+
+        verify(bookingService, never()).bookTickets(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should hold seats as a PENDING booking and return 201 CREATED")
+    void testHoldTickets_Success() throws Exception {
+        // Given
+        bookingResponse.setStatus("PENDING");
+        bookingResponse.setExpiresAt(bookingResponse.getBookingDateTime().plusMinutes(10));
+        when(bookingService.holdTickets(any(BookingRequest.class), eq("john")))
+                .thenReturn(bookingResponse);
+
+        // When & Then
+        mockMvc.perform(post("/api/bookings/hold")
+                        .principal(authentication)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validBookingRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.expiresAt").exists());
+
+        verify(bookingService, never()).bookTickets(any(), any());
+        verify(waitingRoomService).recordBookingLatency(anyLong()); // Holds pace the waiting room like bookings
+    }
+
+    @Test
+    @DisplayName("Should return 409 CONFLICT for a sold-out show without calling the booking service")
+    void testBookTickets_SoldOutRejectedUpFront() throws Exception {
+        // Given
+        doThrow(new SoldOutException(1L))
+                .when(availabilityHintService).checkCapacity(1L, 3);
+
+        // When & Then
+        mockMvc.perform(post("/api/bookings")
+                        .principal(authentication)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validBookingRequest)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(containsString("waitlist")));
+
+        verify(bookingService, never()).bookTickets(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return 409 CONFLICT with Retry-After when the booking lost a lock race")
+    void testBookTickets_LockFailureAsksForRetry() throws Exception {
+        // Given
+        when(bookingService.bookTickets(any(BookingRequest.class), eq("john")))
+                .thenThrow(new CannotAcquireLockException("Timeout trying to lock table"));
+
+        // When & Then
+        mockMvc.perform(post("/api/bookings")
+                        .principal(authentication)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validBookingRequest)))
+                .andExpect(status().isConflict())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message").value(containsString("retry")));
+    }
+
+    @Test
+    @DisplayName("Should return the user's booking history page and the cursor of the next one")
+    void testGetMyBookings_FirstPage() throws Exception {
+        // Given
+        when(bookingHistoryService.getHistory("john", null, 20))
+                .thenReturn(new BookingHistoryResponse(List.of(bookingResponse), "next-page"));
+
+        // When & Then
+        mockMvc.perform(get("/api/bookings/me")
+                        .principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookings[0].bookingReference").value("BKG-123456"))
+                .andExpect(jsonPath("$.bookings[0].seatNumbers[2]").value("A3"))
+                .andExpect(jsonPath("$.nextCursor").value("next-page"));
+
+        verify(bookingService, never()).getBooking(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return 400 BAD REQUEST for a cursor the history service cannot read")
+    void testGetMyBookings_InvalidCursor() throws Exception {
+        // Given
+        when(bookingHistoryService.getHistory("john", "garbage", 5))
+                .thenThrow(new BookingException("Invalid booking history cursor: garbage"));
+
+        // When & Then
+        mockMvc.perform(get("/api/bookings/me")
+                        .principal(authentication)
+                        .param("cursor", "garbage")
+                        .param("size", "5"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("cursor")));
+    }
 }
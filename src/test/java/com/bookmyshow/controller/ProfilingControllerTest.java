@@ -0,0 +1,78 @@
+package com.bookmyshow.controller;
+
+import com.bookmyshow.config.TestSecurityConfig;
+import com.bookmyshow.dto.ProfilingSummary;
+import com.bookmyshow.exception.GlobalExceptionHandler;
+import com.bookmyshow.security.JwtUtils;
+import com.bookmyshow.service.ProfilingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests for ProfilingController
+ */
+@WebMvcTest(controllers = {ProfilingController.class, GlobalExceptionHandler.class})
+@Import(TestSecurityConfig.class)
+@AutoConfigureMockMvc(addFilters = false)
+@WithMockUser(roles = "ADMIN")
+@DisplayName("ProfilingController Tests")
+class ProfilingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProfilingService profilingService;
+
+    @MockBean
+    private JwtUtils jwtUtils;
+
+    @Test
+    @DisplayName("Should respond with the summary once the recording is done")
+    void testRecord_RespondsWhenDone() throws Exception {
+        CompletableFuture<ProfilingSummary> recording = new CompletableFuture<>();
+        when(profilingService.record(5)).thenReturn(recording);
+
+        MvcResult started = mockMvc.perform(post("/api/profiling/recordings").param("seconds", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        recording.complete(new ProfilingSummary("20260101-000000", 5000, 1024,
+            "/api/profiling/recordings/20260101-000000", Map.of(), List.of(), List.of(), List.of()));
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recordingId").value("20260101-000000"))
+                .andExpect(jsonPath("$.durationMs").value(5000));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a duration under 1 second")
+    void testRecord_InvalidDuration() throws Exception {
+        mockMvc.perform(post("/api/profiling/recordings").param("seconds", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("seconds: must be at least 1 second")));
+
+        verify(profilingService, never()).record(anyInt());
+    }
+}
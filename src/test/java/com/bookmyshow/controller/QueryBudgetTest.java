@@ -0,0 +1,161 @@
+package com.bookmyshow.controller;
+
+import com.bookmyshow.config.QueryBudget;
+import com.bookmyshow.config.QueryBudgetGuard;
+import com.bookmyshow.service.ReferenceDataCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budgets of the hot endpoints, end to end against the seeded H2 data
+ *
+ * Every request goes through the real filters with a JWT, and each response must stay
+ * within the @QueryBudget of the handler that served it. A lazy association loaded per
+ * result row (N+1) shows up here as a budget failure.
+ */
+@SpringBootTest(properties = "booking.logging.events-file=target/query-budget-booking-events.jsonl")
+@AutoConfigureMockMvc
+@DirtiesContext
+@DisplayName("Query budget Tests")
+class QueryBudgetTest {
+
+    private static final Pattern SQL = Pattern.compile("sql;desc=\"(\\d+)\", sql-handler;desc=\"(\\d+)\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MvcResult login = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"john\",\"password\":\"password123\"}"))
+            .andExpect(status().isOk())
+            .andReturn();
+        token = objectMapper.readTree(login.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    @Test
+    void testBrowse_ShowsOfSeveralTheatresInOneStatement() throws Exception {
+        MvcResult result = perform(get("/api/shows/browse")
+            .param("movieId", "1").param("city", "Mumbai").param("date", LocalDate.now().toString()));
+
+        assertTrue(objectMapper.readTree(result.getResponse().getContentAsString()).size() > 1);
+        assertEquals(1, assertWithinBudget(result));
+    }
+
+    @Test
+    void testBrowse_EmptyResultAlsoChecksMovie() throws Exception {
+        referenceDataCache.evictMovie(1L);
+        MvcResult result = perform(browseDelhi());
+
+        assertEquals(0, objectMapper.readTree(result.getResponse().getContentAsString()).size());
+        assertEquals(2, assertWithinBudget(result));
+        assertEquals(1, assertWithinBudget(perform(browseDelhi())), "Movie comes from the entity cache once loaded");
+    }
+
+    @Test
+    void testQuote() throws Exception {
+        assertWithinBudget(perform(post("/api/shows/2/quote")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"candidates\":[{\"seatIndexes\":[0,1]},{\"seatIndexes\":[2,3,4]}]}")));
+    }
+
+    @Test
+    void testBookGetAndCancel() throws Exception {
+        MvcResult booked = perform(post("/api/bookings")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"showId\":3,\"seatIndexes\":[0,1,2]}"));
+        assertWithinBudget(booked);
+        String reference = objectMapper.readTree(booked.getResponse().getContentAsString())
+            .get("bookingReference").asText();
+
+        assertWithinBudget(perform(get("/api/bookings/" + reference)));
+        assertWithinBudget(perform(post("/api/bookings/" + reference + "/cancel")));
+    }
+
+    @Test
+    void testBookingHistory_PageAndNextPage() throws Exception {
+        for (String seats : List.of("[10,11]", "[12]")) {
+            perform(post("/api/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"showId\":2,\"seatIndexes\":" + seats + "}"));
+        }
+
+        MvcResult first = perform(get("/api/bookings/me").param("size", "1"));
+        assertWithinBudget(first);
+        String cursor = objectMapper.readTree(first.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        assertWithinBudget(perform(get("/api/bookings/me").param("size", "1").param("cursor", cursor)));
+    }
+
+    @Test
+    void testHold() throws Exception {
+        assertWithinBudget(perform(post("/api/bookings/hold")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"showId\":4,\"seatIndexes\":[5,6]}")));
+    }
+
+    private static MockHttpServletRequestBuilder browseDelhi() {
+        return get("/api/shows/browse")
+            .param("movieId", "1").param("city", "Delhi").param("date", LocalDate.now().toString());
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andReturn();
+        assertTrue(result.getResponse().getStatus() < 400,
+            () -> "Request failed: " + result.getResponse().getStatus());
+        return result;
+    }
+
+    /**
+     * @return Statements issued by the handler
+     */
+    private static long assertWithinBudget(MvcResult result) {
+        HandlerMethod handler = (HandlerMethod) result.getHandler();
+        QueryBudget budget = handler.getMethodAnnotation(QueryBudget.class);
+        assertNotNull(budget, () -> handler.getShortLogMessage() + " declares no @QueryBudget");
+
+        List<String> headers = result.getResponse().getHeaders(QueryBudgetGuard.HEADER);
+        Matcher counts = headers.stream().map(SQL::matcher).filter(Matcher::matches).findFirst()
+            .orElseThrow(() -> new AssertionError("No SQL statement count in " + headers));
+        long total = Long.parseLong(counts.group(1));
+        long inHandler = Long.parseLong(counts.group(2));
+
+        assertTrue(inHandler <= budget.value(), () -> handler.getShortLogMessage() + " issued " + inHandler
+            + " SQL statements, its budget is " + budget.value());
+        assertTrue(total > inHandler, () -> handler.getShortLogMessage() + " issued " + total
+            + " SQL statements, " + inHandler + " in the handler: authentication's user lookup counts towards the total");
+        return inHandler;
+    }
+}
@@ -1,12 +1,17 @@
 package com.bookmyshow.controller;
 
 import com.bookmyshow.config.TestSecurityConfig;
+import com.bookmyshow.dto.BookingRequest;
+import com.bookmyshow.dto.QuoteRequest;
+import com.bookmyshow.dto.QuoteResponse;
 import com.bookmyshow.dto.ShowDTO;
 import com.bookmyshow.exception.GlobalExceptionHandler;
 import com.bookmyshow.exception.ResourceNotFoundException;
 import com.bookmyshow.security.JwtAuthenticationFilter;
 import com.bookmyshow.security.JwtUtils;
+import com.bookmyshow.service.PriceQuoteService;
 import com.bookmyshow.service.ShowBrowsingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,11 +29,16 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -44,9 +54,15 @@ class ShowControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private ShowBrowsingService showBrowsingService;
 
+    @MockBean
+    private PriceQuoteService priceQuoteService;
+
     @MockBean
     private JwtUtils jwtUtils;
 
@@ -64,7 +80,7 @@ class ShowControllerTest {
         show1.setShowDateTime(LocalDateTime.now().plusDays(1).withHour(14).withMinute(0));
         show1.setShowType("AFTERNOON");
         show1.setAvailableSeats(45);
-        show1.setBasePrice(200.0);
+        show1.setBasePriceMinor(20000);
 
         ShowDTO show2 = new ShowDTO();
         show2.setId(2L);
@@ -75,7 +91,7 @@ class ShowControllerTest {
         show2.setShowDateTime(LocalDateTime.now().plusDays(1).withHour(18).withMinute(30));
         show2.setShowType("EVENING");
         show2.setAvailableSeats(60);
-        show2.setBasePrice(250.0);
+        show2.setBasePriceMinor(25000);
 
         sampleShows = Arrays.asList(show1, show2);
     }
@@ -197,7 +213,7 @@ class ShowControllerTest {
         morningShow.setShowDateTime(LocalDateTime.now().plusDays(1).withHour(10).withMinute(0));
         morningShow.setShowType("MORNING");
         morningShow.setAvailableSeats(50);
-        morningShow.setBasePrice(150.0);
+        morningShow.setBasePriceMinor(15000);
 
         ShowDTO nightShow = new ShowDTO();
         nightShow.setId(4L);
@@ -205,7 +221,7 @@ class ShowControllerTest {
         nightShow.setShowDateTime(LocalDateTime.now().plusDays(1).withHour(22).withMinute(0));
         nightShow.setShowType("NIGHT");
         nightShow.setAvailableSeats(40);
-        nightShow.setBasePrice(300.0);
+        nightShow.setBasePriceMinor(30000);
 
         List<ShowDTO> diverseShows = Arrays.asList(morningShow, nightShow);
 
@@ -224,4 +240,68 @@ class ShowControllerTest {
                 .andExpect(jsonPath("$[1].showType").value("NIGHT"))
                 .andExpect(jsonPath("$[1].basePrice").value(300.0));
     }
+
+    @Test
+    @WithMockUser(username = "john", roles = "USER")
+    @DisplayName("Should quote every candidate seat set in request order")
+    void testQuote_MultipleCandidates() throws Exception {
+        // Given
+        QuoteRequest request = new QuoteRequest(List.of(
+            QuoteRequest.Candidate.ofSeatIndexes(List.of(0, 1)),
+            QuoteRequest.Candidate.ofSeatIds(List.of(1L, 2L, 3L))));
+        QuoteResponse response = new QuoteResponse(1L, 10_000, List.of(
+            new QuoteResponse.Quote(List.of("R1", "R2"), 40000, 0),
+            new QuoteResponse.Quote(List.of("R1", "R2", "R3"), 60000, 10000)));
+
+        when(priceQuoteService.quote(eq(1L), any(QuoteRequest.class))).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/shows/1/quote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.showId").value(1))
+                .andExpect(jsonPath("$.quotes.length()").value(2))
+                .andExpect(jsonPath("$.quotes[0].finalAmount").value(400.0))
+                .andExpect(jsonPath("$.quotes[1].totalAmount").value(600.0))
+                .andExpect(jsonPath("$.quotes[1].discountApplied").value(100.0))
+                .andExpect(jsonPath("$.quotes[1].finalAmount").value(500.0));
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = "USER")
+    @DisplayName("Should return 400 BAD REQUEST for a candidate without seats")
+    void testQuote_EmptyCandidate() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/shows/1/quote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"candidates\": [{\"seatIndexes\": [0]}, {}]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(priceQuoteService, never()).quote(any(), any());
+    }
+
+    @Test
+    @WithMockUser(username = "john", roles = "USER")
+    @DisplayName("Should return 400 BAD REQUEST for a candidate with more seats than one booking holds")
+    void testQuote_InvalidRequest_TooManySeats() throws Exception {
+        // Given
+        List<Integer> seatIndexes = IntStream.rangeClosed(0, BookingRequest.MAX_SEATS).boxed().toList();
+        List<Long> seatIds = LongStream.rangeClosed(1, BookingRequest.MAX_SEATS + 1).boxed().toList();
+
+        // When & Then
+        mockMvc.perform(post("/api/shows/1/quote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new QuoteRequest(List.of(
+                            QuoteRequest.Candidate.ofSeatIndexes(seatIndexes))))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/shows/1/quote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new QuoteRequest(List.of(
+                            QuoteRequest.Candidate.ofSeatIndexes(List.of(0)),
+                            QuoteRequest.Candidate.ofSeatIds(seatIds))))))
+                .andExpect(status().isBadRequest());
+
+        verify(priceQuoteService, never()).quote(any(), any());
+    }
 }
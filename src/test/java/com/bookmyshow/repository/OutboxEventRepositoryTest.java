@@ -0,0 +1,75 @@
+package com.bookmyshow.repository;
+
+import com.bookmyshow.entity.OutboxEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for OutboxEventRepository
+ * Tests which events the relay may deliver next
+ */
+@DataJpaTest
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void testFindDeliverable_SkipsBackingOffShowsAndParkedEvents() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent backingOff = persist(1L, "a");
+        backingOff.setNextAttemptAt(now.plusMinutes(1));
+        OutboxEvent first = persist(2L, "b");
+        persist(1L, "c"); // Must wait behind the backing-off event of show 1
+        OutboxEvent parked = persist(3L, "d");
+        parked.setParkedAt(now);
+        OutboxEvent retryDue = persist(3L, "e");
+        retryDue.setNextAttemptAt(now.minusSeconds(1));
+        OutboxEvent second = persist(2L, "f");
+        entityManager.flush();
+
+        // Act
+        List<OutboxEvent> deliverable = outboxEventRepository.findDeliverable(now, PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(List.of(first.getId(), retryDue.getId(), second.getId()),
+            deliverable.stream().map(OutboxEvent::getId).toList());
+    }
+
+    @Test
+    void testFindDeliverable_RespectsBatchSize() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            persist((long) i, "p" + i);
+        }
+        entityManager.flush();
+
+        // Act
+        List<OutboxEvent> deliverable = outboxEventRepository.findDeliverable(LocalDateTime.now(), PageRequest.of(0, 2));
+
+        // Assert
+        assertEquals(2, deliverable.size());
+        assertTrue(deliverable.get(0).getId() < deliverable.get(1).getId());
+    }
+
+    private OutboxEvent persist(Long showId, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setEventType("BookingStatusChanged");
+        event.setShowId(showId);
+        event.setPayload(payload);
+        event.setCreatedAt(LocalDateTime.now());
+        return entityManager.persist(event);
+    }
+}
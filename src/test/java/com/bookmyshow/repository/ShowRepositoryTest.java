@@ -4,6 +4,7 @@ import com.bookmyshow.entity.Movie;
 import com.bookmyshow.entity.Show;
 import com.bookmyshow.entity.Theatre;
 import com.bookmyshow.enums.ShowType;
+import com.bookmyshow.util.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -189,7 +190,7 @@ class ShowRepositoryTest {
         show.setTheatre(theatre);
         show.setShowDateTime(dateTime);
         show.setShowType(showType);
-        show.setBasePrice(basePrice);
+        show.setBasePriceMinor(Money.ofMajor(basePrice));
         show.setAvailableSeats(theatre.getTotalSeats());
         return show;
     }
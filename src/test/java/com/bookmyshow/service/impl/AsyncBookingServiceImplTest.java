@@ -0,0 +1,129 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.AsyncBookingStats;
+import com.bookmyshow.dto.BookingRequest;
+import com.bookmyshow.dto.BookingResponse;
+import com.bookmyshow.dto.BookingTicketResponse;
+import com.bookmyshow.exception.BookingException;
+import com.bookmyshow.exception.ResourceNotFoundException;
+import com.bookmyshow.exception.ServiceOverloadedException;
+import com.bookmyshow.service.BookingService;
+import com.bookmyshow.service.WaitingRoomService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AsyncBookingServiceImpl
+ * Tests queueing, result tracking and backpressure
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncBookingServiceImplTest {
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private WaitingRoomService waitingRoomService;
+
+    private AsyncBookingServiceImpl asyncBookingService;
+
+    private BookingRequest request;
+
+    @BeforeEach
+    void setUp() {
+        asyncBookingService = new AsyncBookingServiceImpl(bookingService, waitingRoomService);
+        ReflectionTestUtils.setField(asyncBookingService, "workers", 1);
+        ReflectionTestUtils.setField(asyncBookingService, "queueCapacity", 1);
+        ReflectionTestUtils.setField(asyncBookingService, "resultTtlSeconds", 600L);
+        asyncBookingService.start();
+
+        request = new BookingRequest();
+        request.setShowId(1L);
+        request.setSeatIds(Arrays.asList(1L, 2L));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        asyncBookingService.stop();
+    }
+
+    @Test
+    void testSubmit_CompletesWithBooking() throws Exception {
+        BookingResponse booking = new BookingResponse();
+        booking.setBookingReference("BMS-ASYNC1");
+        when(bookingService.bookTickets(request, "john")).thenReturn(booking);
+
+        BookingTicketResponse ticket = asyncBookingService.submit(request, "john", null);
+        assertNotNull(ticket.getTicketId());
+
+        BookingTicketResponse result = asyncBookingService.awaitTicket(ticket.getTicketId(), "john")
+            .get(5, TimeUnit.SECONDS);
+
+        assertEquals("CONFIRMED", result.getStatus());
+        assertEquals("BMS-ASYNC1", result.getBooking().getBookingReference());
+        assertNotNull(result.getCompletedAt());
+        verify(waitingRoomService).recordBookingLatency(anyLong());
+    }
+
+    @Test
+    void testSubmit_RecordsFailure() throws Exception {
+        when(bookingService.bookTickets(request, "john")).thenThrow(new BookingException("Seats not available: R1"));
+
+        BookingTicketResponse ticket = asyncBookingService.submit(request, "john", "queue-ticket");
+        BookingTicketResponse result = asyncBookingService.awaitTicket(ticket.getTicketId(), "john")
+            .get(5, TimeUnit.SECONDS);
+
+        assertEquals("FAILED", result.getStatus());
+        assertEquals("Seats not available: R1", result.getError());
+        assertNull(result.getBooking());
+        assertEquals(1, asyncBookingService.getStats().getFailed());
+        verify(waitingRoomService).releaseAdmission(1L, "queue-ticket", "john");
+    }
+
+    @Test
+    void testSubmit_RejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch workerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(bookingService.bookTickets(any(), eq("john"))).thenAnswer(invocation -> {
+            workerBusy.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new BookingResponse();
+        });
+
+        asyncBookingService.submit(request, "john", null);
+        assertTrue(workerBusy.await(5, TimeUnit.SECONDS));
+        asyncBookingService.submit(request, "john", null); // fills the single queue slot
+
+        assertThrows(ServiceOverloadedException.class, () -> asyncBookingService.submit(request, "john", null));
+
+        AsyncBookingStats stats = asyncBookingService.getStats();
+        assertEquals(1, stats.getQueueDepth());
+        assertEquals(1, stats.getRejected());
+        release.countDown();
+    }
+
+    @Test
+    void testGetTicket_OtherUserCannotSeeTicket() {
+        BookingTicketResponse ticket = asyncBookingService.submit(request, "john", null);
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> asyncBookingService.getTicket(ticket.getTicketId(), "jane"));
+        assertThrows(ResourceNotFoundException.class,
+            () -> asyncBookingService.getTicket("unknown", "john"));
+    }
+}
@@ -0,0 +1,158 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.event.SeatsBookedEvent;
+import com.bookmyshow.event.SeatsReleasedEvent;
+import com.bookmyshow.exception.SoldOutException;
+import com.bookmyshow.repository.ShowRepository;
+import org.junit.jupiter.api.AfterEach;
+import com.bookmyshow.service.NegativeLookupCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for AvailabilityHintServiceImpl
+ * Tests that the hint only errs towards letting requests through
+ */
+@ExtendWith(MockitoExtension.class)
+class AvailabilityHintServiceImplTest {
+
+    @Mock
+    private ShowRepository showRepository;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @InjectMocks
+    private AvailabilityHintServiceImpl hintService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(hintService, "enabled", true);
+        ReflectionTestUtils.setField(hintService, "maxTrackedShows", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testUnknownShow_PassesAndIsSeededOnReconcile() {
+        assertDoesNotThrow(() -> hintService.checkCapacity(1L, 4));
+        assertEquals(-1, hintService.remainingUpperBound(1L));
+
+        seed(1L, 3);
+
+        assertEquals(3, hintService.remainingUpperBound(1L));
+        assertThrows(SoldOutException.class, () -> hintService.checkCapacity(1L, 4));
+        assertDoesNotThrow(() -> hintService.checkCapacity(1L, 3));
+    }
+
+    @Test
+    void testSoldOutShow_Rejected() {
+        hintService.checkCapacity(1L, 1);
+        seed(1L, 0);
+
+        SoldOutException exception = assertThrows(SoldOutException.class, () -> hintService.checkCapacity(1L, 1));
+        assertTrue(exception.getMessage().contains("sold out"));
+    }
+
+    @Test
+    void testBooking_CountsOnlyAfterCommit() {
+        hintService.checkCapacity(1L, 1);
+        seed(1L, 5);
+
+        List<TransactionSynchronization> booking = inTransaction(() -> hintService.onSeatsBooked(new SeatsBookedEvent(1L, 2)));
+        assertEquals(5, hintService.remainingUpperBound(1L));
+
+        complete(booking, TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(3, hintService.remainingUpperBound(1L));
+
+        List<TransactionSynchronization> rolledBack = inTransaction(() -> hintService.onSeatsBooked(new SeatsBookedEvent(1L, 2)));
+        complete(rolledBack, TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(3, hintService.remainingUpperBound(1L));
+    }
+
+    @Test
+    void testRelease_CountsImmediatelyAndUndoesOnRollback() {
+        hintService.checkCapacity(1L, 1);
+        seed(1L, 0);
+
+        List<TransactionSynchronization> release = inTransaction(
+            () -> hintService.onSeatsReleased(new SeatsReleasedEvent(1L, List.of(7L, 8L))));
+        assertEquals(2, hintService.remainingUpperBound(1L));
+
+        complete(release, TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(0, hintService.remainingUpperBound(1L));
+    }
+
+    @Test
+    void testReconcile_SkipsShowsWithWorkInFlight() {
+        hintService.checkCapacity(1L, 1);
+        seed(1L, 0);
+        List<TransactionSynchronization> release = inTransaction(
+            () -> hintService.onSeatsReleased(new SeatsReleasedEvent(1L, List.of(7L))));
+
+        // The release has not committed, so the database still says 0
+        hintService.reconcile();
+        assertEquals(1, hintService.remainingUpperBound(1L));
+
+        complete(release, TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(1, hintService.remainingUpperBound(1L));
+    }
+
+    @Test
+    void testReconcile_DropsShowsThatDoNotExist() {
+        hintService.checkCapacity(99L, 1);
+        when(showRepository.findSeatCountsByIdIn(any())).thenReturn(List.of());
+
+        hintService.reconcile();
+
+        assertEquals(-1, hintService.remainingUpperBound(99L));
+        assertDoesNotThrow(() -> hintService.checkCapacity(99L, 1));
+    }
+
+    private void seed(Long showId, int availableSeats) {
+        when(showRepository.findSeatCountsByIdIn(any())).thenReturn(List.of(new ShowRepository.SeatCount() {
+            @Override
+            public Long getId() {
+                return showId;
+            }
+
+            @Override
+            public Integer getAvailableSeats() {
+                return availableSeats;
+            }
+        }));
+        hintService.reconcile();
+    }
+
+    private static List<TransactionSynchronization> inTransaction(Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void complete(List<TransactionSynchronization> synchronizations, int status) {
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
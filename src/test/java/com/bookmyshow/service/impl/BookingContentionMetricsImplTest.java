@@ -0,0 +1,86 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.service.BookingContentionMetrics.Kind;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BookingContentionMetricsImpl
+ */
+class BookingContentionMetricsImplTest {
+
+    private SimpleMeterRegistry registry;
+    private BookingContentionMetricsImpl metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new BookingContentionMetricsImpl(registry);
+        ReflectionTestUtils.setField(metrics, "hotShowCount", 2);
+        ReflectionTestUtils.setField(metrics, "maxTrackedShows", 3);
+        metrics.init();
+    }
+
+    @Test
+    void testRecord_CountsTotalsPerKind() {
+        metrics.record(1L, Kind.SEAT_CONFLICT);
+        metrics.record(2L, Kind.SEAT_CONFLICT);
+        metrics.record(1L, Kind.LOCK_FAILURE);
+
+        assertEquals(2, registry.get("booking.contention").tag("kind", "seat_conflict").counter().count());
+        assertEquals(1, registry.get("booking.contention").tag("kind", "lock_failure").counter().count());
+    }
+
+    @Test
+    void testPublishHotShows_OnlyTheMostContendedShowsGetSeries() {
+        record(1L, 5);
+        record(2L, 1);
+        record(3L, 3);
+
+        metrics.publishHotShows();
+
+        assertEquals(Map.of("1", 5.0, "3", 3.0), hotShows());
+    }
+
+    @Test
+    void testPublishHotShows_StartsANewWindow() {
+        record(1L, 5);
+        metrics.publishHotShows();
+        record(2L, 2);
+
+        metrics.publishHotShows();
+
+        assertEquals(Map.of("2", 2.0), hotShows());
+    }
+
+    @Test
+    void testRecord_StopsTrackingNewShowsAtTheBound() {
+        for (long showId = 1; showId <= 5; showId++) {
+            record(showId, (int) showId);
+        }
+
+        metrics.publishHotShows();
+
+        assertEquals(Map.of("3", 3.0, "2", 2.0), hotShows()); // Shows 4 and 5 came after the bound
+        assertEquals(15, registry.get("booking.contention").tag("kind", "seat_conflict").counter().count());
+    }
+
+    private void record(Long showId, int times) {
+        for (int i = 0; i < times; i++) {
+            metrics.record(showId, Kind.SEAT_CONFLICT);
+        }
+    }
+
+    private Map<String, Double> hotShows() {
+        return registry.find("booking.contention.hot.shows").gauges().stream()
+            .collect(Collectors.toMap(gauge -> gauge.getId().getTag("show"), Gauge::value));
+    }
+}
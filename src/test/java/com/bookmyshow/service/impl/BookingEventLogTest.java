@@ -0,0 +1,94 @@
+package com.bookmyshow.service.impl;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.bookmyshow.entity.Booking;
+import com.bookmyshow.entity.Seat;
+import com.bookmyshow.entity.Show;
+import com.bookmyshow.entity.User;
+import com.bookmyshow.enums.BookingStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BookingEventLog
+ * Tests that only committed bookings are logged
+ */
+class BookingEventLogTest {
+
+    private final Logger events = (Logger) LoggerFactory.getLogger("booking-events");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    private Booking booking;
+    private User user;
+    private Show show;
+    private List<Seat> seats;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = events.getLevel(); // Spring tests earlier in the run may have turned the log off
+        events.setLevel(Level.INFO);
+        appender.start();
+        events.addAppender(appender);
+        TransactionSynchronizationManager.initSynchronization();
+
+        user = new User();
+        user.setUsername("john");
+        show = new Show();
+        show.setId(1L);
+        Seat seat = new Seat();
+        seat.setSeatIndex(4);
+        seats = List.of(seat);
+        booking = new Booking();
+        booking.setId(7L);
+        booking.setBookingReference("BMS-EVENT");
+        booking.setStatus(BookingStatus.CONFIRMED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        events.detachAppender(appender);
+        events.setLevel(previousLevel);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void testRecord_LogsOnceTheTransactionCommits() {
+        BookingEventLog.record("direct", booking, user, show, seats, System.nanoTime());
+        booking.setStatus(BookingStatus.CANCELLED); // Changes after the call are not part of the event
+
+        assertTrue(appender.list.isEmpty());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertTrue(event.getKeyValuePairs().stream()
+            .anyMatch(pair -> pair.key.equals("status") && "CONFIRMED".equals(pair.value)));
+        assertTrue(event.getKeyValuePairs().stream()
+            .anyMatch(pair -> pair.key.equals("seatIndexes") && List.of(4).equals(pair.value)));
+    }
+
+    @Test
+    void testRecord_RolledBackBookingIsNotLogged() {
+        BookingEventLog.record("direct", booking, user, show, seats, System.nanoTime());
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+    }
+}
@@ -0,0 +1,226 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.BookingHistoryResponse;
+import com.bookmyshow.dto.BookingRequest;
+import com.bookmyshow.dto.BookingResponse;
+import com.bookmyshow.entity.Booking;
+import com.bookmyshow.entity.Show;
+import com.bookmyshow.entity.User;
+import com.bookmyshow.enums.BookingStatus;
+import com.bookmyshow.exception.BookingException;
+import com.bookmyshow.repository.BookingRepository;
+import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.repository.UserRepository;
+import com.bookmyshow.service.BookingService;
+import com.bookmyshow.util.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for BookingHistoryServiceImpl against the seeded H2 data
+ * Each test gets a user of its own, with bookings made at chosen times
+ */
+@SpringBootTest(properties = "booking.logging.events-file=target/booking-history-events.jsonl")
+@DirtiesContext
+class BookingHistoryServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private BookingHistoryServiceImpl bookingHistoryService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Show show;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("history-" + UUID.randomUUID());
+        user.setEmail(user.getUsername() + "@example.com");
+        user.setPassword("not-used");
+        user.setRoles(Set.of("USER"));
+        user = userRepository.save(user);
+        show = showRepository.findById(1L).orElseThrow();
+    }
+
+    @Test
+    void testGetHistory_PagesNewestFirstWithoutGapsOrRepeats() {
+        List<String> expected = new ArrayList<>();
+        expected.add(book(NOW.minusMinutes(1)).getBookingReference());
+        // Same time: the later id comes first
+        Booking tiedFirst = book(NOW.minusMinutes(5));
+        Booking tiedSecond = book(NOW.minusMinutes(5));
+        expected.add(tiedSecond.getBookingReference());
+        expected.add(tiedFirst.getBookingReference());
+        expected.add(book(NOW.minusMinutes(9)).getBookingReference());
+        expected.add(book(NOW.minusHours(2)).getBookingReference());
+        expected.add(0, book(NOW).getBookingReference());
+        expected.add(book(NOW.minusDays(3)).getBookingReference());
+
+        List<String> seen = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            BookingHistoryResponse page = bookingHistoryService.getHistory(user.getUsername(), cursor, 3);
+            page.getBookings().forEach(booking -> seen.add(booking.getBookingReference()));
+            pageSizes.add(page.getBookings().size());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(expected, seen);
+        assertEquals(List.of(3, 3, 1), pageSizes);
+    }
+
+    @Test
+    void testGetHistory_DisplayFieldsAndSeatNumbers() {
+        List<String> seatNumbers = jdbcTemplate.queryForList(
+            "SELECT seat_number FROM seats WHERE show_id = ? AND seat_index IN (3, 7) ORDER BY seat_index",
+            String.class, show.getId());
+        Booking booking = book(NOW, BookingStatus.CONFIRMED, String.join(",", seatNumbers));
+
+        BookingResponse entry = bookingHistoryService.getHistory(user.getUsername(), null, 10).getBookings().get(0);
+
+        assertEquals(booking.getBookingReference(), entry.getBookingReference());
+        assertEquals(show.getId(), entry.getShowId());
+        assertNotNull(entry.getMovieTitle());
+        assertNotNull(entry.getTheatreName());
+        assertEquals(show.getShowDateTime(), entry.getShowDateTime());
+        assertEquals(30000, entry.getTotalAmountMinor());
+        assertEquals("CONFIRMED", entry.getStatus());
+        assertEquals(2, entry.getSeatNumbers().size());
+        assertEquals(seatNumbers, entry.getSeatNumbers());
+    }
+
+    @Test
+    void testGetHistory_CancelledAndExpiredBookingsKeepTheirSeatNumbers() {
+        Long showId = jdbcTemplate.queryForObject(
+            "SELECT MIN(id) FROM shows WHERE show_date_time > ?", Long.class, LocalDateTime.now().plusHours(1));
+        BookingResponse cancelled = bookingService.bookTickets(
+            BookingRequest.forSeatIndexes(showId, List.of(24, 25)), user.getUsername());
+        bookingService.cancelBooking(cancelled.getBookingReference(), user.getUsername());
+        book(NOW.minusDays(1), BookingStatus.EXPIRED, "A1,A2");
+
+        List<BookingResponse> history = bookingHistoryService.getHistory(user.getUsername(), null, 10).getBookings();
+
+        assertEquals("CANCELLED", history.get(0).getStatus());
+        assertEquals(cancelled.getSeatNumbers(), history.get(0).getSeatNumbers());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM seats WHERE booking_id = ?",
+            Integer.class, history.get(0).getBookingId())); // Back on sale
+        assertEquals("EXPIRED", history.get(1).getStatus());
+        assertEquals(List.of("A1", "A2"), history.get(1).getSeatNumbers());
+    }
+
+    @Test
+    void testGetBooking_CancelledBookingKeepsItsSeatNumbers() {
+        Long showId = jdbcTemplate.queryForObject(
+            "SELECT MIN(id) FROM shows WHERE show_date_time > ?", Long.class, LocalDateTime.now().plusHours(1));
+        BookingResponse booked = bookingService.bookTickets(
+            BookingRequest.forSeatIndexes(showId, List.of(26, 27)), user.getUsername());
+        bookingService.cancelBooking(booked.getBookingReference(), user.getUsername());
+
+        BookingResponse fetched = bookingService.getBooking(booked.getBookingReference(), user.getUsername());
+
+        assertEquals("CANCELLED", fetched.getStatus());
+        assertEquals(2, fetched.getSeatNumbers().size());
+        assertEquals(booked.getSeatNumbers(), fetched.getSeatNumbers());
+    }
+
+    @Test
+    void testGetHistory_OneStatementPerPageWhateverItsSize() {
+        for (int i = 0; i < 30; i++) {
+            book(NOW.minusMinutes(i));
+        }
+
+        SqlStatementCounter.start();
+        BookingHistoryResponse first;
+        long firstPage;
+        long secondPage;
+        try {
+            first = bookingHistoryService.getHistory(user.getUsername(), null, 25);
+            firstPage = SqlStatementCounter.current();
+            bookingHistoryService.getHistory(user.getUsername(), first.getNextCursor(), 25);
+            secondPage = SqlStatementCounter.current() - firstPage;
+        } finally {
+            SqlStatementCounter.stop();
+        }
+
+        assertEquals(25, first.getBookings().size());
+        assertEquals(1, firstPage);
+        assertEquals(1, secondPage);
+    }
+
+    @Test
+    void testGetHistory_NewBookingWhilePagingDoesNotShiftTheNextPage() {
+        Booking older = book(NOW.minusMinutes(2));
+        book(NOW.minusMinutes(1));
+
+        BookingHistoryResponse first = bookingHistoryService.getHistory(user.getUsername(), null, 1);
+        book(NOW);
+        BookingHistoryResponse second = bookingHistoryService.getHistory(user.getUsername(), first.getNextCursor(), 1);
+
+        assertEquals(List.of(older.getBookingReference()),
+            second.getBookings().stream().map(BookingResponse::getBookingReference).toList());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void testGetHistory_OnlyTheUsersOwnBookings() {
+        book(NOW);
+
+        BookingHistoryResponse history = bookingHistoryService.getHistory(user.getUsername(), null, 100);
+
+        assertEquals(1, history.getBookings().size());
+        assertNull(history.getNextCursor());
+        assertTrue(bookingHistoryService.getHistory("nobody", null, 10).getBookings().isEmpty());
+    }
+
+    @Test
+    void testGetHistory_InvalidCursor() {
+        assertThrows(BookingException.class, () -> bookingHistoryService.getHistory(user.getUsername(), "not-a-cursor", 10));
+        assertThrows(BookingException.class, () -> bookingHistoryService.getHistory(user.getUsername(), "!!", 10));
+    }
+
+    private Booking book(LocalDateTime at) {
+        return book(at, BookingStatus.CONFIRMED, null);
+    }
+
+    private Booking book(LocalDateTime at, BookingStatus status, String seatNumbers) {
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setShow(show);
+        booking.setBookingDateTime(at);
+        booking.setTotalAmountMinor(30000);
+        booking.setStatus(status);
+        booking.setSeatNumbers(seatNumbers);
+        booking.setBookingReference("BMS-H" + UUID.randomUUID().toString().substring(0, 8).toUpperCase());
+        return bookingRepository.save(booking);
+    }
+}
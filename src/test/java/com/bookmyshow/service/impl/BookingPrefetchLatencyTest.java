@@ -0,0 +1,165 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.BookingRequest;
+import com.bookmyshow.entity.Seat;
+import com.bookmyshow.enums.SeatStatus;
+import com.bookmyshow.repository.SeatRepository;
+import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.service.BookingService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Latency comparison of the sequential and parallel prefetch booking modes
+ * against H2 with an injected per-statement round-trip delay.
+ *
+ * Not part of the regular build; run with:
+ *   mvn test -Dtest=BookingPrefetchLatencyTest -Dbenchmark=true [-Dbenchmark.db-latency-ms=2]
+ */
+@SpringBootTest(properties = {
+    "booking.prefetch.mode=parallel",
+    "spring.jpa.show-sql=false",
+    "logging.level.com.bookmyshow=WARN",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@Import(BookingPrefetchLatencyTest.LatencyInjectingDataSourceConfig.class)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BookingPrefetchLatencyTest {
+
+    private static final long DB_LATENCY_MS = Long.getLong("benchmark.db-latency-ms", 2);
+    private static final int BOOKINGS_PER_MODE = Integer.getInteger("benchmark.bookings", 150);
+    private static volatile boolean injectLatency;
+
+    @Autowired
+    private BookingServiceImpl sequentialBookingService;
+
+    @Autowired
+    private BookingService parallelBookingService;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Test
+    void compareSequentialAndParallelPrefetch() {
+        assertTrue(parallelBookingService instanceof ParallelPrefetchBookingService);
+        Deque<Long> freeSeats = new ArrayDeque<>();
+        showRepository.findAll().forEach(show -> seatRepository.findByShowIdAndStatus(show.getId(), SeatStatus.AVAILABLE)
+            .stream().map(Seat::getId).forEach(freeSeats::add));
+
+        injectLatency = true;
+        try {
+            long[] sequential = run(sequentialBookingService, freeSeats);
+            long[] parallel = run(parallelBookingService, freeSeats);
+            System.out.printf("%nBooking latency with %d ms injected per statement (%d bookings each)%n",
+                DB_LATENCY_MS, BOOKINGS_PER_MODE);
+            report("sequential", sequential);
+            report("parallel", parallel);
+        } finally {
+            injectLatency = false;
+        }
+    }
+
+    private long[] run(BookingService service, Deque<Long> freeSeats) {
+        long[] latencies = new long[BOOKINGS_PER_MODE];
+        for (int i = 0; i < BOOKINGS_PER_MODE; i++) {
+            Long first = freeSeats.poll();
+            Long second = freeSeats.poll();
+            Long showId = seatRepository.findById(first).orElseThrow().getShow().getId();
+            if (!showId.equals(seatRepository.findById(second).orElseThrow().getShow().getId())) {
+                second = freeSeats.poll();
+            }
+            BookingRequest request = new BookingRequest(showId, Arrays.asList(first, second));
+            long start = System.nanoTime();
+            service.bookTickets(request, "john");
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static void report(String mode, long[] sorted) {
+        System.out.printf("  %-10s p50 = %6.2f ms   p99 = %6.2f ms%n", mode,
+            percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+    }
+
+    /**
+     * Wraps the DataSource so every statement execution and commit pays a fixed delay,
+     * standing in for the network round trip to a remote database.
+     */
+    @TestConfiguration
+    static class LatencyInjectingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor latencyInjectingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return wrap(DataSource.class, dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T wrap(Class<T> type, T target) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                String name = method.getName();
+                if (injectLatency && (name.startsWith("execute") || name.equals("commit"))) {
+                    Thread.sleep(DB_LATENCY_MS);
+                }
+                try {
+                    Object result = method.invoke(target, args);
+                    if (result instanceof Connection connection) {
+                        return wrap(Connection.class, connection);
+                    }
+                    if (result instanceof Statement statement && !(target instanceof Statement)) {
+                        return wrap(interfaceOf(statement), statement);
+                    }
+                    return result;
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            };
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <S extends Statement> Class<S> interfaceOf(S statement) {
+            for (Class<?> candidate : List.of(java.sql.CallableStatement.class, java.sql.PreparedStatement.class)) {
+                if (candidate.isInstance(statement)) {
+                    return (Class<S>) candidate;
+                }
+            }
+            return (Class<S>) Statement.class;
+        }
+    }
+}
@@ -4,13 +4,22 @@ import com.bookmyshow.dto.BookingRequest;
 import com.bookmyshow.dto.BookingResponse;
 import com.bookmyshow.entity.*;
 import com.bookmyshow.enums.BookingStatus;
+import com.bookmyshow.enums.SeatLockingMode;
 import com.bookmyshow.enums.SeatStatus;
 import com.bookmyshow.enums.SeatType;
 import com.bookmyshow.enums.ShowType;
+import com.bookmyshow.event.BookingHeldEvent;
+import com.bookmyshow.event.BookingStatusChangedEvent;
+import com.bookmyshow.event.SeatsReleasedEvent;
 import com.bookmyshow.exception.BookingException;
 import com.bookmyshow.exception.ResourceNotFoundException;
+import com.bookmyshow.exception.SoldOutException;
 import com.bookmyshow.repository.*;
+import com.bookmyshow.service.BookingContentionMetrics;
+import com.bookmyshow.service.BookingService;
 import com.bookmyshow.service.DiscountStrategy;
+import com.bookmyshow.service.DynamicPricingService;
+import com.bookmyshow.service.NegativeLookupCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,14 +27,20 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -50,6 +65,18 @@ class BookingServiceImplTest {
     @Mock
     private DiscountStrategy discountStrategy;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @Mock
+    private DynamicPricingService dynamicPricingService;
+
+    @Mock
+    private BookingContentionMetrics contentionMetrics;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -84,7 +111,7 @@ class BookingServiceImplTest {
         morningShow.setMovie(movie);
         morningShow.setTheatre(theatre);
         morningShow.setShowDateTime(LocalDateTime.of(2026, 1, 21, 10, 0));
-        morningShow.setBasePrice(200.0);
+        morningShow.setBasePriceMinor(20000);
         morningShow.setShowType(ShowType.MORNING);
         morningShow.setAvailableSeats(100);
 
@@ -93,33 +120,38 @@ class BookingServiceImplTest {
         afternoonShow.setMovie(movie);
         afternoonShow.setTheatre(theatre);
         afternoonShow.setShowDateTime(LocalDateTime.of(2026, 1, 21, 14, 0));
-        afternoonShow.setBasePrice(150.0);
+        afternoonShow.setBasePriceMinor(15000);
         afternoonShow.setShowType(ShowType.AFTERNOON);
         afternoonShow.setAvailableSeats(100);
 
         seat1 = new Seat();
         seat1.setId(1L);
         seat1.setShow(morningShow);
+        seat1.setSeatIndex(0);
         seat1.setSeatNumber("R1");
         seat1.setSeatType(SeatType.REGULAR);
         seat1.setStatus(SeatStatus.AVAILABLE);
-        seat1.setPrice(200.0);
+        seat1.setPriceMinor(20000);
 
         seat2 = new Seat();
         seat2.setId(2L);
         seat2.setShow(morningShow);
+        seat2.setSeatIndex(1);
         seat2.setSeatNumber("R2");
         seat2.setSeatType(SeatType.REGULAR);
         seat2.setStatus(SeatStatus.AVAILABLE);
-        seat2.setPrice(200.0);
+        seat2.setPriceMinor(20000);
 
         seat3 = new Seat();
         seat3.setId(3L);
         seat3.setShow(morningShow);
+        seat3.setSeatIndex(2);
         seat3.setSeatNumber("R3");
         seat3.setSeatType(SeatType.REGULAR);
         seat3.setStatus(SeatStatus.AVAILABLE);
-        seat3.setPrice(200.0);
+        seat3.setPriceMinor(20000);
+
+        lenient().when(dynamicPricingService.multiplierBasisPoints(any())).thenReturn(10_000); // List price
     }
 
     @Test
@@ -132,18 +164,20 @@ class BookingServiceImplTest {
         List<Seat> seats = Arrays.asList(seat1, seat2, seat3);
 
         when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
-        when(showRepository.findById(1L)).thenReturn(Optional.of(morningShow));
-        when(seatRepository.findAllById(request.getSeatIds())).thenReturn(seats);
-        when(discountStrategy.calculateDiscount(600.0, 3, false)).thenReturn(100.0);
+        when(showRepository.findByIdWithMovieAndTheatre(1L)).thenReturn(Optional.of(morningShow));
+        when(seatRepository.findSeatsOfShow(request.getShowId(), request.getSeatIds(), request.getSeatIndexes())).thenReturn(seats);
+        when(discountStrategy.calculateDiscount(discountFor(60000, 3, ShowType.MORNING))).thenReturn(10000L);
+        stubSeatClaim(1L, List.of(0, 1, 2));
         
         Booking savedBooking = new Booking();
         savedBooking.setId(1L);
         savedBooking.setUser(user);
         savedBooking.setShow(morningShow);
         savedBooking.setSeats(seats);
+        savedBooking.setSeatNumbers(seatNumbers(seats));
         savedBooking.setBookingDateTime(LocalDateTime.now());
-        savedBooking.setTotalAmount(500.0);
-        savedBooking.setDiscountApplied(100.0);
+        savedBooking.setTotalAmountMinor(60000);
+        savedBooking.setDiscountMinor(10000);
         savedBooking.setStatus(BookingStatus.CONFIRMED);
         savedBooking.setBookingReference("BMS-TEST123");
         
@@ -158,18 +192,49 @@ class BookingServiceImplTest {
         assertEquals("BMS-TEST123", response.getBookingReference());
         assertEquals("Inception", response.getMovieTitle());
         assertEquals("PVR Cinemas", response.getTheatreName());
-        assertEquals(500.0, response.getTotalAmount());
-        assertEquals(100.0, response.getDiscountApplied());
+        assertEquals(60000L, response.getTotalAmountMinor());
+        assertEquals(10000L, response.getDiscountMinor());
+        assertEquals(50000L, response.getFinalAmountMinor());
         assertEquals("CONFIRMED", response.getStatus());
         assertEquals(3, response.getSeatNumbers().size());
 
         verify(userRepository, times(1)).findByUsername("john");
-        verify(showRepository, times(1)).findById(1L);
-        verify(seatRepository, times(1)).findAllById(request.getSeatIds());
-        verify(discountStrategy, times(1)).calculateDiscount(600.0, 3, false);
-        verify(bookingRepository, times(1)).save(any(Booking.class));
-        verify(showRepository, times(1)).save(morningShow);
-        verify(seatRepository, times(3)).save(any(Seat.class));
+        verify(showRepository, times(1)).findByIdWithMovieAndTheatre(1L);
+        verify(seatRepository, times(1)).findSeatsOfShow(request.getShowId(), request.getSeatIds(), request.getSeatIndexes());
+        verify(discountStrategy, times(1)).calculateDiscount(discountFor(60000, 3, ShowType.MORNING));
+        ArgumentCaptor<Booking> saved = ArgumentCaptor.forClass(Booking.class);
+        verify(bookingRepository, times(1)).save(saved.capture());
+        assertEquals(60000L, saved.getValue().getTotalAmountMinor()); // Stored before discount, discounted once
+        assertEquals(50000L, saved.getValue().getFinalAmountMinor());
+        verify(seatRepository, times(1)).claimAvailableSeats(eq(1L), eq(List.of(0, 1, 2)), any(Booking.class), eq(SeatStatus.BOOKED));
+        verify(showRepository, times(1)).decrementAvailableSeats(1L, 3);
+        verify(showRepository, never()).save(any());
+    }
+
+    @Test
+    void testBookTickets_DemandMultiplier_IsAppliedAndSnapshotted() {
+        // Arrange
+        BookingRequest request = new BookingRequest(1L, Arrays.asList(1L, 2L, 3L));
+        List<Seat> seats = Arrays.asList(seat1, seat2, seat3);
+
+        when(dynamicPricingService.multiplierBasisPoints(1L)).thenReturn(12_500);
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
+        when(showRepository.findByIdWithMovieAndTheatre(1L)).thenReturn(Optional.of(morningShow));
+        when(seatRepository.findSeatsOfShow(request.getShowId(), request.getSeatIds(), request.getSeatIndexes())).thenReturn(seats);
+        when(discountStrategy.calculateDiscount(discountFor(75000, 3, ShowType.MORNING))).thenReturn(12500L);
+        stubSeatClaim(1L, List.of(0, 1, 2));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BookingResponse response = bookingService.bookTickets(request, "john");
+
+        // Assert
+        assertEquals(75000L, response.getTotalAmountMinor()); // 3 x 200 at 1.25x
+        assertEquals(62500L, response.getFinalAmountMinor());
+        assertEquals(12_500, response.getPriceMultiplierBasisPoints());
+        ArgumentCaptor<Booking> saved = ArgumentCaptor.forClass(Booking.class);
+        verify(bookingRepository).save(saved.capture());
+        assertEquals(12_500, saved.getValue().getPriceMultiplierBasisPoints());
     }
 
     @Test
@@ -181,24 +246,26 @@ class BookingServiceImplTest {
 
         seat1.setShow(afternoonShow);
         seat2.setShow(afternoonShow);
-        seat1.setPrice(150.0);
-        seat2.setPrice(150.0);
+        seat1.setPriceMinor(15000);
+        seat2.setPriceMinor(15000);
         
         List<Seat> seats = Arrays.asList(seat1, seat2);
 
         when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
-        when(showRepository.findById(2L)).thenReturn(Optional.of(afternoonShow));
-        when(seatRepository.findAllById(request.getSeatIds())).thenReturn(seats);
-        when(discountStrategy.calculateDiscount(300.0, 2, true)).thenReturn(60.0);
+        when(showRepository.findByIdWithMovieAndTheatre(2L)).thenReturn(Optional.of(afternoonShow));
+        when(seatRepository.findSeatsOfShow(request.getShowId(), request.getSeatIds(), request.getSeatIndexes())).thenReturn(seats);
+        when(discountStrategy.calculateDiscount(discountFor(30000, 2, ShowType.AFTERNOON))).thenReturn(6000L);
+        stubSeatClaim(2L, List.of(0, 1));
         
         Booking savedBooking = new Booking();
         savedBooking.setId(1L);
         savedBooking.setUser(user);
         savedBooking.setShow(afternoonShow);
         savedBooking.setSeats(seats);
+        savedBooking.setSeatNumbers(seatNumbers(seats));
         savedBooking.setBookingDateTime(LocalDateTime.now());
-        savedBooking.setTotalAmount(240.0);
-        savedBooking.setDiscountApplied(60.0);
+        savedBooking.setTotalAmountMinor(30000);
+        savedBooking.setDiscountMinor(6000);
         savedBooking.setStatus(BookingStatus.CONFIRMED);
         savedBooking.setBookingReference("BMS-AFTER123");
         
@@ -209,11 +276,12 @@ class BookingServiceImplTest {
 
         // Assert
         assertNotNull(response);
-        assertEquals(240.0, response.getTotalAmount());
-        assertEquals(60.0, response.getDiscountApplied());
+        assertEquals(30000L, response.getTotalAmountMinor());
+        assertEquals(6000L, response.getDiscountMinor());
+        assertEquals(24000L, response.getFinalAmountMinor());
         
         // Verify afternoon show discount was calculated
-        verify(discountStrategy, times(1)).calculateDiscount(300.0, 2, true);
+        verify(discountStrategy, times(1)).calculateDiscount(discountFor(30000, 2, ShowType.AFTERNOON));
     }
 
     @Test
@@ -233,7 +301,7 @@ class BookingServiceImplTest {
 
         assertTrue(exception.getMessage().contains("User not found"));
         verify(userRepository, times(1)).findByUsername("nonexistent");
-        verify(showRepository, never()).findById(any());
+        verify(showRepository, never()).findByIdWithMovieAndTheatre(any());
     }
 
     @Test
@@ -244,7 +312,7 @@ class BookingServiceImplTest {
         request.setSeatIds(Arrays.asList(1L, 2L));
 
         when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
-        when(showRepository.findById(999L)).thenReturn(Optional.empty());
+        when(showRepository.findByIdWithMovieAndTheatre(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(
@@ -254,8 +322,8 @@ class BookingServiceImplTest {
 
         assertTrue(exception.getMessage().contains("Show not found"));
         verify(userRepository, times(1)).findByUsername("john");
-        verify(showRepository, times(1)).findById(999L);
-        verify(seatRepository, never()).findAllById(any());
+        verify(showRepository, times(1)).findByIdWithMovieAndTheatre(999L);
+        verify(seatRepository, never()).findSeatsOfShow(any(), any(), any());
     }
 
     @Test
@@ -268,8 +336,8 @@ class BookingServiceImplTest {
         List<Seat> seats = Arrays.asList(seat1, seat2); // Only 2 seats found, 3 requested
 
         when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
-        when(showRepository.findById(1L)).thenReturn(Optional.of(morningShow));
-        when(seatRepository.findAllById(request.getSeatIds())).thenReturn(seats);
+        when(showRepository.findByIdWithMovieAndTheatre(1L)).thenReturn(Optional.of(morningShow));
+        when(seatRepository.findSeatsOfShow(request.getShowId(), request.getSeatIds(), request.getSeatIndexes())).thenReturn(seats);
 
         // Act & Assert
         BookingException exception = assertThrows(
@@ -281,6 +349,47 @@ class BookingServiceImplTest {
         verify(bookingRepository, never()).save(any());
     }
 
+    @Test
+    void testHoldTickets_SeatOfAnotherShowIsRejected() {
+        // Arrange - seat 1 belongs to the morning show, so the afternoon show's partition does not return it
+        BookingRequest request = new BookingRequest(2L, Arrays.asList(1L));
+
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
+        when(showRepository.findByIdWithMovieAndTheatre(2L)).thenReturn(Optional.of(afternoonShow));
+        when(seatRepository.findSeatsOfShow(2L, request.getSeatIds(), null)).thenReturn(List.of());
+
+        // Act & Assert
+        BookingException exception = assertThrows(
+            BookingException.class,
+            () -> bookingService.holdTickets(request, "john")
+        );
+
+        assertEquals("Some seats were not found", exception.getMessage());
+        verify(seatRepository, never()).claimAvailableSeats(any(), any(), any(), any());
+    }
+
+    @Test
+    void testHoldTickets_BySeatIndex_ClaimsWithinShow() {
+        // Arrange
+        ReflectionTestUtils.setField(bookingService, "holdTtlSeconds", 600L);
+        BookingRequest request = BookingRequest.forSeatIndexes(1L, Arrays.asList(1, 2));
+
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
+        when(showRepository.findByIdWithMovieAndTheatre(1L)).thenReturn(Optional.of(morningShow));
+        when(seatRepository.findSeatsOfShow(1L, null, request.getSeatIndexes())).thenReturn(Arrays.asList(seat2, seat3));
+        when(discountStrategy.calculateDiscount(discountFor(40000, 2, ShowType.MORNING))).thenReturn(0L);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(seatRepository.claimAvailableSeats(eq(1L), eq(List.of(1, 2)), any(Booking.class), eq(SeatStatus.LOCKED))).thenReturn(2);
+        when(showRepository.decrementAvailableSeats(1L, 2)).thenReturn(1);
+
+        // Act
+        BookingResponse response = bookingService.holdTickets(request, "john");
+
+        // Assert
+        assertEquals(Arrays.asList("R2", "R3"), response.getSeatNumbers());
+        assertEquals("PENDING", response.getStatus());
+    }
+
     @Test
     void testBookTickets_SeatsNotAvailable() {
         // Arrange
@@ -292,8 +401,8 @@ class BookingServiceImplTest {
         List<Seat> seats = Arrays.asList(seat1, seat2);
 
         when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
-        when(showRepository.findById(1L)).thenReturn(Optional.of(morningShow));
-        when(seatRepository.findAllById(request.getSeatIds())).thenReturn(seats);
+        when(showRepository.findByIdWithMovieAndTheatre(1L)).thenReturn(Optional.of(morningShow));
+        when(seatRepository.findSeatsOfShow(request.getShowId(), request.getSeatIds(), request.getSeatIndexes())).thenReturn(seats);
 
         // Act & Assert
         BookingException exception = assertThrows(
@@ -304,11 +413,32 @@ class BookingServiceImplTest {
         assertTrue(exception.getMessage().contains("Seats not available"));
         assertTrue(exception.getMessage().contains("R1"));
         verify(bookingRepository, never()).save(any());
+        verify(contentionMetrics).record(1L, BookingContentionMetrics.Kind.SEAT_CONFLICT);
     }
 
     @Test
-    void testBookTickets_UpdatesSeatStatus() {
+    void testBookTickets_SoldOutSkipsSeatLookup() {
         // Arrange
+        BookingRequest request = new BookingRequest(1L, Arrays.asList(1L, 2L));
+        morningShow.setAvailableSeats(0);
+
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
+        when(showRepository.findByIdWithMovieAndTheatre(1L)).thenReturn(Optional.of(morningShow));
+
+        // Act & Assert
+        SoldOutException exception = assertThrows(
+            SoldOutException.class,
+            () -> bookingService.bookTickets(request, "john")
+        );
+
+        assertTrue(exception.getMessage().contains("waitlist"));
+        verify(seatRepository, never()).findSeatsOfShow(any(), any(), any());
+    }
+
+    @Test
+    void testBookTickets_Pessimistic_UpdatesLockedSeats() {
+        // Arrange
+        ReflectionTestUtils.setField(bookingService, "lockingMode", SeatLockingMode.PESSIMISTIC);
         BookingRequest request = new BookingRequest();
         request.setShowId(1L);
         request.setSeatIds(Arrays.asList(1L, 2L));
@@ -316,17 +446,19 @@ class BookingServiceImplTest {
         List<Seat> seats = Arrays.asList(seat1, seat2);
 
         when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
-        when(showRepository.findById(1L)).thenReturn(Optional.of(morningShow));
-        when(seatRepository.findAllById(request.getSeatIds())).thenReturn(seats);
-        when(discountStrategy.calculateDiscount(anyDouble(), anyInt(), anyBoolean())).thenReturn(0.0);
+        when(showRepository.findByIdWithMovieAndTheatre(1L)).thenReturn(Optional.of(morningShow));
+        when(seatRepository.findSeatsOfShowForUpdate(request.getShowId(), request.getSeatIds(), request.getSeatIndexes())).thenReturn(seats);
+        when(discountStrategy.calculateDiscount(any(DiscountStrategy.Context.class))).thenReturn(0L);
+        when(showRepository.decrementAvailableSeats(1L, 2)).thenReturn(1);
         
         Booking savedBooking = new Booking();
         savedBooking.setId(1L);
         savedBooking.setBookingReference("BMS-TEST");
         savedBooking.setShow(morningShow);
         savedBooking.setSeats(seats);
-        savedBooking.setTotalAmount(400.0);
-        savedBooking.setDiscountApplied(0.0);
+        savedBooking.setSeatNumbers(seatNumbers(seats));
+        savedBooking.setTotalAmountMinor(40000);
+        savedBooking.setDiscountMinor(0);
         savedBooking.setStatus(BookingStatus.CONFIRMED);
         savedBooking.setBookingDateTime(LocalDateTime.now());
         when(bookingRepository.save(any(Booking.class))).thenReturn(savedBooking);
@@ -340,6 +472,35 @@ class BookingServiceImplTest {
         
         List<Seat> savedSeats = seatCaptor.getAllValues();
         assertTrue(savedSeats.stream().allMatch(s -> s.getStatus() == SeatStatus.BOOKED));
+        verify(seatRepository, never()).findSeatsOfShow(any(), any(), any());
+        verify(seatRepository, never()).claimAvailableSeats(any(), any(), any(), any());
+        verify(showRepository).decrementAvailableSeats(1L, 2);
+    }
+
+    @Test
+    void testBookTickets_Optimistic_VersionConflictRejectsBooking() {
+        // Arrange
+        ReflectionTestUtils.setField(bookingService, "lockingMode", SeatLockingMode.OPTIMISTIC);
+        BookingRequest request = new BookingRequest(1L, Arrays.asList(1L, 2L));
+
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
+        when(showRepository.findByIdWithMovieAndTheatre(1L)).thenReturn(Optional.of(morningShow));
+        when(seatRepository.findSeatsOfShow(request.getShowId(), request.getSeatIds(), request.getSeatIndexes()))
+            .thenReturn(Arrays.asList(seat1, seat2));
+        when(discountStrategy.calculateDiscount(any(DiscountStrategy.Context.class))).thenReturn(0L);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new ObjectOptimisticLockingFailureException(Seat.class, 1L)).when(seatRepository).flush();
+
+        // Act & Assert
+        BookingException exception = assertThrows(
+            BookingException.class,
+            () -> bookingService.bookTickets(request, "john")
+        );
+
+        assertTrue(exception.getMessage().contains("just booked"));
+        verify(contentionMetrics).record(1L, BookingContentionMetrics.Kind.SEAT_CONFLICT);
+        verify(showRepository, never()).decrementAvailableSeats(any(), anyInt());
+        verify(eventPublisher, never()).publishEvent(any(BookingStatusChangedEvent.class));
     }
 
     @Test
@@ -350,20 +511,21 @@ class BookingServiceImplTest {
         request.setSeatIds(Arrays.asList(1L, 2L, 3L));
 
         List<Seat> seats = Arrays.asList(seat1, seat2, seat3);
-        int initialAvailableSeats = morningShow.getAvailableSeats();
 
         when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
-        when(showRepository.findById(1L)).thenReturn(Optional.of(morningShow));
-        when(seatRepository.findAllById(request.getSeatIds())).thenReturn(seats);
-        when(discountStrategy.calculateDiscount(anyDouble(), anyInt(), anyBoolean())).thenReturn(0.0);
+        when(showRepository.findByIdWithMovieAndTheatre(1L)).thenReturn(Optional.of(morningShow));
+        when(seatRepository.findSeatsOfShow(request.getShowId(), request.getSeatIds(), request.getSeatIndexes())).thenReturn(seats);
+        when(discountStrategy.calculateDiscount(any(DiscountStrategy.Context.class))).thenReturn(0L);
+        stubSeatClaim(1L, List.of(0, 1, 2));
         
         Booking savedBooking = new Booking();
         savedBooking.setId(1L);
         savedBooking.setBookingReference("BMS-TEST");
         savedBooking.setShow(morningShow);
         savedBooking.setSeats(seats);
-        savedBooking.setTotalAmount(600.0);
-        savedBooking.setDiscountApplied(0.0);
+        savedBooking.setSeatNumbers(seatNumbers(seats));
+        savedBooking.setTotalAmountMinor(60000);
+        savedBooking.setDiscountMinor(0);
         savedBooking.setStatus(BookingStatus.CONFIRMED);
         savedBooking.setBookingDateTime(LocalDateTime.now());
         when(bookingRepository.save(any(Booking.class))).thenReturn(savedBooking);
@@ -371,9 +533,9 @@ class BookingServiceImplTest {
         // Act
         bookingService.bookTickets(request, "john");
 
-        // Assert - Verify available seats decreased
-        assertEquals(initialAvailableSeats - 3, morningShow.getAvailableSeats());
-        verify(showRepository, times(1)).save(morningShow);
+        // Assert - Verify available seats decreased in SQL, not by writing back the value read
+        verify(showRepository, times(1)).decrementAvailableSeats(1L, 3);
+        verify(showRepository, never()).save(morningShow);
     }
 
     @Test
@@ -386,17 +548,19 @@ class BookingServiceImplTest {
         List<Seat> seats = Arrays.asList(seat1);
 
         when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
-        when(showRepository.findById(1L)).thenReturn(Optional.of(morningShow));
-        when(seatRepository.findAllById(request.getSeatIds())).thenReturn(seats);
-        when(discountStrategy.calculateDiscount(anyDouble(), anyInt(), anyBoolean())).thenReturn(0.0);
+        when(showRepository.findByIdWithMovieAndTheatre(1L)).thenReturn(Optional.of(morningShow));
+        when(seatRepository.findSeatsOfShow(request.getShowId(), request.getSeatIds(), request.getSeatIndexes())).thenReturn(seats);
+        when(discountStrategy.calculateDiscount(any(DiscountStrategy.Context.class))).thenReturn(0L);
+        stubSeatClaim(1L, List.of(0));
         
         Booking savedBooking = new Booking();
         savedBooking.setId(1L);
         savedBooking.setBookingReference("BMS-UNIQUE");
         savedBooking.setShow(morningShow);
         savedBooking.setSeats(seats);
-        savedBooking.setTotalAmount(200.0);
-        savedBooking.setDiscountApplied(0.0);
+        savedBooking.setSeatNumbers(seatNumbers(seats));
+        savedBooking.setTotalAmountMinor(20000);
+        savedBooking.setDiscountMinor(0);
         savedBooking.setStatus(BookingStatus.CONFIRMED);
         savedBooking.setBookingDateTime(LocalDateTime.now());
         when(bookingRepository.save(any(Booking.class))).thenReturn(savedBooking);
@@ -408,4 +572,356 @@ class BookingServiceImplTest {
         assertNotNull(response.getBookingReference());
         assertTrue(response.getBookingReference().startsWith("BMS-"));
     }
+
+    @Test
+    void testBookPrefetched_ClaimsSeatsWithConditionalUpdate() {
+        // Arrange
+        BookingRequest request = new BookingRequest();
+        request.setShowId(1L);
+        request.setSeatIds(Arrays.asList(1L, 2L));
+
+        List<Seat> seats = Arrays.asList(seat1, seat2);
+        when(discountStrategy.calculateDiscount(discountFor(40000, 2, ShowType.MORNING))).thenReturn(0L);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(seatRepository.claimAvailableSeats(eq(1L), eq(List.of(0, 1)), any(Booking.class), eq(SeatStatus.BOOKED))).thenReturn(2);
+        when(showRepository.decrementAvailableSeats(1L, 2)).thenReturn(1);
+
+        // Act
+        BookingResponse response = bookingService.bookPrefetched(request, new BookingSnapshot(user, morningShow, seats));
+
+        // Assert - no reads and no per-seat saves in the write phase
+        assertEquals(Arrays.asList("R1", "R2"), response.getSeatNumbers());
+        assertEquals("CONFIRMED", response.getStatus());
+        verify(seatRepository, never()).save(any(Seat.class));
+        verify(seatRepository, never()).findSeatsOfShow(any(), any(), any());
+        verify(showRepository, never()).save(any(Show.class));
+    }
+
+    @Test
+    void testBookPrefetched_LostSeatRaceFails() {
+        // Arrange
+        BookingRequest request = new BookingRequest();
+        request.setShowId(1L);
+        request.setSeatIds(Arrays.asList(1L, 2L));
+
+        when(discountStrategy.calculateDiscount(any(DiscountStrategy.Context.class))).thenReturn(0L);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(seatRepository.claimAvailableSeats(eq(1L), eq(List.of(0, 1)), any(Booking.class), eq(SeatStatus.BOOKED))).thenReturn(1);
+
+        // Act & Assert
+        BookingException exception = assertThrows(
+            BookingException.class,
+            () -> bookingService.bookPrefetched(request, new BookingSnapshot(user, morningShow, Arrays.asList(seat1, seat2)))
+        );
+
+        assertTrue(exception.getMessage().contains("Seats not available"));
+        verify(showRepository, never()).decrementAvailableSeats(any(), anyInt());
+        verify(contentionMetrics).record(1L, BookingContentionMetrics.Kind.SEAT_CONFLICT);
+    }
+
+    @Test
+    void testBookPrefetched_LockFailureIsCountedAndRethrown() {
+        // Arrange
+        BookingRequest request = new BookingRequest(1L, Arrays.asList(1L, 2L));
+        when(discountStrategy.calculateDiscount(any(DiscountStrategy.Context.class))).thenReturn(0L);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(seatRepository.claimAvailableSeats(eq(1L), eq(List.of(0, 1)), any(Booking.class), eq(SeatStatus.BOOKED)))
+            .thenThrow(new CannotAcquireLockException("Timeout trying to lock table"));
+
+        // Act & Assert
+        assertThrows(
+            CannotAcquireLockException.class,
+            () -> bookingService.bookPrefetched(request, new BookingSnapshot(user, morningShow, Arrays.asList(seat1, seat2)))
+        );
+
+        verify(contentionMetrics).record(1L, BookingContentionMetrics.Kind.LOCK_FAILURE);
+    }
+
+    @Test
+    void testHoldTickets_LocksSeatsAndPublishesDeadline() {
+        // Arrange
+        ReflectionTestUtils.setField(bookingService, "holdTtlSeconds", 600L);
+        BookingRequest request = new BookingRequest(1L, Arrays.asList(1L, 2L));
+
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
+        when(showRepository.findByIdWithMovieAndTheatre(1L)).thenReturn(Optional.of(morningShow));
+        when(seatRepository.findSeatsOfShow(request.getShowId(), request.getSeatIds(), request.getSeatIndexes())).thenReturn(Arrays.asList(seat1, seat2));
+        when(discountStrategy.calculateDiscount(discountFor(40000, 2, ShowType.MORNING))).thenReturn(0L);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            booking.setId(7L);
+            return booking;
+        });
+        when(seatRepository.claimAvailableSeats(eq(1L), eq(List.of(0, 1)), any(Booking.class), eq(SeatStatus.LOCKED))).thenReturn(2);
+        when(showRepository.decrementAvailableSeats(1L, 2)).thenReturn(1);
+
+        // Act
+        BookingResponse response = bookingService.holdTickets(request, "john");
+
+        // Assert
+        assertEquals("PENDING", response.getStatus());
+        assertEquals(response.getBookingDateTime().plusSeconds(600), response.getExpiresAt());
+        verify(eventPublisher).publishEvent(new BookingHeldEvent(7L, response.getExpiresAt()));
+    }
+
+    @Test
+    void testConfirmHold_MarksSeatsBooked() {
+        // Arrange
+        Booking held = heldBooking(LocalDateTime.now().plusMinutes(5));
+        held.setPaymentReference("PAY1");
+        when(bookingRepository.findForUpdateByBookingReference("BMS-HOLD")).thenReturn(Optional.of(held));
+
+        // Act
+        BookingResponse response = bookingService.confirmHold("BMS-HOLD", "PAY1");
+
+        // Assert
+        assertEquals("CONFIRMED", response.getStatus());
+        assertEquals("PAY1", held.getPaymentReference());
+        verify(seatRepository).updateStatusForBooking(9L, SeatStatus.LOCKED, SeatStatus.BOOKED);
+        ArgumentCaptor<BookingStatusChangedEvent> changed = ArgumentCaptor.forClass(BookingStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(changed.capture());
+        assertEquals("BMS-HOLD", changed.getValue().bookingReference());
+        assertEquals(BookingStatus.CONFIRMED, changed.getValue().status());
+        assertEquals("john", changed.getValue().username());
+        assertEquals(List.of(0, 1), changed.getValue().seatIndexes());
+    }
+
+    @Test
+    void testConfirmHold_RedeliveredCallbackIsIdempotent() {
+        // Arrange
+        Booking held = heldBooking(LocalDateTime.now().plusMinutes(5));
+        held.setStatus(BookingStatus.CONFIRMED);
+        held.setPaymentReference("PAY1");
+        when(bookingRepository.findForUpdateByBookingReference("BMS-HOLD")).thenReturn(Optional.of(held));
+
+        // Act
+        BookingResponse response = bookingService.confirmHold("BMS-HOLD", "PAY1");
+
+        // Assert
+        assertEquals("CONFIRMED", response.getStatus());
+        verify(seatRepository, never()).updateStatusForBooking(any(), any(), any());
+    }
+
+    @Test
+    void testConfirmHold_AfterDeadlineFails() {
+        // Arrange
+        Booking held = heldBooking(LocalDateTime.now().minusSeconds(1));
+        held.setPaymentReference("PAY1");
+        when(bookingRepository.findForUpdateByBookingReference("BMS-HOLD")).thenReturn(Optional.of(held));
+
+        // Act & Assert
+        BookingException exception = assertThrows(
+            BookingException.class,
+            () -> bookingService.confirmHold("BMS-HOLD", "PAY1")
+        );
+
+        assertTrue(exception.getMessage().contains("expired"));
+        assertEquals(BookingStatus.PENDING, held.getStatus());
+    }
+
+    @Test
+    void testConfirmHold_OtherPaymentRejected() {
+        // Arrange
+        Booking held = heldBooking(LocalDateTime.now().plusMinutes(5));
+        held.setPaymentReference("PAY1");
+        when(bookingRepository.findForUpdateByBookingReference("BMS-HOLD")).thenReturn(Optional.of(held));
+
+        // Act & Assert
+        assertThrows(BookingException.class, () -> bookingService.confirmHold("BMS-HOLD", "PAY2"));
+
+        assertEquals(BookingStatus.PENDING, held.getStatus());
+        verify(seatRepository, never()).updateStatusForBooking(any(), any(), any());
+    }
+
+    @Test
+    void testBeginPayment_OneAttemptPerHold() {
+        // Arrange
+        Booking held = heldBooking(LocalDateTime.now().plusMinutes(5));
+        when(bookingRepository.findForUpdateByBookingReference("BMS-HOLD")).thenReturn(Optional.of(held));
+
+        // Act
+        BookingService.PaymentAttempt first = bookingService.beginPayment("BMS-HOLD", "john");
+        BookingService.PaymentAttempt repeated = bookingService.beginPayment("BMS-HOLD", "john");
+
+        // Assert
+        assertNotNull(first.attemptKey());
+        assertEquals(first, repeated);
+        assertEquals(40000L, first.amountMinor());
+        assertNull(first.paymentReference());
+    }
+
+    @Test
+    void testRecordPayment_FirstRecordedPaymentWins() {
+        // Arrange
+        Booking held = heldBooking(LocalDateTime.now().plusMinutes(5));
+        held.setPaymentAttemptKey("KEY1");
+        when(bookingRepository.findForUpdateByBookingReference("BMS-HOLD")).thenReturn(Optional.of(held));
+
+        // Act
+        String first = bookingService.recordPayment("BMS-HOLD", "KEY1", "PAY1");
+        String repeated = bookingService.recordPayment("BMS-HOLD", "KEY1", "PAY2");
+
+        // Assert
+        assertEquals("PAY1", first);
+        assertEquals("PAY1", repeated);
+        assertEquals("PAY1", held.getPaymentReference());
+        assertEquals("PAY1", bookingService.beginPayment("BMS-HOLD", "john").paymentReference());
+        assertThrows(BookingException.class, () -> bookingService.recordPayment("BMS-HOLD", "KEY2", "PAY3"));
+    }
+
+    @Test
+    void testRecordPayment_ReleasedWhileProviderWasCalled() {
+        // Arrange
+        Booking expired = heldBooking(LocalDateTime.now().minusSeconds(1));
+        expired.setPaymentAttemptKey("KEY1");
+        expired.setStatus(BookingStatus.EXPIRED);
+        when(bookingRepository.findForUpdateByBookingReference("BMS-HOLD")).thenReturn(Optional.of(expired));
+
+        // Act & Assert
+        assertThrows(BookingException.class, () -> bookingService.recordPayment("BMS-HOLD", "KEY1", "PAY1"));
+
+        assertNull(expired.getPaymentReference());
+    }
+
+    @Test
+    void testConfirmHold_CallbackBeforePaymentRecorded() {
+        // Arrange
+        Booking held = heldBooking(LocalDateTime.now().plusMinutes(5));
+        held.setPaymentAttemptKey("KEY1");
+        when(bookingRepository.findForUpdateByBookingReference("BMS-HOLD")).thenReturn(Optional.of(held));
+
+        // Act
+        BookingResponse response = bookingService.confirmHold("BMS-HOLD", "PAY1");
+
+        // Assert
+        assertEquals("CONFIRMED", response.getStatus());
+        assertEquals("PAY1", bookingService.recordPayment("BMS-HOLD", "KEY1", "PAY1"));
+    }
+
+    @Test
+    void testBeginPayment_ConfirmedBookingFails() {
+        // Arrange
+        Booking confirmed = heldBooking(LocalDateTime.now().plusMinutes(5));
+        confirmed.setStatus(BookingStatus.CONFIRMED);
+        when(bookingRepository.findForUpdateByBookingReference("BMS-HOLD")).thenReturn(Optional.of(confirmed));
+
+        // Act & Assert
+        assertThrows(BookingException.class, () -> bookingService.beginPayment("BMS-HOLD", "john"));
+    }
+
+    @Test
+    void testReleaseHold_OtherPaymentKeepsHold() {
+        // Arrange
+        Booking held = heldBooking(LocalDateTime.now().plusMinutes(5));
+        held.setPaymentReference("PAY2");
+        when(bookingRepository.findForUpdateByBookingReference("BMS-HOLD")).thenReturn(Optional.of(held));
+
+        // Act & Assert
+        assertThrows(BookingException.class, () -> bookingService.releaseHold("BMS-HOLD", "PAY1"));
+
+        assertEquals(BookingStatus.PENDING, held.getStatus());
+        verify(seatRepository, never()).releaseSeatsForBooking(any());
+    }
+
+    @Test
+    void testExpireHolds_ReleasesSeatsOfDueHolds() {
+        // Arrange
+        Booking held = heldBooking(LocalDateTime.now().minusSeconds(1));
+        when(bookingRepository.findForUpdateByIdInAndStatusAndExpiresAtLessThanEqual(
+            eq(List.of(9L)), eq(BookingStatus.PENDING), any(LocalDateTime.class))).thenReturn(List.of(held));
+        when(seatRepository.releaseSeatsForBooking(9L)).thenReturn(2);
+
+        // Act
+        int expired = bookingService.expireHolds(List.of(9L));
+
+        // Assert
+        assertEquals(1, expired);
+        assertEquals(BookingStatus.EXPIRED, held.getStatus());
+        verify(showRepository).incrementAvailableSeats(1L, 2);
+    }
+
+    @Test
+    void testCancelBooking_ReleasesSeatsAndPublishesThem() {
+        // Arrange
+        morningShow.setShowDateTime(LocalDateTime.now().plusDays(1));
+        Booking booking = heldBooking(LocalDateTime.now().plusMinutes(5));
+        booking.setStatus(BookingStatus.CONFIRMED);
+        when(bookingRepository.findForUpdateByBookingReference("BMS-HOLD")).thenReturn(Optional.of(booking));
+        when(seatRepository.releaseSeatsForBooking(9L)).thenReturn(2);
+
+        // Act
+        BookingResponse response = bookingService.cancelBooking("BMS-HOLD", "john");
+
+        // Assert
+        assertEquals("CANCELLED", response.getStatus());
+        assertEquals(Arrays.asList("R1", "R2"), response.getSeatNumbers());
+        verify(showRepository).incrementAvailableSeats(1L, 2);
+        verify(eventPublisher).publishEvent(new SeatsReleasedEvent(1L, List.of(1L, 2L)));
+        verify(seatRepository, never()).findByShowId(any());
+    }
+
+    @Test
+    void testCancelBooking_OtherUsersBookingIsNotFound() {
+        // Arrange
+        when(bookingRepository.findForUpdateByBookingReference("BMS-HOLD"))
+            .thenReturn(Optional.of(heldBooking(LocalDateTime.now().plusMinutes(5))));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> bookingService.cancelBooking("BMS-HOLD", "jane"));
+        verify(seatRepository, never()).releaseSeatsForBooking(any());
+    }
+
+    @Test
+    void testCancelBooking_AlreadyCancelledFails() {
+        // Arrange
+        morningShow.setShowDateTime(LocalDateTime.now().plusDays(1));
+        Booking booking = heldBooking(LocalDateTime.now().plusMinutes(5));
+        booking.setStatus(BookingStatus.CANCELLED);
+        when(bookingRepository.findForUpdateByBookingReference("BMS-HOLD")).thenReturn(Optional.of(booking));
+
+        // Act & Assert
+        BookingException exception = assertThrows(
+            BookingException.class,
+            () -> bookingService.cancelBooking("BMS-HOLD", "john")
+        );
+
+        assertTrue(exception.getMessage().contains("CANCELLED"));
+        verify(showRepository, never()).incrementAvailableSeats(any(), anyInt());
+    }
+
+    /**
+     * Lets the conditional seat claim and the counter update of a direct booking succeed
+     */
+    private void stubSeatClaim(Long showId, List<Integer> seatIndexes) {
+        when(seatRepository.claimAvailableSeats(eq(showId), eq(seatIndexes), any(Booking.class), eq(SeatStatus.BOOKED)))
+            .thenReturn(seatIndexes.size());
+        when(showRepository.decrementAvailableSeats(showId, seatIndexes.size())).thenReturn(1);
+    }
+
+    private static DiscountStrategy.Context discountFor(long totalAmount, int seatCount, ShowType showType) {
+        return argThat(context -> context.totalAmount() == totalAmount
+            && context.seatCount() == seatCount
+            && context.showType() == showType
+            && "Mumbai".equals(context.city()));
+    }
+
+    private Booking heldBooking(LocalDateTime expiresAt) {
+        Booking booking = new Booking();
+        booking.setId(9L);
+        booking.setBookingReference("BMS-HOLD");
+        booking.setUser(user);
+        booking.setShow(morningShow);
+        booking.setSeats(Arrays.asList(seat1, seat2));
+        booking.setSeatNumbers("R1,R2");
+        booking.setTotalAmountMinor(40000);
+        booking.setDiscountMinor(0);
+        booking.setStatus(BookingStatus.PENDING);
+        booking.setBookingDateTime(expiresAt.minusMinutes(10));
+        booking.setExpiresAt(expiresAt);
+        return booking;
+    }
+
+    private static String seatNumbers(List<Seat> seats) {
+        return String.join(",", seats.stream().map(Seat::getSeatNumber).toList());
+    }
 }
@@ -0,0 +1,256 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.BookingRequest;
+import com.bookmyshow.dto.BookingResponse;
+import com.bookmyshow.entity.Seat;
+import com.bookmyshow.entity.Show;
+import com.bookmyshow.enums.SeatStatus;
+import com.bookmyshow.enums.SeatType;
+import com.bookmyshow.enums.ShowType;
+import com.bookmyshow.exception.BookingException;
+import com.bookmyshow.exception.SoldOutException;
+import com.bookmyshow.repository.MovieRepository;
+import com.bookmyshow.repository.SeatRepository;
+import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.repository.TheatreRepository;
+import com.bookmyshow.service.BookingService;
+import com.bookmyshow.util.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Concurrent booking stress test against the real H2 schema.
+ *
+ * Clients race through BookingService.bookTickets for random, overlapping seat sets of one
+ * small show. Afterwards no seat may be held by two bookings, every successful booking must
+ * own exactly the seats it was given, and the show counter must match its AVAILABLE seats.
+ * Deadlocks and serialization failures are retried a few times and then counted as aborts.
+ *
+ * Runs small in the regular build; scale it up and compare locking modes and isolation levels with:
+ *   mvn test -Dtest=BookingStressTest -Dstress.clients=500 [-Dstress.bookings-per-client=20]
+ *       [-Dstress.seats=300] [-Dstress.locking=conditional|pessimistic|optimistic]
+ *       [-Dstress.isolation=READ_COMMITTED|REPEATABLE_READ|SERIALIZABLE] [-Dstress.pool-size=10]
+ */
+@SpringBootTest(properties = {
+    "logging.level.com.bookmyshow=WARN",
+    "logging.level.com.bookmyshow.service.impl.BookingServiceImpl=OFF", // One line per lost race
+    "logging.level.booking-events=OFF",
+    "booking.logging.events-file=target/stress-booking-events.jsonl"
+})
+class BookingStressTest {
+
+    private static final int CLIENTS = Integer.getInteger("stress.clients", 16);
+    private static final int BOOKINGS_PER_CLIENT = Integer.getInteger("stress.bookings-per-client", 10);
+    private static final int SEAT_COUNT = Integer.getInteger("stress.seats", 60);
+    private static final int MAX_SEATS_PER_BOOKING = 4;
+    private static final int MAX_RETRIES = Integer.getInteger("stress.max-retries", 3);
+    private static final String LOCKING = System.getProperty("stress.locking", "conditional");
+    private static final String ISOLATION = System.getProperty("stress.isolation", "READ_COMMITTED");
+    private static final int POOL_SIZE = Integer.getInteger("stress.pool-size", 10);
+
+    @DynamicPropertySource
+    static void stressProperties(DynamicPropertyRegistry registry) {
+        registry.add("booking.locking.mode", () -> LOCKING);
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:stress-" + LOCKING + "-" + ISOLATION);
+        registry.add("spring.datasource.hikari.transaction-isolation", () -> "TRANSACTION_" + ISOLATION);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> POOL_SIZE);
+    }
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private TheatreRepository theatreRepository;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LongAdder booked = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder aborted = new LongAdder();
+    private final ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+    private final Map<String, Long> seatOwners = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> seatsPerBooking = new ConcurrentHashMap<>();
+    private final List<String> doubleBooked = new ArrayList<>();
+
+    @Test
+    void concurrentBookings_NeverDoubleBookAndKeepCounterInStep() throws InterruptedException {
+        Long showId = seedShow();
+        long[][] latencies = new long[CLIENTS][BOOKINGS_PER_CLIENT];
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+        AtomicInteger clientIds = new AtomicInteger();
+
+        for (int i = 0; i < CLIENTS; i++) {
+            Thread client = new Thread(() -> {
+                long[] own = latencies[clientIds.getAndIncrement()];
+                try {
+                    start.await();
+                    for (int n = 0; n < BOOKINGS_PER_CLIENT; n++) {
+                        long begin = System.nanoTime();
+                        book(showId);
+                        own[n] = System.nanoTime() - begin;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "stress-client-" + i);
+            client.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        report(seconds, Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray());
+        assertTrue(errors.isEmpty(), () -> "Unexpected failures, first: " + errors.peek());
+        assertTrue(doubleBooked.isEmpty(), () -> "Seats handed to two bookings: " + doubleBooked);
+        assertTrue(booked.sum() > 0, "No booking succeeded");
+        assertDatabaseConsistent(showId);
+    }
+
+    /**
+     * One client request: a random 1 to 4 seat set, retried on transient database failures
+     */
+    private void book(Long showId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Integer> seatIndexes = random.ints(0, SEAT_COUNT).distinct()
+            .limit(random.nextInt(1, MAX_SEATS_PER_BOOKING + 1)).boxed().toList();
+        BookingRequest request = BookingRequest.forSeatIndexes(showId, seatIndexes);
+        for (int attempt = 0; ; attempt++) {
+            try {
+                record(bookingService.bookTickets(request, "john"));
+                return;
+            } catch (BookingException | SoldOutException e) {
+                rejected.increment(); // Lost the race for a seat, the expected outcome under contention
+                return;
+            } catch (TransientDataAccessException e) {
+                if (attempt == MAX_RETRIES) {
+                    aborted.increment();
+                    return;
+                }
+                retries.increment();
+                backOff(attempt);
+            } catch (RuntimeException e) {
+                errors.add(e);
+                return;
+            }
+        }
+    }
+
+    private void record(BookingResponse response) {
+        booked.increment();
+        seatsPerBooking.put(response.getBookingId(), response.getSeatNumbers().size());
+        for (String seatNumber : response.getSeatNumbers()) {
+            Long previous = seatOwners.putIfAbsent(seatNumber, response.getBookingId());
+            if (previous != null) {
+                synchronized (doubleBooked) {
+                    doubleBooked.add(seatNumber + " (bookings " + previous + " and " + response.getBookingId() + ")");
+                }
+            }
+        }
+    }
+
+    /**
+     * The database agrees with what clients were told: BOOKED seats belong to exactly the
+     * bookings that succeeded, and the show counter equals the seats still AVAILABLE
+     */
+    private void assertDatabaseConsistent(Long showId) {
+        Map<Long, Integer> bookedSeats = new HashMap<>();
+        jdbcTemplate.query("SELECT booking_id, COUNT(*) FROM seats WHERE show_id = ? AND status = 'BOOKED' GROUP BY booking_id",
+            row -> { bookedSeats.put(row.getLong(1), row.getInt(2)); }, showId);
+        assertEquals(seatsPerBooking, bookedSeats, "BOOKED seats per booking");
+
+        Integer confirmed = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM bookings WHERE show_id = ? AND status = 'CONFIRMED'", Integer.class, showId);
+        assertEquals(booked.intValue(), confirmed, "CONFIRMED bookings");
+
+        Integer available = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM seats WHERE show_id = ? AND status = 'AVAILABLE'", Integer.class, showId);
+        Integer counter = jdbcTemplate.queryForObject(
+            "SELECT available_seats FROM shows WHERE id = ?", Integer.class, showId);
+        assertEquals(available, counter, "Show.availableSeats against AVAILABLE seats");
+    }
+
+    private void report(double seconds, long[] sorted) {
+        System.out.printf("%nBooking stress: %d clients x %d bookings on %d seats, locking %s, isolation %s, pool %d%n",
+            CLIENTS, BOOKINGS_PER_CLIENT, SEAT_COUNT, LOCKING, ISOLATION, POOL_SIZE);
+        System.out.printf("  %.2f s, %.0f requests/s, %.0f bookings/s%n",
+            seconds, sorted.length / seconds, booked.sum() / seconds);
+        System.out.printf("  booked = %d   rejected = %d   retries = %d   aborted = %d   errors = %d%n",
+            booked.sum(), rejected.sum(), retries.sum(), aborted.sum(), errors.size());
+        System.out.printf("  p50 = %.2f ms   p90 = %.2f ms   p99 = %.2f ms   max = %.2f ms%n",
+            percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.90) / 1e6,
+            percentile(sorted, 0.99) / 1e6, sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+    }
+
+    private static void backOff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, 2L << attempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Long seedShow() {
+        Show show = new Show();
+        show.setMovie(movieRepository.findAll().get(0));
+        show.setTheatre(theatreRepository.findAll().get(0));
+        show.setShowDateTime(LocalDateTime.now().plusDays(7).withHour(19).withMinute(0));
+        show.setShowType(ShowType.EVENING);
+        show.setBasePriceMinor(Money.ofMajor(200.0));
+        show.setAvailableSeats(SEAT_COUNT);
+        show = showRepository.save(show);
+
+        List<Seat> seats = new ArrayList<>(SEAT_COUNT);
+        for (int i = 0; i < SEAT_COUNT; i++) {
+            Seat seat = new Seat();
+            seat.setShow(show);
+            seat.setSeatIndex(i);
+            seat.setSeatNumber("S" + (i + 1));
+            seat.setSeatType(SeatType.REGULAR);
+            seat.setStatus(SeatStatus.AVAILABLE);
+            seat.setPriceMinor(show.getBasePriceMinor());
+            seats.add(seat);
+        }
+        seatRepository.saveAll(seats);
+        return show.getId();
+    }
+}
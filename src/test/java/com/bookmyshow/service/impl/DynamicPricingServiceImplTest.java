@@ -0,0 +1,191 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.event.SeatsBookedEvent;
+import com.bookmyshow.event.SeatsReleasedEvent;
+import com.bookmyshow.repository.ShowRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DynamicPricingServiceImpl
+ * Default tiers: 50/75/90% sold add 10/25/50%, 5/20 seats per minute add 5/15%, capped at 75%
+ */
+@ExtendWith(MockitoExtension.class)
+class DynamicPricingServiceImplTest {
+
+    @Mock
+    private ShowRepository showRepository;
+
+    @InjectMocks
+    private DynamicPricingServiceImpl pricingService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pricingService, "enabled", true);
+        ReflectionTestUtils.setField(pricingService, "occupancyThresholds", new int[]{50, 75, 90});
+        ReflectionTestUtils.setField(pricingService, "occupancyMarkups", new int[]{10, 25, 50});
+        ReflectionTestUtils.setField(pricingService, "velocityWindowMinutes", 10);
+        ReflectionTestUtils.setField(pricingService, "velocityThresholds", new int[]{5, 20});
+        ReflectionTestUtils.setField(pricingService, "velocityMarkups", new int[]{5, 15});
+        ReflectionTestUtils.setField(pricingService, "maxMarkup", 75);
+        ReflectionTestUtils.setField(pricingService, "maxTrackedShows", 100);
+        pricingService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testOccupancyTiers() {
+        seed(1L, 100, 80);
+        seed(2L, 100, 40);
+        seed(3L, 100, 5);
+
+        assertEquals(10_000, pricingService.multiplierBasisPoints(1L)); // 20% sold, list price
+        assertEquals(11_000, pricingService.multiplierBasisPoints(2L)); // 60% sold
+        assertEquals(15_000, pricingService.multiplierBasisPoints(3L)); // 95% sold
+    }
+
+    @Test
+    void testShowIsSeededOnce_ThenMovedByCommittedBookingsOnly() {
+        seed(1L, 100, 52);
+        assertEquals(10_000, pricingService.multiplierBasisPoints(1L)); // 48% sold
+
+        List<TransactionSynchronization> rolledBack = inTransaction(
+            () -> pricingService.onSeatsBooked(new SeatsBookedEvent(1L, 2)));
+        complete(rolledBack, TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(10_000, pricingService.multiplierBasisPoints(1L));
+
+        List<TransactionSynchronization> committed = inTransaction(
+            () -> pricingService.onSeatsBooked(new SeatsBookedEvent(1L, 2)));
+        assertEquals(10_000, pricingService.multiplierBasisPoints(1L)); // Not yet committed
+        complete(committed, TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(11_000, pricingService.multiplierBasisPoints(1L)); // 50% sold
+
+        verify(showRepository, times(1)).findOccupancyById(1L);
+    }
+
+    @Test
+    void testRelease_LowersTheTier() {
+        seed(1L, 100, 50);
+        assertEquals(11_000, pricingService.multiplierBasisPoints(1L));
+
+        pricingService.onSeatsReleased(new SeatsReleasedEvent(1L, List.of(7L)));
+
+        assertEquals(10_000, pricingService.multiplierBasisPoints(1L));
+    }
+
+    @Test
+    void testBookingVelocity_AddsToTheOccupancyMarkup() {
+        seed(1L, 1_000, 1_000);
+        pricingService.multiplierBasisPoints(1L);
+
+        pricingService.onSeatsBooked(new SeatsBookedEvent(1L, 60)); // 6 seats per minute over 10 minutes
+        assertEquals(10_500, pricingService.multiplierBasisPoints(1L));
+
+        pricingService.onSeatsBooked(new SeatsBookedEvent(1L, 500)); // 56% sold, 56 seats per minute
+        assertEquals(12_500, pricingService.multiplierBasisPoints(1L));
+    }
+
+    @Test
+    void testMarkupIsCapped() {
+        ReflectionTestUtils.setField(pricingService, "maxMarkup", 20);
+        pricingService.init();
+        seed(1L, 100, 5);
+
+        assertEquals(12_000, pricingService.multiplierBasisPoints(1L));
+    }
+
+    @Test
+    void testUnknownShow_IsListPriceAndNotTracked() {
+        when(showRepository.findOccupancyById(99L)).thenReturn(Optional.empty());
+
+        assertEquals(10_000, pricingService.multiplierBasisPoints(99L));
+        pricingService.onSeatsBooked(new SeatsBookedEvent(99L, 2));
+        assertEquals(10_000, pricingService.multiplierBasisPoints(99L));
+    }
+
+    @Test
+    void testDisabled_IsListPriceWithoutLookups() {
+        ReflectionTestUtils.setField(pricingService, "enabled", false);
+
+        assertEquals(10_000, pricingService.multiplierBasisPoints(1L));
+        verifyNoInteractions(showRepository);
+    }
+
+    @Test
+    void testReconcile_CopiesDatabaseCounters() {
+        seed(1L, 100, 52);
+        pricingService.multiplierBasisPoints(1L);
+        when(showRepository.findSeatCountsByIdIn(any())).thenReturn(List.of(occupancy(1L, 100, 10)));
+
+        pricingService.reconcile();
+
+        assertEquals(15_000, pricingService.multiplierBasisPoints(1L));
+    }
+
+    @Test
+    void testInvalidTiers_FailStartup() {
+        ReflectionTestUtils.setField(pricingService, "occupancyThresholds", new int[]{75, 50});
+        ReflectionTestUtils.setField(pricingService, "occupancyMarkups", new int[]{10, 25});
+
+        assertThrows(IllegalStateException.class, () -> pricingService.init());
+    }
+
+    private void seed(Long showId, long capacity, int availableSeats) {
+        lenient().when(showRepository.findOccupancyById(showId))
+            .thenReturn(Optional.of(occupancy(showId, capacity, availableSeats)));
+    }
+
+    private static ShowRepository.Occupancy occupancy(Long showId, long capacity, int availableSeats) {
+        return new ShowRepository.Occupancy() {
+            @Override
+            public Long getCapacity() {
+                return capacity;
+            }
+
+            @Override
+            public Long getId() {
+                return showId;
+            }
+
+            @Override
+            public Integer getAvailableSeats() {
+                return availableSeats;
+            }
+        };
+    }
+
+    private static List<TransactionSynchronization> inTransaction(Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void complete(List<TransactionSynchronization> synchronizations, int status) {
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
@@ -0,0 +1,112 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.ProfilingSummary;
+import com.bookmyshow.exception.ServiceOverloadedException;
+import com.bookmyshow.jfr.JwtAuthenticationEvent;
+import com.bookmyshow.jfr.SeatConflictEvent;
+import com.bookmyshow.jfr.ShowBrowseEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JfrProfilingServiceImpl
+ */
+class JfrProfilingServiceImplTest {
+
+    @TempDir
+    Path directory;
+
+    private JfrProfilingServiceImpl profilingService;
+
+    @BeforeEach
+    void setUp() {
+        profilingService = new JfrProfilingServiceImpl();
+        ReflectionTestUtils.setField(profilingService, "directory", directory.toString());
+        ReflectionTestUtils.setField(profilingService, "maxSeconds", 1);
+        ReflectionTestUtils.setField(profilingService, "keepRecordings", 5);
+        ReflectionTestUtils.setField(profilingService, "top", 10);
+        profilingService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        profilingService.stop();
+    }
+
+    @Test
+    void testEvents_AreNullWithoutRecording() {
+        assertNull(ShowBrowseEvent.start(1L, "Mumbai"));
+        assertNull(JwtAuthenticationEvent.start());
+        // No-ops on the null event
+        ShowBrowseEvent.end(null, 3);
+        JwtAuthenticationEvent.end(null, "anonymous", 0);
+    }
+
+    @Test
+    void testRecord_CapturesApplicationEvents() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread load = new Thread(() -> {
+            while (running.get()) {
+                ShowBrowseEvent browse = ShowBrowseEvent.start(1L, "Mumbai");
+                ShowBrowseEvent.end(browse, 2);
+                SeatConflictEvent.emit(1L, "seat_conflict");
+            }
+        });
+        load.start();
+        ProfilingSummary summary;
+        try {
+            // Clamped to max-seconds
+            CompletableFuture<ProfilingSummary> recording = profilingService.record(30);
+            assertFalse(recording.isDone()); // Returns while recording
+            summary = recording.get(10, TimeUnit.SECONDS);
+        } finally {
+            running.set(false);
+            load.join();
+        }
+
+        assertTrue(summary.getDurationMs() < 5_000);
+        assertTrue(summary.getEventCounts().getOrDefault("com.bookmyshow.ShowBrowse", 0L) > 0);
+        assertTrue(summary.getEventCounts().getOrDefault("com.bookmyshow.SeatConflict", 0L) > 0);
+        assertFalse(summary.getSlowestEvents().isEmpty());
+        assertTrue(summary.getSlowestEvents().size() <= 10);
+        assertEquals("/api/profiling/recordings/" + summary.getRecordingId(), summary.getDownloadPath());
+
+        Path file = profilingService.getRecordingFile(summary.getRecordingId()).orElseThrow();
+        assertEquals(summary.getFileSizeBytes(), Files.size(file));
+        assertNull(ShowBrowseEvent.start(1L, "Mumbai"));
+    }
+
+    @Test
+    void testGetRecordingFile_RejectsOtherPaths() {
+        assertTrue(profilingService.getRecordingFile("../../etc/passwd").isEmpty());
+        assertTrue(profilingService.getRecordingFile("20260101-000000").isEmpty());
+    }
+
+    @Test
+    void testRecord_OneAtATime() throws Exception {
+        CompletableFuture<ProfilingSummary> first = profilingService.record(1);
+
+        ServiceOverloadedException busy = assertThrows(ServiceOverloadedException.class,
+            () -> profilingService.record(1));
+        assertTrue(busy.getRetryAfterSeconds() <= 1);
+
+        first.get(10, TimeUnit.SECONDS);
+        profilingService.record(1).get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testRecord_RejectsZeroSeconds() {
+        assertThrows(IllegalArgumentException.class, () -> profilingService.record(0));
+    }
+}
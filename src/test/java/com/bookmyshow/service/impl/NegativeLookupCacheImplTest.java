@@ -0,0 +1,78 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.service.NegativeLookupCache.Kind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for NegativeLookupCacheImpl
+ */
+class NegativeLookupCacheImplTest {
+
+    private NegativeLookupCacheImpl cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NegativeLookupCacheImpl();
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "slots", 64);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+        cache.init();
+    }
+
+    @Test
+    void testRecordMissing_IsPerKind() {
+        cache.recordMissing(Kind.MOVIE, 42L);
+
+        assertTrue(cache.isMissing(Kind.MOVIE, 42L));
+        assertFalse(cache.isMissing(Kind.SHOW, 42L));
+        assertFalse(cache.isMissing(Kind.MOVIE, 43L));
+    }
+
+    @Test
+    void testInvalidate_ForgetsCreatedId() {
+        cache.recordMissing(Kind.SHOW, 7L);
+
+        cache.invalidate(Kind.SHOW, 7L);
+
+        assertFalse(cache.isMissing(Kind.SHOW, 7L));
+    }
+
+    @Test
+    void testExpiredEntry_IsNotReported() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        cache.init();
+
+        cache.recordMissing(Kind.SHOW, 5L);
+
+        assertFalse(cache.isMissing(Kind.SHOW, 5L));
+    }
+
+    @Test
+    void testTableIsBounded() {
+        for (long id = 0; id < 10_000; id++) {
+            cache.recordMissing(Kind.SHOW, id);
+        }
+
+        long remembered = 0;
+        for (long id = 0; id < 10_000; id++) {
+            if (cache.isMissing(Kind.SHOW, id)) {
+                remembered++;
+            }
+        }
+        assertTrue(remembered <= 64);
+        assertTrue(cache.isMissing(Kind.SHOW, 9_999L));
+    }
+
+    @Test
+    void testDisabled_NeverReportsMissing() {
+        ReflectionTestUtils.setField(cache, "enabled", false);
+
+        cache.recordMissing(Kind.MOVIE, 1L);
+
+        assertFalse(cache.isMissing(Kind.MOVIE, 1L));
+    }
+}
@@ -0,0 +1,207 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.OutboxStats;
+import com.bookmyshow.entity.OutboxEvent;
+import com.bookmyshow.enums.BookingStatus;
+import com.bookmyshow.event.BookingStatusChangedEvent;
+import com.bookmyshow.event.OutboxMessage;
+import com.bookmyshow.repository.OutboxEventRepository;
+import com.bookmyshow.service.OutboxConsumer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboxServiceImpl, delivering to the in-memory sink
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceImplTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ObjectProvider<OutboxConsumer> consumerProvider;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final InMemoryOutboxSink sink = new InMemoryOutboxSink();
+    private final FlakyConsumer flaky = new FlakyConsumer();
+    private OutboxServiceImpl outboxService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sink, "capacity", 100);
+        outboxService = new OutboxServiceImpl(outboxEventRepository, objectMapper, consumerProvider);
+        ReflectionTestUtils.setField(outboxService, "batchSize", 100);
+        ReflectionTestUtils.setField(outboxService, "maxBatchesPerPoll", 10);
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outboxService, "retryBackoffMs", 1000L);
+        ReflectionTestUtils.setField(outboxService, "maxRetryBackoffMs", 60_000L);
+        lenient().when(consumerProvider.orderedStream()).thenAnswer(invocation -> Stream.of(sink, flaky));
+    }
+
+    @Test
+    void testOnBookingStatusChanged_WritesRowForTheShow() throws Exception {
+        // Arrange
+        BookingStatusChangedEvent event = event("BMS-1", 1L, BookingStatus.CONFIRMED);
+
+        // Act
+        outboxService.onBookingStatusChanged(event);
+
+        // Assert
+        ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(saved.capture());
+        assertEquals(OutboxServiceImpl.BOOKING_STATUS_CHANGED, saved.getValue().getEventType());
+        assertEquals(1L, saved.getValue().getShowId());
+        assertEquals(0, saved.getValue().getAttempts());
+        assertEquals(event, objectMapper.readValue(saved.getValue().getPayload(), BookingStatusChangedEvent.class));
+    }
+
+    @Test
+    void testRelay_DeliversInOrderAndDeletesDelivered() {
+        // Arrange
+        List<OutboxEvent> batch = List.of(
+            row(1L, "BMS-1", 1L, BookingStatus.PENDING),
+            row(2L, "BMS-2", 2L, BookingStatus.CONFIRMED),
+            row(3L, "BMS-1", 1L, BookingStatus.CONFIRMED));
+        when(outboxEventRepository.findDeliverable(any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(batch, List.of());
+
+        // Act
+        int delivered = outboxService.relay();
+
+        // Assert
+        assertEquals(3, delivered);
+        assertEquals(List.of(1L, 2L, 3L), sink.getRecent().stream().map(OutboxMessage::id).toList());
+        assertEquals(BookingStatus.CONFIRMED, sink.getRecent().get(2).event().status());
+        assertEquals(1, sink.getRecent().get(0).attempt());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void testRelay_FailureHoldsBackOnlyThatShow() {
+        // Arrange
+        flaky.failing = Set.of(1L);
+        OutboxEvent failing = row(1L, "BMS-1", 1L, BookingStatus.PENDING);
+        List<OutboxEvent> batch = List.of(
+            failing,
+            row(2L, "BMS-2", 2L, BookingStatus.CONFIRMED),
+            row(3L, "BMS-1", 1L, BookingStatus.CONFIRMED));
+        when(outboxEventRepository.findDeliverable(any(LocalDateTime.class), any(Pageable.class))).thenReturn(batch);
+
+        // Act
+        int delivered = outboxService.relay();
+
+        // Assert
+        assertEquals(1, delivered);
+        assertEquals(List.of(2L), flaky.accepted);
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(2L));
+        verify(outboxEventRepository).save(failing);
+        assertEquals(1, failing.getAttempts());
+        assertTrue(failing.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertNull(failing.getParkedAt());
+        assertTrue(failing.getLastError().startsWith("flaky: "));
+        verify(outboxEventRepository, times(1)).findDeliverable(any(), any()); // Stops after a partial batch
+    }
+
+    @Test
+    void testRelay_ParksAfterMaxAttempts() {
+        // Arrange
+        flaky.failing = Set.of(1L);
+        OutboxEvent failing = row(1L, "BMS-1", 1L, BookingStatus.PENDING);
+        failing.setAttempts(2);
+        when(outboxEventRepository.findDeliverable(any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(List.of(failing));
+
+        // Act
+        outboxService.relay();
+
+        // Assert
+        assertEquals(3, failing.getAttempts());
+        assertNotNull(failing.getParkedAt());
+        assertNull(failing.getNextAttemptAt());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of());
+    }
+
+    @Test
+    void testGetStats_ReportsBacklogAndLag() {
+        // Arrange
+        OutboxEvent old = row(1L, "BMS-1", 1L, BookingStatus.CONFIRMED);
+        old.setCreatedAt(LocalDateTime.now().minusSeconds(5));
+        when(outboxEventRepository.findDeliverable(any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(List.of(old), List.of());
+        outboxService.relay();
+        when(outboxEventRepository.countByParkedAtIsNull()).thenReturn(4L);
+        when(outboxEventRepository.countByParkedAtIsNotNull()).thenReturn(1L);
+        when(outboxEventRepository.findFirstByParkedAtIsNullOrderByIdAsc()).thenReturn(Optional.of(old));
+
+        // Act
+        OutboxStats stats = outboxService.getStats();
+
+        // Assert
+        assertEquals(4, stats.getPending());
+        assertEquals(1, stats.getParked());
+        assertEquals(1, stats.getDelivered());
+        assertTrue(stats.getOldestPendingAgeMs() >= 5000);
+        assertTrue(stats.getMaxDeliveryLagMs() >= 5000);
+        assertEquals(List.of("memory", "flaky"), stats.getConsumers());
+    }
+
+    private OutboxEvent row(Long id, String reference, Long showId, BookingStatus status) {
+        OutboxEvent row = new OutboxEvent();
+        row.setId(id);
+        row.setEventType(OutboxServiceImpl.BOOKING_STATUS_CHANGED);
+        row.setShowId(showId);
+        row.setCreatedAt(LocalDateTime.now());
+        try {
+            row.setPayload(objectMapper.writeValueAsString(event(reference, showId, status)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return row;
+    }
+
+    private static BookingStatusChangedEvent event(String reference, Long showId, BookingStatus status) {
+        return new BookingStatusChangedEvent(7L, reference, showId, "john", status, List.of(0, 1), 40000,
+            LocalDateTime.of(2026, 1, 21, 10, 0));
+    }
+
+    /**
+     * Consumer that rejects the listed message ids and records the rest
+     */
+    private static final class FlakyConsumer implements OutboxConsumer {
+        private Set<Long> failing = Set.of();
+        private final List<Long> accepted = new ArrayList<>();
+
+        @Override
+        public String name() {
+            return "flaky";
+        }
+
+        @Override
+        public void accept(OutboxMessage message) {
+            if (failing.contains(message.id())) {
+                throw new IllegalStateException("downstream unavailable");
+            }
+            accepted.add(message.id());
+        }
+    }
+}
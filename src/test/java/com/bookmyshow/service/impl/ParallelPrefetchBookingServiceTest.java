@@ -0,0 +1,134 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.BookingRequest;
+import com.bookmyshow.dto.BookingResponse;
+import com.bookmyshow.entity.Seat;
+import com.bookmyshow.entity.Show;
+import com.bookmyshow.entity.User;
+import com.bookmyshow.exception.ResourceNotFoundException;
+import com.bookmyshow.repository.SeatRepository;
+import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.repository.UserRepository;
+import com.bookmyshow.service.NegativeLookupCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ParallelPrefetchBookingService
+ * Tests concurrent lookups and fail-fast behaviour
+ */
+@ExtendWith(MockitoExtension.class)
+class ParallelPrefetchBookingServiceTest {
+
+    @Mock
+    private BookingServiceImpl bookingService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ShowRepository showRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    private ParallelPrefetchBookingService prefetchService;
+
+    private BookingRequest request;
+
+    @BeforeEach
+    void setUp() {
+        prefetchService = new ParallelPrefetchBookingService(
+            bookingService, userRepository, showRepository, seatRepository, transactionManager, negativeLookupCache);
+        ReflectionTestUtils.setField(prefetchService, "useVirtualThreads", false);
+        ReflectionTestUtils.setField(prefetchService, "poolSize", 4);
+        prefetchService.start();
+
+        request = new BookingRequest();
+        request.setShowId(1L);
+        request.setSeatIds(Arrays.asList(1L, 2L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        prefetchService.stop();
+    }
+
+    @Test
+    void testBookTickets_RunsLookupsConcurrently() {
+        User user = new User();
+        user.setUsername("john");
+        Show show = new Show();
+        show.setId(1L);
+        List<Seat> seats = Arrays.asList(new Seat(), new Seat());
+
+        // Every lookup waits until all three have started; this only passes if they overlap
+        CountDownLatch allStarted = new CountDownLatch(3);
+        when(userRepository.findByUsername("john")).thenAnswer(invocation -> awaitOthers(allStarted, Optional.of(user)));
+        when(showRepository.findByIdWithMovieAndTheatre(1L)).thenAnswer(invocation -> awaitOthers(allStarted, Optional.of(show)));
+        when(seatRepository.findSeatsOfShow(request.getShowId(), request.getSeatIds(), request.getSeatIndexes())).thenAnswer(invocation -> awaitOthers(allStarted, seats));
+        when(bookingService.bookPrefetched(eq(request), any())).thenReturn(new BookingResponse());
+
+        prefetchService.bookTickets(request, "john");
+
+        ArgumentCaptor<BookingSnapshot> snapshot = ArgumentCaptor.forClass(BookingSnapshot.class);
+        verify(bookingService).bookPrefetched(eq(request), snapshot.capture());
+        assertSame(user, snapshot.getValue().user());
+        assertSame(show, snapshot.getValue().show());
+        assertSame(seats, snapshot.getValue().seats());
+    }
+
+    @Test
+    void testBookTickets_FailsFastOnMissingShow() {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        // The show lookup may fail before the user lookup is even scheduled
+        lenient().when(userRepository.findByUsername("john")).thenAnswer(invocation -> {
+            neverReleased.await(5, TimeUnit.SECONDS);
+            return Optional.of(new User());
+        });
+        when(showRepository.findByIdWithMovieAndTheatre(1L)).thenReturn(Optional.empty());
+        lenient().when(seatRepository.findSeatsOfShow(any(), any(), any())).thenReturn(List.of());
+
+        long start = System.nanoTime();
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+            () -> prefetchService.bookTickets(request, "john"));
+
+        assertTrue(exception.getMessage().contains("Show not found"));
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5,
+            "Should not wait for the slow user lookup");
+        verify(bookingService, never()).bookPrefetched(any(), any());
+        neverReleased.countDown();
+    }
+
+    private static <T> T awaitOthers(CountDownLatch allStarted, T result) throws InterruptedException {
+        allStarted.countDown();
+        if (!allStarted.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Lookups did not run concurrently");
+        }
+        return result;
+    }
+}
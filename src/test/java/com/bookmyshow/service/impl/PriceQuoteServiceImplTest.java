@@ -0,0 +1,218 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.QuoteRequest;
+import com.bookmyshow.dto.QuoteResponse;
+import com.bookmyshow.entity.Show;
+import com.bookmyshow.entity.Theatre;
+import com.bookmyshow.enums.SeatType;
+import com.bookmyshow.enums.ShowType;
+import com.bookmyshow.exception.BookingException;
+import com.bookmyshow.exception.ResourceNotFoundException;
+import com.bookmyshow.repository.SeatRepository;
+import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.service.DiscountStrategy;
+import com.bookmyshow.service.DynamicPricingService;
+import com.bookmyshow.service.NegativeLookupCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PriceQuoteServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+class PriceQuoteServiceImplTest {
+
+    @Mock
+    private ShowRepository showRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private DiscountStrategy discountStrategy;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @Mock
+    private DynamicPricingService dynamicPricingService;
+
+    @InjectMocks
+    private PriceQuoteServiceImpl priceQuoteService;
+
+    private Show show;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(priceQuoteService, "maxCandidates", 100);
+        ReflectionTestUtils.setField(priceQuoteService, "maxCachedShows", 1000);
+
+        Theatre theatre = new Theatre();
+        theatre.setCity("Mumbai");
+        show = new Show();
+        show.setId(1L);
+        show.setTheatre(theatre);
+        show.setShowType(ShowType.AFTERNOON);
+        show.setShowDateTime(LocalDateTime.now().plusDays(1).withHour(14));
+
+        lenient().when(showRepository.findByIdWithMovieAndTheatre(1L)).thenReturn(Optional.of(show));
+        lenient().when(seatRepository.findSeatPricesByShowId(1L)).thenReturn(List.of(
+            new Price(101L, 0, "R1", SeatType.REGULAR, 20000),
+            new Price(102L, 1, "R2", SeatType.REGULAR, 20000),
+            new Price(103L, 2, "P1", SeatType.PREMIUM, 30000)));
+        lenient().when(dynamicPricingService.multiplierBasisPoints(any())).thenReturn(10_000);
+    }
+
+    @Test
+    void testQuote_PricesEachCandidate_WithTheBookingDiscountContext() {
+        // Arrange
+        when(discountStrategy.calculateDiscount(any())).thenReturn(0L, 5000L);
+        QuoteRequest request = new QuoteRequest(List.of(
+            QuoteRequest.Candidate.ofSeatIndexes(List.of(0, 1)),
+            QuoteRequest.Candidate.ofSeatIds(List.of(101L, 103L))));
+
+        // Act
+        QuoteResponse response = priceQuoteService.quote(1L, request);
+
+        // Assert
+        assertEquals(2, response.getQuotes().size());
+        QuoteResponse.Quote first = response.getQuotes().get(0);
+        assertEquals(List.of("R1", "R2"), first.getSeatNumbers());
+        assertEquals(40000, first.getTotalAmountMinor());
+        assertEquals(40000, first.getFinalAmountMinor());
+        QuoteResponse.Quote second = response.getQuotes().get(1);
+        assertEquals(List.of("R1", "P1"), second.getSeatNumbers());
+        assertEquals(50000, second.getTotalAmountMinor());
+        assertEquals(45000, second.getFinalAmountMinor());
+
+        ArgumentCaptor<DiscountStrategy.Context> contexts = ArgumentCaptor.forClass(DiscountStrategy.Context.class);
+        verify(discountStrategy, times(2)).calculateDiscount(contexts.capture());
+        assertEquals(new DiscountStrategy.Context(50000, 2, ShowType.AFTERNOON, "Mumbai",
+                (1 << SeatType.REGULAR.ordinal()) | (1 << SeatType.PREMIUM.ordinal()), 14),
+            contexts.getAllValues().get(1));
+    }
+
+    @Test
+    void testQuote_AppliesTheDemandMultiplierBeforeDiscount() {
+        // Arrange
+        when(dynamicPricingService.multiplierBasisPoints(1L)).thenReturn(11_000);
+        when(discountStrategy.calculateDiscount(any())).thenReturn(0L);
+
+        // Act
+        QuoteResponse response = priceQuoteService.quote(1L,
+            new QuoteRequest(List.of(QuoteRequest.Candidate.ofSeatIndexes(List.of(0, 2)))));
+
+        // Assert
+        assertEquals(11_000, response.getPriceMultiplierBasisPoints());
+        assertEquals(55000, response.getQuotes().get(0).getTotalAmountMinor()); // 500 at 1.1x
+        verify(discountStrategy).calculateDiscount(new DiscountStrategy.Context(55000, 2, ShowType.AFTERNOON,
+            "Mumbai", (1 << SeatType.REGULAR.ordinal()) | (1 << SeatType.PREMIUM.ordinal()), 14));
+    }
+
+    @Test
+    void testQuote_LoadsPricesOncePerShow() {
+        // Arrange
+        QuoteRequest request = new QuoteRequest(Collections.nCopies(50,
+            QuoteRequest.Candidate.ofSeatIndexes(List.of(0, 1, 2))));
+
+        // Act
+        priceQuoteService.quote(1L, request);
+        priceQuoteService.quote(1L, request);
+
+        // Assert
+        verify(showRepository, times(1)).findByIdWithMovieAndTheatre(1L);
+        verify(seatRepository, times(1)).findSeatPricesByShowId(1L);
+    }
+
+    @Test
+    void testQuote_UnknownOrRepeatedSeat_IsRejected() {
+        assertThrows(BookingException.class, () -> priceQuoteService.quote(1L,
+            new QuoteRequest(List.of(QuoteRequest.Candidate.ofSeatIds(List.of(101L, 999L))))));
+        assertThrows(BookingException.class, () -> priceQuoteService.quote(1L,
+            new QuoteRequest(List.of(QuoteRequest.Candidate.ofSeatIndexes(List.of(3))))));
+        assertThrows(BookingException.class, () -> priceQuoteService.quote(1L,
+            new QuoteRequest(List.of(QuoteRequest.Candidate.ofSeatIndexes(List.of(1, 1))))));
+    }
+
+    @Test
+    void testQuote_ShowNotFound_IsRememberedAsMissing() {
+        // Arrange
+        when(showRepository.findByIdWithMovieAndTheatre(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> priceQuoteService.quote(999L,
+            new QuoteRequest(List.of(QuoteRequest.Candidate.ofSeatIndexes(List.of(0))))));
+        verify(negativeLookupCache).recordMissing(NegativeLookupCache.Kind.SHOW, 999L);
+        verify(seatRepository, never()).findSeatPricesByShowId(999L);
+    }
+
+    @Test
+    void testQuote_TooManyCandidates_IsRejectedBeforeAnyLookup() {
+        // Arrange
+        QuoteRequest request = new QuoteRequest(Collections.nCopies(101,
+            QuoteRequest.Candidate.ofSeatIndexes(List.of(0))));
+
+        // Act & Assert
+        assertThrows(BookingException.class, () -> priceQuoteService.quote(1L, request));
+        verifyNoInteractions(showRepository, seatRepository);
+    }
+
+    @Test
+    void testEvictStartedShows_ReloadsOnNextQuote() {
+        // Arrange
+        QuoteRequest request = new QuoteRequest(List.of(QuoteRequest.Candidate.ofSeatIndexes(List.of(0))));
+        show.setShowDateTime(LocalDateTime.now().minusMinutes(5));
+        priceQuoteService.quote(1L, request);
+
+        // Act
+        priceQuoteService.evictStartedShows();
+        priceQuoteService.quote(1L, request);
+
+        // Assert
+        verify(seatRepository, times(2)).findSeatPricesByShowId(1L);
+    }
+
+    private record Price(Long id, Integer seatIndex, String seatNumber, SeatType seatType, long priceMinor)
+            implements SeatRepository.SeatPrice {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Integer getSeatIndex() {
+            return seatIndex;
+        }
+
+        @Override
+        public String getSeatNumber() {
+            return seatNumber;
+        }
+
+        @Override
+        public SeatType getSeatType() {
+            return seatType;
+        }
+
+        @Override
+        public long getPriceMinor() {
+            return priceMinor;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.ReferenceCacheStats;
+import com.bookmyshow.entity.Theatre;
+import com.bookmyshow.repository.MovieRepository;
+import com.bookmyshow.repository.TheatreRepository;
+import com.bookmyshow.util.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the movie and theatre second-level cache
+ * Each repository call runs in its own session, so only the second-level cache can save a statement
+ */
+@SpringBootTest(properties = "booking.logging.events-file=target/reference-cache-booking-events.jsonl")
+@DirtiesContext
+class ReferenceDataCacheImplTest {
+
+    @Autowired
+    private ReferenceDataCacheImpl referenceDataCache;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private TheatreRepository theatreRepository;
+
+    @BeforeEach
+    void setUp() {
+        referenceDataCache.evictAll();
+    }
+
+    @Test
+    void testFindById_RepeatedLookupSkipsDatabase() {
+        assertEquals(1, statements(() -> movieRepository.findById(1L)));
+        long hits = region(ReferenceDataCacheImpl.MOVIES).getHits();
+
+        assertEquals(0, statements(() -> movieRepository.findById(1L)));
+        assertEquals(hits + 1, region(ReferenceDataCacheImpl.MOVIES).getHits());
+    }
+
+    @Test
+    void testFindByCity_RepeatedQueryServedFromCache() {
+        int theatres = theatreRepository.findByCity("Mumbai").size();
+
+        assertEquals(0, statements(() -> theatreRepository.findByCity("Mumbai")));
+        assertEquals(theatres, theatreRepository.findByCity("Mumbai").size());
+    }
+
+    @Test
+    void testSave_InvalidatesCachedFinderResults() {
+        assertTrue(theatreRepository.findByCity("Pune").isEmpty());
+
+        Theatre theatre = new Theatre();
+        theatre.setName("City Pride");
+        theatre.setCity("Pune");
+        theatre.setAddress("Kothrud");
+        theatre.setTotalSeats(80);
+        theatreRepository.save(theatre);
+
+        assertEquals(1, theatreRepository.findByCity("Pune").size());
+    }
+
+    @Test
+    void testEvictMovie_NextLookupGoesToDatabase() {
+        movieRepository.findById(2L);
+
+        referenceDataCache.evictMovie(2L);
+
+        assertEquals(1, statements(() -> movieRepository.findById(2L)));
+    }
+
+    @Test
+    void testStats_ReportEveryRegion() {
+        movieRepository.findById(1L);
+        movieRepository.findById(1L);
+
+        ReferenceCacheStats stats = referenceDataCache.getStats();
+
+        assertTrue(stats.isEnabled());
+        assertEquals(3, stats.getRegions().size());
+        ReferenceCacheStats.Region movies = region(ReferenceDataCacheImpl.MOVIES);
+        assertTrue(movies.getHits() > 0);
+        assertTrue(movies.getHitRatio() > 0 && movies.getHitRatio() <= 1);
+    }
+
+    private ReferenceCacheStats.Region region(String name) {
+        return referenceDataCache.getStats().getRegions().stream()
+            .filter(region -> region.getName().equals(name))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static long statements(Supplier<?> work) {
+        SqlStatementCounter.start();
+        try {
+            work.get();
+            return SqlStatementCounter.current();
+        } finally {
+            SqlStatementCounter.stop();
+        }
+    }
+}
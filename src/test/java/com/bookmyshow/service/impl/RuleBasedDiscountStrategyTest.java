@@ -0,0 +1,296 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.enums.SeatType;
+import com.bookmyshow.enums.ShowType;
+import com.bookmyshow.service.DiscountStrategy.Context;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RuleBasedDiscountStrategy
+ * The first cases run the default rules file, the rest compile their own rules
+ */
+class RuleBasedDiscountStrategyTest {
+
+    private static final int REGULAR = 1 << SeatType.REGULAR.ordinal();
+    private static final int VIP = 1 << SeatType.VIP.ordinal();
+
+    private RuleBasedDiscountStrategy discountStrategy;
+
+    @TempDir
+    Path rulesDir;
+
+    @BeforeEach
+    void setUp() {
+        discountStrategy = newStrategy(new ClassPathResource("discount-rules.json"));
+    }
+
+    @Test
+    void testCalculateDiscount_ThreeSeats_FiftyPercentOnThird() {
+        // Arrange
+        long totalAmount = 60000; // 3 seats @ 200 each
+        int numberOfSeats = 3;
+        boolean isAfternoonShow = false;
+
+        // Act
+        long discount = discount(totalAmount, numberOfSeats, isAfternoonShow);
+
+        // Assert
+        assertEquals(10000, discount); // 50% of 200 (third ticket)
+    }
+
+    @Test
+    void testCalculateDiscount_AfternoonShow_TwentyPercent() {
+        // Arrange
+        long totalAmount = 30000; // 2 seats @ 150 each
+        int numberOfSeats = 2;
+        boolean isAfternoonShow = true;
+
+        // Act
+        long discount = discount(totalAmount, numberOfSeats, isAfternoonShow);
+
+        // Assert
+        assertEquals(6000, discount); // 20% of 300
+    }
+
+    @Test
+    void testCalculateDiscount_ThreeSeats_AfternoonShow_BothDiscounts() {
+        // Arrange
+        long totalAmount = 45000; // 3 seats @ 150 each
+        int numberOfSeats = 3;
+        boolean isAfternoonShow = true;
+
+        // Act
+        long discount = discount(totalAmount, numberOfSeats, isAfternoonShow);
+
+        // Assert
+        // 50% on third ticket: 150 * 0.50 = 75
+        // 20% afternoon discount: 450 * 0.20 = 90
+        // Total discount: 75 + 90 = 165
+        assertEquals(16500, discount);
+    }
+
+    @Test
+    void testCalculateDiscount_TwoSeats_NoAfternoonShow_NoDiscount() {
+        // Arrange
+        long totalAmount = 40000; // 2 seats @ 200 each
+        int numberOfSeats = 2;
+        boolean isAfternoonShow = false;
+
+        // Act
+        long discount = discount(totalAmount, numberOfSeats, isAfternoonShow);
+
+        // Assert
+        assertEquals(0, discount); // No discount applicable
+    }
+
+    @Test
+    void testCalculateDiscount_OneSeat_NoDiscount() {
+        // Arrange
+        long totalAmount = 20000; // 1 seat @ 200
+        int numberOfSeats = 1;
+        boolean isAfternoonShow = false;
+
+        // Act
+        long discount = discount(totalAmount, numberOfSeats, isAfternoonShow);
+
+        // Assert
+        assertEquals(0, discount); // No discount applicable
+    }
+
+    @Test
+    void testCalculateDiscount_OneSeat_AfternoonShow_OnlyAfternoonDiscount() {
+        // Arrange
+        long totalAmount = 15000; // 1 seat @ 150
+        int numberOfSeats = 1;
+        boolean isAfternoonShow = true;
+
+        // Act
+        long discount = discount(totalAmount, numberOfSeats, isAfternoonShow);
+
+        // Assert
+        assertEquals(3000, discount); // 20% of 150
+    }
+
+    @Test
+    void testCalculateDiscount_FourSeats_OnlyThirdTicketDiscount() {
+        // Arrange
+        long totalAmount = 80000; // 4 seats @ 200 each
+        int numberOfSeats = 4;
+        boolean isAfternoonShow = false;
+
+        // Act
+        long discount = discount(totalAmount, numberOfSeats, isAfternoonShow);
+
+        // Assert
+        assertEquals(10000, discount); // 50% on third ticket only
+    }
+
+    @Test
+    void testCalculateDiscount_PremiumSeats_ThreeSeats() {
+        // Arrange
+        long totalAmount = 90000; // 3 premium seats @ 300 each
+        int numberOfSeats = 3;
+        boolean isAfternoonShow = false;
+
+        // Act
+        long discount = discount(totalAmount, numberOfSeats, isAfternoonShow);
+
+        // Assert
+        assertEquals(15000, discount); // 50% of 300 (third ticket)
+    }
+
+    @Test
+    void testCalculateDiscount_MixedSeats_Afternoon() {
+        // Arrange
+        long totalAmount = 70000; // Mixed seats (200 + 300 + 200)
+        int numberOfSeats = 3;
+        boolean isAfternoonShow = true;
+
+        // Act
+        long discount = discount(totalAmount, numberOfSeats, isAfternoonShow);
+
+        // Assert
+        // Third ticket discount: 700/3 * 0.50 = 116.67
+        // Afternoon discount: 700 * 0.20 = 140
+        // Total: 256.67
+        assertEquals(25667, discount); // Rounded half up to the paisa
+    }
+
+    @Test
+    void testCityRule_AppliesOnlyInThatCity() throws IOException {
+        discountStrategy = newStrategy(rules("""
+            [{"id": "pune-launch", "cities": ["Pune"], "percentOffTotal": 10}]
+            """));
+
+        assertEquals(4000, discountStrategy.calculateDiscount(
+            new Context(40000, 2, ShowType.EVENING, "Pune", REGULAR, 19)));
+        assertEquals(0, discountStrategy.calculateDiscount(
+            new Context(40000, 2, ShowType.EVENING, "Mumbai", REGULAR, 19)));
+    }
+
+    @Test
+    void testSeatTypeAndHourConditions_CheckedPerQuote() throws IOException {
+        discountStrategy = newStrategy(rules("""
+            [{"id": "late-vip", "seatTypes": ["VIP"], "fromHour": 21, "toHour": 24, "amountOff": 50}]
+            """));
+
+        assertEquals(5000, discountStrategy.calculateDiscount(
+            new Context(60000, 2, ShowType.NIGHT, "Mumbai", VIP, 22)));
+        assertEquals(0, discountStrategy.calculateDiscount(
+            new Context(60000, 2, ShowType.NIGHT, "Mumbai", VIP | REGULAR, 22)));
+        assertEquals(0, discountStrategy.calculateDiscount(
+            new Context(60000, 2, ShowType.EVENING, "Mumbai", VIP, 20)));
+    }
+
+    @Test
+    void testSeatCountRange_AndSeatsAboveEveryBound() throws IOException {
+        discountStrategy = newStrategy(rules("""
+            [{"id": "pair", "minSeats": 2, "maxSeats": 2, "amountOff": 20},
+             {"id": "group", "minSeats": 6, "seats": 2, "percentOffSeats": 100}]
+            """));
+
+        assertEquals(2000, discountStrategy.calculateDiscount(
+            new Context(20000, 2, ShowType.MORNING, null, REGULAR, 10)));
+        assertEquals(0, discountStrategy.calculateDiscount(
+            new Context(30000, 3, ShowType.MORNING, null, REGULAR, 10)));
+        assertEquals(20000, discountStrategy.calculateDiscount(
+            new Context(200000, 20, ShowType.MORNING, null, REGULAR, 10))); // Two free seats
+    }
+
+    @Test
+    void testStackedRules_NeverExceedTotal() throws IOException {
+        discountStrategy = newStrategy(rules("""
+            [{"id": "a", "percentOffTotal": 80}, {"id": "b", "percentOffTotal": 80}]
+            """));
+
+        assertEquals(10000, discountStrategy.calculateDiscount(
+            new Context(10000, 1, ShowType.MORNING, null, REGULAR, 10)));
+    }
+
+    @Test
+    void testDisabledRule_IsIgnored() throws IOException {
+        discountStrategy = newStrategy(rules("""
+            [{"id": "off", "enabled": false, "percentOffTotal": 50}]
+            """));
+
+        assertEquals(0, discountStrategy.getRuleCount());
+        assertEquals(0, discount(40000, 2, true));
+    }
+
+    @Test
+    void testInvalidRules_FailAtStartup() throws IOException {
+        FileSystemResource invalid = rules("""
+            [{"id": "bad", "percentOffTotal": 150}]
+            """);
+
+        assertThrows(IllegalStateException.class, () -> newStrategy(invalid));
+    }
+
+    @Test
+    void testChangedFile_IsReloaded() throws IOException {
+        FileSystemResource file = rules("""
+            [{"id": "v1", "percentOffTotal": 10}]
+            """);
+        discountStrategy = newStrategy(file);
+
+        Files.writeString(file.getFile().toPath(), """
+            [{"id": "v2", "percentOffTotal": 25}]
+            """);
+        touch(file);
+        discountStrategy.reloadIfChanged();
+
+        assertEquals(5000, discount(20000, 2, false));
+    }
+
+    @Test
+    void testBrokenReload_KeepsPreviousRules() throws IOException {
+        FileSystemResource file = rules("""
+            [{"id": "v1", "percentOffTotal": 10}]
+            """);
+        discountStrategy = newStrategy(file);
+
+        Files.writeString(file.getFile().toPath(), "[{\"id\": \"v2\", \"percentOfTotal\": 25}]"); // Typo
+        touch(file);
+        discountStrategy.reloadIfChanged();
+
+        assertEquals(2000, discount(20000, 2, false));
+    }
+
+    private long discount(long totalAmount, int numberOfSeats, boolean isAfternoonShow) {
+        ShowType showType = isAfternoonShow ? ShowType.AFTERNOON : ShowType.MORNING;
+        return discountStrategy.calculateDiscount(
+            new Context(totalAmount, numberOfSeats, showType, "Mumbai", REGULAR, isAfternoonShow ? 14 : 10));
+    }
+
+    private FileSystemResource rules(String json) throws IOException {
+        Path file = Files.createTempFile(rulesDir, "discount-rules", ".json");
+        Files.writeString(file, json);
+        return new FileSystemResource(file);
+    }
+
+    private static void touch(FileSystemResource file) throws IOException {
+        Path path = file.getFile().toPath();
+        Files.setLastModifiedTime(path, FileTime.fromMillis(Files.getLastModifiedTime(path).toMillis() + 1000));
+    }
+
+    private static RuleBasedDiscountStrategy newStrategy(Resource location) {
+        RuleBasedDiscountStrategy strategy = new RuleBasedDiscountStrategy(new ObjectMapper());
+        ReflectionTestUtils.setField(strategy, "rulesLocation", location);
+        strategy.init();
+        return strategy;
+    }
+}
@@ -8,6 +8,7 @@ import com.bookmyshow.enums.ShowType;
 import com.bookmyshow.exception.ResourceNotFoundException;
 import com.bookmyshow.repository.MovieRepository;
 import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.service.NegativeLookupCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,6 +41,9 @@ class ShowBrowsingServiceImplTest {
     @Mock
     private MovieRepository movieRepository;
 
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
     @InjectMocks
     private ShowBrowsingServiceImpl showBrowsingService;
 
@@ -71,7 +75,7 @@ class ShowBrowsingServiceImplTest {
         morningShow.setMovie(movie);
         morningShow.setTheatre(theatre);
         morningShow.setShowDateTime(LocalDateTime.of(2026, 1, 21, 10, 0));
-        morningShow.setBasePrice(200.0);
+        morningShow.setBasePriceMinor(20000);
         morningShow.setShowType(ShowType.MORNING);
         morningShow.setAvailableSeats(100);
 
@@ -80,7 +84,7 @@ class ShowBrowsingServiceImplTest {
         afternoonShow.setMovie(movie);
         afternoonShow.setTheatre(theatre);
         afternoonShow.setShowDateTime(LocalDateTime.of(2026, 1, 21, 14, 0));
-        afternoonShow.setBasePrice(150.0);
+        afternoonShow.setBasePriceMinor(15000);
         afternoonShow.setShowType(ShowType.AFTERNOON);
         afternoonShow.setAvailableSeats(95);
     }
@@ -94,7 +98,6 @@ class ShowBrowsingServiceImplTest {
         
         List<Show> expectedShows = Arrays.asList(morningShow, afternoonShow);
 
-        when(movieRepository.findById(movieId)).thenReturn(Optional.of(movie));
         when(showRepository.findShowsByMovieAndCityBetweenDates(
             eq(movieId), eq(city), any(LocalDateTime.class), any(LocalDateTime.class)))
             .thenReturn(expectedShows);
@@ -111,7 +114,7 @@ class ShowBrowsingServiceImplTest {
         assertEquals("Inception", firstShow.getMovieTitle());
         assertEquals("PVR Cinemas", firstShow.getTheatreName());
         assertEquals("Mumbai", firstShow.getTheatreCity());
-        assertEquals(200.0, firstShow.getBasePrice());
+        assertEquals(20000L, firstShow.getBasePriceMinor());
         assertEquals("MORNING", firstShow.getShowType());
         assertEquals(100, firstShow.getAvailableSeats());
 
@@ -120,7 +123,7 @@ class ShowBrowsingServiceImplTest {
         assertEquals("AFTERNOON", secondShow.getShowType());
         assertEquals(95, secondShow.getAvailableSeats());
 
-        verify(movieRepository, times(1)).findById(movieId);
+        verify(movieRepository, never()).findById(any()); // The shows prove the movie exists
         verify(showRepository, times(1)).findShowsByMovieAndCityBetweenDates(
             eq(movieId), eq(city), any(LocalDateTime.class), any(LocalDateTime.class));
     }
@@ -142,8 +145,8 @@ class ShowBrowsingServiceImplTest {
 
         assertEquals("Movie not found with id: 999", exception.getMessage());
         verify(movieRepository, times(1)).findById(movieId);
-        verify(showRepository, never()).findShowsByMovieAndCityBetweenDates(
-            any(), any(), any(), any());
+        verify(showRepository, times(1)).findShowsByMovieAndCityBetweenDates(
+            eq(movieId), eq(city), any(LocalDateTime.class), any(LocalDateTime.class));
     }
 
     @Test
@@ -176,7 +179,6 @@ class ShowBrowsingServiceImplTest {
         String city = "Mumbai";
         LocalDate date = LocalDate.of(2026, 1, 21);
 
-        when(movieRepository.findById(movieId)).thenReturn(Optional.of(movie));
         when(showRepository.findShowsByMovieAndCityBetweenDates(
             any(), any(), any(), any())).thenReturn(Arrays.asList(morningShow));
 
@@ -191,4 +193,26 @@ class ShowBrowsingServiceImplTest {
             eq(date.atTime(LocalTime.MAX))
         );
     }
+
+    @Test
+    void testBrowseShows_KnownMissingMovieSkipsQuery() {
+        // Arrange
+        when(negativeLookupCache.isMissing(NegativeLookupCache.Kind.MOVIE, 999L)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class,
+            () -> showBrowsingService.browseShowsByMovieCityAndDate(999L, "Mumbai", LocalDate.now()));
+        verify(movieRepository, never()).findById(any());
+    }
+
+    @Test
+    void testBrowseShows_MissingMovieIsRemembered() {
+        // Arrange
+        when(movieRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class,
+            () -> showBrowsingService.browseShowsByMovieCityAndDate(999L, "Mumbai", LocalDate.now()));
+        verify(negativeLookupCache).recordMissing(NegativeLookupCache.Kind.MOVIE, 999L);
+    }
 }
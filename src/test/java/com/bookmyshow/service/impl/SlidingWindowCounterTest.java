@@ -0,0 +1,53 @@
+package com.bookmyshow.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SlidingWindowCounter
+ */
+class SlidingWindowCounterTest {
+
+    @Test
+    void testSum_CountsOnlyTheWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(4, 100, 0);
+        counter.add(1, 50);
+        counter.add(2, 150);
+        counter.add(3, 350);
+
+        assertEquals(6, counter.sum(399));
+        assertEquals(5, counter.sum(400)); // First slot fell out
+        assertEquals(3, counter.sum(550));
+        assertEquals(0, counter.sum(750));
+    }
+
+    @Test
+    void testSum_AfterLongIdleClearsEverySlot() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(4, 100, 0);
+        for (int t = 0; t < 400; t += 100) {
+            counter.add(10, t);
+        }
+
+        assertEquals(40, counter.sum(399));
+        assertEquals(0, counter.sum(10_000));
+        counter.add(1, 10_000);
+        assertEquals(1, counter.sum(10_050));
+    }
+
+    @Test
+    void testAdd_ClockStepBackIsCountedInTheCurrentSlot() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(4, 100, 0);
+        counter.add(1, 250);
+        counter.add(1, 120);
+
+        assertEquals(2, counter.sum(250));
+        assertEquals(0, counter.sum(700));
+    }
+
+    @Test
+    void testWindowMillis() {
+        assertEquals(600_000, new SlidingWindowCounter(10, 60_000, 0).windowMillis());
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounter(0, 100, 0));
+    }
+}
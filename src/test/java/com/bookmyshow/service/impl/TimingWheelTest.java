@@ -0,0 +1,86 @@
+package com.bookmyshow.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TimingWheel
+ */
+class TimingWheelTest {
+
+    @Test
+    void testAdvance_ReturnsOnlyDueEntries() {
+        TimingWheel wheel = new TimingWheel(8, 100, 0);
+        wheel.schedule(1L, 250);
+        wheel.schedule(2L, 450);
+
+        assertEquals(0, wheel.advance(200).length);
+        assertArrayEquals(new long[]{1L}, wheel.advance(300));
+        assertArrayEquals(new long[]{2L}, wheel.advance(500));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvance_KeepsEntriesSeveralRotationsAway() {
+        TimingWheel wheel = new TimingWheel(4, 100, 0);
+        wheel.schedule(1L, 1_050); // Same slot as tick 2, two rotations later
+
+        assertEquals(0, wheel.advance(300).length);
+        assertEquals(0, wheel.advance(700).length);
+        assertArrayEquals(new long[]{1L}, wheel.advance(1_100));
+    }
+
+    @Test
+    void testSchedule_PastDeadlineFiresOnNextAdvance() {
+        TimingWheel wheel = new TimingWheel(8, 100, 0);
+        wheel.advance(1_000);
+        wheel.schedule(1L, 10);
+
+        assertArrayEquals(new long[]{1L}, wheel.advance(1_100));
+    }
+
+    @Test
+    void testAdvance_LongPauseDrainsEverySlot() {
+        TimingWheel wheel = new TimingWheel(8, 100, 0);
+        for (long id = 1; id <= 50; id++) {
+            wheel.schedule(id, id * 37);
+        }
+
+        long[] due = wheel.advance(60_000);
+        Arrays.sort(due);
+
+        assertEquals(50, due.length);
+        assertEquals(1L, due[0]);
+        assertEquals(50L, due[49]);
+    }
+
+    @Test
+    void testSchedule_ConcurrentProducers() throws InterruptedException {
+        TimingWheel wheel = new TimingWheel(64, 10, 0);
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            long base = t * 10_000L;
+            producers.execute(() -> {
+                for (long i = 0; i < 5_000; i++) {
+                    wheel.schedule(base + i, i % 2_000);
+                }
+            });
+        }
+        producers.shutdown();
+        assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(20_000, wheel.size());
+        assertEquals(20_000, wheel.advance(2_000).length);
+    }
+
+    @Test
+    void testConstructor_RejectsNonPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel(10, 100, 0));
+    }
+}
@@ -0,0 +1,175 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.QueueStatusResponse;
+import com.bookmyshow.exception.BookingException;
+import com.bookmyshow.exception.WaitingRoomException;
+import com.bookmyshow.security.HmacSigner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WaitingRoomServiceImpl
+ * Tests ticket signing, admission and the adaptive rate
+ */
+class WaitingRoomServiceImplTest {
+
+    private WaitingRoomServiceImpl waitingRoom;
+
+    @BeforeEach
+    void setUp() {
+        waitingRoom = new WaitingRoomServiceImpl();
+        ReflectionTestUtils.setField(waitingRoom, "signer", new HmacSigner("test-secret-for-queue-tickets"));
+        ReflectionTestUtils.setField(waitingRoom, "ticketTtlSeconds", 900L);
+        ReflectionTestUtils.setField(waitingRoom, "tickMs", 100L);
+        ReflectionTestUtils.setField(waitingRoom, "initialRate", 10.0);
+        ReflectionTestUtils.setField(waitingRoom, "minRate", 1.0);
+        ReflectionTestUtils.setField(waitingRoom, "maxRate", 100.0);
+        ReflectionTestUtils.setField(waitingRoom, "targetLatencyMs", 250L);
+        ReflectionTestUtils.setField(waitingRoom, "rateIncreaseStep", 5.0);
+        ReflectionTestUtils.setField(waitingRoom, "rateDecreaseFactor", 0.5);
+    }
+
+    @Test
+    void testDisabledRoom_AdmitsEveryone() {
+        QueueStatusResponse status = waitingRoom.join(1L, "john");
+
+        assertTrue(status.isAdmitted());
+        assertNull(status.getTicket());
+        assertDoesNotThrow(() -> waitingRoom.checkAdmission(1L, null, "john"));
+    }
+
+    @Test
+    void testJoin_AssignsIncreasingPositions() {
+        waitingRoom.enable(1L);
+
+        QueueStatusResponse first = waitingRoom.join(1L, "john");
+        QueueStatusResponse second = waitingRoom.join(1L, "jane");
+
+        assertEquals(1, first.getPosition());
+        assertEquals(2, second.getPosition());
+        assertFalse(second.isAdmitted());
+        assertNotNull(second.getTicket());
+    }
+
+    @Test
+    void testAdmit_AdvancesAtConfiguredRate() {
+        waitingRoom.enable(1L);
+        String[] tickets = new String[5];
+        for (int i = 0; i < tickets.length; i++) {
+            tickets[i] = waitingRoom.join(1L, "user" + i).getTicket();
+        }
+
+        // 10 per second with 100 ms ticks admits one ticket per tick
+        waitingRoom.admit();
+        waitingRoom.admit();
+
+        assertDoesNotThrow(() -> waitingRoom.checkAdmission(1L, tickets[1], "user1"));
+        WaitingRoomException exception = assertThrows(WaitingRoomException.class,
+            () -> waitingRoom.checkAdmission(1L, tickets[2], "user2"));
+        assertTrue(exception.getRetryAfterSeconds() >= 1);
+        assertEquals(1, waitingRoom.status(tickets[2], "user2").getPosition());
+    }
+
+    @Test
+    void testCheckAdmission_MissingTicketWhileEnabled() {
+        waitingRoom.enable(1L);
+
+        assertThrows(WaitingRoomException.class, () -> waitingRoom.checkAdmission(1L, null, "john"));
+    }
+
+    @Test
+    void testCheckAdmission_RejectsTamperedTicket() {
+        waitingRoom.enable(1L);
+        String ticket = waitingRoom.join(1L, "john").getTicket();
+        String tampered = ticket.substring(0, ticket.length() - 2) + "AA";
+
+        assertThrows(BookingException.class, () -> waitingRoom.checkAdmission(1L, tampered, "john"));
+    }
+
+    @Test
+    void testCheckAdmission_RejectsTicketOfAnotherUserOrShow() {
+        waitingRoom.enable(1L);
+        waitingRoom.enable(2L);
+        String ticket = waitingRoom.join(1L, "john").getTicket();
+        waitingRoom.admit();
+
+        assertThrows(BookingException.class, () -> waitingRoom.checkAdmission(1L, ticket, "jane"));
+        assertThrows(BookingException.class, () -> waitingRoom.checkAdmission(2L, ticket, "john"));
+    }
+
+    @Test
+    void testCheckAdmission_TicketGoodForOneBooking() {
+        waitingRoom.enable(1L);
+        String ticket = waitingRoom.join(1L, "john").getTicket();
+        waitingRoom.admit();
+
+        waitingRoom.checkAdmission(1L, ticket, "john");
+
+        assertThrows(BookingException.class, () -> waitingRoom.checkAdmission(1L, ticket, "john"));
+    }
+
+    @Test
+    void testReleaseAdmission_FailedBookingCanRetry() {
+        waitingRoom.enable(1L);
+        String ticket = waitingRoom.join(1L, "john").getTicket();
+        waitingRoom.admit();
+        waitingRoom.checkAdmission(1L, ticket, "john");
+
+        waitingRoom.releaseAdmission(1L, ticket, "john");
+
+        assertDoesNotThrow(() -> waitingRoom.checkAdmission(1L, ticket, "john"));
+    }
+
+    @Test
+    void testAdmit_ForgetsUsedTicketsOnceTheyExpire() {
+        long ttlMillis = TimeUnit.SECONDS.toMillis(900);
+        long now = System.currentTimeMillis();
+        waitingRoom.enable(1L);
+        String first = waitingRoom.join(1L, "john").getTicket();
+        waitingRoom.admit(now);
+        waitingRoom.checkAdmission(1L, first, "john");
+        String second = waitingRoom.join(1L, "jane").getTicket();
+        waitingRoom.admit(now + 1000); // The first ticket was issued before this tick
+        waitingRoom.checkAdmission(1L, second, "jane");
+
+        waitingRoom.admit(now + 1000 + ttlMillis);
+        assertEquals(2, waitingRoom.usedTicketCount(1L));
+
+        waitingRoom.admit(now + 1001 + ttlMillis);
+        assertEquals(1, waitingRoom.usedTicketCount(1L));
+        assertThrows(BookingException.class, () -> waitingRoom.checkAdmission(1L, second, "jane")); // Still within its TTL
+    }
+
+    @Test
+    void testCheckAdmission_RejectsTicketOfEarlierRoom() {
+        waitingRoom.enable(1L);
+        String earlier = waitingRoom.join(1L, "john").getTicket();
+        waitingRoom.disable(1L);
+        waitingRoom.enable(1L);
+        waitingRoom.join(1L, "jane");
+        waitingRoom.admit(); // Admits sequence 1 of the new room, the number on the earlier ticket
+
+        assertThrows(BookingException.class, () -> waitingRoom.checkAdmission(1L, earlier, "john"));
+        assertThrows(BookingException.class, () -> waitingRoom.status(earlier, "john"));
+    }
+
+    @Test
+    void testAdaptiveRate_BacksOffOnSlowBookingsAndRecovers() {
+        waitingRoom.recordBookingLatency(TimeUnit.MILLISECONDS.toNanos(1000));
+        waitingRoom.admit();
+        assertEquals(5.0, waitingRoom.getAdmissionRate(), 0.001);
+
+        waitingRoom.recordBookingLatency(TimeUnit.MILLISECONDS.toNanos(50));
+        waitingRoom.admit();
+        assertEquals(10.0, waitingRoom.getAdmissionRate(), 0.001);
+
+        // No samples, no change
+        waitingRoom.admit();
+        assertEquals(10.0, waitingRoom.getAdmissionRate(), 0.001);
+    }
+}
@@ -0,0 +1,242 @@
+package com.bookmyshow.service.impl;
+
+import com.bookmyshow.dto.BookingRequest;
+import com.bookmyshow.dto.BookingResponse;
+import com.bookmyshow.dto.WaitlistEntryResponse;
+import com.bookmyshow.dto.WaitlistRequest;
+import com.bookmyshow.enums.SeatType;
+import com.bookmyshow.event.SeatsReleasedEvent;
+import com.bookmyshow.exception.BookingException;
+import com.bookmyshow.exception.ResourceNotFoundException;
+import com.bookmyshow.repository.SeatRepository;
+import com.bookmyshow.repository.SeatRepository.FreeSeat;
+import com.bookmyshow.repository.ShowRepository;
+import com.bookmyshow.service.BookingService;
+import com.bookmyshow.service.NegativeLookupCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WaitlistServiceImpl
+ * Tests FIFO order, seat preferences and batched allocation
+ */
+@ExtendWith(MockitoExtension.class)
+class WaitlistServiceImplTest {
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private ShowRepository showRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @InjectMocks
+    private WaitlistServiceImpl waitlistService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(waitlistService, "batchSize", 50);
+        ReflectionTestUtils.setField(waitlistService, "maxPerShow", 100);
+        ReflectionTestUtils.setField(waitlistService, "resultTtlSeconds", 3600L);
+        lenient().when(showRepository.findShowDateTimeById(1L)).thenReturn(Optional.of(LocalDateTime.now().plusDays(1)));
+    }
+
+    @Test
+    void testJoin_AssignsFifoPositionsAndIsIdempotent() {
+        WaitlistEntryResponse first = waitlistService.join(1L, new WaitlistRequest(2, null), "john");
+        WaitlistEntryResponse second = waitlistService.join(1L, new WaitlistRequest(1, null), "jane");
+        WaitlistEntryResponse retried = waitlistService.join(1L, new WaitlistRequest(1, null), "john");
+
+        assertEquals(1, first.getPosition());
+        assertEquals(2, second.getPosition());
+        assertEquals(first.getEntryId(), retried.getEntryId());
+        assertEquals("WAITING", second.getStatus());
+        verifyNoInteractions(seatRepository);
+    }
+
+    @Test
+    void testJoin_UnknownShow() {
+        when(showRepository.findShowDateTimeById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> waitlistService.join(99L, new WaitlistRequest(1, null), "john"));
+    }
+
+    @Test
+    void testAllocate_OffersReleasedSeatsInFifoOrder() {
+        WaitlistEntryResponse john = waitlistService.join(1L, new WaitlistRequest(2, null), "john");
+        WaitlistEntryResponse jane = waitlistService.join(1L, new WaitlistRequest(2, null), "jane");
+        waitlistService.allocate(); // Nothing free yet
+        when(seatRepository.findFreeSeatsByShowId(1L))
+            .thenReturn(List.of(seat(10L, SeatType.REGULAR), seat(11L, SeatType.REGULAR)));
+        when(bookingService.holdTickets(any(BookingRequest.class), eq("john"))).thenReturn(held("BMS-W1"));
+
+        waitlistService.onSeatsReleased(new SeatsReleasedEvent(1L, List.of(10L, 11L)));
+        waitlistService.allocate();
+
+        WaitlistEntryResponse offered = waitlistService.getEntry(john.getEntryId(), "john");
+        assertEquals("OFFERED", offered.getStatus());
+        assertEquals("BMS-W1", offered.getBooking().getBookingReference());
+        assertEquals(1, waitlistService.getEntry(jane.getEntryId(), "jane").getPosition());
+        verify(bookingService, never()).holdTickets(any(), eq("jane"));
+    }
+
+    @Test
+    void testAllocate_SkipsEntriesThatCannotBeMetYet() {
+        waitlistService.join(1L, new WaitlistRequest(1, SeatType.VIP), "john");
+        WaitlistEntryResponse jane = waitlistService.join(1L, new WaitlistRequest(1, SeatType.REGULAR), "jane");
+        waitlistService.allocate();
+        when(seatRepository.findFreeSeatsByShowId(1L))
+            .thenReturn(List.of(seat(10L, SeatType.REGULAR)));
+        when(bookingService.holdTickets(any(BookingRequest.class), eq("jane"))).thenReturn(held("BMS-W2"));
+
+        waitlistService.onSeatsReleased(new SeatsReleasedEvent(1L, List.of(10L)));
+        waitlistService.allocate();
+
+        ArgumentCaptor<BookingRequest> request = ArgumentCaptor.forClass(BookingRequest.class);
+        verify(bookingService).holdTickets(request.capture(), eq("jane"));
+        assertEquals(List.of(10), request.getValue().getSeatIndexes());
+        assertEquals("OFFERED", waitlistService.getEntry(jane.getEntryId(), "jane").getStatus());
+    }
+
+    @Test
+    void testAllocate_LostRaceKeepsEntryWaiting() {
+        WaitlistEntryResponse john = waitlistService.join(1L, new WaitlistRequest(1, null), "john");
+        when(seatRepository.findFreeSeatsByShowId(1L))
+            .thenReturn(List.of(seat(10L, SeatType.REGULAR)));
+        when(bookingService.holdTickets(any(BookingRequest.class), eq("john")))
+            .thenThrow(new BookingException("Seats not available: some of the selected seats were just booked"));
+
+        waitlistService.allocate();
+
+        WaitlistEntryResponse entry = waitlistService.getEntry(john.getEntryId(), "john");
+        assertEquals("WAITING", entry.getStatus());
+        assertEquals(1, entry.getPosition());
+    }
+
+    @Test
+    void testAllocate_LeavingWhileTheHoldIsMadeReleasesIt() {
+        WaitlistEntryResponse john = waitlistService.join(1L, new WaitlistRequest(1, null), "john");
+        when(seatRepository.findFreeSeatsByShowId(1L))
+            .thenReturn(List.of(seat(10L, SeatType.REGULAR)));
+        when(bookingService.holdTickets(any(BookingRequest.class), eq("john"))).thenAnswer(invocation -> {
+            waitlistService.leave(john.getEntryId(), "john");
+            return held("BMS-W3");
+        });
+
+        waitlistService.allocate();
+
+        WaitlistEntryResponse entry = waitlistService.getEntry(john.getEntryId(), "john");
+        assertEquals("LEFT", entry.getStatus());
+        assertNull(entry.getBooking());
+        verify(bookingService).cancelBooking("BMS-W3", "john");
+    }
+
+    @Test
+    void testAllocate_LeftEntryIsNotOffered() {
+        WaitlistEntryResponse john = waitlistService.join(1L, new WaitlistRequest(1, null), "john");
+        WaitlistEntryResponse jane = waitlistService.join(1L, new WaitlistRequest(1, null), "jane");
+        waitlistService.leave(john.getEntryId(), "john");
+        when(seatRepository.findFreeSeatsByShowId(1L))
+            .thenReturn(List.of(seat(10L, SeatType.REGULAR)));
+        when(bookingService.holdTickets(any(BookingRequest.class), eq("jane"))).thenReturn(held("BMS-W4"));
+
+        waitlistService.allocate();
+
+        verify(bookingService, never()).holdTickets(any(), eq("john"));
+        assertEquals("OFFERED", waitlistService.getEntry(jane.getEntryId(), "jane").getStatus());
+    }
+
+    @Test
+    void testAllocate_BatchSizeLimitsOffersPerPass() {
+        ReflectionTestUtils.setField(waitlistService, "batchSize", 1);
+        waitlistService.join(1L, new WaitlistRequest(1, null), "john");
+        waitlistService.join(1L, new WaitlistRequest(1, null), "jane");
+        when(seatRepository.findFreeSeatsByShowId(1L))
+            .thenReturn(List.of(seat(10L, SeatType.REGULAR), seat(11L, SeatType.REGULAR)))
+            .thenReturn(List.of(seat(11L, SeatType.REGULAR)));
+        when(bookingService.holdTickets(any(BookingRequest.class), any())).thenReturn(held("BMS-W3"));
+
+        waitlistService.allocate();
+        verify(bookingService, times(1)).holdTickets(any(), any());
+
+        waitlistService.allocate();
+        verify(bookingService, times(2)).holdTickets(any(), any());
+    }
+
+    @Test
+    void testAllocate_UnexpectedFailureRetriesOnNextPass() {
+        WaitlistEntryResponse john = waitlistService.join(1L, new WaitlistRequest(1, null), "john");
+        when(seatRepository.findFreeSeatsByShowId(1L)).thenReturn(List.of(seat(10L, SeatType.REGULAR)));
+        when(bookingService.holdTickets(any(BookingRequest.class), eq("john")))
+            .thenThrow(new DataAccessResourceFailureException("Connection is not available"))
+            .thenReturn(held("BMS-W4"));
+
+        waitlistService.allocate();
+        assertEquals("WAITING", waitlistService.getEntry(john.getEntryId(), "john").getStatus());
+
+        waitlistService.allocate();
+        assertEquals("OFFERED", waitlistService.getEntry(john.getEntryId(), "john").getStatus());
+    }
+
+    @Test
+    void testAllocate_ClosesWaitlistOnceTheShowStarts() throws InterruptedException {
+        when(showRepository.findShowDateTimeById(2L)).thenReturn(Optional.of(LocalDateTime.now().plusNanos(300_000_000)));
+        WaitlistEntryResponse john = waitlistService.join(2L, new WaitlistRequest(1, null), "john");
+        Thread.sleep(400);
+
+        waitlistService.onSeatsReleased(new SeatsReleasedEvent(2L, List.of(10L)));
+        waitlistService.allocate();
+
+        assertEquals("CLOSED", waitlistService.getEntry(john.getEntryId(), "john").getStatus());
+        verifyNoInteractions(seatRepository, bookingService);
+        assertThrows(BookingException.class, () -> waitlistService.join(2L, new WaitlistRequest(1, null), "jane"));
+    }
+
+    @Test
+    void testLeave_RemovesEntryFromQueue() {
+        WaitlistEntryResponse john = waitlistService.join(1L, new WaitlistRequest(1, null), "john");
+        WaitlistEntryResponse jane = waitlistService.join(1L, new WaitlistRequest(1, null), "jane");
+
+        waitlistService.leave(john.getEntryId(), "john");
+
+        assertEquals("LEFT", waitlistService.getEntry(john.getEntryId(), "john").getStatus());
+        assertEquals(1, waitlistService.getEntry(jane.getEntryId(), "jane").getPosition());
+        assertThrows(ResourceNotFoundException.class, () -> waitlistService.leave(jane.getEntryId(), "john"));
+    }
+
+    private static FreeSeat seat(Long index, SeatType type) {
+        return new Free(index.intValue(), type);
+    }
+
+    private record Free(Integer getSeatIndex, SeatType getSeatType) implements FreeSeat {
+    }
+
+    private static BookingResponse held(String reference) {
+        BookingResponse response = new BookingResponse();
+        response.setBookingReference(reference);
+        response.setStatus("PENDING");
+        return response;
+    }
+}
@@ -0,0 +1,47 @@
+package com.bookmyshow.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Money
+ */
+class MoneyTest {
+
+    @Test
+    void testOfMajor_RoundsHalfUpToThePaisa() {
+        assertEquals(19999, Money.ofMajor(199.99));
+        assertEquals(1001, Money.ofMajor(10.005));
+        assertEquals(30000, Money.ofMajor(300.0));
+    }
+
+    @Test
+    void testToMajor() {
+        assertEquals(199.99, Money.toMajor(19999), 0.0);
+    }
+
+    @Test
+    void testFraction_RoundsHalfUpOnce() {
+        assertEquals(3333, Money.fraction(10000, 1, 3)); // 3333.33
+        assertEquals(6667, Money.fraction(10000, 2, 3)); // 6666.67
+        assertEquals(1, Money.fraction(1, 1, 2)); // Exactly half
+    }
+
+    @Test
+    void testPercentOf() {
+        assertEquals(12000, Money.percentOf(60000, 2000)); // 20%
+        assertEquals(50, Money.percentOf(99, 5000)); // 49.5 rounds up
+    }
+
+    @Test
+    void testBasisPoints() {
+        assertEquals(1250, Money.basisPoints(12.5));
+        assertEquals(5000, Money.basisPoints(50));
+    }
+
+    @Test
+    void testFraction_Overflow_Throws() {
+        assertThrows(ArithmeticException.class, () -> Money.fraction(Long.MAX_VALUE / 2, 3, 4));
+    }
+}
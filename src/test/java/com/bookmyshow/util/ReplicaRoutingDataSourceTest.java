@@ -0,0 +1,204 @@
+package com.bookmyshow.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource, with three in-memory H2 databases standing in for
+ * the primary and two replicas
+ *
+ * Each database has a marker row naming it, so a query shows where a transaction was routed.
+ * Replication is simulated by copying the primary's heartbeat to a replica. Replica reads are
+ * allowed for the test thread unless a test says otherwise.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG_MS = 500;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DataSource primary;
+    private DataSource replica1;
+    private SwitchableDataSource replica2;
+    private ReplicaRoutingDataSource routing;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica1 = database("replica-1");
+        replica2 = new SwitchableDataSource(database("replica-2"));
+        for (DataSource replica : List.of(replica1, replica2)) {
+            new JdbcTemplate(replica).execute(ReplicaRoutingDataSource.CREATE_HEARTBEAT);
+        }
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        routing = new ReplicaRoutingDataSource(primary, replicas, MAX_LAG_MS, meterRegistry);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+        ReplicaRoutingDataSource.allowReplicaReads();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        ReplicaRoutingDataSource.clearReplicaReads();
+        routing.close();
+    }
+
+    @Test
+    void testReadOnly_RoundRobinOverHealthyReplicas() {
+        replicate(replica1);
+        replicate(replica2);
+        routing.checkReplicas();
+
+        assertEquals(List.of("replica-1", "replica-2"), routing.getHealthyReplicas());
+        assertEquals("replica-1", servedBy(readOnly));
+        assertEquals("replica-2", servedBy(readOnly));
+        assertEquals("replica-1", servedBy(readOnly));
+    }
+
+    @Test
+    void testReadWrite_StaysOnPrimary() {
+        replicate(replica1);
+        replicate(replica2);
+        routing.checkReplicas();
+
+        assertEquals("primary", servedBy(readWrite));
+        assertEquals("primary", new JdbcTemplate(routing).queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    @Test
+    void testReadOnly_WithoutReplicaReadsStaysOnPrimary() {
+        replicate(replica1);
+        replicate(replica2);
+        routing.checkReplicas();
+        ReplicaRoutingDataSource.clearReplicaReads();
+
+        assertEquals("primary", servedBy(readOnly));
+        assertEquals(0, meterRegistry.counter("db.replica.fallbacks").count());
+    }
+
+    @Test
+    void testReadOnly_BeforeFirstCheckFromPrimary() {
+        assertEquals("primary", servedBy(readOnly));
+        assertEquals(1, meterRegistry.counter("db.replica.fallbacks").count());
+    }
+
+    @Test
+    void testCheck_LaggingReplicaTakenOutOfRotation() {
+        replicate(replica1);
+        long primaryBeat = heartbeat(primary);
+        new JdbcTemplate(replica2).update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)",
+            primaryBeat - MAX_LAG_MS - 1);
+
+        routing.checkReplicas();
+
+        assertEquals(List.of("replica-1"), routing.getHealthyReplicas());
+        assertEquals("replica-1", servedBy(readOnly));
+        assertEquals("replica-1", servedBy(readOnly));
+        assertEquals(MAX_LAG_MS + 1, meterRegistry.get("db.replica.lag").tag("replica", "replica-2").gauge().value(), 0);
+    }
+
+    @Test
+    void testCheck_AllReplicasLaggingFallsBackToPrimary() {
+        routing.checkReplicas(); // Neither replica has a heartbeat yet
+
+        assertTrue(routing.getHealthyReplicas().isEmpty());
+        assertEquals("primary", servedBy(readOnly));
+    }
+
+    @Test
+    void testCheck_UnreachableReplicaTakenOutOfRotation_AndBackWhenCaughtUp() {
+        replicate(replica1);
+        replicate(replica2);
+        replica2.down = true;
+
+        routing.checkReplicas();
+        assertEquals(List.of("replica-1"), routing.getHealthyReplicas());
+
+        replica2.down = false;
+        replicate(replica1);
+        replicate(replica2);
+        routing.checkReplicas();
+        assertEquals(List.of("replica-1", "replica-2"), routing.getHealthyReplicas());
+    }
+
+    @Test
+    void testReadOnly_ReplicaFailingBetweenChecksFallsBackToPrimary() {
+        replicate(replica2);
+        routing.checkReplicas();
+        assertEquals(List.of("replica-2"), routing.getHealthyReplicas());
+
+        replica2.down = true;
+
+        assertEquals("primary", servedBy(readOnly));
+        assertEquals(1, meterRegistry.counter("db.replica.fallbacks").count());
+    }
+
+    private String servedBy(TransactionTemplate template) {
+        return template.execute(status -> new JdbcTemplate(routing).queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    /**
+     * Copies the primary's current heartbeat, as replication would
+     */
+    private void replicate(DataSource replica) {
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.update("DELETE FROM replica_heartbeat");
+        replicaJdbc.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)", heartbeat(primary));
+    }
+
+    private static long heartbeat(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject(ReplicaRoutingDataSource.READ_HEARTBEAT, Long.class);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbc.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    /**
+     * A replica that can be taken down and brought back
+     */
+    private static final class SwitchableDataSource extends DelegatingDataSource {
+
+        private volatile boolean down;
+
+        private SwitchableDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("Connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+}
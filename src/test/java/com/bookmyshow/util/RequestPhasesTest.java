@@ -0,0 +1,67 @@
+package com.bookmyshow.util;
+
+import com.bookmyshow.util.RequestPhases.Phase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RequestPhases
+ */
+class RequestPhasesTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestPhases.stop();
+    }
+
+    @Test
+    void testBegin_NotTimingSkipsTheClock() {
+        RequestPhases.stop();
+
+        assertEquals(0, RequestPhases.begin());
+        RequestPhases.end(Phase.DB, 0);
+        RequestPhases.add(Phase.DB, 5_000);
+        assertFalse(RequestPhases.isTiming());
+    }
+
+    @Test
+    void testEnd_AddsUpPerPhase() {
+        RequestPhases.start();
+        RequestPhases.add(Phase.DB, 2_000);
+        RequestPhases.add(Phase.DB, 3_000);
+        RequestPhases.add(Phase.COMMIT, 1_000);
+        long began = RequestPhases.begin();
+        assertTrue(began > 0);
+        RequestPhases.end(Phase.SERVICE, began);
+        RequestPhases.stop();
+
+        assertEquals(5_000, RequestPhases.nanos(Phase.DB));
+        assertEquals(1_000, RequestPhases.nanos(Phase.COMMIT));
+        assertTrue(RequestPhases.nanos(Phase.SERVICE) > 0);
+        RequestPhases.add(Phase.DB, 7_000); // Stopped: ignored, totals stay readable
+        assertEquals(5_000, RequestPhases.nanos(Phase.DB));
+    }
+
+    @Test
+    void testStart_ResetsThePreviousRequest() {
+        RequestPhases.start();
+        RequestPhases.add(Phase.USER, 4_000);
+        RequestPhases.stop();
+
+        RequestPhases.start();
+
+        assertEquals(0, RequestPhases.nanos(Phase.USER));
+    }
+
+    @Test
+    void testAdd_OtherThreadsAreNotTimed() {
+        RequestPhases.start();
+        CompletableFuture.runAsync(() -> RequestPhases.add(Phase.DB, 1_000)).join();
+
+        assertEquals(0, RequestPhases.nanos(Phase.DB));
+    }
+}
@@ -0,0 +1,53 @@
+package com.bookmyshow.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SampledDetailFilter
+ */
+class SampledDetailFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final SampledDetailFilter filter = new SampledDetailFilter();
+
+    @AfterEach
+    void clearMdc() {
+        MDC.remove(SampledDetailFilter.MDC_KEY);
+    }
+
+    @Test
+    void testDecide_UnsampledRequest_IsLeftToTheLoggerLevel() {
+        assertEquals(FilterReply.NEUTRAL, decide("com.bookmyshow.service.impl.BookingServiceImpl", Level.DEBUG));
+    }
+
+    @Test
+    void testDecide_SampledRequest_AcceptsDebugOfListedLoggers() {
+        filter.setLoggers("com.bookmyshow, org.hibernate.SQL");
+        MDC.put(SampledDetailFilter.MDC_KEY, "sampled");
+
+        assertEquals(FilterReply.ACCEPT, decide("com.bookmyshow.service.impl.BookingServiceImpl", Level.DEBUG));
+        assertEquals(FilterReply.ACCEPT, decide("org.hibernate.SQL", Level.DEBUG));
+        assertEquals(FilterReply.NEUTRAL, decide("org.springframework.web", Level.DEBUG));
+    }
+
+    @Test
+    void testDecide_SampledRequest_DoesNotOpenUpTrace() {
+        MDC.put(SampledDetailFilter.MDC_KEY, "sampled");
+
+        assertEquals(FilterReply.NEUTRAL, decide("com.bookmyshow.service.impl.BookingServiceImpl", Level.TRACE));
+        assertEquals(FilterReply.NEUTRAL, decide("com.bookmyshow.service.impl.BookingServiceImpl", Level.INFO));
+    }
+
+    private FilterReply decide(String loggerName, Level level) {
+        Logger logger = context.getLogger(loggerName);
+        return filter.decide(null, logger, level, "message", null, null);
+    }
+}
@@ -0,0 +1,42 @@
+package com.bookmyshow.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SqlStatementCounter
+ */
+class SqlStatementCounterTest {
+
+    private final SqlStatementCounter inspector = new SqlStatementCounter();
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.stop();
+    }
+
+    @Test
+    void testInspect_CountsOnlyBetweenStartAndStop() {
+        inspector.inspect("select 1");
+        SqlStatementCounter.start();
+        assertEquals("select 2", inspector.inspect("select 2"));
+        inspector.inspect("select 3");
+
+        assertEquals(2, SqlStatementCounter.current());
+        assertEquals(2, SqlStatementCounter.stop());
+        inspector.inspect("select 4");
+        assertEquals(0, SqlStatementCounter.current());
+    }
+
+    @Test
+    void testInspect_OtherThreadsAreNotCounted() {
+        SqlStatementCounter.start();
+        CompletableFuture.runAsync(() -> inspector.inspect("select 1")).join();
+
+        assertEquals(0, SqlStatementCounter.stop());
+    }
+}